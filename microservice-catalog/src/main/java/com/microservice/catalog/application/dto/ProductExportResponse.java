@@ -0,0 +1,175 @@
+package com.microservice.catalog.application.dto;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+
+import java.math.BigDecimal;
+import java.time.Instant;
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * Line of the NDJSON catalog export.
+ * Carries the fields downstream services need to build their own read models.
+ */
+@Schema(description = "Product line of the catalog export")
+public class ProductExportResponse {
+
+    @Schema(description = "Unique identifier of the product", example = "123e4567-e89b-12d3-a456-426614174000")
+    private UUID id;
+
+    @Schema(description = "External store ID", example = "123e4567-e89b-12d3-a456-426614174001")
+    private UUID externalStoreId;
+
+    @Schema(description = "Product SKU", example = "PROD-001")
+    private String sku;
+
+    @Schema(description = "Product name", example = "Premium Cotton T-Shirt")
+    private String name;
+
+    @Schema(description = "Product description", example = "Comfortable cotton t-shirt")
+    private String description;
+
+    @Schema(description = "Product brand", example = "Nike")
+    private String brand;
+
+    @Schema(description = "Base price", example = "29.99")
+    private BigDecimal basePrice;
+
+    @Schema(description = "Compare at price", example = "39.99")
+    private BigDecimal compareAtPrice;
+
+    @Schema(description = "Currency code", example = "USD")
+    private String currency;
+
+    @Schema(description = "Product status", example = "PUBLISHED")
+    private String status;
+
+    @Schema(description = "Whether the product is published and visible in the storefront", example = "true")
+    private boolean active;
+
+    @Schema(description = "URL of the primary image", example = "https://cdn.example.com/products/tshirt.jpg")
+    private String primaryImageUrl;
+
+    @Schema(description = "IDs of the categories the product belongs to")
+    private List<UUID> categoryIds;
+
+    @Schema(description = "Last update timestamp", example = "2024-01-15T10:30:00Z")
+    private Instant updatedAt;
+
+    // Constructors
+    public ProductExportResponse() {
+    }
+
+    // Getters and Setters
+    public UUID getId() {
+        return id;
+    }
+
+    public void setId(UUID id) {
+        this.id = id;
+    }
+
+    public UUID getExternalStoreId() {
+        return externalStoreId;
+    }
+
+    public void setExternalStoreId(UUID externalStoreId) {
+        this.externalStoreId = externalStoreId;
+    }
+
+    public String getSku() {
+        return sku;
+    }
+
+    public void setSku(String sku) {
+        this.sku = sku;
+    }
+
+    public String getName() {
+        return name;
+    }
+
+    public void setName(String name) {
+        this.name = name;
+    }
+
+    public String getDescription() {
+        return description;
+    }
+
+    public void setDescription(String description) {
+        this.description = description;
+    }
+
+    public String getBrand() {
+        return brand;
+    }
+
+    public void setBrand(String brand) {
+        this.brand = brand;
+    }
+
+    public BigDecimal getBasePrice() {
+        return basePrice;
+    }
+
+    public void setBasePrice(BigDecimal basePrice) {
+        this.basePrice = basePrice;
+    }
+
+    public BigDecimal getCompareAtPrice() {
+        return compareAtPrice;
+    }
+
+    public void setCompareAtPrice(BigDecimal compareAtPrice) {
+        this.compareAtPrice = compareAtPrice;
+    }
+
+    public String getCurrency() {
+        return currency;
+    }
+
+    public void setCurrency(String currency) {
+        this.currency = currency;
+    }
+
+    public String getStatus() {
+        return status;
+    }
+
+    public void setStatus(String status) {
+        this.status = status;
+    }
+
+    public boolean isActive() {
+        return active;
+    }
+
+    public void setActive(boolean active) {
+        this.active = active;
+    }
+
+    public String getPrimaryImageUrl() {
+        return primaryImageUrl;
+    }
+
+    public void setPrimaryImageUrl(String primaryImageUrl) {
+        this.primaryImageUrl = primaryImageUrl;
+    }
+
+    public List<UUID> getCategoryIds() {
+        return categoryIds;
+    }
+
+    public void setCategoryIds(List<UUID> categoryIds) {
+        this.categoryIds = categoryIds;
+    }
+
+    public Instant getUpdatedAt() {
+        return updatedAt;
+    }
+
+    public void setUpdatedAt(Instant updatedAt) {
+        this.updatedAt = updatedAt;
+    }
+}
@@ -0,0 +1,82 @@
+package com.microservice.catalog.application.dto;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+
+import java.util.List;
+
+/**
+ * Response DTO for paginated product summary lists.
+ * Same paging shape as {@link ProductListResponse}.
+ */
+@Schema(description = "Paginated list of product summaries")
+public class ProductSummaryListResponse {
+
+    @Schema(description = "List of product summaries")
+    private List<ProductSummaryResponse> products;
+
+    @Schema(description = "Total number of elements", example = "100")
+    private long totalElements;
+
+    @Schema(description = "Total number of pages", example = "10")
+    private int totalPages;
+
+    @Schema(description = "Current page number (0-indexed)", example = "0")
+    private int currentPage;
+
+    @Schema(description = "Page size", example = "10")
+    private int pageSize;
+
+    // Constructors
+    public ProductSummaryListResponse() {
+    }
+
+    public ProductSummaryListResponse(List<ProductSummaryResponse> products, long totalElements,
+            int totalPages, int currentPage, int pageSize) {
+        this.products = products;
+        this.totalElements = totalElements;
+        this.totalPages = totalPages;
+        this.currentPage = currentPage;
+        this.pageSize = pageSize;
+    }
+
+    // Getters and Setters
+    public List<ProductSummaryResponse> getProducts() {
+        return products;
+    }
+
+    public void setProducts(List<ProductSummaryResponse> products) {
+        this.products = products;
+    }
+
+    public long getTotalElements() {
+        return totalElements;
+    }
+
+    public void setTotalElements(long totalElements) {
+        this.totalElements = totalElements;
+    }
+
+    public int getTotalPages() {
+        return totalPages;
+    }
+
+    public void setTotalPages(int totalPages) {
+        this.totalPages = totalPages;
+    }
+
+    public int getCurrentPage() {
+        return currentPage;
+    }
+
+    public void setCurrentPage(int currentPage) {
+        this.currentPage = currentPage;
+    }
+
+    public int getPageSize() {
+        return pageSize;
+    }
+
+    public void setPageSize(int pageSize) {
+        this.pageSize = pageSize;
+    }
+}
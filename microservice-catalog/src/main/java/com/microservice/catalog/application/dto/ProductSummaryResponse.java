@@ -0,0 +1,152 @@
+package com.microservice.catalog.application.dto;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+
+import java.math.BigDecimal;
+import java.time.Instant;
+import java.util.UUID;
+
+/**
+ * Response DTO for product list views.
+ * Carries only top-level product fields, without variants or images.
+ */
+@Schema(description = "Product summary for list views")
+public class ProductSummaryResponse {
+
+    @Schema(description = "Unique identifier of the product", example = "123e4567-e89b-12d3-a456-426614174000")
+    private UUID id;
+
+    @Schema(description = "External store ID", example = "123e4567-e89b-12d3-a456-426614174001")
+    private UUID externalStoreId;
+
+    @Schema(description = "Product SKU", example = "PROD-001")
+    private String sku;
+
+    @Schema(description = "Product name", example = "Premium Cotton T-Shirt")
+    private String name;
+
+    @Schema(description = "Product brand", example = "Nike")
+    private String brand;
+
+    @Schema(description = "Base price", example = "29.99")
+    private BigDecimal basePrice;
+
+    @Schema(description = "Compare at price", example = "39.99")
+    private BigDecimal compareAtPrice;
+
+    @Schema(description = "Currency code", example = "USD")
+    private String currency;
+
+    @Schema(description = "Product status", example = "PUBLISHED")
+    private String status;
+
+    @Schema(description = "Featured flag", example = "true")
+    private boolean featured;
+
+    @Schema(description = "URL of the primary image", example = "https://cdn.example.com/products/tshirt.jpg")
+    private String primaryImageUrl;
+
+    @Schema(description = "Creation timestamp", example = "2024-01-15T10:30:00Z")
+    private Instant createdAt;
+
+    // Constructors
+    public ProductSummaryResponse() {
+    }
+
+    // Getters and Setters
+    public UUID getId() {
+        return id;
+    }
+
+    public void setId(UUID id) {
+        this.id = id;
+    }
+
+    public UUID getExternalStoreId() {
+        return externalStoreId;
+    }
+
+    public void setExternalStoreId(UUID externalStoreId) {
+        this.externalStoreId = externalStoreId;
+    }
+
+    public String getSku() {
+        return sku;
+    }
+
+    public void setSku(String sku) {
+        this.sku = sku;
+    }
+
+    public String getName() {
+        return name;
+    }
+
+    public void setName(String name) {
+        this.name = name;
+    }
+
+    public String getBrand() {
+        return brand;
+    }
+
+    public void setBrand(String brand) {
+        this.brand = brand;
+    }
+
+    public BigDecimal getBasePrice() {
+        return basePrice;
+    }
+
+    public void setBasePrice(BigDecimal basePrice) {
+        this.basePrice = basePrice;
+    }
+
+    public BigDecimal getCompareAtPrice() {
+        return compareAtPrice;
+    }
+
+    public void setCompareAtPrice(BigDecimal compareAtPrice) {
+        this.compareAtPrice = compareAtPrice;
+    }
+
+    public String getCurrency() {
+        return currency;
+    }
+
+    public void setCurrency(String currency) {
+        this.currency = currency;
+    }
+
+    public String getStatus() {
+        return status;
+    }
+
+    public void setStatus(String status) {
+        this.status = status;
+    }
+
+    public boolean isFeatured() {
+        return featured;
+    }
+
+    public void setFeatured(boolean featured) {
+        this.featured = featured;
+    }
+
+    public String getPrimaryImageUrl() {
+        return primaryImageUrl;
+    }
+
+    public void setPrimaryImageUrl(String primaryImageUrl) {
+        this.primaryImageUrl = primaryImageUrl;
+    }
+
+    public Instant getCreatedAt() {
+        return createdAt;
+    }
+
+    public void setCreatedAt(Instant createdAt) {
+        this.createdAt = createdAt;
+    }
+}
@@ -1,10 +1,14 @@
 package com.microservice.catalog.application.mapper;
 
 import com.microservice.catalog.application.dto.ImageResponse;
+import com.microservice.catalog.application.dto.ProductExportResponse;
 import com.microservice.catalog.application.dto.ProductResponse;
+import com.microservice.catalog.application.dto.ProductSummaryResponse;
 import com.microservice.catalog.application.dto.VariantResponse;
 import com.microservice.catalog.domain.models.Image;
 import com.microservice.catalog.domain.models.Product;
+import com.microservice.catalog.domain.models.ProductExport;
+import com.microservice.catalog.domain.models.ProductSummary;
 import com.microservice.catalog.domain.models.Variant;
 import org.springframework.stereotype.Component;
 
@@ -66,6 +70,80 @@ public class ProductMapper {
                 .collect(Collectors.toList());
     }
 
+    /**
+     * Converts a ProductSummary read model to ProductSummaryResponse DTO.
+     *
+     * @param summary the read model
+     * @return the response DTO
+     */
+    public ProductSummaryResponse toSummaryResponse(ProductSummary summary) {
+        if (summary == null) {
+            return null;
+        }
+
+        ProductSummaryResponse response = new ProductSummaryResponse();
+        response.setId(summary.id());
+        response.setExternalStoreId(summary.externalStoreId());
+        response.setSku(summary.sku());
+        response.setName(summary.name());
+        response.setBrand(summary.brand());
+        response.setBasePrice(summary.basePrice());
+        response.setCompareAtPrice(summary.compareAtPrice());
+        response.setCurrency(summary.currency());
+        response.setStatus(summary.status().name());
+        response.setFeatured(summary.featured());
+        response.setPrimaryImageUrl(summary.primaryImageUrl());
+        response.setCreatedAt(summary.createdAt());
+
+        return response;
+    }
+
+    /**
+     * Converts a list of ProductSummary read models to ProductSummaryResponse DTOs.
+     *
+     * @param summaries the list of read models
+     * @return the list of response DTOs
+     */
+    public List<ProductSummaryResponse> toSummaryResponseList(List<ProductSummary> summaries) {
+        if (summaries == null || summaries.isEmpty()) {
+            return Collections.emptyList();
+        }
+
+        return summaries.stream()
+                .map(this::toSummaryResponse)
+                .collect(Collectors.toList());
+    }
+
+    /**
+     * Converts a ProductExport read model to a ProductExportResponse DTO.
+     *
+     * @param export the read model
+     * @return the response DTO
+     */
+    public ProductExportResponse toExportResponse(ProductExport export) {
+        if (export == null) {
+            return null;
+        }
+
+        ProductExportResponse response = new ProductExportResponse();
+        response.setId(export.id());
+        response.setExternalStoreId(export.externalStoreId());
+        response.setSku(export.sku());
+        response.setName(export.name());
+        response.setDescription(export.description());
+        response.setBrand(export.brand());
+        response.setBasePrice(export.basePrice());
+        response.setCompareAtPrice(export.compareAtPrice());
+        response.setCurrency(export.currency());
+        response.setStatus(export.status().name());
+        response.setActive(export.isActive());
+        response.setPrimaryImageUrl(export.primaryImageUrl());
+        response.setCategoryIds(export.categoryIds());
+        response.setUpdatedAt(export.updatedAt());
+
+        return response;
+    }
+
     /**
      * Converts a Variant domain model to VariantResponse DTO.
      *
@@ -0,0 +1,55 @@
+package com.microservice.catalog.application.usecases;
+
+import com.microservice.catalog.domain.models.ProductExport;
+import com.microservice.catalog.domain.models.enums.ProductStatus;
+import com.microservice.catalog.domain.port.in.ExportProductsUseCase;
+import com.microservice.catalog.domain.port.out.ProductRepository;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.EnumSet;
+import java.util.Set;
+import java.util.function.Consumer;
+import java.util.stream.Stream;
+
+/**
+ * Implementation of ExportProductsUseCase.
+ * The repository stream is backed by a database cursor, so memory use does not
+ * grow with the size of the catalog.
+ */
+@Service
+public class ExportProductsUseCaseImpl implements ExportProductsUseCase {
+
+    private static final Logger log = LoggerFactory.getLogger(ExportProductsUseCaseImpl.class);
+
+    private final ProductRepository productRepository;
+
+    public ExportProductsUseCaseImpl(ProductRepository productRepository) {
+        this.productRepository = productRepository;
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public long execute(ExportProductsQuery query, Consumer<ProductExport> sink) {
+        log.debug("Exporting products: activeOnly={}, after={}, limit={}",
+                query.activeOnly(), query.afterId(), query.limit());
+
+        Set<ProductStatus> statuses = query.activeOnly()
+                ? EnumSet.of(ProductStatus.PUBLISHED)
+                : EnumSet.allOf(ProductStatus.class);
+
+        long exported = 0;
+        try (Stream<ProductExport> products = productRepository.streamForExport(statuses, query.afterId())) {
+            Stream<ProductExport> segment = query.limit() > 0 ? products.limit(query.limit()) : products;
+            for (ProductExport product : (Iterable<ProductExport>) segment::iterator) {
+                sink.accept(product);
+                exported++;
+            }
+        }
+
+        log.info("Exported {} products (activeOnly={}, after={})", exported, query.activeOnly(), query.afterId());
+        return exported;
+    }
+}
@@ -0,0 +1,43 @@
+package com.microservice.catalog.application.usecases;
+
+import com.microservice.catalog.domain.models.ProductSummary;
+import com.microservice.catalog.domain.port.in.ListProductSummariesUseCase;
+import com.microservice.catalog.domain.port.in.ListProductsUseCase.ListProductsQuery;
+import com.microservice.catalog.domain.port.out.ProductRepository;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.List;
+
+/**
+ * Implementation of ListProductSummariesUseCase.
+ */
+@Service
+public class ListProductSummariesUseCaseImpl implements ListProductSummariesUseCase {
+
+    private static final Logger log = LoggerFactory.getLogger(ListProductSummariesUseCaseImpl.class);
+
+    private final ProductRepository productRepository;
+
+    public ListProductSummariesUseCaseImpl(ProductRepository productRepository) {
+        this.productRepository = productRepository;
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public ListProductSummariesResult execute(ListProductsQuery query) {
+        log.debug("Listing product summaries for store: {}, page: {}, size: {}",
+                query.storeId(), query.page(), query.size());
+
+        List<ProductSummary> summaries = productRepository.findSummaries(query.storeId(), query.page(), query.size());
+        long totalElements = query.storeId() != null
+                ? productRepository.countByStoreId(query.storeId())
+                : productRepository.count();
+
+        int totalPages = (int) Math.ceil((double) totalElements / query.size());
+
+        return new ListProductSummariesResult(summaries, totalElements, totalPages, query.page());
+    }
+}
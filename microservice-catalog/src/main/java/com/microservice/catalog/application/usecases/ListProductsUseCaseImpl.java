@@ -34,18 +34,8 @@ public class ListProductsUseCaseImpl implements ListProductsUseCase {
         long totalElements;
 
         if (query.storeId() != null) {
-            products = productRepository.findByStoreId(query.storeId());
-            totalElements = products.size();
-
-            // Apply pagination manually for store-specific queries
-            int fromIndex = query.page() * query.size();
-            int toIndex = Math.min(fromIndex + query.size(), products.size());
-
-            if (fromIndex < products.size()) {
-                products = products.subList(fromIndex, toIndex);
-            } else {
-                products = List.of();
-            }
+            products = productRepository.findByStoreId(query.storeId(), query.page(), query.size());
+            totalElements = productRepository.countByStoreId(query.storeId());
         } else {
             products = productRepository.findAll(query.page(), query.size());
             totalElements = productRepository.count();
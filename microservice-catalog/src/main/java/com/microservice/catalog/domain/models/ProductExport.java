@@ -0,0 +1,32 @@
+package com.microservice.catalog.domain.models;
+
+import com.microservice.catalog.domain.models.enums.ProductStatus;
+
+import java.math.BigDecimal;
+import java.time.Instant;
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * Read model with the product fields consumed by downstream services
+ * (e.g. search indexing) during a full catalog export.
+ */
+public record ProductExport(
+        UUID id,
+        UUID externalStoreId,
+        String sku,
+        String name,
+        String description,
+        String brand,
+        BigDecimal basePrice,
+        BigDecimal compareAtPrice,
+        String currency,
+        ProductStatus status,
+        String primaryImageUrl,
+        List<UUID> categoryIds,
+        Instant updatedAt) {
+
+    public boolean isActive() {
+        return status == ProductStatus.PUBLISHED;
+    }
+}
@@ -0,0 +1,27 @@
+package com.microservice.catalog.domain.models;
+
+import com.microservice.catalog.domain.models.enums.ProductStatus;
+
+import java.math.BigDecimal;
+import java.time.Instant;
+import java.util.UUID;
+
+/**
+ * Read model with the product fields needed by list views.
+ * Built directly from a projection query, without loading variants,
+ * images or categories.
+ */
+public record ProductSummary(
+        UUID id,
+        UUID externalStoreId,
+        String sku,
+        String name,
+        String brand,
+        BigDecimal basePrice,
+        BigDecimal compareAtPrice,
+        String currency,
+        ProductStatus status,
+        boolean featured,
+        String primaryImageUrl,
+        Instant createdAt) {
+}
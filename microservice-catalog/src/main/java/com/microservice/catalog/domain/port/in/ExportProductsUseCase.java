@@ -0,0 +1,33 @@
+package com.microservice.catalog.domain.port.in;
+
+import com.microservice.catalog.domain.models.ProductExport;
+
+import java.util.UUID;
+import java.util.function.Consumer;
+
+/**
+ * Input port for streaming the catalog to downstream services.
+ * Products are emitted in id order so a consumer can resume an interrupted
+ * export from the last id it received.
+ */
+public interface ExportProductsUseCase {
+
+    /**
+     * Query object for an export segment.
+     *
+     * @param activeOnly only export published products
+     * @param afterId    keyset cursor, export products with an id greater than this one (null to start)
+     * @param limit      maximum number of products to export, 0 for no limit
+     */
+    record ExportProductsQuery(boolean activeOnly, UUID afterId, int limit) {
+    }
+
+    /**
+     * Streams the matching products to the given sink one at a time.
+     *
+     * @param query the query parameters
+     * @param sink  receives each exported product
+     * @return number of products exported
+     */
+    long execute(ExportProductsQuery query, Consumer<ProductExport> sink);
+}
@@ -0,0 +1,31 @@
+package com.microservice.catalog.domain.port.in;
+
+import com.microservice.catalog.domain.models.ProductSummary;
+
+import java.util.List;
+
+/**
+ * Input port for listing product summaries.
+ * Lighter alternative to {@link ListProductsUseCase} for views that only
+ * need top-level product fields.
+ */
+public interface ListProductSummariesUseCase {
+
+    /**
+     * Result object containing paginated product summaries.
+     */
+    record ListProductSummariesResult(
+            List<ProductSummary> summaries,
+            long totalElements,
+            int totalPages,
+            int currentPage) {
+    }
+
+    /**
+     * Lists product summaries with optional store filtering.
+     *
+     * @param query the query parameters
+     * @return paginated list of product summaries
+     */
+    ListProductSummariesResult execute(ListProductsUseCase.ListProductsQuery query);
+}
@@ -1,10 +1,15 @@
 package com.microservice.catalog.domain.port.out;
 
 import com.microservice.catalog.domain.models.Product;
+import com.microservice.catalog.domain.models.ProductExport;
+import com.microservice.catalog.domain.models.ProductSummary;
+import com.microservice.catalog.domain.models.enums.ProductStatus;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
+import java.util.stream.Stream;
 
 /**
  * Output port for Product persistence operations.
@@ -48,6 +53,25 @@ public interface ProductRepository {
      */
     List<Product> findByStoreId(UUID storeId);
 
+    /**
+     * Finds one page of a store's products, newest first.
+     * Only the products of the requested page and their children are loaded.
+     *
+     * @param storeId the store ID
+     * @param page    page number (0-indexed)
+     * @param size    page size
+     * @return list of products
+     */
+    List<Product> findByStoreId(UUID storeId, int page, int size);
+
+    /**
+     * Counts the products of a store.
+     *
+     * @param storeId the store ID
+     * @return total count
+     */
+    long countByStoreId(UUID storeId);
+
     /**
      * Finds all products with pagination.
      *
@@ -57,6 +81,27 @@ public interface ProductRepository {
      */
     List<Product> findAll(int page, int size);
 
+    /**
+     * Finds one page of product summaries without loading child collections.
+     *
+     * @param storeId optional store filter, null for all stores
+     * @param page    page number (0-indexed)
+     * @param size    page size
+     * @return list of product summaries
+     */
+    List<ProductSummary> findSummaries(UUID storeId, int page, int size);
+
+    /**
+     * Streams products for export in ascending id order.
+     * Must be called inside a transaction, and the returned stream must be
+     * closed by the caller to release the underlying cursor.
+     *
+     * @param statuses statuses to include
+     * @param afterId  keyset cursor, only products with a greater id are returned (null to start)
+     * @return lazily fetched stream of products
+     */
+    Stream<ProductExport> streamForExport(Collection<ProductStatus> statuses, UUID afterId);
+
     /**
      * Counts all products.
      *
@@ -5,14 +5,27 @@ import com.microservice.catalog.domain.models.enums.ProductStatus;
 import com.microservice.catalog.domain.port.out.ProductRepository;
 import com.microservice.catalog.infrastructure.entities.*;
 import com.microservice.catalog.infrastructure.repositories.JpaProductRepository;
-import org.springframework.data.domain.Page;
+import com.microservice.catalog.infrastructure.repositories.ProductExportView;
+import com.microservice.catalog.infrastructure.repositories.ProductSummaryView;
 import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Sort;
 import org.springframework.stereotype.Component;
 
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Iterator;
 import java.util.List;
+import java.util.Map;
+import java.util.Objects;
 import java.util.Optional;
+import java.util.Spliterator;
+import java.util.Spliterators;
 import java.util.UUID;
+import java.util.function.Consumer;
+import java.util.function.Function;
 import java.util.stream.Collectors;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
 
 /**
  * Adapter implementing ProductRepository port using Spring Data JPA.
@@ -21,6 +34,9 @@ import java.util.stream.Collectors;
 @Component
 public class ProductRepositoryAdapter implements ProductRepository {
 
+    private static final Sort LISTING_ORDER = Sort.by(Sort.Order.desc("createdAt"), Sort.Order.asc("id"));
+    private static final int EXPORT_CHUNK_SIZE = 500;
+
     private final JpaProductRepository jpaRepository;
 
     public ProductRepositoryAdapter(JpaProductRepository jpaRepository) {
@@ -53,14 +69,68 @@ public class ProductRepositoryAdapter implements ProductRepository {
                 .collect(Collectors.toList());
     }
 
+    @Override
+    public List<Product> findByStoreId(UUID storeId, int page, int size) {
+        List<UUID> ids = jpaRepository.findIdsByExternalStoreId(storeId,
+                PageRequest.of(page, size, LISTING_ORDER));
+        return loadWithChildren(ids);
+    }
+
+    @Override
+    public long countByStoreId(UUID storeId) {
+        return jpaRepository.countByExternalStoreId(storeId);
+    }
+
     @Override
     public List<Product> findAll(int page, int size) {
-        Page<ProductEntity> pageResult = jpaRepository.findAll(PageRequest.of(page, size));
-        return pageResult.getContent().stream()
-                .map(this::toDomain)
+        List<UUID> ids = jpaRepository.findPageIds(PageRequest.of(page, size, LISTING_ORDER));
+        return loadWithChildren(ids);
+    }
+
+    @Override
+    public List<ProductSummary> findSummaries(UUID storeId, int page, int size) {
+        PageRequest pageRequest = PageRequest.of(page, size, LISTING_ORDER);
+        List<ProductSummaryView> views = storeId != null
+                ? jpaRepository.findSummariesByExternalStoreId(storeId, pageRequest)
+                : jpaRepository.findSummaries(pageRequest);
+        return views.stream()
+                .map(this::toSummaryDomain)
                 .collect(Collectors.toList());
     }
 
+    @Override
+    public Stream<ProductExport> streamForExport(Collection<ProductStatus> statuses, UUID afterId) {
+        List<ProductStatusEntity> statusEntities = statuses.stream()
+                .map(status -> ProductStatusEntity.valueOf(status.name()))
+                .toList();
+        Stream<ProductExportView> rows = afterId != null
+                ? jpaRepository.streamForExportAfter(statusEntities, afterId)
+                : jpaRepository.streamForExport(statusEntities);
+
+        // Rows are grouped into chunks so category ids are loaded with one query
+        // per chunk rather than one per product.
+        Iterator<ProductExportView> iterator = rows.iterator();
+        Spliterator<List<ProductExportView>> chunks = new Spliterators.AbstractSpliterator<>(
+                Long.MAX_VALUE, Spliterator.ORDERED | Spliterator.NONNULL) {
+            @Override
+            public boolean tryAdvance(Consumer<? super List<ProductExportView>> action) {
+                if (!iterator.hasNext()) {
+                    return false;
+                }
+                List<ProductExportView> chunk = new ArrayList<>(EXPORT_CHUNK_SIZE);
+                while (iterator.hasNext() && chunk.size() < EXPORT_CHUNK_SIZE) {
+                    chunk.add(iterator.next());
+                }
+                action.accept(chunk);
+                return true;
+            }
+        };
+
+        return StreamSupport.stream(chunks, false)
+                .onClose(rows::close)
+                .flatMap(this::toExportDomain);
+    }
+
     @Override
     public long count() {
         return jpaRepository.count();
@@ -81,6 +151,28 @@ public class ProductRepositoryAdapter implements ProductRepository {
         return jpaRepository.existsBySkuAndExternalStoreId(sku, storeId);
     }
 
+    /**
+     * Loads the given products with all child collections in a fixed number of
+     * queries and returns them in the order of the ids.
+     */
+    private List<Product> loadWithChildren(List<UUID> ids) {
+        if (ids.isEmpty()) {
+            return List.of();
+        }
+
+        Map<UUID, ProductEntity> byId = jpaRepository.findAllWithVariantsByIdIn(ids).stream()
+                .collect(Collectors.toMap(ProductEntity::getId, Function.identity()));
+        jpaRepository.findAllWithImagesByIdIn(ids);
+        jpaRepository.findAllWithCategoriesByIdIn(ids);
+        jpaRepository.findVariantsWithImagesByProductIdIn(ids);
+
+        return ids.stream()
+                .map(byId::get)
+                .filter(Objects::nonNull)
+                .map(this::toDomain)
+                .collect(Collectors.toList());
+    }
+
     // ========== Mapping Methods ==========
 
     private ProductEntity toEntity(Product product) {
@@ -226,6 +318,45 @@ public class ProductRepositoryAdapter implements ProductRepository {
                 entity.getCreatedAt());
     }
 
+    private ProductSummary toSummaryDomain(ProductSummaryView view) {
+        return new ProductSummary(
+                view.getId(),
+                view.getExternalStoreId(),
+                view.getSku(),
+                view.getName(),
+                view.getBrand(),
+                view.getBasePrice(),
+                view.getCompareAtPrice(),
+                view.getCurrency(),
+                ProductStatus.valueOf(view.getStatus().name()),
+                view.isFeatured(),
+                view.getPrimaryImageUrl(),
+                view.getCreatedAt());
+    }
+
+    private Stream<ProductExport> toExportDomain(List<ProductExportView> chunk) {
+        List<UUID> ids = chunk.stream().map(ProductExportView::getId).toList();
+        Map<UUID, List<UUID>> categoryIds = jpaRepository.findCategoryIdsByProductIdIn(ids).stream()
+                .collect(Collectors.groupingBy(row -> (UUID) row[0],
+                        Collectors.mapping(row -> (UUID) row[1], Collectors.toList())));
+
+        return chunk.stream()
+                .map(view -> new ProductExport(
+                        view.getId(),
+                        view.getExternalStoreId(),
+                        view.getSku(),
+                        view.getName(),
+                        view.getDescription(),
+                        view.getBrand(),
+                        view.getBasePrice(),
+                        view.getCompareAtPrice(),
+                        view.getCurrency(),
+                        ProductStatus.valueOf(view.getStatus().name()),
+                        view.getPrimaryImageUrl(),
+                        categoryIds.getOrDefault(view.getId(), List.of()),
+                        view.getUpdatedAt()));
+    }
+
     private ProductCategory toCategoryDomain(ProductCategoryEntity entity, UUID productId) {
         return ProductCategory.reconstitute(
                 entity.getId(),
@@ -1,6 +1,10 @@
 package com.microservice.catalog.infrastructure.controller;
 
 import com.microservice.catalog.application.dto.*;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.fasterxml.jackson.databind.SerializationFeature;
 import com.microservice.catalog.application.mapper.ProductMapper;
 import com.microservice.catalog.domain.models.Product;
 import com.microservice.catalog.domain.port.in.*;
@@ -16,9 +20,13 @@ import jakarta.validation.Valid;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
+import java.io.IOException;
+import java.io.UncheckedIOException;
 import java.util.UUID;
 
 /**
@@ -31,6 +39,7 @@ import java.util.UUID;
 public class ProductController {
 
     private static final Logger log = LoggerFactory.getLogger(ProductController.class);
+    private static final String APPLICATION_NDJSON = "application/x-ndjson";
 
     private final CreateProductUseCase createProductUseCase;
     private final UpdateProductUseCase updateProductUseCase;
@@ -38,8 +47,11 @@ public class ProductController {
     private final DeactivateProductUseCase deactivateProductUseCase;
     private final GetProductDetailUseCase getProductDetailUseCase;
     private final ListProductsUseCase listProductsUseCase;
+    private final ListProductSummariesUseCase listProductSummariesUseCase;
     private final AddVariantUseCase addVariantUseCase;
+    private final ExportProductsUseCase exportProductsUseCase;
     private final ProductMapper productMapper;
+    private final ObjectWriter exportWriter;
 
     public ProductController(CreateProductUseCase createProductUseCase,
             UpdateProductUseCase updateProductUseCase,
@@ -47,16 +59,25 @@ public class ProductController {
             DeactivateProductUseCase deactivateProductUseCase,
             GetProductDetailUseCase getProductDetailUseCase,
             ListProductsUseCase listProductsUseCase,
+            ListProductSummariesUseCase listProductSummariesUseCase,
             AddVariantUseCase addVariantUseCase,
-            ProductMapper productMapper) {
+            ExportProductsUseCase exportProductsUseCase,
+            ProductMapper productMapper,
+            ObjectMapper objectMapper) {
         this.createProductUseCase = createProductUseCase;
         this.updateProductUseCase = updateProductUseCase;
         this.publishProductUseCase = publishProductUseCase;
         this.deactivateProductUseCase = deactivateProductUseCase;
         this.getProductDetailUseCase = getProductDetailUseCase;
         this.listProductsUseCase = listProductsUseCase;
+        this.listProductSummariesUseCase = listProductSummariesUseCase;
         this.addVariantUseCase = addVariantUseCase;
+        this.exportProductsUseCase = exportProductsUseCase;
         this.productMapper = productMapper;
+        // Export lines share the response stream: it must not be closed or flushed after every product.
+        this.exportWriter = objectMapper.writerFor(ProductExportResponse.class)
+                .without(JsonGenerator.Feature.AUTO_CLOSE_TARGET)
+                .without(SerializationFeature.FLUSH_AFTER_WRITE_VALUE);
     }
 
     @PostMapping
@@ -132,6 +153,60 @@ public class ProductController {
         return ResponseEntity.ok(response);
     }
 
+    @GetMapping("/summary")
+    @Operation(summary = "List product summaries", description = "Retrieves a paginated list of products with top-level fields only, without variants or images")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Product summaries retrieved successfully", content = @Content(schema = @Schema(implementation = ProductSummaryListResponse.class)))
+    })
+    public ResponseEntity<ProductSummaryListResponse> listProductSummaries(
+            @Parameter(description = "Store ID filter") @RequestParam(required = false) UUID storeId,
+            @Parameter(description = "Page number (0-indexed)") @RequestParam(defaultValue = "0") int page,
+            @Parameter(description = "Page size") @RequestParam(defaultValue = "10") int size) {
+        log.debug("Received request to list product summaries: storeId={}, page={}, size={}", storeId, page, size);
+
+        ListProductsUseCase.ListProductsQuery query = new ListProductsUseCase.ListProductsQuery(storeId, page, size);
+
+        ListProductSummariesUseCase.ListProductSummariesResult result = listProductSummariesUseCase.execute(query);
+
+        ProductSummaryListResponse response = new ProductSummaryListResponse(
+                productMapper.toSummaryResponseList(result.summaries()),
+                result.totalElements(),
+                result.totalPages(),
+                result.currentPage(),
+                size);
+
+        return ResponseEntity.ok(response);
+    }
+
+    @GetMapping(value = "/export", produces = APPLICATION_NDJSON)
+    @Operation(summary = "Export products", description = "Streams products as newline-delimited JSON in ascending id order. "
+            + "Pass the id of the last received product as 'after' to resume or to fetch the next segment")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Products streamed successfully", content = @Content(mediaType = APPLICATION_NDJSON, schema = @Schema(implementation = ProductExportResponse.class)))
+    })
+    public ResponseEntity<StreamingResponseBody> exportProducts(
+            @Parameter(description = "Only export published products") @RequestParam(defaultValue = "true") boolean active,
+            @Parameter(description = "Keyset cursor: export products with an id greater than this one") @RequestParam(required = false) UUID after,
+            @Parameter(description = "Maximum number of products to export, 0 for no limit") @RequestParam(defaultValue = "0") int limit) {
+        log.debug("Received request to export products: active={}, after={}, limit={}", active, after, limit);
+
+        ExportProductsUseCase.ExportProductsQuery query = new ExportProductsUseCase.ExportProductsQuery(
+                active, after, Math.max(limit, 0));
+
+        StreamingResponseBody body = outputStream -> exportProductsUseCase.execute(query, product -> {
+            try {
+                exportWriter.writeValue(outputStream, productMapper.toExportResponse(product));
+                outputStream.write('\n');
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+        });
+
+        return ResponseEntity.ok()
+                .contentType(MediaType.parseMediaType(APPLICATION_NDJSON))
+                .body(body);
+    }
+
     @PutMapping("/{id}")
     @Operation(
             summary = "Update product",
@@ -1,6 +1,7 @@
 package com.microservice.catalog.infrastructure.entities;
 
 import jakarta.persistence.*;
+import org.hibernate.annotations.BatchSize;
 
 import java.math.BigDecimal;
 import java.time.Instant;
@@ -13,7 +14,9 @@ import java.util.UUID;
  * Separated from domain model to keep domain free of JPA annotations.
  */
 @Entity
-@Table(name = "products")
+@Table(name = "products", indexes = {
+        @Index(name = "idx_products_store_created", columnList = "external_store_id, create_at, id")
+})
 public class ProductEntity {
 
     @Id
@@ -65,12 +68,15 @@ public class ProductEntity {
     private Long version;
 
     @OneToMany(mappedBy = "product", cascade = CascadeType.ALL, orphanRemoval = true, fetch = FetchType.LAZY)
+    @BatchSize(size = 50)
     private List<VariantEntity> variants = new ArrayList<>();
 
     @OneToMany(mappedBy = "product", cascade = CascadeType.ALL, orphanRemoval = true, fetch = FetchType.LAZY)
+    @BatchSize(size = 50)
     private List<ImageEntity> images = new ArrayList<>();
 
     @OneToMany(mappedBy = "product", cascade = CascadeType.ALL, orphanRemoval = true, fetch = FetchType.LAZY)
+    @BatchSize(size = 50)
     private List<ProductCategoryEntity> categories = new ArrayList<>();
 
     // Constructors
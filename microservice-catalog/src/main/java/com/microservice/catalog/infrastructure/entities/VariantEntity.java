@@ -1,6 +1,7 @@
 package com.microservice.catalog.infrastructure.entities;
 
 import jakarta.persistence.*;
+import org.hibernate.annotations.BatchSize;
 
 import java.math.BigDecimal;
 import java.time.Instant;
@@ -52,6 +53,7 @@ public class VariantEntity {
 
     @OneToMany(cascade = CascadeType.ALL, orphanRemoval = true, fetch = FetchType.LAZY)
     @JoinColumn(name = "variant_id")
+    @BatchSize(size = 50)
     private List<ImageEntity> images = new ArrayList<>();
 
     // Constructors
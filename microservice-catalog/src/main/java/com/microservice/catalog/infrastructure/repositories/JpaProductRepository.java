@@ -1,14 +1,22 @@
 package com.microservice.catalog.infrastructure.repositories;
 
 import com.microservice.catalog.infrastructure.entities.ProductEntity;
+import com.microservice.catalog.infrastructure.entities.ProductStatusEntity;
+import com.microservice.catalog.infrastructure.entities.VariantEntity;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
+import java.util.stream.Stream;
 
 /**
  * Spring Data JPA Repository for ProductEntity.
@@ -22,6 +30,76 @@ public interface JpaProductRepository extends JpaRepository<ProductEntity, UUID>
 
     List<ProductEntity> findByExternalStoreId(UUID externalStoreId);
 
+    long countByExternalStoreId(UUID externalStoreId);
+
+    @Query("SELECT p.id FROM ProductEntity p WHERE p.externalStoreId = :storeId")
+    List<UUID> findIdsByExternalStoreId(@Param("storeId") UUID storeId, Pageable pageable);
+
+    @Query("SELECT p.id FROM ProductEntity p")
+    List<UUID> findPageIds(Pageable pageable);
+
+    @Query("SELECT p.id AS id, p.externalStoreId AS externalStoreId, p.sku AS sku, p.name AS name, "
+            + "p.brand AS brand, p.basePrice AS basePrice, p.compareAtPrice AS compareAtPrice, "
+            + "p.currency AS currency, p.status AS status, p.featured AS featured, p.createdAt AS createdAt, "
+            + "(SELECT MIN(i.url) FROM ImageEntity i WHERE i.product = p AND i.primary = true) AS primaryImageUrl "
+            + "FROM ProductEntity p")
+    List<ProductSummaryView> findSummaries(Pageable pageable);
+
+    @Query("SELECT p.id AS id, p.externalStoreId AS externalStoreId, p.sku AS sku, p.name AS name, "
+            + "p.brand AS brand, p.basePrice AS basePrice, p.compareAtPrice AS compareAtPrice, "
+            + "p.currency AS currency, p.status AS status, p.featured AS featured, p.createdAt AS createdAt, "
+            + "(SELECT MIN(i.url) FROM ImageEntity i WHERE i.product = p AND i.primary = true) AS primaryImageUrl "
+            + "FROM ProductEntity p WHERE p.externalStoreId = :storeId")
+    List<ProductSummaryView> findSummariesByExternalStoreId(@Param("storeId") UUID storeId, Pageable pageable);
+
+    // Export streams read a fixed number of rows per round trip instead of
+    // materializing the whole result set; rows are ordered by id for keyset resumption.
+
+    String EXPORT_FETCH_SIZE = "500";
+
+    @QueryHints({
+            @QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = EXPORT_FETCH_SIZE),
+            @QueryHint(name = HibernateHints.HINT_READ_ONLY, value = "true")
+    })
+    @Query("SELECT p.id AS id, p.externalStoreId AS externalStoreId, p.sku AS sku, p.name AS name, "
+            + "p.description AS description, p.brand AS brand, p.basePrice AS basePrice, "
+            + "p.compareAtPrice AS compareAtPrice, p.currency AS currency, p.status AS status, "
+            + "(SELECT MIN(i.url) FROM ImageEntity i WHERE i.product = p AND i.primary = true) AS primaryImageUrl, "
+            + "p.updatedAt AS updatedAt "
+            + "FROM ProductEntity p WHERE p.status IN :statuses ORDER BY p.id")
+    Stream<ProductExportView> streamForExport(@Param("statuses") Collection<ProductStatusEntity> statuses);
+
+    @QueryHints({
+            @QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = EXPORT_FETCH_SIZE),
+            @QueryHint(name = HibernateHints.HINT_READ_ONLY, value = "true")
+    })
+    @Query("SELECT p.id AS id, p.externalStoreId AS externalStoreId, p.sku AS sku, p.name AS name, "
+            + "p.description AS description, p.brand AS brand, p.basePrice AS basePrice, "
+            + "p.compareAtPrice AS compareAtPrice, p.currency AS currency, p.status AS status, "
+            + "(SELECT MIN(i.url) FROM ImageEntity i WHERE i.product = p AND i.primary = true) AS primaryImageUrl, "
+            + "p.updatedAt AS updatedAt "
+            + "FROM ProductEntity p WHERE p.status IN :statuses AND p.id > :afterId ORDER BY p.id")
+    Stream<ProductExportView> streamForExportAfter(@Param("statuses") Collection<ProductStatusEntity> statuses,
+            @Param("afterId") UUID afterId);
+
+    @Query("SELECT pc.product.id, pc.categoryId FROM ProductCategoryEntity pc WHERE pc.product.id IN :productIds")
+    List<Object[]> findCategoryIdsByProductIdIn(@Param("productIds") Collection<UUID> productIds);
+
+    // Children are fetched one collection per query so several bags can be
+    // initialized for the same page without a cartesian product.
+
+    @Query("SELECT DISTINCT p FROM ProductEntity p LEFT JOIN FETCH p.variants WHERE p.id IN :ids")
+    List<ProductEntity> findAllWithVariantsByIdIn(@Param("ids") Collection<UUID> ids);
+
+    @Query("SELECT DISTINCT p FROM ProductEntity p LEFT JOIN FETCH p.images WHERE p.id IN :ids")
+    List<ProductEntity> findAllWithImagesByIdIn(@Param("ids") Collection<UUID> ids);
+
+    @Query("SELECT DISTINCT p FROM ProductEntity p LEFT JOIN FETCH p.categories WHERE p.id IN :ids")
+    List<ProductEntity> findAllWithCategoriesByIdIn(@Param("ids") Collection<UUID> ids);
+
+    @Query("SELECT DISTINCT v FROM VariantEntity v LEFT JOIN FETCH v.images WHERE v.product.id IN :productIds")
+    List<VariantEntity> findVariantsWithImagesByProductIdIn(@Param("productIds") Collection<UUID> productIds);
+
     @Query("SELECT p FROM ProductEntity p LEFT JOIN FETCH p.variants LEFT JOIN FETCH p.images WHERE p.id = :id")
     Optional<ProductEntity> findByIdWithDetails(@Param("id") UUID id);
 }
@@ -0,0 +1,37 @@
+package com.microservice.catalog.infrastructure.repositories;
+
+import com.microservice.catalog.infrastructure.entities.ProductStatusEntity;
+
+import java.math.BigDecimal;
+import java.time.Instant;
+import java.util.UUID;
+
+/**
+ * Spring Data projection of the product columns streamed by the catalog export.
+ */
+public interface ProductExportView {
+
+    UUID getId();
+
+    UUID getExternalStoreId();
+
+    String getSku();
+
+    String getName();
+
+    String getDescription();
+
+    String getBrand();
+
+    BigDecimal getBasePrice();
+
+    BigDecimal getCompareAtPrice();
+
+    String getCurrency();
+
+    ProductStatusEntity getStatus();
+
+    String getPrimaryImageUrl();
+
+    Instant getUpdatedAt();
+}
@@ -0,0 +1,37 @@
+package com.microservice.catalog.infrastructure.repositories;
+
+import com.microservice.catalog.infrastructure.entities.ProductStatusEntity;
+
+import java.math.BigDecimal;
+import java.time.Instant;
+import java.util.UUID;
+
+/**
+ * Spring Data projection of the product columns used by list views.
+ */
+public interface ProductSummaryView {
+
+    UUID getId();
+
+    UUID getExternalStoreId();
+
+    String getSku();
+
+    String getName();
+
+    String getBrand();
+
+    BigDecimal getBasePrice();
+
+    BigDecimal getCompareAtPrice();
+
+    String getCurrency();
+
+    ProductStatusEntity getStatus();
+
+    boolean isFeatured();
+
+    String getPrimaryImageUrl();
+
+    Instant getCreatedAt();
+}
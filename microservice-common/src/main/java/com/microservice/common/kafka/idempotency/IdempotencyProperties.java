@@ -0,0 +1,106 @@
+package com.microservice.common.kafka.idempotency;
+
+import java.time.Duration;
+
+/**
+ * Settings of a {@link ProcessedEventGuard}. Each service binds them under
+ * its own prefix, e.g. with
+ * {@code @ConfigurationProperties(prefix = "order.idempotency")} on the bean
+ * method that creates them.
+ */
+public class IdempotencyProperties {
+
+    /** How long processed ids are remembered. */
+    private Duration ttl = Duration.ofDays(7);
+
+    /** When expired ids are deleted and the Bloom filter rebuilt. */
+    private String purgeCron = "0 45 * * * *";
+
+    private int purgeBatchSize = 5000;
+
+    private long expectedInsertions = 1_000_000;
+
+    private double falsePositiveRate = 0.01;
+
+    /** Exact ids kept in memory; also the only in-memory tier while the filter loads. */
+    private int lruSize = 10_000;
+
+    private int batchSize = 500;
+
+    private long flushIntervalMs = 100;
+
+    /** Delay before retrying a failed Bloom filter load. */
+    private Duration loadRetryDelay = Duration.ofSeconds(5);
+
+    public Duration getTtl() {
+        return ttl;
+    }
+
+    public void setTtl(Duration ttl) {
+        this.ttl = ttl;
+    }
+
+    public String getPurgeCron() {
+        return purgeCron;
+    }
+
+    public void setPurgeCron(String purgeCron) {
+        this.purgeCron = purgeCron;
+    }
+
+    public int getPurgeBatchSize() {
+        return purgeBatchSize;
+    }
+
+    public void setPurgeBatchSize(int purgeBatchSize) {
+        this.purgeBatchSize = purgeBatchSize;
+    }
+
+    public long getExpectedInsertions() {
+        return expectedInsertions;
+    }
+
+    public void setExpectedInsertions(long expectedInsertions) {
+        this.expectedInsertions = expectedInsertions;
+    }
+
+    public double getFalsePositiveRate() {
+        return falsePositiveRate;
+    }
+
+    public void setFalsePositiveRate(double falsePositiveRate) {
+        this.falsePositiveRate = falsePositiveRate;
+    }
+
+    public int getLruSize() {
+        return lruSize;
+    }
+
+    public void setLruSize(int lruSize) {
+        this.lruSize = lruSize;
+    }
+
+    public int getBatchSize() {
+        return batchSize;
+    }
+
+    public void setBatchSize(int batchSize) {
+        this.batchSize = batchSize;
+    }
+
+    public long getFlushIntervalMs() {
+        return flushIntervalMs;
+    }
+
+    public void setFlushIntervalMs(long flushIntervalMs) {
+        this.flushIntervalMs = flushIntervalMs;
+    }
+
+    public Duration getLoadRetryDelay() {
+        return loadRetryDelay;
+    }
+
+    public void setLoadRetryDelay(Duration loadRetryDelay) {
+        this.loadRetryDelay = loadRetryDelay;
+    }
+}
@@ -0,0 +1,309 @@
+package com.microservice.common.kafka.idempotency;
+
+import com.microservice.common.kafka.idempotency.ProcessedEventStore.ProcessedEvent;
+import org.apache.kafka.clients.consumer.Consumer;
+import org.apache.kafka.common.TopicPartition;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.kafka.listener.ConsumerAwareRebalanceListener;
+import org.springframework.scheduling.concurrent.ConcurrentTaskScheduler;
+import org.springframework.scheduling.support.CronTrigger;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.Collectors;
+
+/**
+ * Drops Kafka events a service has already processed.
+ *
+ * Lookups go through three tiers:
+ * - An exact LRU of the most recently processed event ids
+ * - A Bloom filter of every id processed within the TTL; a negative answer
+ *   means the event is new, so most new events never touch the database
+ * - The processed_events table, only queried on a Bloom filter hit
+ *
+ * Processed ids are added to both in-memory tiers once the listener's
+ * transaction commits and written to the table in batches by a background
+ * flusher. The Bloom filter is loaded from the table for each partition
+ * assigned to the consumer, on a background thread so the rebalance is not
+ * held up; until every load has finished the filter is bypassed and lookups
+ * that miss the LRU go to the table. Pending ids are flushed before
+ * partitions are revoked, and a cron job deletes rows older than the TTL and
+ * rebuilds the filter so it stays bounded.
+ *
+ * Register it as the rebalance listener of the container factory used by
+ * the idempotent consumers only.
+ */
+public class ProcessedEventGuard implements ConsumerAwareRebalanceListener, DisposableBean {
+
+    private static final Logger log = LoggerFactory.getLogger(ProcessedEventGuard.class);
+    private static final String UNKNOWN_EVENT_ID = "unknown";
+
+    private final ProcessedEventStore store;
+    private final long expectedInsertions;
+    private final double falsePositiveRate;
+    private final int batchSize;
+    private final int purgeBatchSize;
+    private final Duration ttl;
+    private final Duration loadRetryDelay;
+    private final Map<String, Boolean> recent;
+    private final ConcurrentLinkedQueue<ProcessedEvent> pending = new ConcurrentLinkedQueue<>();
+    private final AtomicInteger pendingCount = new AtomicInteger();
+    private final Set<TopicPartition> assigned = ConcurrentHashMap.newKeySet();
+    private final AtomicInteger loading = new AtomicInteger();
+    private final ScheduledExecutorService flusher;
+    private final ScheduledExecutorService loader;
+
+    private volatile BloomFilter bloom;
+    private volatile BloomFilter rebuilding;
+
+    public ProcessedEventGuard(ProcessedEventStore store, IdempotencyProperties properties) {
+        this.store = store;
+        this.expectedInsertions = properties.getExpectedInsertions();
+        this.falsePositiveRate = properties.getFalsePositiveRate();
+        this.batchSize = properties.getBatchSize();
+        this.purgeBatchSize = properties.getPurgeBatchSize();
+        this.ttl = properties.getTtl();
+        this.loadRetryDelay = properties.getLoadRetryDelay();
+        this.bloom = new BloomFilter(expectedInsertions, falsePositiveRate);
+        int lruSize = properties.getLruSize();
+        this.recent = Collections.synchronizedMap(new LinkedHashMap<>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<String, Boolean> eldest) {
+                return size() > lruSize;
+            }
+        });
+        this.flusher = Executors.newSingleThreadScheduledExecutor(daemon("processed-event-flusher"));
+        this.loader = Executors.newSingleThreadScheduledExecutor(daemon("processed-event-loader"));
+
+        long flushIntervalMs = properties.getFlushIntervalMs();
+        this.flusher.scheduleWithFixedDelay(this::flushQuietly, flushIntervalMs, flushIntervalMs, TimeUnit.MILLISECONDS);
+        // Loads and purges share one thread, so a rebuild never races a partition load
+        new ConcurrentTaskScheduler(loader).schedule(this::purgeQuietly, new CronTrigger(properties.getPurgeCron()));
+    }
+
+    /**
+     * Checks whether the event was already processed by this service.
+     * Events without an id are never treated as duplicates.
+     */
+    public boolean isDuplicate(String eventId) {
+        if (!hasId(eventId)) {
+            return false;
+        }
+        if (recent.containsKey(eventId)) {
+            return true;
+        }
+        if (loading.get() == 0 && !bloom.mightContain(eventId)) {
+            return false;
+        }
+        boolean processed = store.exists(eventId);
+        if (processed) {
+            recent.put(eventId, Boolean.TRUE);
+        }
+        return processed;
+    }
+
+    /**
+     * Records the event as processed. Inside a transaction the id is only
+     * recorded after commit, so a rolled back handler is retried normally.
+     */
+    public void markProcessed(String eventId, String eventType, String topic, int partition) {
+        if (!hasId(eventId)) {
+            return;
+        }
+        ProcessedEvent event = new ProcessedEvent(eventId, eventType, topic, partition, Instant.now());
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    record(event);
+                }
+            });
+        } else {
+            record(event);
+        }
+    }
+
+    @Override
+    public void onPartitionsAssigned(Consumer<?, ?> consumer, Collection<TopicPartition> partitions) {
+        if (partitions.isEmpty()) {
+            return;
+        }
+        assigned.addAll(partitions);
+        List<TopicPartition> toLoad = List.copyOf(partitions);
+        loading.incrementAndGet();
+        try {
+            loader.execute(() -> loadAssigned(toLoad));
+        } catch (RejectedExecutionException ex) {
+            loading.decrementAndGet();
+        }
+    }
+
+    @Override
+    public void onPartitionsRevokedBeforeCommit(Consumer<?, ?> consumer, Collection<TopicPartition> partitions) {
+        flushQuietly();
+    }
+
+    @Override
+    public void onPartitionsRevokedAfterCommit(Consumer<?, ?> consumer, Collection<TopicPartition> partitions) {
+        partitions.forEach(assigned::remove);
+    }
+
+    @Override
+    public void onPartitionsLost(Consumer<?, ?> consumer, Collection<TopicPartition> partitions) {
+        partitions.forEach(assigned::remove);
+    }
+
+    /**
+     * Deletes processed events older than the TTL and rebuilds the Bloom
+     * filter from what is left. Ids recorded during the rebuild go to both
+     * filters.
+     */
+    public synchronized void purgeExpired() {
+        Instant before = Instant.now().minus(ttl);
+        int deleted = 0;
+        int batch;
+        do {
+            batch = store.purgeBefore(before, purgeBatchSize);
+            deleted += batch;
+        } while (batch == purgeBatchSize);
+
+        BloomFilter fresh = new BloomFilter(expectedInsertions, falsePositiveRate);
+        rebuilding = fresh;
+        try {
+            flush();
+            load(fresh, List.copyOf(assigned));
+            bloom = fresh;
+        } finally {
+            rebuilding = null;
+        }
+        log.info("Purged {} processed events older than {} and rebuilt the Bloom filter", deleted, before);
+    }
+
+    @Override
+    public void destroy() {
+        loader.shutdownNow();
+        flusher.shutdown();
+        try {
+            flusher.awaitTermination(5, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        flushQuietly();
+    }
+
+    private void record(ProcessedEvent event) {
+        recent.put(event.eventId(), Boolean.TRUE);
+        bloom.put(event.eventId());
+        BloomFilter next = rebuilding;
+        if (next != null) {
+            next.put(event.eventId());
+        }
+        pending.add(event);
+        if (pendingCount.incrementAndGet() >= batchSize) {
+            flusher.execute(this::flushQuietly);
+        }
+    }
+
+    /**
+     * Loads the ids of newly assigned partitions into the live filter. A
+     * failed load is retried and keeps the filter bypassed meanwhile.
+     */
+    private void loadAssigned(List<TopicPartition> partitions) {
+        try {
+            load(bloom, partitions);
+            loading.decrementAndGet();
+            log.debug("Bloom filter loaded for {}", partitions);
+        } catch (RuntimeException ex) {
+            log.warn("Could not load processed events for {}, retrying in {}: {}",
+                    partitions, loadRetryDelay, ex.getMessage());
+            try {
+                loader.schedule(() -> loadAssigned(partitions), loadRetryDelay.toMillis(), TimeUnit.MILLISECONDS);
+            } catch (RejectedExecutionException rejected) {
+                loading.decrementAndGet();
+            }
+        }
+    }
+
+    /**
+     * Writes every pending id to the processed_events table. Failed batches
+     * are queued again; the ids stay in memory meanwhile.
+     */
+    private synchronized void flush() {
+        List<ProcessedEvent> batch = new ArrayList<>();
+        ProcessedEvent event;
+        while ((event = pending.poll()) != null) {
+            pendingCount.decrementAndGet();
+            batch.add(event);
+            if (batch.size() == batchSize) {
+                write(batch);
+                batch = new ArrayList<>();
+            }
+        }
+        write(batch);
+    }
+
+    private void write(List<ProcessedEvent> batch) {
+        try {
+            store.insertAll(batch);
+        } catch (RuntimeException ex) {
+            pending.addAll(batch);
+            pendingCount.addAndGet(batch.size());
+            throw ex;
+        }
+    }
+
+    private void flushQuietly() {
+        try {
+            flush();
+        } catch (RuntimeException ex) {
+            log.warn("Failed to persist processed events, will retry: {}", ex.getMessage());
+        }
+    }
+
+    private void purgeQuietly() {
+        try {
+            purgeExpired();
+        } catch (RuntimeException ex) {
+            log.warn("Failed to purge processed events: {}", ex.getMessage());
+        }
+    }
+
+    private void load(BloomFilter target, Collection<TopicPartition> partitions) {
+        Instant since = Instant.now().minus(ttl);
+        Map<String, List<Integer>> byTopic = partitions.stream()
+                .collect(Collectors.groupingBy(TopicPartition::topic,
+                        Collectors.mapping(TopicPartition::partition, Collectors.toList())));
+        byTopic.forEach((topic, ids) -> store.forEachRecent(topic, ids, since, target::put));
+    }
+
+    private static boolean hasId(String eventId) {
+        return eventId != null && !eventId.isBlank() && !UNKNOWN_EVENT_ID.equals(eventId);
+    }
+
+    private static ThreadFactory daemon(String name) {
+        return runnable -> {
+            Thread thread = new Thread(runnable, name);
+            thread.setDaemon(true);
+            return thread;
+        };
+    }
+}
@@ -0,0 +1,97 @@
+package com.microservice.common.kafka.idempotency;
+
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.sql.PreparedStatement;
+import java.sql.Timestamp;
+import java.time.Instant;
+import java.util.Collection;
+import java.util.List;
+import java.util.function.Consumer;
+
+/**
+ * JDBC access to the processed_events table. Each service owns its own
+ * table and registers the store as a bean.
+ */
+public class ProcessedEventStore {
+
+    private static final String EXISTS_SQL = "SELECT COUNT(*) FROM processed_events WHERE event_id = ?";
+
+    private static final String INSERT_SQL = """
+            INSERT INTO processed_events (event_id, event_type, topic, partition_id, processed_at)
+            VALUES (?, ?, ?, ?, ?)
+            ON CONFLICT (event_id) DO NOTHING
+            """;
+
+    private static final String RECENT_SQL = """
+            SELECT event_id FROM processed_events
+            WHERE topic = ? AND partition_id = ? AND processed_at >= ?
+            """;
+
+    private static final String PURGE_SQL = """
+            DELETE FROM processed_events
+            WHERE event_id IN (SELECT event_id FROM processed_events
+                               WHERE processed_at < ?
+                               LIMIT ?)
+            """;
+
+    private static final int FETCH_SIZE = 5_000;
+
+    private final JdbcTemplate jdbcTemplate;
+
+    public ProcessedEventStore(JdbcTemplate jdbcTemplate) {
+        this.jdbcTemplate = jdbcTemplate;
+    }
+
+    public boolean exists(String eventId) {
+        Integer count = jdbcTemplate.queryForObject(EXISTS_SQL, Integer.class, eventId);
+        return count != null && count > 0;
+    }
+
+    public void insertAll(List<ProcessedEvent> events) {
+        if (events.isEmpty()) {
+            return;
+        }
+        jdbcTemplate.batchUpdate(INSERT_SQL, events, events.size(), (ps, event) -> {
+            ps.setString(1, event.eventId());
+            ps.setString(2, event.eventType());
+            ps.setString(3, event.topic());
+            ps.setInt(4, event.partition());
+            ps.setTimestamp(5, Timestamp.from(event.processedAt()));
+        });
+    }
+
+    /**
+     * Streams the ids of events of the given partitions processed since {@code since}.
+     */
+    public void forEachRecent(String topic, Collection<Integer> partitions, Instant since, Consumer<String> action) {
+        Timestamp from = Timestamp.from(since);
+        for (Integer partition : partitions) {
+            jdbcTemplate.query(con -> {
+                PreparedStatement ps = con.prepareStatement(RECENT_SQL);
+                ps.setFetchSize(FETCH_SIZE);
+                ps.setString(1, topic);
+                ps.setInt(2, partition);
+                ps.setTimestamp(3, from);
+                return ps;
+            }, rs -> {
+                action.accept(rs.getString(1));
+            });
+        }
+    }
+
+    /**
+     * Deletes up to {@code limit} rows processed before {@code before}.
+     *
+     * @return number of rows deleted
+     */
+    public int purgeBefore(Instant before, int limit) {
+        return jdbcTemplate.update(PURGE_SQL, Timestamp.from(before), limit);
+    }
+
+    /**
+     * An event handled by a consumer.
+     */
+    public record ProcessedEvent(String eventId, String eventType, String topic, int partition, Instant processedAt) {
+    }
+}
@@ -0,0 +1,85 @@
+package com.microservice.inventory.application.dto;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.UUID;
+import io.swagger.v3.oas.annotations.media.Schema;
+import com.microservice.inventory.domain.models.enums.ReservationType;
+import jakarta.validation.Valid;
+import jakarta.validation.constraints.NotEmpty;
+import jakarta.validation.constraints.NotNull;
+
+@Schema(description = "Request to reserve stock for all lines of a cart in one operation")
+public class ReserveStockBatchRequest {
+
+        @Schema(description = "Lines to reserve", requiredMode = Schema.RequiredMode.REQUIRED)
+        @NotEmpty(message = "At least one line is required")
+        private List<@Valid ReserveStockLineRequest> lines;
+
+        @Schema(description = "Type of reservation (e.g., ORDER, CART)", example = "CART", requiredMode = Schema.RequiredMode.REQUIRED)
+        @NotNull(message = "Reservation type is required")
+        private ReservationType reservationType;
+
+        @Schema(description = "External ID of the cart (if applicable)", example = "123e4567-e89b-12d3-a456-426614174888")
+        private UUID externalCartId;
+
+        @Schema(description = "External ID of the order (if applicable)", example = "123e4567-e89b-12d3-a456-426614174777")
+        private UUID externalOrderId;
+
+        @Schema(description = "Expiration time for every reservation in the batch", example = "2023-12-31T23:59:59")
+        private LocalDateTime expiresAt;
+
+        // Constructors
+        public ReserveStockBatchRequest() {
+        }
+
+        public ReserveStockBatchRequest(List<ReserveStockLineRequest> lines, ReservationType reservationType,
+                        UUID externalCartId, UUID externalOrderId, LocalDateTime expiresAt) {
+                this.lines = lines;
+                this.reservationType = reservationType;
+                this.externalCartId = externalCartId;
+                this.externalOrderId = externalOrderId;
+                this.expiresAt = expiresAt;
+        }
+
+        // Getters and Setters
+        public List<ReserveStockLineRequest> getLines() {
+                return lines;
+        }
+
+        public void setLines(List<ReserveStockLineRequest> lines) {
+                this.lines = lines;
+        }
+
+        public ReservationType getReservationType() {
+                return reservationType;
+        }
+
+        public void setReservationType(ReservationType reservationType) {
+                this.reservationType = reservationType;
+        }
+
+        public UUID getExternalCartId() {
+                return externalCartId;
+        }
+
+        public void setExternalCartId(UUID externalCartId) {
+                this.externalCartId = externalCartId;
+        }
+
+        public UUID getExternalOrderId() {
+                return externalOrderId;
+        }
+
+        public void setExternalOrderId(UUID externalOrderId) {
+                this.externalOrderId = externalOrderId;
+        }
+
+        public LocalDateTime getExpiresAt() {
+                return expiresAt;
+        }
+
+        public void setExpiresAt(LocalDateTime expiresAt) {
+                this.expiresAt = expiresAt;
+        }
+}
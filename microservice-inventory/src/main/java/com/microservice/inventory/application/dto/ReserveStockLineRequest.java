@@ -0,0 +1,44 @@
+package com.microservice.inventory.application.dto;
+
+import java.util.UUID;
+import io.swagger.v3.oas.annotations.media.Schema;
+import jakarta.validation.constraints.Min;
+import jakarta.validation.constraints.NotNull;
+
+@Schema(description = "Single line of a batch stock reservation")
+public class ReserveStockLineRequest {
+
+        @Schema(description = "Unique identifier of the stock record", example = "123e4567-e89b-12d3-a456-426614174099", requiredMode = Schema.RequiredMode.REQUIRED)
+        @NotNull(message = "Stock ID is required")
+        private UUID stockId;
+
+        @Schema(description = "Quantity to reserve", example = "2", minimum = "1", requiredMode = Schema.RequiredMode.REQUIRED)
+        @Min(value = 1, message = "Quantity must be at least 1")
+        private int quantity;
+
+        // Constructors
+        public ReserveStockLineRequest() {
+        }
+
+        public ReserveStockLineRequest(UUID stockId, int quantity) {
+                this.stockId = stockId;
+                this.quantity = quantity;
+        }
+
+        // Getters and Setters
+        public UUID getStockId() {
+                return stockId;
+        }
+
+        public void setStockId(UUID stockId) {
+                this.stockId = stockId;
+        }
+
+        public int getQuantity() {
+                return quantity;
+        }
+
+        public void setQuantity(int quantity) {
+                this.quantity = quantity;
+        }
+}
@@ -0,0 +1,34 @@
+package com.microservice.inventory.application.dto;
+
+import java.util.List;
+import java.util.UUID;
+import io.swagger.v3.oas.annotations.media.Schema;
+import jakarta.validation.constraints.NotEmpty;
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Size;
+
+@Schema(description = "Request for the availability of several variants at once")
+public class VariantAvailabilityRequest {
+
+        @Schema(description = "Variant IDs to look up", requiredMode = Schema.RequiredMode.REQUIRED)
+        @NotEmpty(message = "At least one variant ID is required")
+        @Size(max = 500, message = "At most 500 variant IDs per request")
+        private List<@NotNull UUID> variantIds;
+
+        // Constructors
+        public VariantAvailabilityRequest() {
+        }
+
+        public VariantAvailabilityRequest(List<UUID> variantIds) {
+                this.variantIds = variantIds;
+        }
+
+        // Getters and Setters
+        public List<UUID> getVariantIds() {
+                return variantIds;
+        }
+
+        public void setVariantIds(List<UUID> variantIds) {
+                this.variantIds = variantIds;
+        }
+}
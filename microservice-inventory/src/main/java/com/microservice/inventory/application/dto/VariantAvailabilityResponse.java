@@ -0,0 +1,52 @@
+package com.microservice.inventory.application.dto;
+
+import java.util.UUID;
+import io.swagger.v3.oas.annotations.media.Schema;
+
+@Schema(description = "Availability of a variant summed across all warehouses")
+public class VariantAvailabilityResponse {
+
+        @Schema(description = "Unique identifier of the product variant", example = "123e4567-e89b-12d3-a456-426614174001")
+        private UUID externalVariantId;
+
+        @Schema(description = "Quantity available across all warehouses", example = "42")
+        private long quantityAvailable;
+
+        @Schema(description = "Whether any quantity is available", example = "true")
+        private boolean available;
+
+        // Constructors
+        public VariantAvailabilityResponse() {
+        }
+
+        public VariantAvailabilityResponse(UUID externalVariantId, long quantityAvailable, boolean available) {
+                this.externalVariantId = externalVariantId;
+                this.quantityAvailable = quantityAvailable;
+                this.available = available;
+        }
+
+        // Getters and Setters
+        public UUID getExternalVariantId() {
+                return externalVariantId;
+        }
+
+        public void setExternalVariantId(UUID externalVariantId) {
+                this.externalVariantId = externalVariantId;
+        }
+
+        public long getQuantityAvailable() {
+                return quantityAvailable;
+        }
+
+        public void setQuantityAvailable(long quantityAvailable) {
+                this.quantityAvailable = quantityAvailable;
+        }
+
+        public boolean isAvailable() {
+                return available;
+        }
+
+        public void setAvailable(boolean available) {
+                this.available = available;
+        }
+}
@@ -3,7 +3,9 @@ package com.microservice.inventory.application.mapper;
 import org.springframework.stereotype.Component;
 
 import com.microservice.inventory.application.dto.StockResponse;
+import com.microservice.inventory.application.dto.VariantAvailabilityResponse;
 import com.microservice.inventory.domain.models.Stock;
+import com.microservice.inventory.domain.models.VariantAvailability;
 
 /**
  * Mapper between Stock domain model and DTOs.
@@ -29,4 +31,11 @@ public class StockMapper {
                 stock.getCreatedAt(),
                 stock.getUpdatedAt());
     }
+
+    public VariantAvailabilityResponse toResponse(VariantAvailability availability) {
+        return new VariantAvailabilityResponse(
+                availability.externalVariantId(),
+                availability.quantityAvailable(),
+                availability.isAvailable());
+    }
 }
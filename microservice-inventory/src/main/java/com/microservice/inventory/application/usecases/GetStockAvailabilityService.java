@@ -1,14 +1,22 @@
 package com.microservice.inventory.application.usecases;
 
+import java.util.Collection;
+import java.util.LinkedHashSet;
 import java.util.List;
+import java.util.Map;
 import java.util.UUID;
+import java.util.function.Function;
+import java.util.stream.Collectors;
 
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
 
 import com.microservice.inventory.domain.exceptions.StockNotFoundException;
 import com.microservice.inventory.domain.models.Stock;
+import com.microservice.inventory.domain.models.VariantAvailability;
 import com.microservice.inventory.domain.port.in.GetStockAvailabilityUseCase;
+import com.microservice.inventory.domain.port.out.StockAvailabilityCachePort;
 import com.microservice.inventory.domain.port.out.StockRepositoryPort;
 
 @Service
@@ -16,9 +24,12 @@ import com.microservice.inventory.domain.port.out.StockRepositoryPort;
 public class GetStockAvailabilityService implements GetStockAvailabilityUseCase {
 
     private final StockRepositoryPort stockRepository;
+    private final StockAvailabilityCachePort availabilityCache;
 
-    public GetStockAvailabilityService(StockRepositoryPort stockRepository) {
+    public GetStockAvailabilityService(StockRepositoryPort stockRepository,
+            StockAvailabilityCachePort availabilityCache) {
         this.stockRepository = stockRepository;
+        this.availabilityCache = availabilityCache;
     }
 
     @Override
@@ -38,6 +49,21 @@ public class GetStockAvailabilityService implements GetStockAvailabilityUseCase
         return stockRepository.findByExternalVariantId(externalVariantId);
     }
 
+    @Override
+    @Transactional(propagation = Propagation.SUPPORTS, readOnly = true)
+    public List<VariantAvailability> getAvailabilityByVariants(Collection<UUID> externalVariantIds) {
+        List<UUID> requested = List.copyOf(new LinkedHashSet<>(externalVariantIds));
+        Map<UUID, VariantAvailability> result = availabilityCache.getAll(requested, misses -> {
+            Map<UUID, VariantAvailability> loaded = stockRepository.sumAvailableByVariantIds(misses).stream()
+                    .collect(Collectors.toMap(VariantAvailability::externalVariantId, Function.identity()));
+            return misses.stream()
+                    .collect(Collectors.toMap(Function.identity(),
+                            variantId -> loaded.getOrDefault(variantId, VariantAvailability.none(variantId))));
+        });
+
+        return requested.stream().map(result::get).toList();
+    }
+
     @Override
     public List<Stock> getByWarehouse(UUID warehouseId) {
         return stockRepository.findByWarehouseId(warehouseId);
@@ -1,14 +1,24 @@
 package com.microservice.inventory.application.usecases;
 
 import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.stream.Collectors;
 
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.scheduling.annotation.Scheduled;
 import org.springframework.stereotype.Service;
-import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
 
+import com.microservice.inventory.domain.events.DomainEvent;
 import com.microservice.inventory.domain.models.Stock;
 import com.microservice.inventory.domain.models.StockReservation;
 import com.microservice.inventory.domain.port.in.ReleaseExpiredReservationsUseCase;
@@ -16,51 +26,154 @@ import com.microservice.inventory.domain.port.out.EventPublisherPort;
 import com.microservice.inventory.domain.port.out.StockRepositoryPort;
 import com.microservice.inventory.domain.port.out.StockReservationRepositoryPort;
 
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+
+/**
+ * Sweeps expired reservations in bounded chunks.
+ * Each chunk is read with a keyset cursor on (expiresAt, id), grouped by stock so
+ * every Stock aggregate is loaded and saved once, and committed in its own transaction.
+ */
 @Service
-@Transactional
 public class ReleaseExpiredReservationsService implements ReleaseExpiredReservationsUseCase {
 
     private static final Logger log = LoggerFactory.getLogger(ReleaseExpiredReservationsService.class);
+    private static final String EXPIRY_REASON = "Reservation expired";
 
     private final StockRepositoryPort stockRepository;
     private final StockReservationRepositoryPort reservationRepository;
     private final EventPublisherPort eventPublisher;
+    private final TransactionTemplate transactionTemplate;
+    private final int chunkSize;
+    private final int maxChunksPerRun;
+
+    private final Timer sweepTimer;
+    private final Counter releasedCounter;
+    private final Counter failedCounter;
+    private final AtomicLong backlog = new AtomicLong();
 
     public ReleaseExpiredReservationsService(StockRepositoryPort stockRepository,
             StockReservationRepositoryPort reservationRepository,
-            EventPublisherPort eventPublisher) {
+            EventPublisherPort eventPublisher,
+            PlatformTransactionManager transactionManager,
+            MeterRegistry meterRegistry,
+            @Value("${inventory.reservation.expiry-chunk-size:500}") int chunkSize,
+            @Value("${inventory.reservation.expiry-max-chunks-per-run:200}") int maxChunksPerRun) {
         this.stockRepository = stockRepository;
         this.reservationRepository = reservationRepository;
         this.eventPublisher = eventPublisher;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.chunkSize = chunkSize;
+        this.maxChunksPerRun = maxChunksPerRun;
+        this.sweepTimer = Timer.builder("inventory.reservations.expiry.sweep")
+                .description("Duration of an expired reservation sweep run")
+                .register(meterRegistry);
+        this.releasedCounter = Counter.builder("inventory.reservations.expiry.released")
+                .description("Expired reservations released by the sweeper")
+                .register(meterRegistry);
+        this.failedCounter = Counter.builder("inventory.reservations.expiry.failed")
+                .description("Expired reservations the sweeper could not release")
+                .register(meterRegistry);
+        meterRegistry.gauge("inventory.reservations.expiry.backlog", backlog);
     }
 
     @Override
     @Scheduled(fixedRateString = "${inventory.reservation.expiry-check-interval:60000}")
     public int execute() {
-        List<StockReservation> expiredReservations = reservationRepository
-                .findExpiredReservations(LocalDateTime.now());
-
-        int count = 0;
-        for (StockReservation reservation : expiredReservations) {
-            try {
-                Stock stock = stockRepository.findById(reservation.getStockId()).orElse(null);
-                if (stock != null) {
-                    stock.releaseReservation(reservation, "Reservation expired");
-                    stockRepository.save(stock);
-                    reservationRepository.save(reservation);
-                    eventPublisher.publishAll(stock.getDomainEvents());
-                    stock.clearDomainEvents();
-                    count++;
-                }
-            } catch (Exception e) {
-                log.error("Failed to release expired reservation: {}", reservation.getId(), e);
+        long start = System.nanoTime();
+        LocalDateTime now = LocalDateTime.now();
+
+        LocalDateTime cursorExpiresAt = null;
+        UUID cursorId = null;
+        int released = 0;
+        int chunks = 0;
+
+        while (chunks < maxChunksPerRun) {
+            List<StockReservation> chunk = reservationRepository.findExpiredReservationsChunk(
+                    now, cursorExpiresAt, cursorId, chunkSize);
+            if (chunk.isEmpty()) {
+                break;
+            }
+            chunks++;
+
+            released += releaseChunk(chunk, now);
+
+            StockReservation last = chunk.get(chunk.size() - 1);
+            cursorExpiresAt = last.getExpiresAt();
+            cursorId = last.getId();
+
+            if (chunk.size() < chunkSize) {
+                break;
+            }
+        }
+
+        long elapsedNanos = System.nanoTime() - start;
+        sweepTimer.record(elapsedNanos, TimeUnit.NANOSECONDS);
+        backlog.set(reservationRepository.countExpiredReservations(now));
+
+        if (released > 0) {
+            long elapsedMillis = TimeUnit.NANOSECONDS.toMillis(elapsedNanos);
+            double perSecond = released * 1000.0 / Math.max(elapsedMillis, 1);
+            log.info("Released {} expired reservations in {} chunks ({} ms, {} reservations/s), backlog {}",
+                    released, chunks, elapsedMillis, String.format("%.1f", perSecond), backlog.get());
+        }
+
+        return released;
+    }
+
+    /**
+     * Releases one chunk in its own transaction and publishes the resulting events after commit.
+     */
+    private int releaseChunk(List<StockReservation> chunk, LocalDateTime now) {
+        List<DomainEvent> events = new ArrayList<>();
+        Integer released;
+        try {
+            released = transactionTemplate.execute(status -> releaseChunkInTransaction(chunk, now, events));
+        } catch (Exception e) {
+            log.error("Failed to release expired reservation chunk starting at {}", chunk.get(0).getId(), e);
+            failedCounter.increment(chunk.size());
+            return 0;
+        }
+
+        eventPublisher.publishAll(events);
+        releasedCounter.increment(released);
+        return released;
+    }
+
+    private int releaseChunkInTransaction(List<StockReservation> chunk, LocalDateTime now,
+            List<DomainEvent> events) {
+        Map<UUID, List<UUID>> reservationIdsByStock = chunk.stream()
+                .collect(Collectors.groupingBy(StockReservation::getStockId, LinkedHashMap::new,
+                        Collectors.mapping(StockReservation::getId, Collectors.toList())));
+
+        List<Stock> stocks = stockRepository.findAllByIds(reservationIdsByStock.keySet());
+        List<UUID> expiredIds = new ArrayList<>();
+
+        for (Stock stock : stocks) {
+            List<UUID> reservationIds = reservationIdsByStock.get(stock.getId());
+            List<StockReservation> toRelease = stock.getReservations().stream()
+                    .filter(reservation -> reservationIds.contains(reservation.getId()))
+                    .toList();
+
+            for (StockReservation reservation : toRelease) {
+                stock.releaseReservation(reservation, EXPIRY_REASON);
+                expiredIds.add(reservation.getId());
+            }
+
+            if (!toRelease.isEmpty()) {
+                stockRepository.save(stock);
+                events.addAll(stock.getDomainEvents());
+                stock.clearDomainEvents();
             }
         }
 
-        if (count > 0) {
-            log.info("Released {} expired reservations", count);
+        int skipped = chunk.size() - expiredIds.size();
+        if (skipped > 0) {
+            log.warn("Skipped {} expired reservations whose stock could not be loaded", skipped);
+            failedCounter.increment(skipped);
         }
 
-        return count;
+        return reservationRepository.markExpired(expiredIds, now);
     }
 }
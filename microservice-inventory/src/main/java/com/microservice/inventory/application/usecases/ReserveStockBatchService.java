@@ -0,0 +1,109 @@
+package com.microservice.inventory.application.usecases;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import com.microservice.inventory.domain.events.DomainEvent;
+import com.microservice.inventory.domain.events.LowStockAlertEvent;
+import com.microservice.inventory.domain.events.StockBatchReservedEvent;
+import com.microservice.inventory.domain.exceptions.InsufficientStockException;
+import com.microservice.inventory.domain.exceptions.StockNotFoundException;
+import com.microservice.inventory.domain.models.StockLevel;
+import com.microservice.inventory.domain.models.StockReservation;
+import com.microservice.inventory.domain.models.enums.ReservationStatus;
+import com.microservice.inventory.domain.port.in.ReserveStockBatchUseCase;
+import com.microservice.inventory.domain.port.out.EventPublisherPort;
+import com.microservice.inventory.domain.port.out.StockRepositoryPort;
+import com.microservice.inventory.domain.port.out.StockReservationRepositoryPort;
+
+/**
+ * Reserves every line of a cart in one transaction.
+ * Lines are applied in stock id order so concurrent batches lock rows in the
+ * same sequence and cannot deadlock. Any insufficient line rolls back the batch.
+ */
+@Service
+@Transactional
+public class ReserveStockBatchService implements ReserveStockBatchUseCase {
+
+    private final StockRepositoryPort stockRepository;
+    private final StockReservationRepositoryPort reservationRepository;
+    private final EventPublisherPort eventPublisher;
+
+    public ReserveStockBatchService(StockRepositoryPort stockRepository,
+            StockReservationRepositoryPort reservationRepository,
+            EventPublisherPort eventPublisher) {
+        this.stockRepository = stockRepository;
+        this.reservationRepository = reservationRepository;
+        this.eventPublisher = eventPublisher;
+    }
+
+    @Override
+    public List<StockReservation> execute(ReserveStockBatchCommand command) {
+        List<ReserveStockLine> orderedLines = command.lines().stream()
+                .sorted(Comparator.comparing(ReserveStockLine::stockId))
+                .toList();
+
+        for (ReserveStockLine line : orderedLines) {
+            if (!stockRepository.reserveAtomically(line.stockId(), line.quantity())) {
+                StockLevel current = stockRepository.findStockLevel(line.stockId())
+                        .orElseThrow(() -> new StockNotFoundException(line.stockId()));
+                throw new InsufficientStockException(line.stockId(), line.quantity(),
+                        current.quantityAvailable());
+            }
+        }
+
+        List<StockReservation> saved = reservationRepository.saveAll(orderedLines.stream()
+                .map(line -> StockReservation.builder()
+                        .stockId(line.stockId())
+                        .quantity(line.quantity())
+                        .reservationType(command.reservationType())
+                        .externalCartId(command.externalCartId())
+                        .externalOrderId(command.externalOrderId())
+                        .expiresAt(command.expiresAt())
+                        .status(ReservationStatus.PENDING)
+                        .build())
+                .toList());
+
+        Map<UUID, StockLevel> levels = stockRepository
+                .findStockLevels(orderedLines.stream().map(ReserveStockLine::stockId).distinct().toList())
+                .stream()
+                .collect(Collectors.toMap(StockLevel::stockId, Function.identity()));
+
+        eventPublisher.publishAll(buildEvents(command, saved, levels));
+
+        return saved;
+    }
+
+    private List<DomainEvent> buildEvents(ReserveStockBatchCommand command, List<StockReservation> reservations,
+            Map<UUID, StockLevel> levels) {
+        List<StockBatchReservedEvent.ReservedLine> lines = reservations.stream()
+                .map(reservation -> {
+                    StockLevel level = levels.get(reservation.getStockId());
+                    return new StockBatchReservedEvent.ReservedLine(
+                            reservation.getStockId(), reservation.getId(),
+                            level.externalVariantId(), level.warehouseId(), reservation.getQuantity());
+                })
+                .toList();
+
+        List<DomainEvent> events = new ArrayList<>();
+        events.add(new StockBatchReservedEvent(
+                command.reservationType(), command.externalCartId(), command.externalOrderId(), lines));
+
+        levels.values().stream()
+                .filter(StockLevel::isLowStock)
+                .map(level -> new LowStockAlertEvent(
+                        level.stockId(), level.externalVariantId(), level.warehouseId(),
+                        level.quantityAvailable(), level.lowStockThreshold()))
+                .forEach(events::add);
+
+        return events;
+    }
+}
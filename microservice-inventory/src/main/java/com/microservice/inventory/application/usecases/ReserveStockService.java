@@ -1,16 +1,32 @@
 package com.microservice.inventory.application.usecases;
 
+import java.util.ArrayList;
+import java.util.List;
+
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import com.microservice.inventory.domain.events.DomainEvent;
+import com.microservice.inventory.domain.events.LowStockAlertEvent;
+import com.microservice.inventory.domain.events.StockReservedEvent;
+import com.microservice.inventory.domain.exceptions.InsufficientStockException;
 import com.microservice.inventory.domain.exceptions.StockNotFoundException;
 import com.microservice.inventory.domain.models.Stock;
+import com.microservice.inventory.domain.models.StockLevel;
 import com.microservice.inventory.domain.models.StockReservation;
+import com.microservice.inventory.domain.models.enums.ReservationStatus;
 import com.microservice.inventory.domain.port.in.ReserveStockUseCase;
 import com.microservice.inventory.domain.port.out.EventPublisherPort;
 import com.microservice.inventory.domain.port.out.StockRepositoryPort;
 import com.microservice.inventory.domain.port.out.StockReservationRepositoryPort;
 
+/**
+ * Reserves stock either through the Stock aggregate or, in atomic mode, with a
+ * conditional decrement in the database. Atomic mode avoids optimistic-lock
+ * retries on hot SKUs because concurrent reservations never read-modify-write
+ * the same row version.
+ */
 @Service
 @Transactional
 public class ReserveStockService implements ReserveStockUseCase {
@@ -18,17 +34,24 @@ public class ReserveStockService implements ReserveStockUseCase {
     private final StockRepositoryPort stockRepository;
     private final StockReservationRepositoryPort reservationRepository;
     private final EventPublisherPort eventPublisher;
+    private final boolean atomicEnabled;
 
     public ReserveStockService(StockRepositoryPort stockRepository,
             StockReservationRepositoryPort reservationRepository,
-            EventPublisherPort eventPublisher) {
+            EventPublisherPort eventPublisher,
+            @Value("${inventory.reservation.atomic-enabled:false}") boolean atomicEnabled) {
         this.stockRepository = stockRepository;
         this.reservationRepository = reservationRepository;
         this.eventPublisher = eventPublisher;
+        this.atomicEnabled = atomicEnabled;
     }
 
     @Override
     public StockReservation execute(ReserveStockCommand command) {
+        if (atomicEnabled) {
+            return reserveAtomically(command);
+        }
+
         Stock stock = stockRepository.findById(command.stockId())
                 .orElseThrow(() -> new StockNotFoundException(command.stockId()));
 
@@ -47,4 +70,43 @@ public class ReserveStockService implements ReserveStockUseCase {
 
         return saved;
     }
+
+    private StockReservation reserveAtomically(ReserveStockCommand command) {
+        if (command.quantity() <= 0) {
+            throw new IllegalArgumentException("Quantity must be positive");
+        }
+        if (!stockRepository.reserveAtomically(command.stockId(), command.quantity())) {
+            StockLevel current = stockRepository.findStockLevel(command.stockId())
+                    .orElseThrow(() -> new StockNotFoundException(command.stockId()));
+            throw new InsufficientStockException(command.stockId(), command.quantity(),
+                    current.quantityAvailable());
+        }
+
+        StockLevel level = stockRepository.findStockLevel(command.stockId())
+                .orElseThrow(() -> new StockNotFoundException(command.stockId()));
+
+        StockReservation saved = reservationRepository.save(StockReservation.builder()
+                .stockId(command.stockId())
+                .quantity(command.quantity())
+                .reservationType(command.reservationType())
+                .externalCartId(command.externalCartId())
+                .externalOrderId(command.externalOrderId())
+                .expiresAt(command.expiresAt())
+                .status(ReservationStatus.PENDING)
+                .build());
+
+        List<DomainEvent> events = new ArrayList<>();
+        events.add(new StockReservedEvent(
+                level.stockId(), saved.getId(), level.externalVariantId(),
+                level.warehouseId(), command.quantity(), command.reservationType(),
+                command.externalCartId(), command.externalOrderId()));
+        if (level.isLowStock()) {
+            events.add(new LowStockAlertEvent(
+                    level.stockId(), level.externalVariantId(), level.warehouseId(),
+                    level.quantityAvailable(), level.lowStockThreshold()));
+        }
+        eventPublisher.publishAll(events);
+
+        return saved;
+    }
 }
@@ -0,0 +1,56 @@
+package com.microservice.inventory.domain.events;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.UUID;
+
+import com.microservice.inventory.domain.models.enums.ReservationType;
+
+/**
+ * Single event covering every line reserved by one batch reservation.
+ * The aggregate id identifies the batch, not an individual stock row.
+ */
+public record StockBatchReservedEvent(
+        UUID eventId,
+        String eventType,
+        LocalDateTime occurredAt,
+        UUID aggregateId,
+        ReservationType reservationType,
+        UUID externalCartId,
+        UUID externalOrderId,
+        List<ReservedLine> lines) implements DomainEvent {
+
+    public StockBatchReservedEvent(ReservationType reservationType, UUID externalCartId,
+            UUID externalOrderId, List<ReservedLine> lines) {
+        this(UUID.randomUUID(), "stock.batch_reserved", LocalDateTime.now(),
+                UUID.randomUUID(), reservationType, externalCartId, externalOrderId, List.copyOf(lines));
+    }
+
+    public record ReservedLine(
+            UUID stockId,
+            UUID reservationId,
+            UUID externalVariantId,
+            UUID warehouseId,
+            int quantity) {
+    }
+
+    @Override
+    public UUID getEventId() {
+        return eventId;
+    }
+
+    @Override
+    public String getEventType() {
+        return eventType;
+    }
+
+    @Override
+    public LocalDateTime getOccurredAt() {
+        return occurredAt;
+    }
+
+    @Override
+    public UUID getAggregateId() {
+        return aggregateId;
+    }
+}
@@ -0,0 +1,21 @@
+package com.microservice.inventory.domain.models;
+
+import java.util.UUID;
+
+/**
+ * Read-only snapshot of a stock row's quantities.
+ * Used by paths that update quantities atomically in the database
+ * instead of loading the full Stock aggregate.
+ */
+public record StockLevel(
+        UUID stockId,
+        UUID externalVariantId,
+        UUID warehouseId,
+        int quantityAvailable,
+        int quantityReserved,
+        int lowStockThreshold) {
+
+    public boolean isLowStock() {
+        return quantityAvailable <= lowStockThreshold;
+    }
+}
@@ -0,0 +1,17 @@
+package com.microservice.inventory.domain.models;
+
+import java.util.UUID;
+
+/**
+ * Available quantity of a variant summed across all warehouses.
+ */
+public record VariantAvailability(UUID externalVariantId, long quantityAvailable) {
+
+    public static VariantAvailability none(UUID externalVariantId) {
+        return new VariantAvailability(externalVariantId, 0);
+    }
+
+    public boolean isAvailable() {
+        return quantityAvailable > 0;
+    }
+}
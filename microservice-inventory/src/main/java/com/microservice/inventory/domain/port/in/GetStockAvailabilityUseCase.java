@@ -1,9 +1,11 @@
 package com.microservice.inventory.domain.port.in;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.UUID;
 
 import com.microservice.inventory.domain.models.Stock;
+import com.microservice.inventory.domain.models.VariantAvailability;
 
 /**
  * Port IN - Get stock availability information.
@@ -17,6 +19,11 @@ public interface GetStockAvailabilityUseCase {
 
     List<Stock> getByVariant(UUID externalVariantId);
 
+    /**
+     * Availability summed across warehouses, one entry per requested variant.
+     */
+    List<VariantAvailability> getAvailabilityByVariants(Collection<UUID> externalVariantIds);
+
     List<Stock> getByWarehouse(UUID warehouseId);
 
     List<Stock> getLowStockItems(UUID warehouseId);
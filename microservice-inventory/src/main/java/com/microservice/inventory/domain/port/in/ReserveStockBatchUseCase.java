@@ -0,0 +1,41 @@
+package com.microservice.inventory.domain.port.in;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.UUID;
+
+import com.microservice.inventory.domain.models.StockReservation;
+import com.microservice.inventory.domain.models.enums.ReservationType;
+
+/**
+ * Port IN - Reserve stock for every line of a cart in one all-or-nothing operation.
+ * SRP: Only handles multi-line stock reservation.
+ */
+public interface ReserveStockBatchUseCase {
+
+    List<StockReservation> execute(ReserveStockBatchCommand command);
+
+    record ReserveStockLine(UUID stockId, int quantity) {
+        public ReserveStockLine {
+            if (stockId == null)
+                throw new IllegalArgumentException("Stock ID is required");
+            if (quantity <= 0)
+                throw new IllegalArgumentException("Quantity must be positive");
+        }
+    }
+
+    record ReserveStockBatchCommand(
+            List<ReserveStockLine> lines,
+            ReservationType reservationType,
+            UUID externalCartId,
+            UUID externalOrderId,
+            LocalDateTime expiresAt) {
+        public ReserveStockBatchCommand {
+            if (lines == null || lines.isEmpty())
+                throw new IllegalArgumentException("At least one line is required");
+            if (reservationType == null)
+                throw new IllegalArgumentException("Reservation type is required");
+            lines = List.copyOf(lines);
+        }
+    }
+}
@@ -0,0 +1,27 @@
+package com.microservice.inventory.domain.port.out;
+
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.function.Function;
+
+import com.microservice.inventory.domain.models.VariantAvailability;
+
+/**
+ * Port OUT - Cache of per-variant availability totals.
+ */
+public interface StockAvailabilityCachePort {
+
+    /**
+     * Returns the cached availability of each variant and loads the misses in one call.
+     * A loaded value is only cached if its variant was not evicted while loading.
+     *
+     * @param externalVariantIds variants to look up
+     * @param loader             loads the misses; must return an entry for every variant it gets
+     * @return availability by variant
+     */
+    Map<UUID, VariantAvailability> getAll(List<UUID> externalVariantIds,
+            Function<List<UUID>, Map<UUID, VariantAvailability>> loader);
+
+    void evict(UUID externalVariantId);
+}
@@ -1,10 +1,13 @@
 package com.microservice.inventory.domain.port.out;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
 
 import com.microservice.inventory.domain.models.Stock;
+import com.microservice.inventory.domain.models.StockLevel;
+import com.microservice.inventory.domain.models.VariantAvailability;
 
 /**
  * Port OUT - Stock repository contract.
@@ -15,10 +18,25 @@ public interface StockRepositoryPort {
 
     Optional<Stock> findById(UUID stockId);
 
+    List<Stock> findAllByIds(Collection<UUID> stockIds);
+
+    Optional<StockLevel> findStockLevel(UUID stockId);
+
+    List<StockLevel> findStockLevels(Collection<UUID> stockIds);
+
+    /**
+     * Moves quantity from available to reserved with a single conditional update.
+     * Returns false when the stock does not exist or has less than quantity available.
+     * Rejects a non-positive quantity with IllegalArgumentException.
+     */
+    boolean reserveAtomically(UUID stockId, int quantity);
+
     Optional<Stock> findByVariantAndWarehouse(UUID externalVariantId, UUID warehouseId);
 
     List<Stock> findByExternalVariantId(UUID externalVariantId);
 
+    List<VariantAvailability> sumAvailableByVariantIds(Collection<UUID> externalVariantIds);
+
     List<Stock> findByWarehouseId(UUID warehouseId);
 
     List<Stock> findLowStockByWarehouse(UUID warehouseId);
@@ -1,6 +1,7 @@
 package com.microservice.inventory.domain.port.out;
 
 import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
@@ -15,6 +16,8 @@ public interface StockReservationRepositoryPort {
 
     StockReservation save(StockReservation reservation);
 
+    List<StockReservation> saveAll(List<StockReservation> reservations);
+
     Optional<StockReservation> findById(UUID reservationId);
 
     List<StockReservation> findByStockId(UUID stockId);
@@ -25,5 +28,16 @@ public interface StockReservationRepositoryPort {
 
     List<StockReservation> findExpiredReservations(LocalDateTime now);
 
+    /**
+     * Keyset page of expired pending reservations ordered by (expiresAt, id).
+     * A null cursor starts from the oldest expired reservation.
+     */
+    List<StockReservation> findExpiredReservationsChunk(LocalDateTime now, LocalDateTime afterExpiresAt,
+            UUID afterId, int limit);
+
+    long countExpiredReservations(LocalDateTime now);
+
+    int markExpired(Collection<UUID> reservationIds, LocalDateTime expiredAt);
+
     List<StockReservation> findByStatus(ReservationStatus status);
 }
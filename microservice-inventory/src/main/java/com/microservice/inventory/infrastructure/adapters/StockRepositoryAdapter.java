@@ -1,5 +1,7 @@
 package com.microservice.inventory.infrastructure.adapters;
 
+import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
@@ -8,6 +10,8 @@ import java.util.stream.Collectors;
 import org.springframework.stereotype.Component;
 
 import com.microservice.inventory.domain.models.Stock;
+import com.microservice.inventory.domain.models.StockLevel;
+import com.microservice.inventory.domain.models.VariantAvailability;
 import com.microservice.inventory.domain.port.out.StockRepositoryPort;
 import com.microservice.inventory.infrastructure.adapters.mapper.StockEntityMapper;
 import com.microservice.inventory.infrastructure.entities.StockEntity;
@@ -36,6 +40,32 @@ public class StockRepositoryAdapter implements StockRepositoryPort {
         return jpaRepository.findById(stockId).map(mapper::toDomain);
     }
 
+    @Override
+    public List<Stock> findAllByIds(Collection<UUID> stockIds) {
+        return jpaRepository.findAllById(stockIds).stream()
+                .map(mapper::toDomain)
+                .collect(Collectors.toList());
+    }
+
+    @Override
+    public Optional<StockLevel> findStockLevel(UUID stockId) {
+        return jpaRepository.findStockLevel(stockId);
+    }
+
+    @Override
+    public List<StockLevel> findStockLevels(Collection<UUID> stockIds) {
+        return jpaRepository.findStockLevels(stockIds);
+    }
+
+    @Override
+    public boolean reserveAtomically(UUID stockId, int quantity) {
+        // The conditional UPDATE would accept a negative quantity and add stock
+        if (quantity <= 0) {
+            throw new IllegalArgumentException("Quantity must be positive");
+        }
+        return jpaRepository.reserveIfAvailable(stockId, quantity, LocalDateTime.now()) == 1;
+    }
+
     @Override
     public Optional<Stock> findByVariantAndWarehouse(UUID externalVariantId, UUID warehouseId) {
         return jpaRepository.findByVariantAndWarehouse(externalVariantId, warehouseId)
@@ -49,6 +79,11 @@ public class StockRepositoryAdapter implements StockRepositoryPort {
                 .collect(Collectors.toList());
     }
 
+    @Override
+    public List<VariantAvailability> sumAvailableByVariantIds(Collection<UUID> externalVariantIds) {
+        return jpaRepository.sumAvailableByVariantIds(externalVariantIds);
+    }
+
     @Override
     public List<Stock> findByWarehouseId(UUID warehouseId) {
         return jpaRepository.findByWarehouseId(warehouseId).stream()
@@ -1,11 +1,13 @@
 package com.microservice.inventory.infrastructure.adapters;
 
 import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
 import java.util.stream.Collectors;
 
+import org.springframework.data.domain.PageRequest;
 import org.springframework.stereotype.Component;
 
 import com.microservice.inventory.domain.models.StockReservation;
@@ -13,27 +15,46 @@ import com.microservice.inventory.domain.models.enums.ReservationStatus;
 import com.microservice.inventory.domain.port.out.StockReservationRepositoryPort;
 import com.microservice.inventory.infrastructure.adapters.mapper.ReservationEntityMapper;
 import com.microservice.inventory.infrastructure.entities.StockReservationEntity;
+import com.microservice.inventory.infrastructure.repositories.JpaStockRepository;
 import com.microservice.inventory.infrastructure.repositories.JpaStockReservationRepository;
 
 @Component
 public class StockReservationRepositoryAdapter implements StockReservationRepositoryPort {
 
     private final JpaStockReservationRepository jpaRepository;
+    private final JpaStockRepository stockJpaRepository;
     private final ReservationEntityMapper mapper;
 
     public StockReservationRepositoryAdapter(JpaStockReservationRepository jpaRepository,
+            JpaStockRepository stockJpaRepository,
             ReservationEntityMapper mapper) {
         this.jpaRepository = jpaRepository;
+        this.stockJpaRepository = stockJpaRepository;
         this.mapper = mapper;
     }
 
     @Override
     public StockReservation save(StockReservation reservation) {
         StockReservationEntity entity = mapper.toEntity(reservation);
+        entity.setStock(stockJpaRepository.getReferenceById(reservation.getStockId()));
         StockReservationEntity saved = jpaRepository.save(entity);
         return mapper.toDomain(saved);
     }
 
+    @Override
+    public List<StockReservation> saveAll(List<StockReservation> reservations) {
+        List<StockReservationEntity> entities = reservations.stream()
+                .map(reservation -> {
+                    StockReservationEntity entity = mapper.toEntity(reservation);
+                    entity.setStock(stockJpaRepository.getReferenceById(reservation.getStockId()));
+                    return entity;
+                })
+                .collect(Collectors.toList());
+        return jpaRepository.saveAll(entities).stream()
+                .map(mapper::toDomain)
+                .collect(Collectors.toList());
+    }
+
     @Override
     public Optional<StockReservation> findById(UUID reservationId) {
         return jpaRepository.findById(reservationId).map(mapper::toDomain);
@@ -67,6 +88,31 @@ public class StockReservationRepositoryAdapter implements StockReservationReposi
                 .collect(Collectors.toList());
     }
 
+    @Override
+    public List<StockReservation> findExpiredReservationsChunk(LocalDateTime now, LocalDateTime afterExpiresAt,
+            UUID afterId, int limit) {
+        PageRequest page = PageRequest.of(0, limit);
+        List<StockReservationEntity> entities = afterExpiresAt == null || afterId == null
+                ? jpaRepository.findExpiredReservationsChunk(now, page)
+                : jpaRepository.findExpiredReservationsChunkAfter(now, afterExpiresAt, afterId, page);
+        return entities.stream()
+                .map(mapper::toDomain)
+                .collect(Collectors.toList());
+    }
+
+    @Override
+    public long countExpiredReservations(LocalDateTime now) {
+        return jpaRepository.countExpiredReservations(now);
+    }
+
+    @Override
+    public int markExpired(Collection<UUID> reservationIds, LocalDateTime expiredAt) {
+        if (reservationIds.isEmpty()) {
+            return 0;
+        }
+        return jpaRepository.updateStatus(reservationIds, ReservationStatus.EXPIRED.name(), expiredAt);
+    }
+
     @Override
     public List<StockReservation> findByStatus(ReservationStatus status) {
         return jpaRepository.findByStatus(status.name()).stream()
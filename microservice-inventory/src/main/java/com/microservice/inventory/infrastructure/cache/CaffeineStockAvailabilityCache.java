@@ -0,0 +1,96 @@
+package com.microservice.inventory.infrastructure.cache;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.function.Function;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.microservice.inventory.domain.models.VariantAvailability;
+import com.microservice.inventory.domain.port.out.StockAvailabilityCachePort;
+
+/**
+ * Size-bounded in-memory availability cache.
+ * Entries are evicted by stock events; the TTL only bounds staleness if an event is missed.
+ * Before loading a miss the cache stores a pending slot for it, and the loaded value only
+ * replaces that same slot. An eviction that arrives during the load removes the slot, so
+ * the value read before the change is returned to the caller but never cached.
+ */
+@Component
+public class CaffeineStockAvailabilityCache implements StockAvailabilityCachePort {
+
+    private final Cache<UUID, Slot> cache;
+
+    public CaffeineStockAvailabilityCache(
+            @Value("${inventory.availability-cache.max-size:100000}") long maxSize,
+            @Value("${inventory.availability-cache.ttl:5m}") Duration ttl) {
+        this.cache = Caffeine.newBuilder()
+                .maximumSize(maxSize)
+                .expireAfterWrite(ttl)
+                .build();
+    }
+
+    @Override
+    public Map<UUID, VariantAvailability> getAll(List<UUID> externalVariantIds,
+            Function<List<UUID>, Map<UUID, VariantAvailability>> loader) {
+        Map<UUID, VariantAvailability> result = new HashMap<>();
+        Map<UUID, Slot> cached = cache.getAllPresent(externalVariantIds);
+        List<UUID> misses = new ArrayList<>();
+        for (UUID variantId : externalVariantIds) {
+            Slot slot = cached.get(variantId);
+            if (slot != null && slot.availability != null) {
+                result.put(variantId, slot.availability);
+            } else {
+                misses.add(variantId);
+            }
+        }
+        if (misses.isEmpty()) {
+            return result;
+        }
+
+        Map<UUID, Slot> pending = new HashMap<>();
+        misses.forEach(variantId -> {
+            Slot slot = new Slot(null);
+            cache.put(variantId, slot);
+            pending.put(variantId, slot);
+        });
+        try {
+            loader.apply(misses).forEach((variantId, availability) -> {
+                Slot slot = pending.get(variantId);
+                if (slot != null) {
+                    cache.asMap().replace(variantId, slot, new Slot(availability));
+                }
+                result.put(variantId, availability);
+            });
+        } finally {
+            // Slots that were not filled (failed load or missing entry) stay as misses
+            pending.forEach((variantId, slot) -> cache.asMap().remove(variantId, slot));
+        }
+        return result;
+    }
+
+    @Override
+    public void evict(UUID externalVariantId) {
+        cache.invalidate(externalVariantId);
+    }
+
+    /**
+     * Cache value compared by identity, so a load can only fill the slot it created.
+     * A null availability marks a load in progress.
+     */
+    private static final class Slot {
+
+        private final VariantAvailability availability;
+
+        private Slot(VariantAvailability availability) {
+            this.availability = availability;
+        }
+    }
+}
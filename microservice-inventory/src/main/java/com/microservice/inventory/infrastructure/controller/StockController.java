@@ -16,6 +16,7 @@ import com.microservice.inventory.application.mapper.ReservationMapper;
 import com.microservice.inventory.application.mapper.StockMapper;
 import com.microservice.inventory.domain.models.Stock;
 import com.microservice.inventory.domain.models.StockReservation;
+import com.microservice.inventory.domain.models.VariantAvailability;
 import com.microservice.inventory.domain.port.in.*;
 import com.microservice.inventory.infrastructure.exceptions.advice.ErrorResponse;
 
@@ -44,6 +45,7 @@ public class StockController {
         private final CreateStockUseCase createStockUseCase;
         private final AdjustStockUseCase adjustStockUseCase;
         private final ReserveStockUseCase reserveStockUseCase;
+        private final ReserveStockBatchUseCase reserveStockBatchUseCase;
         private final ReleaseReservationUseCase releaseReservationUseCase;
         private final ConfirmReservationUseCase confirmReservationUseCase;
         private final GetStockAvailabilityUseCase getStockAvailabilityUseCase;
@@ -54,6 +56,7 @@ public class StockController {
                         CreateStockUseCase createStockUseCase,
                         AdjustStockUseCase adjustStockUseCase,
                         ReserveStockUseCase reserveStockUseCase,
+                        ReserveStockBatchUseCase reserveStockBatchUseCase,
                         ReleaseReservationUseCase releaseReservationUseCase,
                         ConfirmReservationUseCase confirmReservationUseCase,
                         GetStockAvailabilityUseCase getStockAvailabilityUseCase,
@@ -62,6 +65,7 @@ public class StockController {
                 this.createStockUseCase = createStockUseCase;
                 this.adjustStockUseCase = adjustStockUseCase;
                 this.reserveStockUseCase = reserveStockUseCase;
+                this.reserveStockBatchUseCase = reserveStockBatchUseCase;
                 this.releaseReservationUseCase = releaseReservationUseCase;
                 this.confirmReservationUseCase = confirmReservationUseCase;
                 this.getStockAvailabilityUseCase = getStockAvailabilityUseCase;
@@ -166,6 +170,40 @@ public class StockController {
                 return ResponseEntity.ok(stocks.stream().map(stockMapper::toResponse).toList());
         }
 
+        @PostMapping("/availability")
+        @PreAuthorize("hasAuthority('SCOPE_inventory:read')")
+        @Operation(
+                summary = "Get Availability for Multiple Variants", 
+                description = "Returns available quantity summed across all warehouses for each requested variant. " +
+                              "Intended for listing pages and carts that need many variants at once."
+        )
+        @ApiResponses({
+                @ApiResponse(
+                        responseCode = "200", 
+                        description = "Availability returned for every requested variant", 
+                        content = @Content(
+                                mediaType = "application/json",
+                                array = @ArraySchema(schema = @Schema(implementation = VariantAvailabilityResponse.class))
+                        )
+                ),
+                @ApiResponse(
+                        responseCode = "400", 
+                        description = "Invalid input data - validation errors", 
+                        content = @Content(
+                                mediaType = "application/json",
+                                schema = @Schema(implementation = ErrorResponse.class)
+                        )
+                ),
+                @ApiResponse(responseCode = "401", description = "Unauthorized - JWT token missing or invalid")
+        })
+        public ResponseEntity<List<VariantAvailabilityResponse>> getAvailabilityByVariants(
+                @Parameter(description = "Variant IDs to look up", required = true)
+                @Valid @RequestBody VariantAvailabilityRequest request) {
+                List<VariantAvailability> availabilities = getStockAvailabilityUseCase
+                                .getAvailabilityByVariants(request.getVariantIds());
+                return ResponseEntity.ok(availabilities.stream().map(stockMapper::toResponse).toList());
+        }
+
         @GetMapping("/warehouse/{warehouseId}")
         @PreAuthorize("hasAuthority('SCOPE_inventory:read')")
         @Operation(
@@ -315,6 +353,58 @@ public class StockController {
                 return ResponseEntity.status(HttpStatus.CREATED).body(reservationMapper.toResponse(reservation));
         }
 
+        @PostMapping("/reserve/batch")
+        @PreAuthorize("hasAuthority('SCOPE_inventory:write')")
+        @Operation(
+                summary = "Reserve Stock for Multiple Lines", 
+                description = "Reserves stock for every line of a cart or order in a single transaction. " +
+                              "Either all lines are reserved or none are."
+        )
+        @ApiResponses({
+                @ApiResponse(
+                        responseCode = "201", 
+                        description = "All lines reserved successfully", 
+                        content = @Content(
+                                mediaType = "application/json",
+                                array = @ArraySchema(schema = @Schema(implementation = ReservationResponse.class))
+                        )
+                ),
+                @ApiResponse(
+                        responseCode = "404", 
+                        description = "One of the stock records was not found", 
+                        content = @Content(
+                                mediaType = "application/json",
+                                schema = @Schema(implementation = ErrorResponse.class)
+                        )
+                ),
+                @ApiResponse(
+                        responseCode = "422", 
+                        description = "Insufficient stock for at least one line; nothing was reserved", 
+                        content = @Content(
+                                mediaType = "application/json",
+                                schema = @Schema(implementation = ErrorResponse.class)
+                        )
+                ),
+                @ApiResponse(responseCode = "401", description = "Unauthorized - JWT token missing or invalid"),
+                @ApiResponse(responseCode = "403", description = "Forbidden - insufficient permissions")
+        })
+        public ResponseEntity<List<ReservationResponse>> reserveStockBatch(
+                @Parameter(description = "Batch stock reservation request", required = true)
+                @Valid @RequestBody ReserveStockBatchRequest request) {
+                List<StockReservation> reservations = reserveStockBatchUseCase.execute(
+                                new ReserveStockBatchUseCase.ReserveStockBatchCommand(
+                                                request.getLines().stream()
+                                                                .map(line -> new ReserveStockBatchUseCase.ReserveStockLine(
+                                                                                line.getStockId(), line.getQuantity()))
+                                                                .toList(),
+                                                request.getReservationType(),
+                                                request.getExternalCartId(),
+                                                request.getExternalOrderId(),
+                                                request.getExpiresAt()));
+                return ResponseEntity.status(HttpStatus.CREATED)
+                                .body(reservations.stream().map(reservationMapper::toResponse).toList());
+        }
+
         @PostMapping("/reservations/{reservationId}/release")
         @PreAuthorize("hasAuthority('SCOPE_inventory:write')")
         @Operation(
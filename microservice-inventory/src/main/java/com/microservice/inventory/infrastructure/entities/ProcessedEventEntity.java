@@ -0,0 +1,75 @@
+package com.microservice.inventory.infrastructure.entities;
+
+import java.time.Instant;
+
+import jakarta.persistence.*;
+
+/**
+ * Events already handled by the inventory consumers.
+ * Rows are written and read with plain JDBC (see ProcessedEventStore);
+ * the entity defines the table and its indexes.
+ */
+@Entity
+@Table(name = "processed_events", indexes = {
+    @Index(name = "idx_processed_events_partition", columnList = "topic, partition_id, processed_at"),
+    @Index(name = "idx_processed_events_processed_at", columnList = "processed_at")
+})
+public class ProcessedEventEntity {
+
+    @Id
+    @Column(name = "event_id", length = 100)
+    private String eventId;
+
+    @Column(name = "event_type", nullable = false, length = 100)
+    private String eventType;
+
+    @Column(name = "topic", nullable = false, length = 100)
+    private String topic;
+
+    @Column(name = "partition_id", nullable = false)
+    private Integer partitionId;
+
+    @Column(name = "processed_at", nullable = false)
+    private Instant processedAt;
+
+    // Getters and Setters
+    public String getEventId() {
+        return eventId;
+    }
+
+    public void setEventId(String eventId) {
+        this.eventId = eventId;
+    }
+
+    public String getEventType() {
+        return eventType;
+    }
+
+    public void setEventType(String eventType) {
+        this.eventType = eventType;
+    }
+
+    public String getTopic() {
+        return topic;
+    }
+
+    public void setTopic(String topic) {
+        this.topic = topic;
+    }
+
+    public Integer getPartitionId() {
+        return partitionId;
+    }
+
+    public void setPartitionId(Integer partitionId) {
+        this.partitionId = partitionId;
+    }
+
+    public Instant getProcessedAt() {
+        return processedAt;
+    }
+
+    public void setProcessedAt(Instant processedAt) {
+        this.processedAt = processedAt;
+    }
+}
@@ -8,7 +8,9 @@ import java.util.UUID;
 import jakarta.persistence.*;
 
 @Entity
-@Table(name = "stock")
+@Table(name = "stock", indexes = {
+        @Index(name = "idx_stock_variant", columnList = "external_variant_id")
+})
 public class StockEntity {
 
     @Id
@@ -6,7 +6,10 @@ import java.util.UUID;
 import jakarta.persistence.*;
 
 @Entity
-@Table(name = "stock_reservations")
+@Table(name = "stock_reservations", indexes = {
+        @Index(name = "idx_reservation_expiry", columnList = "id_status_reservations, expires_at, id"),
+        @Index(name = "idx_reservation_stock", columnList = "stock_id")
+})
 public class StockReservationEntity {
 
     @Id
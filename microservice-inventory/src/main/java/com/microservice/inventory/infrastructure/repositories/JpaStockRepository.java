@@ -1,14 +1,19 @@
 package com.microservice.inventory.infrastructure.repositories;
 
+import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
 
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import com.microservice.inventory.domain.models.StockLevel;
+import com.microservice.inventory.domain.models.VariantAvailability;
 import com.microservice.inventory.infrastructure.entities.StockEntity;
 
 @Repository
@@ -20,10 +25,32 @@ public interface JpaStockRepository extends JpaRepository<StockEntity, UUID> {
 
     List<StockEntity> findByExternalVariantId(UUID externalVariantId);
 
+    @Query("SELECT new com.microservice.inventory.domain.models.VariantAvailability("
+            + "s.externalVariantId, SUM(s.quantityAvailable)) "
+            + "FROM StockEntity s WHERE s.externalVariantId IN :variantIds GROUP BY s.externalVariantId")
+    List<VariantAvailability> sumAvailableByVariantIds(@Param("variantIds") Collection<UUID> variantIds);
+
     List<StockEntity> findByWarehouseId(UUID warehouseId);
 
     @Query("SELECT s FROM StockEntity s WHERE s.warehouseId = :warehouseId AND s.quantityAvailable <= s.lowStockThreshold")
     List<StockEntity> findLowStockByWarehouse(@Param("warehouseId") UUID warehouseId);
 
+    @Query("SELECT new com.microservice.inventory.domain.models.StockLevel("
+            + "s.id, s.externalVariantId, s.warehouseId, s.quantityAvailable, s.quantityReserved, s.lowStockThreshold) "
+            + "FROM StockEntity s WHERE s.id = :stockId")
+    Optional<StockLevel> findStockLevel(@Param("stockId") UUID stockId);
+
+    @Query("SELECT new com.microservice.inventory.domain.models.StockLevel("
+            + "s.id, s.externalVariantId, s.warehouseId, s.quantityAvailable, s.quantityReserved, s.lowStockThreshold) "
+            + "FROM StockEntity s WHERE s.id IN :stockIds")
+    List<StockLevel> findStockLevels(@Param("stockIds") Collection<UUID> stockIds);
+
+    @Modifying
+    @Query("UPDATE StockEntity s SET s.quantityAvailable = s.quantityAvailable - :quantity, "
+            + "s.quantityReserved = s.quantityReserved + :quantity, s.updatedAt = :now, s.version = s.version + 1 "
+            + "WHERE s.id = :stockId AND s.quantityAvailable >= :quantity")
+    int reserveIfAvailable(@Param("stockId") UUID stockId, @Param("quantity") int quantity,
+            @Param("now") LocalDateTime now);
+
     boolean existsByExternalVariantIdAndWarehouseId(UUID externalVariantId, UUID warehouseId);
 }
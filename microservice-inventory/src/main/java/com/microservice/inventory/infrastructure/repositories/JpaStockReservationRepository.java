@@ -1,10 +1,13 @@
 package com.microservice.inventory.infrastructure.repositories;
 
 import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
 import java.util.UUID;
 
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
@@ -23,5 +26,25 @@ public interface JpaStockReservationRepository extends JpaRepository<StockReserv
     @Query("SELECT r FROM StockReservationEntity r WHERE r.expiresAt < :now AND r.status NOT IN ('EXPIRED', 'CANCELLED', 'COMPLETED')")
     List<StockReservationEntity> findExpiredReservations(@Param("now") LocalDateTime now);
 
+    @Query("SELECT r FROM StockReservationEntity r WHERE r.status = 'PENDING' AND r.expiresAt < :now "
+            + "ORDER BY r.expiresAt, r.id")
+    List<StockReservationEntity> findExpiredReservationsChunk(@Param("now") LocalDateTime now, Pageable pageable);
+
+    @Query("SELECT r FROM StockReservationEntity r WHERE r.status = 'PENDING' AND r.expiresAt < :now "
+            + "AND (r.expiresAt > :afterExpiresAt OR (r.expiresAt = :afterExpiresAt AND r.id > :afterId)) "
+            + "ORDER BY r.expiresAt, r.id")
+    List<StockReservationEntity> findExpiredReservationsChunkAfter(@Param("now") LocalDateTime now,
+            @Param("afterExpiresAt") LocalDateTime afterExpiresAt,
+            @Param("afterId") UUID afterId,
+            Pageable pageable);
+
+    @Query("SELECT COUNT(r) FROM StockReservationEntity r WHERE r.status = 'PENDING' AND r.expiresAt < :now")
+    long countExpiredReservations(@Param("now") LocalDateTime now);
+
+    @Modifying
+    @Query("UPDATE StockReservationEntity r SET r.status = :status, r.updatedAt = :updatedAt WHERE r.id IN :ids")
+    int updateStatus(@Param("ids") Collection<UUID> ids, @Param("status") String status,
+            @Param("updatedAt") LocalDateTime updatedAt);
+
     List<StockReservationEntity> findByStatus(String status);
 }
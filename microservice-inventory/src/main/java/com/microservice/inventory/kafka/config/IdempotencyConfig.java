@@ -0,0 +1,36 @@
+package com.microservice.inventory.kafka.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import com.microservice.common.kafka.idempotency.IdempotencyProperties;
+import com.microservice.common.kafka.idempotency.ProcessedEventGuard;
+import com.microservice.common.kafka.idempotency.ProcessedEventStore;
+
+/**
+ * Duplicate detection for the order and cart event consumers, bound to
+ * {@code inventory.idempotency.*}. The processed_events table is defined by
+ * ProcessedEventEntity.
+ */
+@Configuration
+public class IdempotencyConfig {
+
+    @Bean
+    @ConfigurationProperties(prefix = "inventory.idempotency")
+    public IdempotencyProperties idempotencyProperties() {
+        return new IdempotencyProperties();
+    }
+
+    @Bean
+    public ProcessedEventStore processedEventStore(JdbcTemplate jdbcTemplate) {
+        return new ProcessedEventStore(jdbcTemplate);
+    }
+
+    @Bean
+    public ProcessedEventGuard processedEventGuard(ProcessedEventStore processedEventStore,
+            IdempotencyProperties idempotencyProperties) {
+        return new ProcessedEventGuard(processedEventStore, idempotencyProperties);
+    }
+}
@@ -20,6 +20,8 @@ import org.springframework.kafka.support.serializer.ErrorHandlingDeserializer;
 import org.springframework.kafka.support.serializer.JsonDeserializer;
 import org.springframework.kafka.support.serializer.JsonSerializer;
 
+import com.microservice.common.kafka.idempotency.ProcessedEventGuard;
+
 /**
  * Kafka configuration for inventory microservice.
  * Configures producer and consumer factories with JSON serialization.
@@ -76,6 +78,23 @@ public class KafkaConfig {
 
     @Bean
     public ConcurrentKafkaListenerContainerFactory<String, Object> kafkaListenerContainerFactory() {
+        return listenerContainerFactory();
+    }
+
+    /**
+     * Factory for the consumers that use ProcessedEventGuard. The guard is the
+     * rebalance listener, which keeps its Bloom filter in step with the
+     * assigned partitions; other consumers must not share it.
+     */
+    @Bean
+    public ConcurrentKafkaListenerContainerFactory<String, Object> idempotentKafkaListenerContainerFactory(
+            ProcessedEventGuard processedEventGuard) {
+        ConcurrentKafkaListenerContainerFactory<String, Object> factory = listenerContainerFactory();
+        factory.getContainerProperties().setConsumerRebalanceListener(processedEventGuard);
+        return factory;
+    }
+
+    private ConcurrentKafkaListenerContainerFactory<String, Object> listenerContainerFactory() {
         ConcurrentKafkaListenerContainerFactory<String, Object> factory = 
             new ConcurrentKafkaListenerContainerFactory<>();
         factory.setConsumerFactory(consumerFactory());
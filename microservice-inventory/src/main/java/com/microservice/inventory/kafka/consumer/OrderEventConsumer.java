@@ -6,8 +6,12 @@ import java.util.UUID;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.kafka.annotation.KafkaListener;
+import org.springframework.kafka.support.KafkaHeaders;
+import org.springframework.messaging.handler.annotation.Header;
+import org.springframework.messaging.handler.annotation.Payload;
 import org.springframework.stereotype.Component;
 
+import com.microservice.common.kafka.idempotency.ProcessedEventGuard;
 import com.microservice.inventory.domain.port.in.ConfirmReservationUseCase;
 import com.microservice.inventory.domain.port.in.ReleaseReservationUseCase;
 
@@ -22,20 +26,31 @@ public class OrderEventConsumer {
 
     private final ConfirmReservationUseCase confirmReservationUseCase;
     private final ReleaseReservationUseCase releaseReservationUseCase;
+    private final ProcessedEventGuard processedEventGuard;
 
     public OrderEventConsumer(ConfirmReservationUseCase confirmReservationUseCase,
-                              ReleaseReservationUseCase releaseReservationUseCase) {
+                              ReleaseReservationUseCase releaseReservationUseCase,
+                              ProcessedEventGuard processedEventGuard) {
         this.confirmReservationUseCase = confirmReservationUseCase;
         this.releaseReservationUseCase = releaseReservationUseCase;
+        this.processedEventGuard = processedEventGuard;
     }
 
     /**
      * Handles order confirmed events.
      * When an order is confirmed (payment successful), confirm the inventory reservation.
      */
-    @KafkaListener(topics = "order.confirmed", groupId = "inventory-service")
-    public void handleOrderConfirmed(Map<String, Object> event) {
+    @KafkaListener(topics = "order.confirmed", groupId = "inventory-service",
+            containerFactory = "idempotentKafkaListenerContainerFactory")
+    public void handleOrderConfirmed(@Payload Map<String, Object> event,
+                                     @Header(KafkaHeaders.RECEIVED_TOPIC) String topic,
+                                     @Header(KafkaHeaders.RECEIVED_PARTITION) int partition) {
         log.info("Received order confirmed event: {}", event);
+        String eventId = extractEventId(event);
+        if (processedEventGuard.isDuplicate(eventId)) {
+            log.info("Skipping duplicate order confirmed event: {}", eventId);
+            return;
+        }
         
         try {
             UUID reservationId = extractUUID(event, "reservationId");
@@ -55,6 +70,7 @@ public class OrderEventConsumer {
                 )
             );
             
+            processedEventGuard.markProcessed(eventId, "OrderConfirmed", topic, partition);
             log.info("Successfully confirmed reservation {} for order {}", reservationId, orderId);
         } catch (Exception e) {
             log.error("Error processing order confirmed event: {}", e.getMessage(), e);
@@ -65,9 +81,17 @@ public class OrderEventConsumer {
      * Handles order cancelled events.
      * When an order is cancelled, release the inventory reservation.
      */
-    @KafkaListener(topics = "order.cancelled", groupId = "inventory-service")
-    public void handleOrderCancelled(Map<String, Object> event) {
+    @KafkaListener(topics = "order.cancelled", groupId = "inventory-service",
+            containerFactory = "idempotentKafkaListenerContainerFactory")
+    public void handleOrderCancelled(@Payload Map<String, Object> event,
+                                     @Header(KafkaHeaders.RECEIVED_TOPIC) String topic,
+                                     @Header(KafkaHeaders.RECEIVED_PARTITION) int partition) {
         log.info("Received order cancelled event: {}", event);
+        String eventId = extractEventId(event);
+        if (processedEventGuard.isDuplicate(eventId)) {
+            log.info("Skipping duplicate order cancelled event: {}", eventId);
+            return;
+        }
         
         try {
             UUID reservationId = extractUUID(event, "reservationId");
@@ -82,6 +106,7 @@ public class OrderEventConsumer {
                 new ReleaseReservationUseCase.ReleaseReservationCommand(reservationId, reason)
             );
             
+            processedEventGuard.markProcessed(eventId, "OrderCancelled", topic, partition);
             log.info("Successfully released reservation {} due to order cancellation", reservationId);
         } catch (Exception e) {
             log.error("Error processing order cancelled event: {}", e.getMessage(), e);
@@ -92,9 +117,17 @@ public class OrderEventConsumer {
      * Handles cart expired events.
      * When a cart expires, release any associated inventory reservations.
      */
-    @KafkaListener(topics = "cart.expired", groupId = "inventory-service")
-    public void handleCartExpired(Map<String, Object> event) {
+    @KafkaListener(topics = "cart.expired", groupId = "inventory-service",
+            containerFactory = "idempotentKafkaListenerContainerFactory")
+    public void handleCartExpired(@Payload Map<String, Object> event,
+                                  @Header(KafkaHeaders.RECEIVED_TOPIC) String topic,
+                                  @Header(KafkaHeaders.RECEIVED_PARTITION) int partition) {
         log.info("Received cart expired event: {}", event);
+        String eventId = extractEventId(event);
+        if (processedEventGuard.isDuplicate(eventId)) {
+            log.info("Skipping duplicate cart expired event: {}", eventId);
+            return;
+        }
         
         try {
             UUID reservationId = extractUUID(event, "reservationId");
@@ -108,12 +141,18 @@ public class OrderEventConsumer {
                 new ReleaseReservationUseCase.ReleaseReservationCommand(reservationId, "Cart expired")
             );
             
+            processedEventGuard.markProcessed(eventId, "CartExpired", topic, partition);
             log.info("Successfully released reservation {} due to cart expiration", reservationId);
         } catch (Exception e) {
             log.error("Error processing cart expired event: {}", e.getMessage(), e);
         }
     }
 
+    private String extractEventId(Map<String, Object> event) {
+        Object value = event.get("eventId");
+        return value != null ? value.toString() : null;
+    }
+
     private UUID extractUUID(Map<String, Object> event, String key) {
         Object value = event.get(key);
         if (value == null) {
@@ -0,0 +1,78 @@
+package com.microservice.inventory.kafka.consumer;
+
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.kafka.annotation.KafkaListener;
+import org.springframework.stereotype.Component;
+
+import com.microservice.inventory.domain.port.out.StockAvailabilityCachePort;
+
+/**
+ * Kafka consumer for this service's own stock events.
+ * Evicts cached variant availability whenever a stock level changes. Every instance
+ * uses its own consumer group so each local cache sees every event; the group is
+ * named after the host (pod or container name) so a restarted instance rejoins its
+ * group instead of leaving an orphan one behind. Events are published after the
+ * writing transaction commits, so an eviction never precedes the change it reports.
+ */
+@Component
+public class StockEventConsumer {
+
+    private static final Logger log = LoggerFactory.getLogger(StockEventConsumer.class);
+
+    private final StockAvailabilityCachePort availabilityCache;
+
+    public StockEventConsumer(StockAvailabilityCachePort availabilityCache) {
+        this.availabilityCache = availabilityCache;
+    }
+
+    @KafkaListener(
+            topics = { "inventory.stock.created", "inventory.stock.adjusted",
+                    "inventory.stock.reserved", "inventory.stock.released" },
+            groupId = "${inventory.availability-cache.consumer-group:inventory-availability-cache-${HOSTNAME:localhost}}",
+            properties = "auto.offset.reset=latest")
+    public void handleStockChanged(Map<String, Object> event) {
+        UUID variantId = extractUUID(event, "externalVariantId");
+        if (variantId == null) {
+            log.warn("Stock event without externalVariantId: {}", event);
+            return;
+        }
+        availabilityCache.evict(variantId);
+    }
+
+    @KafkaListener(
+            topics = "inventory.stock.batch_reserved",
+            groupId = "${inventory.availability-cache.consumer-group:inventory-availability-cache-${HOSTNAME:localhost}}",
+            properties = "auto.offset.reset=latest")
+    public void handleStockBatchReserved(Map<String, Object> event) {
+        if (!(event.get("lines") instanceof List<?> lines)) {
+            log.warn("Batch reservation event without lines: {}", event);
+            return;
+        }
+        for (Object line : lines) {
+            if (line instanceof Map<?, ?> lineMap) {
+                UUID variantId = extractUUID(lineMap, "externalVariantId");
+                if (variantId != null) {
+                    availabilityCache.evict(variantId);
+                }
+            }
+        }
+    }
+
+    private UUID extractUUID(Map<?, ?> event, String key) {
+        Object value = event.get(key);
+        if (value == null) {
+            return null;
+        }
+        try {
+            return UUID.fromString(value.toString());
+        } catch (IllegalArgumentException e) {
+            log.warn("Invalid UUID format for key {}: {}", key, value);
+            return null;
+        }
+    }
+}
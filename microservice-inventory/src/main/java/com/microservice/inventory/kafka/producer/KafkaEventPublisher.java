@@ -4,10 +4,18 @@ import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.kafka.core.KafkaTemplate;
 import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
 
 import com.microservice.inventory.domain.events.DomainEvent;
 import com.microservice.inventory.domain.port.out.EventPublisherPort;
 
+/**
+ * Publishes inventory domain events to Kafka.
+ * Inside a transaction the events are sent only after it commits, so
+ * consumers (including the availability cache eviction) never observe a
+ * change that could still roll back or is not yet visible to readers.
+ */
 @Component
 public class KafkaEventPublisher implements EventPublisherPort {
 
@@ -22,13 +30,26 @@ public class KafkaEventPublisher implements EventPublisherPort {
 
     @Override
     public void publish(DomainEvent event) {
-        String topic = TOPIC_PREFIX + event.getEventType();
-        log.info("Publishing event to topic {}: {}", topic, event.getEventId());
-        kafkaTemplate.send(topic, event.getAggregateId().toString(), event);
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    send(event);
+                }
+            });
+        } else {
+            send(event);
+        }
     }
 
     @Override
     public void publishAll(Iterable<DomainEvent> events) {
         events.forEach(this::publish);
     }
+
+    private void send(DomainEvent event) {
+        String topic = TOPIC_PREFIX + event.getEventType();
+        log.info("Publishing event to topic {}: {}", topic, event.getEventId());
+        kafkaTemplate.send(topic, event.getAggregateId().toString(), event);
+    }
 }
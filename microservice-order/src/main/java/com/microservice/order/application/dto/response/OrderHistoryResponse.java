@@ -0,0 +1,18 @@
+package com.microservice.order.application.dto.response;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+
+import java.util.List;
+
+/**
+ * Response DTO for one page of order history.
+ */
+@Schema(description = "Page of order summaries, newest first")
+public record OrderHistoryResponse(
+        @Schema(description = "Orders in this page")
+        List<OrderSummaryResponse> orders,
+
+        @Schema(description = "Cursor for the next page; absent on the last page")
+        String nextCursor
+) {
+}
@@ -0,0 +1,38 @@
+package com.microservice.order.application.dto.response;
+
+import com.microservice.order.domain.models.enums.OrderStatusEnum;
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.Builder;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+/**
+ * Response DTO for an order in a history listing.
+ */
+@Builder
+@Schema(description = "Order summary for history listings")
+public record OrderSummaryResponse(
+        @Schema(description = "Order unique identifier", example = "550e8400-e29b-41d4-a716-446655440100")
+        UUID id,
+
+        @Schema(description = "Human-readable order number", example = "ORD-20241215-A1B2C3D4")
+        String orderNumber,
+
+        @Schema(description = "Current order status", example = "PENDING")
+        OrderStatusEnum status,
+
+        @Schema(description = "Order currency", example = "USD")
+        String currency,
+
+        @Schema(description = "Grand total including all charges", example = "205.96")
+        BigDecimal grandTotal,
+
+        @Schema(description = "Total quantity of items in the order", example = "3")
+        int itemCount,
+
+        @Schema(description = "Order creation timestamp")
+        LocalDateTime createdAt
+) {
+}
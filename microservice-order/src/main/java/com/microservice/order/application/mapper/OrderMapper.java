@@ -4,7 +4,9 @@ import com.microservice.order.application.dto.request.CreateOrderRequest;
 import com.microservice.order.application.dto.response.*;
 import com.microservice.order.domain.models.*;
 import com.microservice.order.domain.models.records.Address;
+import com.microservice.order.domain.models.records.OrderSummary;
 import com.microservice.order.domain.port.in.CreateOrderPort;
+import com.microservice.order.domain.port.in.GetOrderPort;
 import org.springframework.stereotype.Component;
 
 /**
@@ -48,6 +50,24 @@ public class OrderMapper {
                 .build();
     }
 
+    public OrderHistoryResponse toHistoryResponse(GetOrderPort.OrderHistoryPage page) {
+        return new OrderHistoryResponse(
+                page.orders().stream().map(this::toSummaryResponse).toList(),
+                page.nextCursor());
+    }
+
+    private OrderSummaryResponse toSummaryResponse(OrderSummary summary) {
+        return OrderSummaryResponse.builder()
+                .id(summary.id())
+                .orderNumber(summary.orderNumber())
+                .status(summary.status())
+                .currency(summary.currency())
+                .grandTotal(summary.grandTotal())
+                .itemCount(summary.itemCount())
+                .createdAt(summary.createdAt())
+                .build();
+    }
+
     private CustomerInfoResponse toCustomerInfo(java.util.UUID customerId) {
         // Returns customer info with ID reference.
         // In a BFF pattern, this would be enriched with actual customer data.
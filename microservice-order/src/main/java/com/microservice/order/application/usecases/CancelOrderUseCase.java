@@ -5,6 +5,7 @@ import com.microservice.order.domain.models.Order;
 import com.microservice.order.domain.port.in.CancelOrderPort;
 import com.microservice.order.domain.port.out.OrderEventPublisherPort;
 import com.microservice.order.domain.port.out.OrderRepositoryPort;
+import com.microservice.order.domain.port.out.OrderViewPort;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Service;
@@ -20,6 +21,7 @@ public class CancelOrderUseCase implements CancelOrderPort {
 
     private final OrderRepositoryPort orderRepository;
     private final OrderEventPublisherPort eventPublisher;
+    private final OrderViewPort orderView;
 
     @Override
     @Transactional
@@ -31,7 +33,7 @@ public class CancelOrderUseCase implements CancelOrderPort {
 
         order.cancel(command.reason(), command.cancelledBy());
 
-        orderRepository.save(order);
+        orderView.save(orderRepository.save(order));
         eventPublisher.publishAll(order.getDomainEvents());
         order.clearDomainEvents();
 
@@ -5,6 +5,7 @@ import com.microservice.order.domain.models.Order;
 import com.microservice.order.domain.port.in.ChangeOrderStatusPort;
 import com.microservice.order.domain.port.out.OrderEventPublisherPort;
 import com.microservice.order.domain.port.out.OrderRepositoryPort;
+import com.microservice.order.domain.port.out.OrderViewPort;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Service;
@@ -20,6 +21,7 @@ public class ChangeOrderStatusUseCase implements ChangeOrderStatusPort {
 
     private final OrderRepositoryPort orderRepository;
     private final OrderEventPublisherPort eventPublisher;
+    private final OrderViewPort orderView;
 
     @Override
     @Transactional
@@ -41,7 +43,7 @@ public class ChangeOrderStatusUseCase implements ChangeOrderStatusPort {
             default -> throw new IllegalArgumentException("Unsupported status transition: " + command.newStatus());
         }
 
-        orderRepository.save(order);
+        orderView.save(orderRepository.save(order));
         eventPublisher.publishAll(order.getDomainEvents());
         order.clearDomainEvents();
 
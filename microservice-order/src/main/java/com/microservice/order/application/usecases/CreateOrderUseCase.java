@@ -6,7 +6,9 @@ import com.microservice.order.domain.models.Order;
 import com.microservice.order.domain.models.OrderItem;
 import com.microservice.order.domain.port.in.CreateOrderPort;
 import com.microservice.order.domain.port.out.OrderEventPublisherPort;
+import com.microservice.order.domain.port.out.OrderNumberGeneratorPort;
 import com.microservice.order.domain.port.out.OrderRepositoryPort;
+import com.microservice.order.domain.port.out.OrderViewPort;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Service;
@@ -24,6 +26,8 @@ public class CreateOrderUseCase implements CreateOrderPort {
 
         private final OrderRepositoryPort orderRepository;
         private final OrderEventPublisherPort eventPublisher;
+        private final OrderViewPort orderView;
+        private final OrderNumberGeneratorPort orderNumberGenerator;
 
         @Override
         @Transactional
@@ -54,6 +58,7 @@ public class CreateOrderUseCase implements CreateOrderPort {
 
                 // Create order aggregate
                 Order order = Order.create(
+                                orderNumberGenerator.nextOrderNumber(),
                                 command.customerId(),
                                 command.storeId(),
                                 command.currency(),
@@ -67,10 +72,11 @@ public class CreateOrderUseCase implements CreateOrderPort {
 
                 // Persist
                 Order savedOrder = orderRepository.save(order);
+                orderView.save(savedOrder);
 
-                // Publish domain events
-                eventPublisher.publishAll(savedOrder.getDomainEvents());
-                savedOrder.clearDomainEvents();
+                // Publish domain events (written to the outbox in this transaction)
+                eventPublisher.publishAll(order.getDomainEvents());
+                order.clearDomainEvents();
 
                 log.info("Order created successfully: {}", savedOrder.getOrderNumber());
 
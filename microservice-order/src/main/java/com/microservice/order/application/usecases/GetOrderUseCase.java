@@ -1,20 +1,35 @@
 package com.microservice.order.application.usecases;
 
-import com.microservice.order.domain.models.Order;
+import com.microservice.order.application.dto.response.OrderResponse;
+import com.microservice.order.domain.models.records.OrderSummary;
 import com.microservice.order.domain.port.in.GetOrderPort;
 import com.microservice.order.domain.port.out.OrderRepositoryPort;
+import com.microservice.order.domain.port.out.OrderSummaryQueryPort;
+import com.microservice.order.domain.port.out.OrderSummaryQueryPort.Cursor;
+import com.microservice.order.domain.port.out.OrderViewPort;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
-import org.springframework.data.domain.Page;
-import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeParseException;
+import java.util.Base64;
+import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
 
 /**
  * Use case for querying orders.
+ * 
+ * Single orders are read from the order view, one indexed lookup instead
+ * of the aggregate with its items, coupons and status history. An order
+ * without a view yet (written before the view existed) is loaded once
+ * and its view stored.
+ * 
+ * Order history is paged with an opaque cursor that encodes the
+ * (createdAt, id) of the last order of the previous page.
  */
 @Service
 @RequiredArgsConstructor
@@ -22,29 +37,87 @@ import java.util.UUID;
 @Transactional(readOnly = true)
 public class GetOrderUseCase implements GetOrderPort {
 
+    private static final int MAX_PAGE_SIZE = 100;
+    private static final String CURSOR_SEPARATOR = "|";
+
     private final OrderRepositoryPort orderRepository;
+    private final OrderSummaryQueryPort orderSummaryQuery;
+    private final OrderViewPort orderView;
 
     @Override
-    public Optional<Order> findById(UUID orderId) {
+    @Transactional
+    public Optional<OrderResponse> findById(UUID orderId) {
         log.debug("Finding order by id: {}", orderId);
-        return orderRepository.findById(orderId);
+        return orderView.findById(orderId)
+                .or(() -> orderRepository.findById(orderId).map(orderView::save));
     }
 
     @Override
-    public Optional<Order> findByOrderNumber(String orderNumber) {
+    @Transactional
+    public Optional<OrderResponse> findByOrderNumber(String orderNumber) {
         log.debug("Finding order by number: {}", orderNumber);
-        return orderRepository.findByOrderNumber(orderNumber);
+        return orderView.findByOrderNumber(orderNumber)
+                .or(() -> orderRepository.findByOrderNumber(orderNumber).map(orderView::save));
+    }
+
+    @Override
+    @Transactional
+    public void refreshView(UUID orderId) {
+        log.debug("Refreshing order view: {}", orderId);
+        orderRepository.findById(orderId).ifPresentOrElse(
+                orderView::save,
+                () -> orderView.deleteById(orderId));
     }
 
     @Override
-    public Page<Order> findByCustomerId(UUID customerId, Pageable pageable) {
+    public OrderHistoryPage findByCustomerId(UUID customerId, String cursor, int size) {
         log.debug("Finding orders for customer: {}", customerId);
-        return orderRepository.findByCustomerId(customerId, pageable);
+        int pageSize = pageSize(size);
+        return toPage(orderSummaryQuery.findByCustomerId(customerId, decode(cursor), pageSize + 1), pageSize);
     }
 
     @Override
-    public Page<Order> findByStoreId(UUID storeId, Pageable pageable) {
+    public OrderHistoryPage findByStoreId(UUID storeId, String cursor, int size) {
         log.debug("Finding orders for store: {}", storeId);
-        return orderRepository.findByStoreId(storeId, pageable);
+        int pageSize = pageSize(size);
+        return toPage(orderSummaryQuery.findByStoreId(storeId, decode(cursor), pageSize + 1), pageSize);
+    }
+
+    /**
+     * One extra row is fetched to know whether there is a next page.
+     */
+    private OrderHistoryPage toPage(List<OrderSummary> rows, int pageSize) {
+        if (rows.size() <= pageSize) {
+            return new OrderHistoryPage(rows, null);
+        }
+        List<OrderSummary> page = rows.subList(0, pageSize);
+        return new OrderHistoryPage(List.copyOf(page), encode(Cursor.of(page.get(pageSize - 1))));
+    }
+
+    private int pageSize(int size) {
+        if (size < 1) {
+            throw new IllegalArgumentException("Page size must be at least 1");
+        }
+        return Math.min(size, MAX_PAGE_SIZE);
+    }
+
+    private String encode(Cursor cursor) {
+        String raw = cursor.createdAt() + CURSOR_SEPARATOR + cursor.orderId();
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+
+    private Cursor decode(String cursor) {
+        if (cursor == null || cursor.isBlank()) {
+            return null;
+        }
+        try {
+            String raw = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8);
+            int separator = raw.indexOf(CURSOR_SEPARATOR);
+            return new Cursor(
+                    LocalDateTime.parse(raw.substring(0, separator)),
+                    UUID.fromString(raw.substring(separator + 1)));
+        } catch (IllegalArgumentException | DateTimeParseException | StringIndexOutOfBoundsException ex) {
+            throw new IllegalArgumentException("Invalid order history cursor");
+        }
     }
 }
@@ -9,7 +9,6 @@ import com.microservice.order.domain.models.records.Money;
 
 import java.math.BigDecimal;
 import java.time.LocalDateTime;
-import java.time.format.DateTimeFormatter;
 import java.util.ArrayList;
 import java.util.Collections;
 import java.util.List;
@@ -89,6 +88,7 @@ public class Order {
      * Factory method to create a new Order.
      */
     public static Order create(
+            String orderNumber,
             UUID customerId,
             UUID storeId,
             String currency,
@@ -96,6 +96,9 @@ public class Order {
             Address billingAddress,
             List<OrderItem> items) {
 
+        if (orderNumber == null || orderNumber.isBlank()) {
+            throw new OrderInvariantViolationException("Order number is required");
+        }
         if (customerId == null) {
             throw new OrderInvariantViolationException("Customer ID is required");
         }
@@ -112,7 +115,7 @@ public class Order {
         order.currency = currency != null ? currency : "USD";
         order.shippingAddress = shippingAddress;
         order.billingAddress = billingAddress;
-        order.orderNumber = generateOrderNumber();
+        order.orderNumber = orderNumber;
 
         // Add items
         for (OrderItem item : items) {
@@ -127,12 +130,6 @@ public class Order {
         return order;
     }
 
-    private static String generateOrderNumber() {
-        String datePart = LocalDateTime.now().format(DateTimeFormatter.ofPattern("yyyyMMdd"));
-        String randomPart = UUID.randomUUID().toString().substring(0, 8).toUpperCase();
-        return "ORD-" + datePart + "-" + randomPart;
-    }
-
     // ========== Item Management ==========
 
     public void addItem(OrderItem item) {
@@ -0,0 +1,22 @@
+package com.microservice.order.domain.models.records;
+
+import com.microservice.order.domain.models.enums.OrderStatusEnum;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+/**
+ * Read-only summary of an order for history listings.
+ * Built straight from the orders row, without loading items or status history.
+ */
+public record OrderSummary(
+        UUID id,
+        String orderNumber,
+        OrderStatusEnum status,
+        String currency,
+        BigDecimal grandTotal,
+        int itemCount,
+        LocalDateTime createdAt
+) {
+}
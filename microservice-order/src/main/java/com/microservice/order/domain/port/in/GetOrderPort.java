@@ -1,9 +1,9 @@
 package com.microservice.order.domain.port.in;
 
-import com.microservice.order.domain.models.Order;
-import org.springframework.data.domain.Page;
-import org.springframework.data.domain.Pageable;
+import com.microservice.order.application.dto.response.OrderResponse;
+import com.microservice.order.domain.models.records.OrderSummary;
 
+import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
 
@@ -12,11 +12,42 @@ import java.util.UUID;
  */
 public interface GetOrderPort {
 
-    Optional<Order> findById(UUID orderId);
+    /**
+     * Order served from its stored view document.
+     */
+    Optional<OrderResponse> findById(UUID orderId);
 
-    Optional<Order> findByOrderNumber(String orderNumber);
+    /**
+     * Order served from its stored view document.
+     */
+    Optional<OrderResponse> findByOrderNumber(String orderNumber);
 
-    Page<Order> findByCustomerId(UUID customerId, Pageable pageable);
+    /**
+     * Rebuilds the stored view of an order from its current state, or
+     * removes it if the order no longer exists.
+     */
+    void refreshView(UUID orderId);
 
-    Page<Order> findByStoreId(UUID storeId, Pageable pageable);
+    /**
+     * Customer order history, newest first.
+     *
+     * @param cursor next cursor of the previous page, or null for the first page
+     */
+    OrderHistoryPage findByCustomerId(UUID customerId, String cursor, int size);
+
+    /**
+     * Store order history, newest first.
+     *
+     * @param cursor next cursor of the previous page, or null for the first page
+     */
+    OrderHistoryPage findByStoreId(UUID storeId, String cursor, int size);
+
+    /**
+     * One page of order summaries. nextCursor is null on the last page.
+     */
+    record OrderHistoryPage(
+            List<OrderSummary> orders,
+            String nextCursor
+    ) {
+    }
 }
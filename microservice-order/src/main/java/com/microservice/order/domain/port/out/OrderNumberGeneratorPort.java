@@ -0,0 +1,12 @@
+package com.microservice.order.domain.port.out;
+
+/**
+ * Outbound port for allocating human-readable order numbers.
+ * Implementations must return numbers that are unique across all service
+ * instances without querying existing orders, and that sort roughly in
+ * creation order.
+ */
+public interface OrderNumberGeneratorPort {
+
+    String nextOrderNumber();
+}
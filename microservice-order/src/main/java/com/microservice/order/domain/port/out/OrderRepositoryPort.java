@@ -1,8 +1,6 @@
 package com.microservice.order.domain.port.out;
 
 import com.microservice.order.domain.models.Order;
-import org.springframework.data.domain.Page;
-import org.springframework.data.domain.Pageable;
 
 import java.util.Optional;
 import java.util.UUID;
@@ -18,11 +16,5 @@ public interface OrderRepositoryPort {
 
     Optional<Order> findByOrderNumber(String orderNumber);
 
-    Page<Order> findByCustomerId(UUID customerId, Pageable pageable);
-
-    Page<Order> findByStoreId(UUID storeId, Pageable pageable);
-
-    boolean existsByOrderNumber(String orderNumber);
-
     void deleteById(UUID id);
 }
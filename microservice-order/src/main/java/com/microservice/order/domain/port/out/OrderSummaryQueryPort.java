@@ -0,0 +1,35 @@
+package com.microservice.order.domain.port.out;
+
+import com.microservice.order.domain.models.records.OrderSummary;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * Outbound port for order history listings.
+ * Results are ordered newest first by (createdAt, id) and paged with a
+ * keyset cursor instead of an offset.
+ */
+public interface OrderSummaryQueryPort {
+
+    /**
+     * @param after last order of the previous page, or null for the first page
+     */
+    List<OrderSummary> findByCustomerId(UUID customerId, Cursor after, int limit);
+
+    /**
+     * @param after last order of the previous page, or null for the first page
+     */
+    List<OrderSummary> findByStoreId(UUID storeId, Cursor after, int limit);
+
+    /**
+     * Position of an order in the (createdAt, id) ordering.
+     */
+    record Cursor(LocalDateTime createdAt, UUID orderId) {
+
+        public static Cursor of(OrderSummary summary) {
+            return new Cursor(summary.createdAt(), summary.id());
+        }
+    }
+}
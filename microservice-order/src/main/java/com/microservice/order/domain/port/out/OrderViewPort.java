@@ -0,0 +1,28 @@
+package com.microservice.order.domain.port.out;
+
+import com.microservice.order.application.dto.response.OrderResponse;
+import com.microservice.order.domain.models.Order;
+
+import java.util.Optional;
+import java.util.UUID;
+
+/**
+ * Outbound port for the denormalized order read model.
+ * Each order is stored as its complete response document so single-order
+ * lookups don't rebuild the aggregate. Documents are written in the same
+ * transaction as the order change.
+ */
+public interface OrderViewPort {
+
+    Optional<OrderResponse> findById(UUID orderId);
+
+    Optional<OrderResponse> findByOrderNumber(String orderNumber);
+
+    /**
+     * Inserts or replaces the document of the order, unless the stored one
+     * was built from a newer version of it.
+     */
+    OrderResponse save(Order order);
+
+    void deleteById(UUID orderId);
+}
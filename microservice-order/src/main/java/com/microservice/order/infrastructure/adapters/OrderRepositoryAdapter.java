@@ -8,8 +8,6 @@ import com.microservice.order.domain.port.out.OrderRepositoryPort;
 import com.microservice.order.infrastructure.entities.*;
 import com.microservice.order.infrastructure.repositories.JpaOrderRepository;
 import lombok.RequiredArgsConstructor;
-import org.springframework.data.domain.Page;
-import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Component;
 
 import java.util.Optional;
@@ -42,21 +40,6 @@ public class OrderRepositoryAdapter implements OrderRepositoryPort {
         return jpaRepository.findByOrderNumber(orderNumber).map(this::toDomain);
     }
 
-    @Override
-    public Page<Order> findByCustomerId(UUID customerId, Pageable pageable) {
-        return jpaRepository.findByExternalUserProfileId(customerId, pageable).map(this::toDomain);
-    }
-
-    @Override
-    public Page<Order> findByStoreId(UUID storeId, Pageable pageable) {
-        return jpaRepository.findByExternalStoreId(storeId, pageable).map(this::toDomain);
-    }
-
-    @Override
-    public boolean existsByOrderNumber(String orderNumber) {
-        return jpaRepository.existsByOrderNumber(orderNumber);
-    }
-
     @Override
     public void deleteById(UUID id) {
         jpaRepository.deleteById(id);
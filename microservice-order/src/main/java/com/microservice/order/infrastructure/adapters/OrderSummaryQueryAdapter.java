@@ -0,0 +1,71 @@
+package com.microservice.order.infrastructure.adapters;
+
+import com.microservice.order.domain.models.enums.OrderStatusEnum;
+import com.microservice.order.domain.models.records.OrderSummary;
+import com.microservice.order.domain.port.out.OrderSummaryQueryPort;
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowMapper;
+import org.springframework.stereotype.Component;
+
+import java.sql.Timestamp;
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * Adapter implementing OrderSummaryQueryPort with plain SQL.
+ * 
+ * Pages walk the (external_user_profiles_id | external_store_id, created_at,
+ * id_order) indexes backwards with a row-value comparison, so a deep page
+ * costs the same as the first one. The item count is summed from
+ * order_items per returned row; no item or history rows are loaded.
+ */
+@Component
+@RequiredArgsConstructor
+public class OrderSummaryQueryAdapter implements OrderSummaryQueryPort {
+
+    private static final String SELECT_SQL = """
+            SELECT o.id_order, o.order_number, o.status, o.currency, o.grand_total, o.created_at,
+                   (SELECT COALESCE(SUM(i.quantity), 0)
+                    FROM order_items i
+                    WHERE i.id_order = o.id_order) AS item_count
+            FROM orders o
+            WHERE o.%s = ?
+            """;
+
+    private static final String AFTER_CURSOR_SQL = "  AND (o.created_at, o.id_order) < (?, ?)\n";
+
+    private static final String ORDER_SQL = """
+            ORDER BY o.created_at DESC, o.id_order DESC
+            LIMIT ?
+            """;
+
+    private static final RowMapper<OrderSummary> ROW_MAPPER = (rs, rowNum) -> new OrderSummary(
+            rs.getObject("id_order", UUID.class),
+            rs.getString("order_number"),
+            OrderStatusEnum.valueOf(rs.getString("status")),
+            rs.getString("currency"),
+            rs.getBigDecimal("grand_total"),
+            rs.getInt("item_count"),
+            rs.getTimestamp("created_at").toLocalDateTime());
+
+    private final JdbcTemplate jdbcTemplate;
+
+    @Override
+    public List<OrderSummary> findByCustomerId(UUID customerId, Cursor after, int limit) {
+        return find("external_user_profiles_id", customerId, after, limit);
+    }
+
+    @Override
+    public List<OrderSummary> findByStoreId(UUID storeId, Cursor after, int limit) {
+        return find("external_store_id", storeId, after, limit);
+    }
+
+    private List<OrderSummary> find(String ownerColumn, UUID ownerId, Cursor after, int limit) {
+        if (after == null) {
+            return jdbcTemplate.query(SELECT_SQL.formatted(ownerColumn) + ORDER_SQL, ROW_MAPPER, ownerId, limit);
+        }
+        return jdbcTemplate.query(SELECT_SQL.formatted(ownerColumn) + AFTER_CURSOR_SQL + ORDER_SQL, ROW_MAPPER,
+                ownerId, Timestamp.valueOf(after.createdAt()), after.orderId(), limit);
+    }
+}
@@ -0,0 +1,62 @@
+package com.microservice.order.infrastructure.adapters;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.microservice.order.application.dto.response.OrderResponse;
+import com.microservice.order.application.mapper.OrderMapper;
+import com.microservice.order.domain.models.Order;
+import com.microservice.order.domain.port.out.OrderViewPort;
+import com.microservice.order.infrastructure.repositories.OrderViewRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+
+import java.util.Optional;
+import java.util.UUID;
+
+/**
+ * Adapter implementing OrderViewPort on the order_views table.
+ * Documents are the JSON form of OrderResponse.
+ */
+@Component
+@RequiredArgsConstructor
+public class OrderViewAdapter implements OrderViewPort {
+
+    private final OrderViewRepository viewRepository;
+    private final OrderMapper orderMapper;
+    private final ObjectMapper objectMapper;
+
+    @Override
+    public Optional<OrderResponse> findById(UUID orderId) {
+        return viewRepository.findDocumentById(orderId).map(this::fromDocument);
+    }
+
+    @Override
+    public Optional<OrderResponse> findByOrderNumber(String orderNumber) {
+        return viewRepository.findDocumentByOrderNumber(orderNumber).map(this::fromDocument);
+    }
+
+    @Override
+    public OrderResponse save(Order order) {
+        OrderResponse response = orderMapper.toResponse(order);
+        try {
+            viewRepository.upsert(order.getId(), order.getOrderNumber(),
+                    objectMapper.writeValueAsString(response), order.getUpdatedAt());
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("Failed to serialize order view " + order.getId(), e);
+        }
+        return response;
+    }
+
+    @Override
+    public void deleteById(UUID orderId) {
+        viewRepository.deleteById(orderId);
+    }
+
+    private OrderResponse fromDocument(String document) {
+        try {
+            return objectMapper.readValue(document, OrderResponse.class);
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("Failed to read order view document", e);
+        }
+    }
+}
@@ -0,0 +1,60 @@
+package com.microservice.order.infrastructure.adapters;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.microservice.order.domain.events.DomainEvent;
+import com.microservice.order.domain.port.out.OrderEventPublisherPort;
+import com.microservice.order.infrastructure.kafka.producer.OrderEventProducer;
+import com.microservice.order.infrastructure.repositories.OrderOutboxRepository;
+import com.microservice.order.infrastructure.repositories.OrderOutboxRepository.OutboxMessage;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.List;
+
+/**
+ * Transactional outbox adapter for publishing domain events.
+ * 
+ * Events are written to the order_outbox table in the caller's transaction,
+ * so they are stored if and only if the order change commits. The
+ * OrderOutboxRelay sends them to Kafka afterwards.
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class OutboxOrderEventPublisher implements OrderEventPublisherPort {
+
+    private final OrderOutboxRepository outboxRepository;
+    private final ObjectMapper objectMapper;
+
+    @Override
+    @Transactional(propagation = Propagation.MANDATORY)
+    public void publish(DomainEvent event) {
+        publishAll(List.of(event));
+    }
+
+    @Override
+    @Transactional(propagation = Propagation.MANDATORY)
+    public void publishAll(List<DomainEvent> events) {
+        log.debug("Writing {} domain events to the outbox", events.size());
+        outboxRepository.insertAll(events.stream().map(this::toMessage).toList());
+    }
+
+    private OutboxMessage toMessage(DomainEvent event) {
+        try {
+            return new OutboxMessage(
+                    event.getEventId(),
+                    event.getAggregateId(),
+                    event.getAggregateType(),
+                    event.getEventType(),
+                    OrderEventProducer.ORDER_EVENTS_TOPIC,
+                    event.getAggregateId().toString(),
+                    objectMapper.writeValueAsString(event));
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("Error serializing event " + event.getEventType(), e);
+        }
+    }
+}
@@ -3,6 +3,7 @@ package com.microservice.order.infrastructure.controller;
 import com.microservice.order.application.dto.request.CancelOrderRequest;
 import com.microservice.order.application.dto.request.ChangeOrderStatusRequest;
 import com.microservice.order.application.dto.request.CreateOrderRequest;
+import com.microservice.order.application.dto.response.OrderHistoryResponse;
 import com.microservice.order.application.dto.response.OrderResponse;
 import com.microservice.order.application.exception.OrderNotFoundException;
 import com.microservice.order.application.mapper.OrderMapper;
@@ -20,9 +21,6 @@ import jakarta.servlet.http.HttpServletRequest;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
-import org.springframework.data.domain.Page;
-import org.springframework.data.domain.Pageable;
-import org.springframework.data.web.PageableDefault;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.core.annotation.AuthenticationPrincipal;
@@ -109,10 +107,8 @@ public class OrderController {
             @PathVariable UUID orderId) {
         log.debug("Getting order: {}", orderId);
 
-        Order order = getOrderPort.findById(orderId)
+        return getOrderPort.findById(orderId)
                 .orElseThrow(() -> OrderNotFoundException.withId(orderId));
-
-        return orderMapper.toResponse(order);
     }
 
     /**
@@ -137,56 +133,70 @@ public class OrderController {
             @PathVariable String orderNumber) {
         log.debug("Getting order by number: {}", orderNumber);
 
-        Order order = getOrderPort.findByOrderNumber(orderNumber)
+        return getOrderPort.findByOrderNumber(orderNumber)
                 .orElseThrow(() -> OrderNotFoundException.withOrderNumber(orderNumber));
-
-        return orderMapper.toResponse(order);
     }
 
     /**
-     * Get orders by customer ID.
+     * Get order history by customer ID.
      */
     @Operation(
             summary = "Get orders by customer",
-            description = "Retrieves paginated orders for a specific customer"
+            description = "Retrieves order summaries for a specific customer, newest first. " +
+                          "Pass the nextCursor of a page to get the following one."
     )
     @ApiResponses({
-            @ApiResponse(responseCode = "200", description = "Orders retrieved successfully"),
+            @ApiResponse(
+                    responseCode = "200",
+                    description = "Orders retrieved successfully",
+                    content = @Content(schema = @Schema(implementation = OrderHistoryResponse.class))
+            ),
+            @ApiResponse(responseCode = "400", description = "Invalid cursor or page size"),
             @ApiResponse(responseCode = "401", description = "Unauthorized")
     })
     @GetMapping("/customer/{customerId}")
-    public Page<OrderResponse> getOrdersByCustomer(
+    public OrderHistoryResponse getOrdersByCustomer(
             @Parameter(description = "Customer unique identifier")
             @PathVariable UUID customerId,
-            @PageableDefault(size = 10) Pageable pageable) {
+            @Parameter(description = "nextCursor of the previous page; omit for the first page")
+            @RequestParam(required = false) String cursor,
+            @Parameter(description = "Page size (at most 100)")
+            @RequestParam(defaultValue = "10") int size) {
 
         log.debug("Getting orders for customer: {}", customerId);
 
-        return getOrderPort.findByCustomerId(customerId, pageable)
-                .map(orderMapper::toResponse);
+        return orderMapper.toHistoryResponse(getOrderPort.findByCustomerId(customerId, cursor, size));
     }
 
     /**
-     * Get orders by store ID.
+     * Get order history by store ID.
      */
     @Operation(
             summary = "Get orders by store",
-            description = "Retrieves paginated orders for a specific store"
+            description = "Retrieves order summaries for a specific store, newest first. " +
+                          "Pass the nextCursor of a page to get the following one."
     )
     @ApiResponses({
-            @ApiResponse(responseCode = "200", description = "Orders retrieved successfully"),
+            @ApiResponse(
+                    responseCode = "200",
+                    description = "Orders retrieved successfully",
+                    content = @Content(schema = @Schema(implementation = OrderHistoryResponse.class))
+            ),
+            @ApiResponse(responseCode = "400", description = "Invalid cursor or page size"),
             @ApiResponse(responseCode = "401", description = "Unauthorized")
     })
     @GetMapping("/store/{storeId}")
-    public Page<OrderResponse> getOrdersByStore(
+    public OrderHistoryResponse getOrdersByStore(
             @Parameter(description = "Store unique identifier")
             @PathVariable UUID storeId,
-            @PageableDefault(size = 10) Pageable pageable) {
+            @Parameter(description = "nextCursor of the previous page; omit for the first page")
+            @RequestParam(required = false) String cursor,
+            @Parameter(description = "Page size (at most 100)")
+            @RequestParam(defaultValue = "10") int size) {
 
         log.debug("Getting orders for store: {}", storeId);
 
-        return getOrderPort.findByStoreId(storeId, pageable)
-                .map(orderMapper::toResponse);
+        return orderMapper.toHistoryResponse(getOrderPort.findByStoreId(storeId, cursor, size));
     }
 
     /**
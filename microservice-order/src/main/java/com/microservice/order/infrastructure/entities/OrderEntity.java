@@ -15,7 +15,10 @@ import java.util.UUID;
  * JPA Entity for Order persistence.
  */
 @Entity
-@Table(name = "orders")
+@Table(name = "orders", indexes = {
+        @Index(name = "idx_orders_customer_created", columnList = "external_user_profiles_id, created_at, id_order"),
+        @Index(name = "idx_orders_store_created", columnList = "external_store_id, created_at, id_order")
+})
 @Getter
 @Setter
 @Builder
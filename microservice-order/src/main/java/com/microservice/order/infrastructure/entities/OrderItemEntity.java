@@ -13,7 +13,9 @@ import java.util.UUID;
  * JPA Entity for OrderItem persistence.
  */
 @Entity
-@Table(name = "order_items")
+@Table(name = "order_items", indexes = {
+        @Index(name = "idx_order_items_order", columnList = "id_order")
+})
 @Getter
 @Setter
 @Builder
@@ -0,0 +1,71 @@
+package com.microservice.order.infrastructure.entities;
+
+import jakarta.persistence.*;
+import lombok.*;
+
+import java.time.Instant;
+import java.util.UUID;
+
+/**
+ * JPA Entity for the order event outbox.
+ * Rows are written and relayed with plain JDBC (see OrderOutboxRepository);
+ * the entity defines the table and its indexes.
+ */
+@Entity
+@Table(name = "order_outbox", indexes = {
+        @Index(name = "idx_order_outbox_pending", columnList = "published_at, id_outbox"),
+        @Index(name = "idx_order_outbox_aggregate", columnList = "aggregate_id, id_outbox")
+})
+@Getter
+@Setter
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class OrderOutboxEntity {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @Column(name = "id_outbox")
+    private Long id;
+
+    @Column(name = "event_id", unique = true, nullable = false)
+    private UUID eventId;
+
+    @Column(name = "aggregate_id", nullable = false)
+    private UUID aggregateId;
+
+    @Column(name = "aggregate_type", nullable = false)
+    private String aggregateType;
+
+    @Column(name = "event_type", nullable = false)
+    private String eventType;
+
+    @Column(name = "topic", nullable = false)
+    private String topic;
+
+    @Column(name = "message_key", nullable = false)
+    private String messageKey;
+
+    @Column(name = "payload", nullable = false, columnDefinition = "TEXT")
+    private String payload;
+
+    @Column(name = "created_at", nullable = false)
+    private Instant createdAt;
+
+    @Column(name = "published_at")
+    private Instant publishedAt;
+
+    @Column(name = "attempts", nullable = false)
+    private int attempts;
+
+    @Column(name = "last_error", length = 1000)
+    private String lastError;
+
+    /** Lease end while being sent, or when a failed send may be retried. */
+    @Column(name = "next_attempt_at")
+    private Instant nextAttemptAt;
+
+    /** Set once the relay gives up; parked rows are never retried. */
+    @Column(name = "parked_at")
+    private Instant parkedAt;
+}
@@ -0,0 +1,44 @@
+package com.microservice.order.infrastructure.entities;
+
+import jakarta.persistence.*;
+import lombok.*;
+
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+/**
+ * JPA Entity for the denormalized order read model.
+ * Each row holds the complete order response as a JSON document.
+ * Rows are written and read with plain JDBC (see OrderViewRepository);
+ * the entity defines the table and its indexes.
+ */
+@Entity
+@Table(name = "order_views")
+@Getter
+@Setter
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class OrderViewEntity {
+
+    @Id
+    @Column(name = "id_order")
+    private UUID id;
+
+    @Column(name = "order_number", unique = true, nullable = false)
+    private String orderNumber;
+
+    @Column(name = "document", nullable = false, columnDefinition = "TEXT")
+    private String document;
+
+    /**
+     * updated_at of the order the document was built from; older snapshots
+     * never overwrite newer ones.
+     */
+    @Column(name = "source_updated_at")
+    private LocalDateTime sourceUpdatedAt;
+
+    @Column(name = "refreshed_at", nullable = false)
+    private Instant refreshedAt;
+}
@@ -0,0 +1,40 @@
+package com.microservice.order.infrastructure.entities;
+
+import jakarta.persistence.*;
+import lombok.*;
+
+import java.time.Instant;
+
+/**
+ * JPA Entity for events already handled by the order consumers.
+ * Rows are written and read with plain JDBC (see ProcessedEventStore);
+ * the entity defines the table and its indexes.
+ */
+@Entity
+@Table(name = "processed_events", indexes = {
+        @Index(name = "idx_processed_events_partition", columnList = "topic, partition_id, processed_at"),
+        @Index(name = "idx_processed_events_processed_at", columnList = "processed_at")
+})
+@Getter
+@Setter
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class ProcessedEventEntity {
+
+    @Id
+    @Column(name = "event_id", length = 100)
+    private String eventId;
+
+    @Column(name = "event_type", nullable = false, length = 100)
+    private String eventType;
+
+    @Column(name = "topic", nullable = false, length = 100)
+    private String topic;
+
+    @Column(name = "partition_id", nullable = false)
+    private Integer partitionId;
+
+    @Column(name = "processed_at", nullable = false)
+    private Instant processedAt;
+}
@@ -0,0 +1,35 @@
+package com.microservice.order.infrastructure.kafka.config;
+
+import com.microservice.common.kafka.idempotency.IdempotencyProperties;
+import com.microservice.common.kafka.idempotency.ProcessedEventGuard;
+import com.microservice.common.kafka.idempotency.ProcessedEventStore;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+/**
+ * Duplicate detection for the consumers of other services' events, bound to
+ * {@code order.idempotency.*}. The processed_events table is defined by
+ * ProcessedEventEntity.
+ */
+@Configuration
+public class IdempotencyConfig {
+
+    @Bean
+    @ConfigurationProperties(prefix = "order.idempotency")
+    public IdempotencyProperties idempotencyProperties() {
+        return new IdempotencyProperties();
+    }
+
+    @Bean
+    public ProcessedEventStore processedEventStore(JdbcTemplate jdbcTemplate) {
+        return new ProcessedEventStore(jdbcTemplate);
+    }
+
+    @Bean
+    public ProcessedEventGuard processedEventGuard(ProcessedEventStore processedEventStore,
+                                                   IdempotencyProperties idempotencyProperties) {
+        return new ProcessedEventGuard(processedEventStore, idempotencyProperties);
+    }
+}
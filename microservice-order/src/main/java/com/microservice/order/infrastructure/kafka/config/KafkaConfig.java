@@ -1,5 +1,6 @@
 package com.microservice.order.infrastructure.kafka.config;
 
+import com.microservice.common.kafka.idempotency.ProcessedEventGuard;
 import org.apache.kafka.clients.admin.NewTopic;
 import org.apache.kafka.clients.consumer.ConsumerConfig;
 import org.apache.kafka.clients.producer.ProducerConfig;
@@ -26,6 +27,7 @@ import java.util.Map;
  * - Idempotent producer for exactly-once semantics
  * - Manual acknowledgment for consumer reliability
  * - Error handling with retry backoff
+ * - Processed event tracking across partition rebalances
  * - Topic auto-creation for development
  */
 @Configuration
@@ -37,6 +39,9 @@ public class KafkaConfig {
     @Value("${spring.kafka.consumer.group-id:order-service}")
     private String consumerGroupId;
 
+    @Value("${kafka.producer.linger-ms:5}")
+    private int lingerMs;
+
     // ==================== PRODUCER CONFIGURATION ====================
 
     @Bean
@@ -49,7 +54,10 @@ public class KafkaConfig {
         configProps.put(ProducerConfig.ACKS_CONFIG, "all");
         configProps.put(ProducerConfig.RETRIES_CONFIG, 3);
         configProps.put(ProducerConfig.ENABLE_IDEMPOTENCE_CONFIG, true);
-        configProps.put(ProducerConfig.MAX_IN_FLIGHT_REQUESTS_PER_CONNECTION, 1);
+        // Idempotence keeps per-partition ordering with up to 5 in-flight requests,
+        // letting the outbox relay pipeline its batches
+        configProps.put(ProducerConfig.MAX_IN_FLIGHT_REQUESTS_PER_CONNECTION, 5);
+        configProps.put(ProducerConfig.LINGER_MS_CONFIG, lingerMs);
         return new DefaultKafkaProducerFactory<>(configProps);
     }
 
@@ -76,6 +84,23 @@ public class KafkaConfig {
 
     @Bean
     public ConcurrentKafkaListenerContainerFactory<String, String> kafkaListenerContainerFactory() {
+        return listenerContainerFactory();
+    }
+
+    /**
+     * Factory for the consumers that use ProcessedEventGuard. The guard is the
+     * rebalance listener, which keeps its Bloom filter in step with the
+     * assigned partitions; other consumers must not share it.
+     */
+    @Bean
+    public ConcurrentKafkaListenerContainerFactory<String, String> idempotentKafkaListenerContainerFactory(
+            ProcessedEventGuard processedEventGuard) {
+        ConcurrentKafkaListenerContainerFactory<String, String> factory = listenerContainerFactory();
+        factory.getContainerProperties().setConsumerRebalanceListener(processedEventGuard);
+        return factory;
+    }
+
+    private ConcurrentKafkaListenerContainerFactory<String, String> listenerContainerFactory() {
         ConcurrentKafkaListenerContainerFactory<String, String> factory = 
                 new ConcurrentKafkaListenerContainerFactory<>();
         factory.setConsumerFactory(consumerFactory());
@@ -2,6 +2,7 @@ package com.microservice.order.infrastructure.kafka.consumer;
 
 import com.fasterxml.jackson.databind.JsonNode;
 import com.fasterxml.jackson.databind.ObjectMapper;
+import com.microservice.common.kafka.idempotency.ProcessedEventGuard;
 import com.microservice.order.domain.port.in.CancelOrderPort;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
@@ -33,16 +34,19 @@ public class InventoryEventConsumer {
 
     private final CancelOrderPort cancelOrderPort;
     private final ObjectMapper objectMapper;
+    private final ProcessedEventGuard processedEventGuard;
 
     @KafkaListener(
             topics = "inventory-events",
             groupId = "${spring.kafka.consumer.group-id:order-service}",
-            containerFactory = "kafkaListenerContainerFactory"
+            containerFactory = "idempotentKafkaListenerContainerFactory"
     )
     @Transactional
     public void handleInventoryEvent(
             @Payload String payload,
             @Header(KafkaHeaders.RECEIVED_KEY) String key,
+            @Header(KafkaHeaders.RECEIVED_TOPIC) String topic,
+            @Header(KafkaHeaders.RECEIVED_PARTITION) int partition,
             Acknowledgment ack) {
 
         try {
@@ -53,6 +57,12 @@ public class InventoryEventConsumer {
             String eventType = event.get("eventType").asText();
             String eventId = event.has("eventId") ? event.get("eventId").asText() : "unknown";
 
+            if (processedEventGuard.isDuplicate(eventId)) {
+                log.info("Skipping duplicate inventory event: {} (eventId: {})", eventType, eventId);
+                ack.acknowledge();
+                return;
+            }
+
             log.info("Processing inventory event: {} (eventId: {})", eventType, eventId);
 
             switch (eventType) {
@@ -62,6 +72,7 @@ public class InventoryEventConsumer {
                 default -> log.warn("Unknown inventory event type: {}. Ignoring.", eventType);
             }
 
+            processedEventGuard.markProcessed(eventId, eventType, topic, partition);
             ack.acknowledge();
             log.info("Inventory event {} processed successfully", eventType);
 
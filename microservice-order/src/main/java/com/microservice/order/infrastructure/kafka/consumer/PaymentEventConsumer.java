@@ -2,6 +2,7 @@ package com.microservice.order.infrastructure.kafka.consumer;
 
 import com.fasterxml.jackson.databind.JsonNode;
 import com.fasterxml.jackson.databind.ObjectMapper;
+import com.microservice.common.kafka.idempotency.ProcessedEventGuard;
 import com.microservice.order.domain.port.in.CancelOrderPort;
 import com.microservice.order.domain.port.in.ChangeOrderStatusPort;
 import com.microservice.order.domain.port.in.ConfirmOrderPort;
@@ -38,16 +39,19 @@ public class PaymentEventConsumer {
     private final CancelOrderPort cancelOrderPort;
     private final ChangeOrderStatusPort changeOrderStatusPort;
     private final ObjectMapper objectMapper;
+    private final ProcessedEventGuard processedEventGuard;
 
     @KafkaListener(
             topics = "payment-events",
             groupId = "${spring.kafka.consumer.group-id:order-service}",
-            containerFactory = "kafkaListenerContainerFactory"
+            containerFactory = "idempotentKafkaListenerContainerFactory"
     )
     @Transactional
     public void handlePaymentEvent(
             @Payload String payload,
             @Header(KafkaHeaders.RECEIVED_KEY) String key,
+            @Header(KafkaHeaders.RECEIVED_TOPIC) String topic,
+            @Header(KafkaHeaders.RECEIVED_PARTITION) int partition,
             Acknowledgment ack) {
 
         try {
@@ -58,6 +62,12 @@ public class PaymentEventConsumer {
             String eventType = event.get("eventType").asText();
             String eventId = event.has("eventId") ? event.get("eventId").asText() : "unknown";
 
+            if (processedEventGuard.isDuplicate(eventId)) {
+                log.info("Skipping duplicate payment event: {} (eventId: {})", eventType, eventId);
+                ack.acknowledge();
+                return;
+            }
+
             log.info("Processing payment event: {} (eventId: {})", eventType, eventId);
 
             switch (eventType) {
@@ -67,6 +77,7 @@ public class PaymentEventConsumer {
                 default -> log.warn("Unknown payment event type: {}. Ignoring.", eventType);
             }
 
+            processedEventGuard.markProcessed(eventId, eventType, topic, partition);
             ack.acknowledge();
             log.info("Payment event {} processed successfully", eventType);
 
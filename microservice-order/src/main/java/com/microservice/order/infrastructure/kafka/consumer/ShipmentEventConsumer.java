@@ -2,6 +2,7 @@ package com.microservice.order.infrastructure.kafka.consumer;
 
 import com.fasterxml.jackson.databind.JsonNode;
 import com.fasterxml.jackson.databind.ObjectMapper;
+import com.microservice.common.kafka.idempotency.ProcessedEventGuard;
 import com.microservice.order.domain.models.enums.OrderStatusEnum;
 import com.microservice.order.domain.port.in.ChangeOrderStatusPort;
 import lombok.RequiredArgsConstructor;
@@ -35,16 +36,19 @@ public class ShipmentEventConsumer {
 
     private final ChangeOrderStatusPort changeOrderStatusPort;
     private final ObjectMapper objectMapper;
+    private final ProcessedEventGuard processedEventGuard;
 
     @KafkaListener(
             topics = "shipment-events",
             groupId = "${spring.kafka.consumer.group-id:order-service}",
-            containerFactory = "kafkaListenerContainerFactory"
+            containerFactory = "idempotentKafkaListenerContainerFactory"
     )
     @Transactional
     public void handleShipmentEvent(
             @Payload String payload,
             @Header(KafkaHeaders.RECEIVED_KEY) String key,
+            @Header(KafkaHeaders.RECEIVED_TOPIC) String topic,
+            @Header(KafkaHeaders.RECEIVED_PARTITION) int partition,
             Acknowledgment ack) {
 
         try {
@@ -55,6 +59,12 @@ public class ShipmentEventConsumer {
             String eventType = event.get("eventType").asText();
             String eventId = event.has("eventId") ? event.get("eventId").asText() : "unknown";
 
+            if (processedEventGuard.isDuplicate(eventId)) {
+                log.info("Skipping duplicate shipment event: {} (eventId: {})", eventType, eventId);
+                ack.acknowledge();
+                return;
+            }
+
             log.info("Processing shipment event: {} (eventId: {})", eventType, eventId);
 
             switch (eventType) {
@@ -65,6 +75,7 @@ public class ShipmentEventConsumer {
                 default -> log.warn("Unknown shipment event type: {}. Ignoring.", eventType);
             }
 
+            processedEventGuard.markProcessed(eventId, eventType, topic, partition);
             ack.acknowledge();
             log.info("Shipment event {} processed successfully", eventType);
 
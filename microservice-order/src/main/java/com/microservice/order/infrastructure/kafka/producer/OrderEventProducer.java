@@ -25,7 +25,7 @@ public class OrderEventProducer {
     private final KafkaTemplate<String, String> kafkaTemplate;
     private final ObjectMapper objectMapper;
 
-    private static final String ORDER_EVENTS_TOPIC = "order-events";
+    public static final String ORDER_EVENTS_TOPIC = "order-events";
 
     /**
      * Send a domain event to the order-events topic.
@@ -92,4 +92,17 @@ public class OrderEventProducer {
             return CompletableFuture.failedFuture(e);
         }
     }
+
+    /**
+     * Send an already serialized event, as stored in the outbox.
+     * Returns without waiting so callers can pipeline many sends.
+     *
+     * @param topic   The target topic
+     * @param key     The message key
+     * @param payload The serialized event
+     * @return CompletableFuture for async result handling
+     */
+    public CompletableFuture<SendResult<String, String>> sendSerialized(String topic, String key, String payload) {
+        return kafkaTemplate.send(topic, key, payload);
+    }
 }
@@ -0,0 +1,93 @@
+package com.microservice.order.infrastructure.ordernumber;
+
+import com.microservice.order.domain.port.out.OrderNumberGeneratorPort;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDate;
+import java.time.format.DateTimeFormatter;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Allocates order numbers from blocks of a database sequence.
+ * 
+ * The sequence increments by the block size, so each nextval reserves a
+ * whole block for this instance. Numbers inside a block are handed out
+ * with an atomic increment; only the thread that exhausts a block goes to
+ * the database for the next one. The block size is read back from the
+ * sequence, so instances started with a different setting cannot hand out
+ * overlapping ranges.
+ * 
+ * Format: ORD-yyyyMMdd-0000000001 (fixed width, so numbers sort by value).
+ */
+@Component
+@ConditionalOnProperty(name = "order.number.strategy", havingValue = "sequence", matchIfMissing = true)
+@Slf4j
+public class SequenceOrderNumberGenerator implements OrderNumberGeneratorPort {
+
+    private static final String SEQUENCE_NAME = "order_number_seq";
+    private static final DateTimeFormatter DATE_FORMAT = DateTimeFormatter.ofPattern("yyyyMMdd");
+
+    private final JdbcTemplate jdbcTemplate;
+    private final long blockSize;
+
+    private volatile Block block = new Block(0, 0);
+
+    public SequenceOrderNumberGenerator(
+            JdbcTemplate jdbcTemplate,
+            @Value("${order.number.sequence.block-size:100}") int configuredBlockSize) {
+        this.jdbcTemplate = jdbcTemplate;
+        jdbcTemplate.execute("CREATE SEQUENCE IF NOT EXISTS " + SEQUENCE_NAME
+                + " START WITH 1 INCREMENT BY " + configuredBlockSize);
+        this.blockSize = Long.parseLong(jdbcTemplate.queryForObject(
+                "SELECT increment FROM information_schema.sequences"
+                        + " WHERE LOWER(sequence_name) = ? AND sequence_schema = current_schema()",
+                String.class, SEQUENCE_NAME));
+        if (blockSize != configuredBlockSize) {
+            log.warn("{} increments by {}, ignoring configured block size {}",
+                    SEQUENCE_NAME, blockSize, configuredBlockSize);
+        }
+    }
+
+    @Override
+    public String nextOrderNumber() {
+        return "ORD-" + LocalDate.now().format(DATE_FORMAT) + "-" + String.format("%010d", nextValue());
+    }
+
+    private long nextValue() {
+        while (true) {
+            Block current = block;
+            long value = current.next.getAndIncrement();
+            if (value < current.end) {
+                return value;
+            }
+            refill(current);
+        }
+    }
+
+    /**
+     * Only the first thread to find the block exhausted fetches a new one;
+     * the others see the replaced block when they retry.
+     */
+    private synchronized void refill(Block exhausted) {
+        if (block != exhausted) {
+            return;
+        }
+        Long start = jdbcTemplate.queryForObject("SELECT nextval('" + SEQUENCE_NAME + "')", Long.class);
+        block = new Block(start, start + blockSize);
+    }
+
+    private static final class Block {
+
+        private final AtomicLong next;
+        private final long end;
+
+        private Block(long start, long end) {
+            this.next = new AtomicLong(start);
+            this.end = end;
+        }
+    }
+}
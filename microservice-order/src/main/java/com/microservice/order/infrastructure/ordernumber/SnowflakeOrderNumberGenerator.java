@@ -0,0 +1,70 @@
+package com.microservice.order.infrastructure.ordernumber;
+
+import com.microservice.order.domain.port.out.OrderNumberGeneratorPort;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.ZoneOffset;
+import java.time.format.DateTimeFormatter;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Generates Snowflake-style order numbers without any database access.
+ * 
+ * Each id packs 41 bits of milliseconds since 2024-01-01, a 10-bit node id
+ * and a 12-bit per-millisecond counter. The (millis, counter) pair is kept
+ * in one AtomicLong and advanced with CAS, so ids from one instance are
+ * strictly increasing. When the counter overflows, or the clock moves back,
+ * the generator keeps counting from its last value instead of waiting.
+ * Every instance must run with a distinct order.number.snowflake.node-id.
+ * 
+ * Format: ORD-yyyyMMdd-XXXXXXXXXXXXX (UTC date of the id, then the id in
+ * fixed-width base 36).
+ */
+@Component
+@ConditionalOnProperty(name = "order.number.strategy", havingValue = "snowflake")
+public class SnowflakeOrderNumberGenerator implements OrderNumberGeneratorPort {
+
+    private static final long EPOCH_MILLIS = Instant.parse("2024-01-01T00:00:00Z").toEpochMilli();
+    private static final int NODE_BITS = 10;
+    private static final int COUNTER_BITS = 12;
+    private static final long MAX_NODE_ID = (1L << NODE_BITS) - 1;
+    private static final long COUNTER_MASK = (1L << COUNTER_BITS) - 1;
+    private static final int ID_WIDTH = Long.toString(Long.MAX_VALUE, 36).length();
+    private static final DateTimeFormatter DATE_FORMAT = DateTimeFormatter.ofPattern("yyyyMMdd");
+
+    private final long nodeId;
+    private final AtomicLong state = new AtomicLong();
+
+    public SnowflakeOrderNumberGenerator(@Value("${order.number.snowflake.node-id}") long nodeId) {
+        if (nodeId < 0 || nodeId > MAX_NODE_ID) {
+            throw new IllegalArgumentException(
+                    "order.number.snowflake.node-id must be between 0 and " + MAX_NODE_ID + ", was " + nodeId);
+        }
+        this.nodeId = nodeId;
+    }
+
+    @Override
+    public String nextOrderNumber() {
+        long id = nextId();
+        long millis = EPOCH_MILLIS + (id >>> (NODE_BITS + COUNTER_BITS));
+        String date = LocalDate.ofInstant(Instant.ofEpochMilli(millis), ZoneOffset.UTC).format(DATE_FORMAT);
+        String encoded = Long.toString(id, 36).toUpperCase();
+        return "ORD-" + date + "-" + "0".repeat(ID_WIDTH - encoded.length()) + encoded;
+    }
+
+    private long nextId() {
+        while (true) {
+            long current = state.get();
+            long now = (System.currentTimeMillis() - EPOCH_MILLIS) << COUNTER_BITS;
+            long next = Math.max(now, current + 1);
+            if (state.compareAndSet(current, next)) {
+                long millis = next >>> COUNTER_BITS;
+                return (millis << (NODE_BITS + COUNTER_BITS)) | (nodeId << COUNTER_BITS) | (next & COUNTER_MASK);
+            }
+        }
+    }
+}
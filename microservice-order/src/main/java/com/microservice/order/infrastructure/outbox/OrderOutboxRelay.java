@@ -0,0 +1,241 @@
+package com.microservice.order.infrastructure.outbox;
+
+import com.microservice.order.infrastructure.kafka.producer.OrderEventProducer;
+import com.microservice.order.infrastructure.repositories.OrderOutboxRepository;
+import com.microservice.order.infrastructure.repositories.OrderOutboxRepository.PendingMessage;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.kafka.support.SendResult;
+import org.springframework.scheduling.annotation.EnableScheduling;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+
+/**
+ * Relays order events from the outbox table to Kafka.
+ * 
+ * Each worker thread repeatedly leases a batch of pending rows (FOR UPDATE
+ * SKIP LOCKED, committed at once), sends them all without waiting in
+ * between, waits for the acknowledgments and then marks the batch in a
+ * second short transaction. No lock or connection is held while sending.
+ * Workers and service instances never claim the same row, so throughput
+ * grows with the number of workers. Delivery is at least once: a crash
+ * after sending resends the batch when the lease expires.
+ * 
+ * A failed row is retried with exponential backoff and parked after
+ * {@code max-attempts}, so a poison event stops holding back its order.
+ */
+@Component
+@EnableScheduling
+@Slf4j
+public class OrderOutboxRelay implements DisposableBean {
+
+    private final OrderOutboxRepository outboxRepository;
+    private final OrderEventProducer eventProducer;
+    private final TransactionTemplate transactionTemplate;
+    private final boolean enabled;
+    private final int workers;
+    private final int batchSize;
+    private final long pollIntervalMs;
+    private final Duration sendTimeout;
+    private final Duration lease;
+    private final int maxAttempts;
+    private final Duration initialBackoff;
+    private final Duration maxBackoff;
+    private final Duration retention;
+    private final List<Thread> threads = new ArrayList<>();
+
+    private volatile boolean running;
+
+    public OrderOutboxRelay(
+            OrderOutboxRepository outboxRepository,
+            OrderEventProducer eventProducer,
+            PlatformTransactionManager transactionManager,
+            @Value("${order.outbox.relay.enabled:true}") boolean enabled,
+            @Value("${order.outbox.relay.workers:2}") int workers,
+            @Value("${order.outbox.relay.batch-size:200}") int batchSize,
+            @Value("${order.outbox.relay.poll-interval-ms:200}") long pollIntervalMs,
+            @Value("${order.outbox.relay.send-timeout:10s}") Duration sendTimeout,
+            @Value("${order.outbox.relay.max-attempts:10}") int maxAttempts,
+            @Value("${order.outbox.relay.backoff.initial:1s}") Duration initialBackoff,
+            @Value("${order.outbox.relay.backoff.max:5m}") Duration maxBackoff,
+            @Value("${order.outbox.retention:7d}") Duration retention) {
+        this.outboxRepository = outboxRepository;
+        this.eventProducer = eventProducer;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.enabled = enabled;
+        this.workers = workers;
+        this.batchSize = batchSize;
+        this.pollIntervalMs = pollIntervalMs;
+        this.sendTimeout = sendTimeout;
+        // Long enough that a live relay always marks its batch before it expires
+        this.lease = sendTimeout.multipliedBy(2);
+        this.maxAttempts = maxAttempts;
+        this.initialBackoff = initialBackoff;
+        this.maxBackoff = maxBackoff;
+        this.retention = retention;
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public synchronized void start() {
+        if (!enabled || running) {
+            return;
+        }
+        running = true;
+        for (int i = 0; i < workers; i++) {
+            Thread thread = new Thread(this::run, "order-outbox-relay-" + i);
+            thread.setDaemon(true);
+            thread.start();
+            threads.add(thread);
+        }
+        log.info("Order outbox relay started with {} workers", workers);
+    }
+
+    @Override
+    public synchronized void destroy() throws InterruptedException {
+        running = false;
+        for (Thread thread : threads) {
+            thread.interrupt();
+        }
+        for (Thread thread : threads) {
+            thread.join(sendTimeout.toMillis());
+        }
+        threads.clear();
+    }
+
+    /**
+     * Relays one batch.
+     *
+     * @return number of rows claimed
+     */
+    public int relayBatch() {
+        List<PendingMessage> batch = outboxRepository.claimBatch(batchSize, Instant.now().plus(lease));
+        if (batch.isEmpty()) {
+            return 0;
+        }
+
+        List<CompletableFuture<SendResult<String, String>>> futures = new ArrayList<>(batch.size());
+        for (PendingMessage message : batch) {
+            futures.add(eventProducer.sendSerialized(message.topic(), message.key(), message.payload()));
+        }
+        awaitAll(futures);
+
+        int[] failed = new int[1];
+        transactionTemplate.executeWithoutResult(status -> {
+            List<Long> sent = new ArrayList<>(batch.size());
+            for (int i = 0; i < batch.size(); i++) {
+                PendingMessage message = batch.get(i);
+                CompletableFuture<SendResult<String, String>> future = futures.get(i);
+                if (future.isDone() && !future.isCompletedExceptionally()) {
+                    sent.add(message.id());
+                    continue;
+                }
+                failed[0]++;
+                String error = future.isDone() ? failureOf(future) : "Send timed out after " + sendTimeout;
+                if (message.attempts() >= maxAttempts) {
+                    outboxRepository.markParked(message.id(), error);
+                    log.error("Parked outbox event {} after {} attempts: {}", message.id(), message.attempts(), error);
+                } else {
+                    outboxRepository.markFailed(message.id(), error, Instant.now().plus(backoff(message.attempts())));
+                }
+            }
+            outboxRepository.markPublished(sent);
+        });
+
+        if (failed[0] > 0) {
+            log.warn("Order outbox relay sent {} of {} events", batch.size() - failed[0], batch.size());
+        } else {
+            log.debug("Order outbox relay sent {} events", batch.size());
+        }
+        return batch.size();
+    }
+
+    /**
+     * Deletes published rows older than the retention, a chunk at a time.
+     */
+    @Scheduled(cron = "${order.outbox.purge-cron:0 15 * * * *}")
+    public void purgePublished() {
+        Instant before = Instant.now().minus(retention);
+        int deleted;
+        int total = 0;
+        do {
+            deleted = outboxRepository.purgePublished(before, 10_000);
+            total += deleted;
+        } while (deleted > 0 && running);
+        if (total > 0) {
+            log.info("Purged {} published outbox rows", total);
+        }
+    }
+
+    private void run() {
+        while (running) {
+            try {
+                if (relayBatch() < batchSize) {
+                    Thread.sleep(pollIntervalMs);
+                }
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return;
+            } catch (Exception e) {
+                log.error("Order outbox relay batch failed: {}", e.getMessage(), e);
+                if (!pause()) {
+                    return;
+                }
+            }
+        }
+    }
+
+    private void awaitAll(List<CompletableFuture<SendResult<String, String>>> futures) {
+        try {
+            CompletableFuture.allOf(futures.toArray(CompletableFuture[]::new))
+                    .get(sendTimeout.toMillis(), TimeUnit.MILLISECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        } catch (ExecutionException | TimeoutException e) {
+            // Per-message outcome is checked by the caller
+        }
+    }
+
+    /**
+     * Exponential backoff after the given number of attempts, capped at
+     * {@code backoff.max}.
+     */
+    private Duration backoff(int attempts) {
+        int exponent = Math.min(Math.max(attempts - 1, 0), 30);
+        Duration delay = initialBackoff.multipliedBy(1L << exponent);
+        return delay.compareTo(maxBackoff) > 0 ? maxBackoff : delay;
+    }
+
+    private static String failureOf(CompletableFuture<?> future) {
+        try {
+            future.join();
+            return null;
+        } catch (Exception e) {
+            Throwable cause = e.getCause() != null ? e.getCause() : e;
+            return cause.getClass().getSimpleName() + ": " + cause.getMessage();
+        }
+    }
+
+    private boolean pause() {
+        try {
+            Thread.sleep(pollIntervalMs * 10);
+            return true;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return false;
+        }
+    }
+}
@@ -0,0 +1,57 @@
+package com.microservice.order.infrastructure.readmodel;
+
+import com.microservice.order.domain.port.in.GetOrderPort;
+import com.microservice.order.infrastructure.kafka.producer.OrderEventProducer;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.kafka.annotation.KafkaListener;
+import org.springframework.kafka.support.Acknowledgment;
+import org.springframework.kafka.support.KafkaHeaders;
+import org.springframework.messaging.handler.annotation.Header;
+import org.springframework.stereotype.Component;
+
+import java.util.UUID;
+
+/**
+ * Repair path for the order read model.
+ * 
+ * Order views are written by the use cases in the same transaction as the
+ * order change, so this projector is disabled by default. Enable it with
+ * order.read-model.projector.enabled to rebuild the views of the orders
+ * that appear on the order-events topic, for example after a view was
+ * lost or written by an older release. Each event rebuilds the document
+ * from the current state, which makes redeliveries and skipped events
+ * harmless.
+ */
+@Component
+@ConditionalOnProperty(prefix = "order.read-model.projector", name = "enabled", havingValue = "true")
+@RequiredArgsConstructor
+@Slf4j
+public class OrderViewProjector {
+
+    private final GetOrderPort getOrderPort;
+
+    @KafkaListener(
+            topics = OrderEventProducer.ORDER_EVENTS_TOPIC,
+            groupId = "${order.read-model.group-id:order-read-model}",
+            containerFactory = "kafkaListenerContainerFactory"
+    )
+    public void onOrderEvent(
+            @Header(KafkaHeaders.RECEIVED_KEY) String key,
+            Acknowledgment ack) {
+
+        UUID orderId;
+        try {
+            orderId = UUID.fromString(key);
+        } catch (IllegalArgumentException ex) {
+            log.warn("Ignoring order event with unexpected key: {}", key);
+            ack.acknowledge();
+            return;
+        }
+
+        log.debug("Refreshing order view for order: {}", orderId);
+        getOrderPort.refreshView(orderId);
+        ack.acknowledge();
+    }
+}
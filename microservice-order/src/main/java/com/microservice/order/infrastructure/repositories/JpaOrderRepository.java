@@ -22,12 +22,6 @@ public interface JpaOrderRepository extends JpaRepository<OrderEntity, UUID> {
     @Query("SELECT o FROM OrderEntity o LEFT JOIN FETCH o.items LEFT JOIN FETCH o.coupons WHERE o.id = :id")
     Optional<OrderEntity> findByIdWithItems(@Param("id") UUID id);
 
-    Page<OrderEntity> findByExternalUserProfileId(UUID externalUserProfileId, Pageable pageable);
-
-    Page<OrderEntity> findByExternalStoreId(UUID externalStoreId, Pageable pageable);
-
-    boolean existsByOrderNumber(String orderNumber);
-
     @Query("SELECT o FROM OrderEntity o WHERE o.status = :status")
     Page<OrderEntity> findByStatus(@Param("status") String status, Pageable pageable);
 }
@@ -0,0 +1,176 @@
+package com.microservice.order.infrastructure.repositories;
+
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.sql.Timestamp;
+import java.time.Instant;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * JDBC access to the order_outbox table.
+ * Inserts are batched in the caller's transaction. The relay leases pending
+ * rows in one short statement (FOR UPDATE SKIP LOCKED plus a next_attempt_at
+ * in the future), sends them outside any transaction and then marks them.
+ */
+@Repository
+public class OrderOutboxRepository {
+
+    private static final String INSERT_SQL = """
+            INSERT INTO order_outbox (event_id, aggregate_id, aggregate_type, event_type,
+                                      topic, message_key, payload, created_at, attempts)
+            VALUES (?, ?, ?, ?, ?, ?, ?, ?, 0)
+            """;
+
+    /**
+     * Only the oldest pending event of each order is eligible, so events of
+     * one order are never in flight at the same time and keep their order
+     * even with several relays running. A leased or backing off event still
+     * holds back the later events of its order; a parked one does not.
+     * Claimed rows get next_attempt_at = lease end, so a relay that dies
+     * mid-send leaves them to be claimed again once the lease expires.
+     */
+    private static final String CLAIM_SQL = """
+            UPDATE order_outbox
+            SET next_attempt_at = ?, attempts = attempts + 1
+            WHERE id_outbox IN (
+                SELECT o.id_outbox
+                FROM order_outbox o
+                WHERE o.published_at IS NULL
+                  AND o.parked_at IS NULL
+                  AND (o.next_attempt_at IS NULL OR o.next_attempt_at <= ?)
+                  AND NOT EXISTS (SELECT 1 FROM order_outbox p
+                                  WHERE p.aggregate_id = o.aggregate_id
+                                    AND p.published_at IS NULL
+                                    AND p.parked_at IS NULL
+                                    AND p.id_outbox < o.id_outbox)
+                ORDER BY o.id_outbox
+                LIMIT ?
+                FOR UPDATE SKIP LOCKED)
+            RETURNING id_outbox, topic, message_key, payload, attempts
+            """;
+
+    private static final String MARK_PUBLISHED_SQL = """
+            UPDATE order_outbox
+            SET published_at = ?, next_attempt_at = NULL, last_error = NULL
+            WHERE id_outbox = ANY (?)
+            """;
+
+    private static final String MARK_FAILED_SQL = """
+            UPDATE order_outbox
+            SET next_attempt_at = ?, last_error = ?
+            WHERE id_outbox = ?
+            """;
+
+    private static final String MARK_PARKED_SQL = """
+            UPDATE order_outbox
+            SET parked_at = ?, next_attempt_at = NULL, last_error = ?
+            WHERE id_outbox = ?
+            """;
+
+    private static final String PURGE_SQL = """
+            DELETE FROM order_outbox
+            WHERE id_outbox IN (SELECT id_outbox FROM order_outbox
+                                WHERE published_at < ?
+                                LIMIT ?)
+            """;
+
+    private final JdbcTemplate jdbcTemplate;
+
+    public OrderOutboxRepository(JdbcTemplate jdbcTemplate) {
+        this.jdbcTemplate = jdbcTemplate;
+    }
+
+    @Transactional(propagation = Propagation.MANDATORY)
+    public void insertAll(Collection<OutboxMessage> messages) {
+        if (messages.isEmpty()) {
+            return;
+        }
+        Timestamp now = Timestamp.from(Instant.now());
+        jdbcTemplate.batchUpdate(INSERT_SQL, messages, messages.size(), (ps, message) -> {
+            ps.setObject(1, message.eventId());
+            ps.setObject(2, message.aggregateId());
+            ps.setString(3, message.aggregateType());
+            ps.setString(4, message.eventType());
+            ps.setString(5, message.topic());
+            ps.setString(6, message.key());
+            ps.setString(7, message.payload());
+            ps.setTimestamp(8, now);
+        });
+    }
+
+    /**
+     * Leases up to {@code limit} eligible rows until {@code leaseUntil} and
+     * counts the attempt. Runs in its own short transaction.
+     *
+     * @return the leased rows in outbox order
+     */
+    @Transactional
+    public List<PendingMessage> claimBatch(int limit, Instant leaseUntil) {
+        List<PendingMessage> claimed = jdbcTemplate.query(CLAIM_SQL,
+                (rs, rowNum) -> new PendingMessage(rs.getLong(1), rs.getString(2), rs.getString(3),
+                        rs.getString(4), rs.getInt(5)),
+                Timestamp.from(leaseUntil), Timestamp.from(Instant.now()), limit);
+        claimed.sort(Comparator.comparingLong(PendingMessage::id));
+        return claimed;
+    }
+
+    @Transactional(propagation = Propagation.MANDATORY)
+    public void markPublished(List<Long> ids) {
+        if (ids.isEmpty()) {
+            return;
+        }
+        Long[] idArray = ids.toArray(Long[]::new);
+        Timestamp now = Timestamp.from(Instant.now());
+        jdbcTemplate.update(MARK_PUBLISHED_SQL, ps -> {
+            ps.setTimestamp(1, now);
+            ps.setArray(2, ps.getConnection().createArrayOf("bigint", idArray));
+        });
+    }
+
+    @Transactional(propagation = Propagation.MANDATORY)
+    public void markFailed(long id, String error, Instant nextAttemptAt) {
+        jdbcTemplate.update(MARK_FAILED_SQL, Timestamp.from(nextAttemptAt), truncate(error), id);
+    }
+
+    /**
+     * Stops retrying the row. It no longer holds back later events of its
+     * order and stays in the table, with its last error, for inspection.
+     */
+    @Transactional(propagation = Propagation.MANDATORY)
+    public void markParked(long id, String error) {
+        jdbcTemplate.update(MARK_PARKED_SQL, Timestamp.from(Instant.now()), truncate(error), id);
+    }
+
+    /**
+     * Deletes up to {@code limit} rows published before {@code before}.
+     *
+     * @return number of rows deleted
+     */
+    public int purgePublished(Instant before, int limit) {
+        return jdbcTemplate.update(PURGE_SQL, Timestamp.from(before), limit);
+    }
+
+    private static String truncate(String error) {
+        return error != null && error.length() > 1000 ? error.substring(0, 1000) : error;
+    }
+
+    /**
+     * An event ready to be written to the outbox.
+     */
+    public record OutboxMessage(UUID eventId, UUID aggregateId, String aggregateType, String eventType,
+                                String topic, String key, String payload) {
+    }
+
+    /**
+     * A claimed outbox row waiting to be sent, with the attempts made so far
+     * including this one.
+     */
+    public record PendingMessage(long id, String topic, String key, String payload, int attempts) {
+    }
+}
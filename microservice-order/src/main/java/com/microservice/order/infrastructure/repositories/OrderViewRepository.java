@@ -0,0 +1,68 @@
+package com.microservice.order.infrastructure.repositories;
+
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import java.sql.Timestamp;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.util.Optional;
+import java.util.UUID;
+
+/**
+ * JDBC access to the order_views table.
+ * Reads are a single lookup on the primary key or the unique order number.
+ */
+@Repository
+public class OrderViewRepository {
+
+    private static final String FIND_BY_ID_SQL = "SELECT document FROM order_views WHERE id_order = ?";
+
+    private static final String FIND_BY_NUMBER_SQL = "SELECT document FROM order_views WHERE order_number = ?";
+
+    private static final String UPSERT_SQL = """
+            INSERT INTO order_views (id_order, order_number, document, source_updated_at, refreshed_at)
+            VALUES (?, ?, ?, ?, ?)
+            ON CONFLICT (id_order) DO UPDATE
+            SET order_number = EXCLUDED.order_number,
+                document = EXCLUDED.document,
+                source_updated_at = EXCLUDED.source_updated_at,
+                refreshed_at = EXCLUDED.refreshed_at
+            WHERE order_views.source_updated_at IS NULL
+               OR EXCLUDED.source_updated_at IS NULL
+               OR order_views.source_updated_at <= EXCLUDED.source_updated_at
+            """;
+
+    private static final String DELETE_SQL = "DELETE FROM order_views WHERE id_order = ?";
+
+    private final JdbcTemplate jdbcTemplate;
+
+    public OrderViewRepository(JdbcTemplate jdbcTemplate) {
+        this.jdbcTemplate = jdbcTemplate;
+    }
+
+    public Optional<String> findDocumentById(UUID orderId) {
+        return jdbcTemplate.queryForList(FIND_BY_ID_SQL, String.class, orderId).stream().findFirst();
+    }
+
+    public Optional<String> findDocumentByOrderNumber(String orderNumber) {
+        return jdbcTemplate.queryForList(FIND_BY_NUMBER_SQL, String.class, orderNumber).stream().findFirst();
+    }
+
+    /**
+     * Inserts or replaces the document unless the stored one was built from
+     * a newer version of the order.
+     */
+    public void upsert(UUID orderId, String orderNumber, String document, LocalDateTime sourceUpdatedAt) {
+        jdbcTemplate.update(UPSERT_SQL,
+                orderId,
+                orderNumber,
+                document,
+                sourceUpdatedAt != null ? Timestamp.valueOf(sourceUpdatedAt) : null,
+                Timestamp.from(Instant.now()));
+    }
+
+    public void deleteById(UUID orderId) {
+        jdbcTemplate.update(DELETE_SQL, orderId);
+    }
+}
@@ -3,13 +3,15 @@ package com.microservice.search;
 import org.springframework.boot.SpringApplication;
 import org.springframework.boot.autoconfigure.SpringBootApplication;
 import org.springframework.cloud.client.discovery.EnableDiscoveryClient;
+import org.springframework.scheduling.annotation.EnableScheduling;
 
 /**
  * Microservicio de búsqueda con arquitectura hexagonal.
- * Integra Meilisearch + PostgreSQL, WebClient y Kafka.
+ * Integra Meilisearch (o Lucene embebido) + PostgreSQL, WebClient y Kafka.
  */
 @SpringBootApplication
 @EnableDiscoveryClient
+@EnableScheduling
 public class MicroserviceSearchApplication {
 
 	public static void main(String[] args) {
@@ -1,21 +1,26 @@
 package com.microservice.search.application.dto;
 
+import com.fasterxml.jackson.annotation.JsonAlias;
+import com.fasterxml.jackson.annotation.JsonIgnoreProperties;
+
 import java.math.BigDecimal;
 import java.util.List;
 import java.util.UUID;
 
 /**
  * DTO para productos recibidos del microservicio de catálogo.
+ * Los alias aceptan los nombres de campo del export NDJSON del catálogo.
  */
+@JsonIgnoreProperties(ignoreUnknown = true)
 public record CatalogProductDTO(
         UUID id,
-        UUID storeId,
+        @JsonAlias("externalStoreId") UUID storeId,
         String name,
         String description,
         String brand,
         List<String> categoryNames,
         List<UUID> categoryIds,
-        BigDecimal price,
+        @JsonAlias("basePrice") BigDecimal price,
         BigDecimal compareAtPrice,
         String currency,
         List<String> colors,
@@ -28,5 +33,5 @@ public record CatalogProductDTO(
         Integer stockQuantity,
         String primaryImageUrl,
         List<String> imageUrls,
-        Boolean isActive) {
+        @JsonAlias("active") Boolean isActive) {
 }
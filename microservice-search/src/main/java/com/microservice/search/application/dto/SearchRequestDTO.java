@@ -1,10 +1,12 @@
 package com.microservice.search.application.dto;
 
+import jakarta.validation.constraints.DecimalMin;
 import jakarta.validation.constraints.Max;
 import jakarta.validation.constraints.Min;
 import jakarta.validation.constraints.NotBlank;
 import jakarta.validation.constraints.Size;
 
+import java.math.BigDecimal;
 import java.util.List;
 
 /**
@@ -20,9 +22,23 @@ public record SearchRequestDTO(
         String category,
         String brand,
         String storeId,
-        List<String> filters,
+
+        @DecimalMin(value = "0", message = "minPrice must be >= 0") BigDecimal minPrice,
+
+        @DecimalMin(value = "0", message = "maxPrice must be >= 0") BigDecimal maxPrice,
+
+        Boolean available,
+
+        @DecimalMin(value = "0", message = "minRating must be >= 0") BigDecimal minRating,
+
+        /* relevance | price | rating | sales */
         String sortBy,
-        String sortOrder) {
+
+        /* asc | desc */
+        String sortOrder,
+
+        /* brand | category | store | availability */
+        List<String> facets) {
 
     public SearchRequestDTO {
         if (page < 0)
@@ -34,6 +50,6 @@ public record SearchRequestDTO(
     }
 
     public static SearchRequestDTO simple(String query) {
-        return new SearchRequestDTO(query, 0, 20, null, null, null, null, null, null);
+        return new SearchRequestDTO(query, 0, 20, null, null, null, null, null, null, null, null, null, null);
     }
 }
@@ -1,6 +1,7 @@
 package com.microservice.search.application.dto;
 
 import java.util.List;
+import java.util.Map;
 
 /**
  * DTO para respuestas de búsqueda.
@@ -13,10 +14,11 @@ public record SearchResponseDTO(
         int totalPages,
         boolean hasNext,
         boolean hasPrevious,
-        long processingTimeMs) {
+        long processingTimeMs,
+        Map<String, Map<String, Long>> facets) {
 
     public static SearchResponseDTO empty() {
-        return new SearchResponseDTO(List.of(), 0, 0, 0, 0, false, false, 0);
+        return new SearchResponseDTO(List.of(), 0, 0, 0, 0, false, false, 0, Map.of());
     }
 
     public static SearchResponseDTO of(
@@ -25,10 +27,20 @@ public record SearchResponseDTO(
             int page,
             int size,
             long processingTimeMs) {
+        return of(products, totalHits, page, size, processingTimeMs, Map.of());
+    }
+
+    public static SearchResponseDTO of(
+            List<ProductDTO> products,
+            long totalHits,
+            int page,
+            int size,
+            long processingTimeMs,
+            Map<String, Map<String, Long>> facets) {
         int totalPages = size > 0 ? (int) Math.ceil((double) totalHits / size) : 0;
         boolean hasNext = page < totalPages - 1;
         boolean hasPrevious = page > 0;
         return new SearchResponseDTO(
-                products, totalHits, page, size, totalPages, hasNext, hasPrevious, processingTimeMs);
+                products, totalHits, page, size, totalPages, hasNext, hasPrevious, processingTimeMs, facets);
     }
 }
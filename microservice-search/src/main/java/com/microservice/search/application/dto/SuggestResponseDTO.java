@@ -0,0 +1,21 @@
+package com.microservice.search.application.dto;
+
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * DTO para respuestas de autocompletado.
+ */
+public record SuggestResponseDTO(
+        String query,
+        List<SuggestionDTO> suggestions) {
+
+    /**
+     * Sugerencia individual; {@code productId} solo viene en las de producto.
+     */
+    public record SuggestionDTO(
+            String text,
+            String type,
+            UUID productId) {
+    }
+}
@@ -4,14 +4,26 @@ import com.microservice.search.application.dto.CatalogProductDTO;
 import com.microservice.search.application.dto.ProductDTO;
 import com.microservice.search.application.dto.SearchRequestDTO;
 import com.microservice.search.application.dto.SearchResponseDTO;
+import com.microservice.search.application.dto.SuggestResponseDTO;
+import com.microservice.search.domain.exceptions.InvalidSearchQueryException;
 import com.microservice.search.domain.models.ProductId;
+import com.microservice.search.domain.models.SearchFacet;
+import com.microservice.search.domain.models.SearchFilters;
 import com.microservice.search.domain.models.SearchQuery;
 import com.microservice.search.domain.models.SearchResult;
+import com.microservice.search.domain.models.SearchSort;
 import com.microservice.search.domain.models.SearchableProduct;
+import com.microservice.search.domain.models.Suggestion;
 import org.springframework.stereotype.Component;
 
 import java.time.Instant;
+import java.util.EnumSet;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
 
 /**
  * Mapper manual para conversión entre DTOs y modelos de dominio.
@@ -28,7 +40,15 @@ public class ProductMapper {
                 dto.page(),
                 dto.size(),
                 dto.category(),
-                dto.filters());
+                new SearchFilters(
+                        dto.brand(),
+                        parseStoreId(dto.storeId()),
+                        dto.minPrice(),
+                        dto.maxPrice(),
+                        dto.available(),
+                        dto.minRating()),
+                toSort(dto.sortBy(), dto.sortOrder()),
+                toFacets(dto.facets()));
     }
 
     /**
@@ -39,12 +59,33 @@ public class ProductMapper {
                 .map(this::toProductDto)
                 .toList();
 
+        Map<String, Map<String, Long>> facets = new LinkedHashMap<>();
+        for (SearchFacet facet : SearchFacet.values()) {
+            Map<String, Long> counts = result.facets().get(facet);
+            if (counts != null) {
+                facets.put(facet.name().toLowerCase(Locale.ROOT), counts);
+            }
+        }
+
         return SearchResponseDTO.of(
                 products,
                 result.totalHits(),
                 result.page(),
                 result.size(),
-                result.processingTimeMs());
+                result.processingTimeMs(),
+                facets);
+    }
+
+    /**
+     * Convierte las sugerencias (dominio) a SuggestResponseDTO.
+     */
+    public SuggestResponseDTO toSuggestDto(String query, List<Suggestion> suggestions) {
+        return new SuggestResponseDTO(query, suggestions.stream()
+                .map(suggestion -> new SuggestResponseDTO.SuggestionDTO(
+                        suggestion.text(),
+                        suggestion.type().name().toLowerCase(Locale.ROOT),
+                        suggestion.productId()))
+                .toList());
     }
 
     /**
@@ -107,4 +148,49 @@ public class ProductMapper {
                 .map(this::toDomain)
                 .toList();
     }
+
+    private UUID parseStoreId(String storeId) {
+        if (storeId == null || storeId.isBlank()) {
+            return null;
+        }
+        try {
+            return UUID.fromString(storeId.trim());
+        } catch (IllegalArgumentException e) {
+            throw new InvalidSearchQueryException("Invalid storeId: " + storeId);
+        }
+    }
+
+    /**
+     * Precio ascendente y el resto descendente salvo que se indique otro orden.
+     */
+    private SearchSort toSort(String sortBy, String sortOrder) {
+        if (sortBy == null || sortBy.isBlank()) {
+            return SearchSort.relevance();
+        }
+        SearchSort.Field field;
+        try {
+            field = SearchSort.Field.valueOf(sortBy.trim().toUpperCase(Locale.ROOT));
+        } catch (IllegalArgumentException e) {
+            throw new InvalidSearchQueryException("Invalid sortBy: " + sortBy);
+        }
+        boolean descending = sortOrder != null && !sortOrder.isBlank()
+                ? "desc".equalsIgnoreCase(sortOrder.trim())
+                : field != SearchSort.Field.PRICE;
+        return new SearchSort(field, descending);
+    }
+
+    private Set<SearchFacet> toFacets(List<String> facets) {
+        if (facets == null || facets.isEmpty()) {
+            return Set.of();
+        }
+        Set<SearchFacet> result = EnumSet.noneOf(SearchFacet.class);
+        for (String facet : facets) {
+            try {
+                result.add(SearchFacet.valueOf(facet.trim().toUpperCase(Locale.ROOT)));
+            } catch (IllegalArgumentException e) {
+                throw new InvalidSearchQueryException("Invalid facet: " + facet);
+            }
+        }
+        return result;
+    }
 }
@@ -1,18 +1,25 @@
 package com.microservice.search.application.usecases;
 
 import com.microservice.search.domain.events.ProductIndexedEvent;
+import com.microservice.search.domain.models.ProductId;
 import com.microservice.search.domain.models.SearchableProduct;
 import com.microservice.search.domain.port.in.IndexProductUseCase;
 import com.microservice.search.domain.port.out.EventPublisherPort;
 import com.microservice.search.domain.port.out.ProductPersistencePort;
+import com.microservice.search.domain.port.out.SearchCacheInvalidationPort;
 import com.microservice.search.domain.port.out.SearchEnginePort;
+import com.microservice.search.domain.port.out.SuggestionIndexPort;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.stereotype.Service;
-import org.springframework.transaction.annotation.Transactional;
+
+import java.util.List;
 
 /**
  * Implementación del caso de uso de indexación de productos.
+ * La caché de resultados se invalida entera, y solo cuando el motor ha
+ * aplicado la tarea: un producto nuevo o modificado puede aparecer en
+ * consultas cacheadas que antes no lo contenían.
  */
 @Service
 public class IndexProductUseCaseImpl implements IndexProductUseCase {
@@ -22,47 +29,87 @@ public class IndexProductUseCaseImpl implements IndexProductUseCase {
     private final SearchEnginePort searchEnginePort;
     private final ProductPersistencePort persistencePort;
     private final EventPublisherPort eventPublisherPort;
+    private final SearchCacheInvalidationPort cacheInvalidationPort;
+    private final SuggestionIndexPort suggestionIndexPort;
 
     public IndexProductUseCaseImpl(
             SearchEnginePort searchEnginePort,
             ProductPersistencePort persistencePort,
-            EventPublisherPort eventPublisherPort) {
+            EventPublisherPort eventPublisherPort,
+            SearchCacheInvalidationPort cacheInvalidationPort,
+            SuggestionIndexPort suggestionIndexPort) {
         this.searchEnginePort = searchEnginePort;
         this.persistencePort = persistencePort;
         this.eventPublisherPort = eventPublisherPort;
+        this.cacheInvalidationPort = cacheInvalidationPort;
+        this.suggestionIndexPort = suggestionIndexPort;
     }
 
     @Override
-    @Transactional
     public void execute(SearchableProduct product) {
         log.info("Indexing product: {} - {}", product.id(), product.name());
 
-        // 1. Guardar en PostgreSQL
-        SearchableProduct saved = persistencePort.save(product);
-        log.debug("Product saved to PostgreSQL: {}", saved.id());
+        // 1. Encolar el guardado en PostgreSQL (write-behind)
+        persistencePort.saveAllDeferred(List.of(product));
+
+        // 2. Indexar en Meilisearch y esperar a que la tarea se aplique
+        searchEnginePort.awaitTask(searchEnginePort.submitBatch(List.of(product)));
+        log.debug("Product indexed in Meilisearch: {}", product.id());
 
-        // 2. Indexar en Meilisearch
-        searchEnginePort.index(saved);
-        log.debug("Product indexed in Meilisearch: {}", saved.id());
+        // 3. Un producto nuevo puede aparecer en cualquier búsqueda cacheada
+        cacheInvalidationPort.invalidateAll();
+        suggestionIndexPort.upsertAll(List.of(product));
 
-        // 3. Publicar evento
+        // 4. Publicar evento
         eventPublisherPort.publish(ProductIndexedEvent.of(product.id().value()));
         log.info("Product indexed successfully: {}", product.id());
     }
 
     @Override
-    @Transactional
     public void reindex(SearchableProduct product) {
         log.info("Re-indexing product: {}", product.id());
 
         SearchableProduct updated = product.withUpdatedTimestamp();
 
-        // Actualizar en PostgreSQL
-        persistencePort.save(updated);
+        // Encolar la actualización en PostgreSQL
+        persistencePort.saveAllDeferred(List.of(updated));
 
-        // Re-indexar en Meilisearch
-        searchEnginePort.index(updated);
+        // Re-indexar en Meilisearch y esperar a que la tarea se aplique
+        searchEnginePort.awaitTask(searchEnginePort.submitBatch(List.of(updated)));
+
+        // El producto puede entrar o salir de cualquier consulta cacheada
+        cacheInvalidationPort.invalidateAll();
+        suggestionIndexPort.upsertAll(List.of(updated));
 
         log.info("Product re-indexed successfully: {}", product.id());
     }
+
+    @Override
+    public void indexBatch(List<SearchableProduct> products) {
+        if (products.isEmpty()) {
+            return;
+        }
+        log.info("Indexing batch of {} products", products.size());
+
+        persistencePort.saveAllDeferred(products);
+        long taskId = searchEnginePort.submitBatch(products);
+        searchEnginePort.awaitTask(taskId);
+        cacheInvalidationPort.invalidateAll();
+        suggestionIndexPort.upsertAll(products);
+        products.forEach(product -> eventPublisherPort.publish(ProductIndexedEvent.of(product.id().value())));
+
+        log.info("Batch of {} products indexed by search engine (task {})", products.size(), taskId);
+    }
+
+    @Override
+    public void remove(ProductId productId) {
+        log.info("Removing product: {}", productId);
+
+        persistencePort.delete(productId);
+        searchEnginePort.delete(productId);
+        cacheInvalidationPort.invalidateAll();
+        suggestionIndexPort.remove(productId);
+
+        log.info("Product removed successfully: {}", productId);
+    }
 }
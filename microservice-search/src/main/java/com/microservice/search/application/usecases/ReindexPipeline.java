@@ -0,0 +1,187 @@
+package com.microservice.search.application.usecases;
+
+import com.microservice.search.domain.events.ProductIndexedEvent;
+import com.microservice.search.domain.models.ReindexReport;
+import com.microservice.search.domain.models.SearchableProduct;
+import com.microservice.search.domain.port.out.EventPublisherPort;
+import com.microservice.search.domain.port.out.ProductPersistencePort;
+import com.microservice.search.domain.port.out.SearchEnginePort;
+import com.microservice.search.domain.port.out.SuggestionIndexPort;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.core.scheduler.Schedulers;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Pipeline de indexación masiva.
+ * Agrupa los productos en batches acotados por número de documentos y por
+ * tamaño estimado, y sube como máximo {@code concurrency} batches a la vez
+ * fuera del event loop. Cada batch ocupa su hueco hasta que Meilisearch
+ * confirma la tarea, de modo que la contrapresión llega hasta la fuente.
+ */
+@Component
+public class ReindexPipeline {
+
+    private static final Logger log = LoggerFactory.getLogger(ReindexPipeline.class);
+    private static final int DOCUMENT_OVERHEAD_BYTES = 256;
+
+    private final SearchEnginePort searchEnginePort;
+    private final ProductPersistencePort persistencePort;
+    private final EventPublisherPort eventPublisherPort;
+    private final SuggestionIndexPort suggestionIndexPort;
+    private final int batchSize;
+    private final long batchMaxBytes;
+    private final int concurrency;
+
+    private final Timer batchTimer;
+    private final Counter indexedCounter;
+    private final Counter failedCounter;
+
+    public ReindexPipeline(
+            SearchEnginePort searchEnginePort,
+            ProductPersistencePort persistencePort,
+            EventPublisherPort eventPublisherPort,
+            SuggestionIndexPort suggestionIndexPort,
+            MeterRegistry meterRegistry,
+            @Value("${search.reindex.batch-size:1000}") int batchSize,
+            @Value("${search.reindex.batch-max-bytes:10485760}") long batchMaxBytes,
+            @Value("${search.reindex.concurrency:4}") int concurrency) {
+        this.searchEnginePort = searchEnginePort;
+        this.persistencePort = persistencePort;
+        this.eventPublisherPort = eventPublisherPort;
+        this.suggestionIndexPort = suggestionIndexPort;
+        this.batchSize = batchSize;
+        this.batchMaxBytes = batchMaxBytes;
+        this.concurrency = concurrency;
+        this.batchTimer = Timer.builder("search.reindex.batch")
+                .description("Time to persist, upload and confirm one reindex batch")
+                .register(meterRegistry);
+        this.indexedCounter = Counter.builder("search.reindex.documents")
+                .description("Documents indexed by bulk reindexing")
+                .register(meterRegistry);
+        this.failedCounter = Counter.builder("search.reindex.failed")
+                .description("Documents in reindex batches that could not be indexed")
+                .register(meterRegistry);
+    }
+
+    /**
+     * Indexa todos los productos del flujo en el índice vivo.
+     *
+     * @param products productos a indexar
+     * @return resumen de la ejecución
+     */
+    public Mono<ReindexReport> run(Flux<SearchableProduct> products) {
+        return run(products, null);
+    }
+
+    /**
+     * Indexa todos los productos del flujo en el índice indicado.
+     *
+     * @param products  productos a indexar
+     * @param indexName índice destino, o null para el índice vivo
+     * @return resumen de la ejecución
+     */
+    public Mono<ReindexReport> run(Flux<SearchableProduct> products, String indexName) {
+        return Mono.defer(() -> {
+            long start = System.nanoTime();
+
+            return toBatches(products)
+                    .flatMap(batch -> Mono.fromCallable(() -> indexBatch(batch, indexName))
+                            .subscribeOn(Schedulers.boundedElastic()), concurrency)
+                    .reduce(BatchOutcome.EMPTY, BatchOutcome::plus)
+                    .map(total -> new ReindexReport(
+                            total.indexed(),
+                            total.failed(),
+                            total.batches(),
+                            TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start)))
+                    .doOnNext(report -> log.info(
+                            "Reindex finished: {} documents in {} batches ({} failed) in {} ms, {} docs/s",
+                            report.documents(), report.batches(), report.failedDocuments(),
+                            report.elapsedMillis(), String.format("%.1f", report.documentsPerSecond())));
+        });
+    }
+
+    /**
+     * Corta un batch antes del documento que superaría el número o el tamaño máximo.
+     */
+    private Flux<List<SearchableProduct>> toBatches(Flux<SearchableProduct> products) {
+        return Flux.defer(() -> {
+            long[] current = new long[2]; // documentos y bytes del batch en curso
+            return products.bufferUntil(product -> {
+                long size = estimateSize(product);
+                boolean cut = current[0] > 0
+                        && (current[0] + 1 > batchSize || current[1] + size > batchMaxBytes);
+                if (cut) {
+                    current[0] = 0;
+                    current[1] = 0;
+                }
+                current[0]++;
+                current[1] += size;
+                return cut;
+            }, true);
+        });
+    }
+
+    private BatchOutcome indexBatch(List<SearchableProduct> batch, String indexName) {
+        long start = System.nanoTime();
+        try {
+            persistencePort.saveAllDeferred(batch);
+            long taskId = indexName != null
+                    ? searchEnginePort.submitBatch(indexName, batch)
+                    : searchEnginePort.submitBatch(batch);
+            searchEnginePort.awaitTask(taskId);
+            suggestionIndexPort.upsertAll(batch);
+
+            batch.forEach(product -> eventPublisherPort.publish(ProductIndexedEvent.of(product.id().value())));
+            indexedCounter.increment(batch.size());
+            log.debug("Batch of {} products indexed (task {})", batch.size(), taskId);
+            return new BatchOutcome(batch.size(), 0, 1);
+        } catch (Exception e) {
+            log.error("Error indexing batch of {} products starting at {}: {}",
+                    batch.size(), batch.get(0).id(), e.getMessage());
+            failedCounter.increment(batch.size());
+            return new BatchOutcome(0, batch.size(), 1);
+        } finally {
+            batchTimer.record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+        }
+    }
+
+    /**
+     * Tamaño aproximado del documento JSON: solo cuenta los campos de texto que
+     * se envían al motor más un margen fijo para claves, IDs y números.
+     */
+    private static long estimateSize(SearchableProduct product) {
+        long size = DOCUMENT_OVERHEAD_BYTES
+                + length(product.name())
+                + length(product.description())
+                + length(product.brand())
+                + length(product.currency())
+                + length(product.primaryImageUrl());
+        for (String category : product.categoryNames()) {
+            size += length(category) + 3;
+        }
+        return size;
+    }
+
+    private static int length(String value) {
+        return value != null ? value.length() : 0;
+    }
+
+    private record BatchOutcome(long indexed, long failed, int batches) {
+
+        static final BatchOutcome EMPTY = new BatchOutcome(0, 0, 0);
+
+        BatchOutcome plus(BatchOutcome other) {
+            return new BatchOutcome(indexed + other.indexed, failed + other.failed, batches + other.batches);
+        }
+    }
+}
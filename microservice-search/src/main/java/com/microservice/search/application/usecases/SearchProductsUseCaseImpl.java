@@ -4,6 +4,7 @@ import com.microservice.search.domain.models.SearchQuery;
 import com.microservice.search.domain.models.SearchResult;
 import com.microservice.search.domain.port.in.SearchProductsUseCase;
 import com.microservice.search.domain.port.out.SearchEnginePort;
+import com.microservice.search.domain.port.out.SearchResultCachePort;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.stereotype.Service;
@@ -17,9 +18,13 @@ public class SearchProductsUseCaseImpl implements SearchProductsUseCase {
     private static final Logger log = LoggerFactory.getLogger(SearchProductsUseCaseImpl.class);
 
     private final SearchEnginePort searchEnginePort;
+    private final SearchResultCachePort searchResultCachePort;
 
-    public SearchProductsUseCaseImpl(SearchEnginePort searchEnginePort) {
+    public SearchProductsUseCaseImpl(
+            SearchEnginePort searchEnginePort,
+            SearchResultCachePort searchResultCachePort) {
         this.searchEnginePort = searchEnginePort;
+        this.searchResultCachePort = searchResultCachePort;
     }
 
     @Override
@@ -29,7 +34,7 @@ public class SearchProductsUseCaseImpl implements SearchProductsUseCase {
 
         long startTime = System.currentTimeMillis();
 
-        SearchResult result = searchEnginePort.search(query);
+        SearchResult result = searchResultCachePort.get(query, () -> searchEnginePort.search(query));
 
         long duration = System.currentTimeMillis() - startTime;
         log.info("Search completed. Found {} results in {}ms", result.totalHits(), duration);
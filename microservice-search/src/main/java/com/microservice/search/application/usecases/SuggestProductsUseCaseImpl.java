@@ -0,0 +1,81 @@
+package com.microservice.search.application.usecases;
+
+import com.microservice.search.domain.models.SearchableProduct;
+import com.microservice.search.domain.models.Suggestion;
+import com.microservice.search.domain.port.in.SuggestProductsUseCase;
+import com.microservice.search.domain.port.out.ProductPersistencePort;
+import com.microservice.search.domain.port.out.SuggestionIndexPort;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import java.util.List;
+
+/**
+ * Implementación del caso de uso de autocompletado.
+ * Responde desde el índice de prefijos en memoria sin consultar al motor de
+ * búsqueda; el índice se carga desde PostgreSQL al arrancar y se mantiene con
+ * los eventos del catálogo, que cada instancia consume con su propio consumer
+ * group. Una reconstrucción periódica corrige lo que se haya desviado.
+ */
+@Service
+public class SuggestProductsUseCaseImpl implements SuggestProductsUseCase {
+
+    private static final Logger log = LoggerFactory.getLogger(SuggestProductsUseCaseImpl.class);
+
+    private final SuggestionIndexPort suggestionIndexPort;
+    private final ProductPersistencePort persistencePort;
+
+    public SuggestProductsUseCaseImpl(
+            SuggestionIndexPort suggestionIndexPort,
+            ProductPersistencePort persistencePort) {
+        this.suggestionIndexPort = suggestionIndexPort;
+        this.persistencePort = persistencePort;
+    }
+
+    @Override
+    public List<Suggestion> execute(String prefix, int limit) {
+        if (prefix == null || prefix.isBlank()) {
+            return List.of();
+        }
+        return suggestionIndexPort.suggest(prefix, limit);
+    }
+
+    @Override
+    public void rebuild() {
+        long start = System.currentTimeMillis();
+        int[] loaded = new int[1];
+        suggestionIndexPort.rebuild(() -> {
+            List<SearchableProduct> products = persistencePort.findAllActive();
+            loaded[0] = products.size();
+            return products;
+        });
+        log.info("Suggestion index rebuilt with {} products in {}ms",
+                loaded[0], System.currentTimeMillis() - start);
+    }
+
+    /**
+     * Carga el índice al arrancar. Si falla, el autocompletado empieza vacío y
+     * se va llenando con los eventos de productos.
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void onApplicationReady() {
+        try {
+            rebuild();
+        } catch (Exception e) {
+            log.warn("Could not build suggestion index at startup: {}", e.getMessage());
+        }
+    }
+
+    @Scheduled(cron = "${search.suggest.rebuild-cron:0 0 * * * *}")
+    public void scheduledRebuild() {
+        try {
+            rebuild();
+        } catch (Exception e) {
+            log.warn("Scheduled suggestion index rebuild failed: {}", e.getMessage());
+        }
+    }
+}
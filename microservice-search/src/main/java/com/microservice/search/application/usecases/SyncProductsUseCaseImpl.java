@@ -1,17 +1,28 @@
 package com.microservice.search.application.usecases;
 
+import com.microservice.search.application.dto.CatalogProductDTO;
 import com.microservice.search.application.mapper.ProductMapper;
+import com.microservice.search.domain.exceptions.SearchEngineException;
+import com.microservice.search.domain.models.ReindexReport;
 import com.microservice.search.domain.models.SearchableProduct;
 import com.microservice.search.domain.port.in.IndexProductUseCase;
+import com.microservice.search.domain.port.in.SuggestProductsUseCase;
 import com.microservice.search.domain.port.in.SyncProductsUseCase;
 import com.microservice.search.domain.port.out.CatalogClientPort;
+import com.microservice.search.domain.port.out.ProductPersistencePort;
+import com.microservice.search.domain.port.out.SearchCacheInvalidationPort;
+import com.microservice.search.domain.port.out.SearchEnginePort;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Service;
+import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
+import reactor.core.scheduler.Schedulers;
 
+import java.time.Instant;
+import java.util.List;
 import java.util.UUID;
-import java.util.concurrent.atomic.AtomicInteger;
 
 /**
  * Implementación del caso de uso de sincronización de productos desde catálogo.
@@ -23,34 +34,57 @@ public class SyncProductsUseCaseImpl implements SyncProductsUseCase {
 
     private final CatalogClientPort catalogClientPort;
     private final IndexProductUseCase indexProductUseCase;
+    private final ReindexPipeline reindexPipeline;
+    private final SearchEnginePort searchEnginePort;
+    private final SearchCacheInvalidationPort cacheInvalidationPort;
+    private final ProductPersistencePort persistencePort;
+    private final SuggestProductsUseCase suggestProductsUseCase;
     private final ProductMapper productMapper;
+    private final long maxFailedDocuments;
 
     public SyncProductsUseCaseImpl(
             CatalogClientPort catalogClientPort,
             IndexProductUseCase indexProductUseCase,
-            ProductMapper productMapper) {
+            ReindexPipeline reindexPipeline,
+            SearchEnginePort searchEnginePort,
+            SearchCacheInvalidationPort cacheInvalidationPort,
+            ProductPersistencePort persistencePort,
+            SuggestProductsUseCase suggestProductsUseCase,
+            ProductMapper productMapper,
+            @Value("${search.reindex.max-failed-documents:0}") long maxFailedDocuments) {
         this.catalogClientPort = catalogClientPort;
         this.indexProductUseCase = indexProductUseCase;
+        this.reindexPipeline = reindexPipeline;
+        this.searchEnginePort = searchEnginePort;
+        this.cacheInvalidationPort = cacheInvalidationPort;
+        this.persistencePort = persistencePort;
+        this.suggestProductsUseCase = suggestProductsUseCase;
         this.productMapper = productMapper;
+        this.maxFailedDocuments = maxFailedDocuments;
     }
 
+    /**
+     * Construye el catálogo completo en un índice versionado y lo intercambia
+     * con el vivo al terminar. Las búsquedas nunca ven un índice a medias y los
+     * productos que ya no están activos desaparecen con el índice anterior.
+     * Tras el swap también se retiran de PostgreSQL y del autocompletado.
+     */
     @Override
     public Mono<Integer> syncAllProducts() {
         log.info("Starting full sync of all products from catalog");
 
-        AtomicInteger count = new AtomicInteger(0);
-
-        return catalogClientPort.getAllActiveProducts()
-                .doOnNext(dto -> {
-                    try {
-                        SearchableProduct product = productMapper.toDomain(dto);
-                        indexProductUseCase.execute(product);
-                        count.incrementAndGet();
-                    } catch (Exception e) {
-                        log.error("Error syncing product {}: {}", dto.id(), e.getMessage());
-                    }
+        return Mono.defer(() -> {
+                    Instant startedAt = Instant.now();
+                    return Mono.fromCallable(searchEnginePort::createStagingIndex)
+                            .subscribeOn(Schedulers.boundedElastic())
+                            .flatMap(stagingIndex -> reindexPipeline
+                                    .run(toDomain(catalogClientPort.getAllActiveProducts()), stagingIndex)
+                                    .publishOn(Schedulers.boundedElastic())
+                                    .map(report -> promote(stagingIndex, report, startedAt))
+                                    .onErrorResume(e -> Mono.fromRunnable(() -> searchEnginePort.dropStagingIndex(stagingIndex))
+                                            .subscribeOn(Schedulers.boundedElastic())
+                                            .then(Mono.error(e))));
                 })
-                .then(Mono.fromSupplier(count::get))
                 .doOnSuccess(total -> log.info("Full sync completed. {} products synced", total));
     }
 
@@ -58,19 +92,9 @@ public class SyncProductsUseCaseImpl implements SyncProductsUseCase {
     public Mono<Integer> syncProductsByStore(UUID storeId) {
         log.info("Starting sync of products for store: {}", storeId);
 
-        AtomicInteger count = new AtomicInteger(0);
-
-        return catalogClientPort.getProductsByStore(storeId)
-                .doOnNext(dto -> {
-                    try {
-                        SearchableProduct product = productMapper.toDomain(dto);
-                        indexProductUseCase.execute(product);
-                        count.incrementAndGet();
-                    } catch (Exception e) {
-                        log.error("Error syncing product {}: {}", dto.id(), e.getMessage());
-                    }
-                })
-                .then(Mono.fromSupplier(count::get))
+        return reindexPipeline.run(toDomain(catalogClientPort.getProductsByStore(storeId)))
+                .doOnSuccess(report -> cacheInvalidationPort.invalidateAll())
+                .map(report -> (int) report.documents())
                 .doOnSuccess(total -> log.info("Store sync completed. {} products synced for store {}",
                         total, storeId));
     }
@@ -91,4 +115,44 @@ public class SyncProductsUseCaseImpl implements SyncProductsUseCase {
                     return Mono.just(false);
                 });
     }
+
+    private int promote(String stagingIndex, ReindexReport report, Instant startedAt) {
+        if (report.failedDocuments() > maxFailedDocuments) {
+            throw new SearchEngineException("Full reindex failed for " + report.failedDocuments()
+                    + " products, keeping the current live index");
+        }
+        searchEnginePort.promoteStagingIndex(stagingIndex);
+        cacheInvalidationPort.invalidateAll();
+        removeStaleProducts(startedAt);
+        return (int) report.documents();
+    }
+
+    /**
+     * Las filas de PostgreSQL que la reindexación no ha escrito son productos
+     * que ya no están en el catálogo; si quedaran activas volverían al
+     * autocompletado en la siguiente reconstrucción. Si falla, el índice vivo
+     * ya está promovido y la siguiente reindexación completa lo reintenta.
+     */
+    private void removeStaleProducts(Instant startedAt) {
+        try {
+            int removed = persistencePort.deleteNotUpdatedSince(startedAt);
+            if (removed > 0) {
+                suggestProductsUseCase.rebuild();
+            }
+            log.info("Removed {} products not present in the catalog", removed);
+        } catch (Exception e) {
+            log.warn("Could not remove products missing from the catalog: {}", e.getMessage());
+        }
+    }
+
+    private Flux<SearchableProduct> toDomain(Flux<CatalogProductDTO> products) {
+        return products.flatMapIterable(dto -> {
+            try {
+                return List.of(productMapper.toDomain(dto));
+            } catch (Exception e) {
+                log.error("Error mapping product {}: {}", dto.id(), e.getMessage());
+                return List.of();
+            }
+        });
+    }
 }
@@ -0,0 +1,18 @@
+package com.microservice.search.domain.models;
+
+/**
+ * Value Object con el resultado de una reindexación masiva.
+ */
+public record ReindexReport(
+        long documents,
+        long failedDocuments,
+        int batches,
+        long elapsedMillis) {
+
+    /**
+     * Documentos indexados por segundo.
+     */
+    public double documentsPerSecond() {
+        return documents * 1000.0 / Math.max(elapsedMillis, 1);
+    }
+}
@@ -0,0 +1,11 @@
+package com.microservice.search.domain.models;
+
+/**
+ * Atributos sobre los que se pueden pedir recuentos de facetas.
+ */
+public enum SearchFacet {
+    BRAND,
+    CATEGORY,
+    STORE,
+    AVAILABILITY
+}
@@ -0,0 +1,33 @@
+package com.microservice.search.domain.models;
+
+import com.microservice.search.domain.exceptions.InvalidSearchQueryException;
+
+import java.math.BigDecimal;
+import java.util.UUID;
+
+/**
+ * Value Object con los filtros estructurados de una búsqueda.
+ * Los valores nulos significan "sin filtro".
+ */
+public record SearchFilters(
+        String brand,
+        UUID storeId,
+        BigDecimal minPrice,
+        BigDecimal maxPrice,
+        Boolean available,
+        BigDecimal minRating) {
+
+    public SearchFilters {
+        brand = brand != null && !brand.isBlank() ? brand.trim() : null;
+        if (minPrice != null && maxPrice != null && minPrice.compareTo(maxPrice) > 0) {
+            throw new InvalidSearchQueryException("minPrice cannot be greater than maxPrice");
+        }
+    }
+
+    /**
+     * Sin filtros.
+     */
+    public static SearchFilters none() {
+        return new SearchFilters(null, null, null, null, null, null);
+    }
+}
@@ -1,6 +1,7 @@
 package com.microservice.search.domain.models;
 
-import java.util.List;
+import java.util.Locale;
+import java.util.Set;
 
 /**
  * Value Object que encapsula los parámetros de una consulta de búsqueda.
@@ -10,7 +11,9 @@ public record SearchQuery(
         int page,
         int size,
         String category,
-        List<String> filters) {
+        SearchFilters filters,
+        SearchSort sort,
+        Set<SearchFacet> facets) {
 
     public SearchQuery {
         if (page < 0) {
@@ -22,7 +25,9 @@ public record SearchQuery(
         if (size > 100) {
             throw new IllegalArgumentException("Size cannot exceed 100");
         }
-        filters = filters != null ? List.copyOf(filters) : List.of();
+        filters = filters != null ? filters : SearchFilters.none();
+        sort = sort != null ? sort : SearchSort.relevance();
+        facets = facets != null && !facets.isEmpty() ? Set.copyOf(facets) : Set.of();
     }
 
     /**
@@ -32,17 +37,30 @@ public record SearchQuery(
         return page * size;
     }
 
+    /**
+     * Forma canónica de la consulta: término en minúsculas y sin espacios
+     * redundantes y categoría sin espacios. Dos consultas que el motor
+     * resuelve igual tienen la misma forma normalizada.
+     */
+    public SearchQuery normalized() {
+        String normalizedTerm = term != null
+                ? term.trim().replaceAll("\\s+", " ").toLowerCase(Locale.ROOT)
+                : "";
+        String normalizedCategory = category != null && !category.isBlank() ? category.trim() : null;
+        return new SearchQuery(normalizedTerm, page, size, normalizedCategory, filters, sort, facets);
+    }
+
     /**
      * Factory method para búsqueda simple.
      */
     public static SearchQuery simple(String term) {
-        return new SearchQuery(term, 0, 20, null, List.of());
+        return new SearchQuery(term, 0, 20, null, null, null, null);
     }
 
     /**
      * Factory method con paginación.
      */
     public static SearchQuery of(String term, int page, int size) {
-        return new SearchQuery(term, page, size, null, List.of());
+        return new SearchQuery(term, page, size, null, null, null, null);
     }
 }
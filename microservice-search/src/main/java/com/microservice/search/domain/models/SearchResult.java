@@ -1,20 +1,33 @@
 package com.microservice.search.domain.models;
 
 import java.util.List;
-
+import java.util.Map;
 
 /**
  * Value Object que representa el resultado de una búsqueda.
+ * {@code facets} contiene, por cada faceta pedida, el número de resultados
+ * para cada valor.
  */
 public record SearchResult(
         List<SearchableProduct> products,
         long totalHits,
         int page,
         int size,
-        long processingTimeMs) {
+        long processingTimeMs,
+        Map<SearchFacet, Map<String, Long>> facets) {
 
     public SearchResult {
         products = products != null ? List.copyOf(products) : List.of();
+        facets = facets != null ? Map.copyOf(facets) : Map.of();
+    }
+
+    public SearchResult(
+            List<SearchableProduct> products,
+            long totalHits,
+            int page,
+            int size,
+            long processingTimeMs) {
+        this(products, totalHits, page, size, processingTimeMs, Map.of());
     }
 
     /**
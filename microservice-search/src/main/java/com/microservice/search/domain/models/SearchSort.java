@@ -0,0 +1,30 @@
+package com.microservice.search.domain.models;
+
+/**
+ * Value Object con el orden de los resultados de una búsqueda.
+ */
+public record SearchSort(Field field, boolean descending) {
+
+    /**
+     * Campos por los que se puede ordenar.
+     */
+    public enum Field {
+        RELEVANCE,
+        PRICE,
+        RATING,
+        SALES
+    }
+
+    public SearchSort {
+        if (field == null) {
+            field = Field.RELEVANCE;
+        }
+    }
+
+    /**
+     * Orden por relevancia del motor de búsqueda.
+     */
+    public static SearchSort relevance() {
+        return new SearchSort(Field.RELEVANCE, false);
+    }
+}
@@ -0,0 +1,26 @@
+package com.microservice.search.domain.models;
+
+import java.util.Objects;
+import java.util.UUID;
+
+/**
+ * Value Object con una sugerencia de autocompletado.
+ * {@code productId} solo se informa para sugerencias de producto y
+ * {@code score} son las ventas acumuladas que la ordenan.
+ */
+public record Suggestion(String text, Type type, UUID productId, long score) {
+
+    /**
+     * Origen de la sugerencia.
+     */
+    public enum Type {
+        PRODUCT,
+        BRAND,
+        CATEGORY
+    }
+
+    public Suggestion {
+        Objects.requireNonNull(text, "Suggestion text cannot be null");
+        Objects.requireNonNull(type, "Suggestion type cannot be null");
+    }
+}
@@ -1,7 +1,10 @@
 package com.microservice.search.domain.port.in;
 
+import com.microservice.search.domain.models.ProductId;
 import com.microservice.search.domain.models.SearchableProduct;
 
+import java.util.List;
+
 /**
  * Puerto de entrada para indexar productos en el motor de búsqueda.
  */
@@ -20,4 +23,20 @@ public interface IndexProductUseCase {
      * @param product producto con datos actualizados
      */
     void reindex(SearchableProduct product);
+
+    /**
+     * Indexa varios productos con una sola tarea del motor de búsqueda.
+     * Retorna cuando el motor ha aplicado la tarea.
+     *
+     * @param products productos a indexar
+     */
+    void indexBatch(List<SearchableProduct> products);
+
+    /**
+     * Retira un producto eliminado en el catálogo del motor, del
+     * autocompletado y de la caché; en PostgreSQL queda marcado como eliminado.
+     *
+     * @param productId ID del producto
+     */
+    void remove(ProductId productId);
 }
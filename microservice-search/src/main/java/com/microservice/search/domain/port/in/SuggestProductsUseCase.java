@@ -0,0 +1,25 @@
+package com.microservice.search.domain.port.in;
+
+import com.microservice.search.domain.models.Suggestion;
+
+import java.util.List;
+
+/**
+ * Puerto de entrada para el autocompletado de búsquedas.
+ */
+public interface SuggestProductsUseCase {
+
+    /**
+     * Devuelve las sugerencias que empiezan por el prefijo, ordenadas por ventas.
+     *
+     * @param prefix texto escrito por el usuario
+     * @param limit  número máximo de sugerencias
+     * @return sugerencias de productos, marcas y categorías
+     */
+    List<Suggestion> execute(String prefix, int limit);
+
+    /**
+     * Reconstruye el índice de sugerencias desde la base de datos.
+     */
+    void rebuild();
+}
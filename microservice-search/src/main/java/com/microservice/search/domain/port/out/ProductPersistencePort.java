@@ -3,6 +3,7 @@ package com.microservice.search.domain.port.out;
 import com.microservice.search.domain.models.ProductId;
 import com.microservice.search.domain.models.SearchableProduct;
 
+import java.time.Instant;
 import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
@@ -28,6 +29,14 @@ public interface ProductPersistencePort {
      */
     List<SearchableProduct> saveAll(List<SearchableProduct> products);
 
+    /**
+     * Guarda productos en segundo plano, fuera del hilo de indexación.
+     * Bloquea mientras la cola de escritura está llena.
+     *
+     * @param products lista de productos
+     */
+    void saveAllDeferred(List<SearchableProduct> products);
+
     /**
      * Busca un producto por su ID externo.
      *
@@ -51,6 +60,18 @@ public interface ProductPersistencePort {
      */
     void delete(ProductId productId);
 
+    /**
+     * Marca como eliminados los productos que no se han escrito desde el
+     * instante dado. Tras una reindexación completa retira los que ya no
+     * existen en el catálogo. Antes espera a que se vacíe el write-behind y
+     * falla sin borrar nada si alguna escritura se ha descartado desde
+     * {@code since}.
+     *
+     * @param since inicio de la reindexación
+     * @return número de productos marcados
+     */
+    int deleteNotUpdatedSince(Instant since);
+
     /**
      * Obtiene todos los productos activos.
      *
@@ -0,0 +1,15 @@
+package com.microservice.search.domain.port.out;
+
+/**
+ * Puerto de salida para invalidar la caché de resultados en todas las
+ * instancias del servicio.
+ */
+public interface SearchCacheInvalidationPort {
+
+    /**
+     * Invalida todos los resultados cacheados en cada instancia. Debe
+     * llamarse cuando el motor ya ha aplicado los cambios, para que una
+     * búsqueda posterior no vuelva a cachear el estado anterior.
+     */
+    void invalidateAll();
+}
@@ -9,7 +9,8 @@ import java.util.List;
 import java.util.Optional;
 
 /**
- * Puerto de salida para operaciones con el motor de búsqueda (Meilisearch).
+ * Puerto de salida para operaciones con el motor de búsqueda (Meilisearch o
+ * Lucene embebido, según {@code search.engine}).
  */
 public interface SearchEnginePort {
 
@@ -35,6 +36,55 @@ public interface SearchEnginePort {
      */
     void indexBatch(List<SearchableProduct> products);
 
+    /**
+     * Envía un batch al motor sin esperar a que sea procesado.
+     *
+     * @param products lista de productos a indexar
+     * @return ID de la tarea asíncrona del motor
+     */
+    long submitBatch(List<SearchableProduct> products);
+
+    /**
+     * Envía un batch a un índice concreto sin esperar a que sea procesado.
+     *
+     * @param indexName nombre del índice destino
+     * @param products  lista de productos a indexar
+     * @return ID de la tarea asíncrona del motor
+     */
+    long submitBatch(String indexName, List<SearchableProduct> products);
+
+    /**
+     * Espera a que una tarea del motor termine.
+     *
+     * @param taskId ID de la tarea devuelto por {@link #submitBatch(List)}
+     * @throws com.microservice.search.domain.exceptions.SearchEngineException si la tarea falla
+     */
+    void awaitTask(long taskId);
+
+    /**
+     * Crea un índice versionado vacío, con la configuración del índice vivo,
+     * para construir una reindexación completa sin afectar a las búsquedas.
+     * Mientras exista, las escrituras incrementales también se replican en él.
+     *
+     * @return nombre del índice creado
+     */
+    String createStagingIndex();
+
+    /**
+     * Intercambia atómicamente el índice versionado con el vivo y elimina el
+     * índice anterior.
+     *
+     * @param indexName nombre devuelto por {@link #createStagingIndex()}
+     */
+    void promoteStagingIndex(String indexName);
+
+    /**
+     * Descarta un índice versionado sin tocar el vivo.
+     *
+     * @param indexName nombre devuelto por {@link #createStagingIndex()}
+     */
+    void dropStagingIndex(String indexName);
+
     /**
      * Elimina un producto del índice.
      *
@@ -0,0 +1,28 @@
+package com.microservice.search.domain.port.out;
+
+import com.microservice.search.domain.models.SearchQuery;
+import com.microservice.search.domain.models.SearchResult;
+
+import java.util.function.Supplier;
+
+/**
+ * Puerto de salida para la caché de resultados de búsqueda.
+ */
+public interface SearchResultCachePort {
+
+    /**
+     * Devuelve el resultado cacheado para la consulta o lo calcula con el loader.
+     * Las peticiones concurrentes de la misma consulta comparten un único cálculo.
+     *
+     * @param query  consulta de búsqueda
+     * @param loader ejecuta la búsqueda en el motor
+     * @return resultado de la búsqueda
+     */
+    SearchResult get(SearchQuery query, Supplier<SearchResult> loader);
+
+    /**
+     * Invalida todos los resultados de esta instancia. Para invalidar en
+     * todas las instancias se usa {@link SearchCacheInvalidationPort}.
+     */
+    void evictAll();
+}
@@ -0,0 +1,46 @@
+package com.microservice.search.domain.port.out;
+
+import com.microservice.search.domain.models.ProductId;
+import com.microservice.search.domain.models.SearchableProduct;
+import com.microservice.search.domain.models.Suggestion;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.function.Supplier;
+
+/**
+ * Puerto de salida para el índice de prefijos del autocompletado.
+ */
+public interface SuggestionIndexPort {
+
+    /**
+     * Busca sugerencias por prefijo.
+     *
+     * @param prefix texto escrito por el usuario
+     * @param limit  número máximo de sugerencias
+     * @return sugerencias ordenadas por ventas
+     */
+    List<Suggestion> suggest(String prefix, int limit);
+
+    /**
+     * Añade o actualiza los productos; los inactivos o eliminados se retiran.
+     *
+     * @param products productos a indexar
+     */
+    void upsertAll(Collection<SearchableProduct> products);
+
+    /**
+     * Retira un producto del índice.
+     *
+     * @param productId ID del producto
+     */
+    void remove(ProductId productId);
+
+    /**
+     * Sustituye el contenido completo del índice. Los cambios que llegan
+     * mientras se carga el catálogo se aplican también sobre el índice nuevo.
+     *
+     * @param loader carga todos los productos activos
+     */
+    void rebuild(Supplier<? extends Collection<SearchableProduct>> loader);
+}
@@ -5,13 +5,17 @@ import com.microservice.search.domain.port.out.CatalogClientPort;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.MediaType;
 import org.springframework.stereotype.Component;
 import org.springframework.web.reactive.function.client.WebClient;
 import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
+import reactor.util.retry.Retry;
 
 import java.time.Duration;
 import java.util.UUID;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
 
 /**
  * Adaptador WebClient para comunicación con el microservicio de catálogo.
@@ -22,13 +26,19 @@ public class CatalogWebClientAdapter implements CatalogClientPort {
     private static final Logger log = LoggerFactory.getLogger(CatalogWebClientAdapter.class);
 
     private final WebClient webClient;
+    private final int exportSegmentSize;
+    private final int exportPrefetch;
 
     public CatalogWebClientAdapter(
             WebClient.Builder webClientBuilder,
-            @Value("${services.catalog.url:http://microservice-catalog}") String catalogUrl) {
+            @Value("${services.catalog.url:http://microservice-catalog}") String catalogUrl,
+            @Value("${services.catalog.export-segment-size:10000}") int exportSegmentSize,
+            @Value("${services.catalog.export-prefetch:256}") int exportPrefetch) {
         this.webClient = webClientBuilder
                 .baseUrl(catalogUrl)
                 .build();
+        this.exportSegmentSize = exportSegmentSize;
+        this.exportPrefetch = exportPrefetch;
     }
 
     @Override
@@ -44,17 +54,58 @@ public class CatalogWebClientAdapter implements CatalogClientPort {
                 .doOnError(e -> log.error("Error fetching product {}: {}", productId, e.getMessage()));
     }
 
+    /**
+     * Lee el export NDJSON del catálogo por segmentos con cursor keyset.
+     * Cada línea se decodifica a medida que llega y solo se piden al servidor
+     * tantos elementos como el consumidor puede procesar, por lo que la memoria
+     * no depende del tamaño del catálogo. Si un segmento falla se reanuda desde
+     * el último producto recibido.
+     */
     @Override
     public Flux<CatalogProductDTO> getAllActiveProducts() {
-        log.info("Fetching all active products from catalog");
+        log.info("Streaming all active products from catalog export");
+
+        AtomicInteger total = new AtomicInteger();
+        return exportFrom(null)
+                .doOnNext(p -> total.incrementAndGet())
+                .doOnComplete(() -> log.info("Finished fetching all products. {} received", total.get()))
+                .doOnError(e -> log.error("Error fetching products after {} received: {}", total.get(), e.getMessage()));
+    }
+
+    private Flux<CatalogProductDTO> exportFrom(UUID after) {
+        AtomicReference<UUID> cursor = new AtomicReference<>(after);
+        AtomicInteger received = new AtomicInteger();
+
+        Flux<CatalogProductDTO> segment = Flux.defer(() -> fetchExportSegment(cursor.get()))
+                .doOnNext(p -> {
+                    cursor.set(p.id());
+                    received.incrementAndGet();
+                })
+                .retryWhen(Retry.backoff(3, Duration.ofSeconds(1)));
+
+        return segment.concatWith(Flux.defer(() -> received.get() < exportSegmentSize
+                ? Flux.empty()
+                : exportFrom(cursor.get())));
+    }
+
+    private Flux<CatalogProductDTO> fetchExportSegment(UUID after) {
+        log.debug("Fetching catalog export segment after {}", after);
 
         return webClient.get()
-                .uri("/api/v1/products?active=true")
+                .uri(uriBuilder -> {
+                    uriBuilder.path("/api/v1/products/export")
+                            .queryParam("active", true)
+                            .queryParam("limit", exportSegmentSize);
+                    if (after != null) {
+                        uriBuilder.queryParam("after", after);
+                    }
+                    return uriBuilder.build();
+                })
+                .accept(MediaType.APPLICATION_NDJSON)
                 .retrieve()
                 .bodyToFlux(CatalogProductDTO.class)
-                .timeout(Duration.ofMinutes(5))
-                .doOnComplete(() -> log.info("Finished fetching all products"))
-                .doOnError(e -> log.error("Error fetching products: {}", e.getMessage()));
+                .limitRate(exportPrefetch)
+                .timeout(Duration.ofMinutes(1));
     }
 
     @Override
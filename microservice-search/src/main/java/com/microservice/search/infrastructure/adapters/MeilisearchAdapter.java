@@ -1,49 +1,150 @@
 package com.microservice.search.infrastructure.adapters;
 
 import com.microservice.search.domain.models.ProductId;
+import com.microservice.search.domain.models.SearchFacet;
+import com.microservice.search.domain.models.SearchFilters;
 import com.microservice.search.domain.models.SearchQuery;
 import com.microservice.search.domain.models.SearchResult;
+import com.microservice.search.domain.models.SearchSort;
 import com.microservice.search.domain.models.SearchableProduct;
 import com.microservice.search.domain.port.out.SearchEnginePort;
 import com.microservice.search.domain.exceptions.SearchEngineException;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.node.ArrayNode;
+import com.fasterxml.jackson.databind.node.JsonNodeFactory;
 import com.meilisearch.sdk.Client;
 import com.meilisearch.sdk.Index;
 import com.meilisearch.sdk.SearchRequest;
 import com.meilisearch.sdk.model.SearchResultPaginated;
+import com.meilisearch.sdk.model.SwapIndexesParams;
+import com.meilisearch.sdk.model.Task;
+import com.meilisearch.sdk.model.TaskStatus;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.http.MediaType;
 import org.springframework.stereotype.Component;
+import org.springframework.web.reactive.function.BodyInserters;
+import org.springframework.web.reactive.function.client.WebClient;
+import org.springframework.web.reactive.function.client.WebClientResponseException;
 
 import java.math.BigDecimal;
+import java.time.Duration;
 import java.time.Instant;
+import java.time.ZoneOffset;
+import java.time.format.DateTimeFormatter;
 import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.regex.Pattern;
 
 /**
  * Adaptador de Meilisearch para operaciones de búsqueda.
+ * Las reindexaciones completas se construyen en un índice versionado que se
+ * intercambia con el vivo al terminar (blue/green). El índice en construcción
+ * se anota en PostgreSQL (ver {@link MeilisearchStagingRegistry}) para que
+ * todas las instancias repliquen en él sus escrituras incrementales.
+ * Los documentos se suben con WebClient en streaming en lugar de con el SDK,
+ * que solo acepta el batch entero como String.
  */
 @Component
+@ConditionalOnProperty(name = "search.engine", havingValue = "meilisearch", matchIfMissing = true)
 public class MeilisearchAdapter implements SearchEnginePort {
 
     private static final Logger log = LoggerFactory.getLogger(MeilisearchAdapter.class);
-    private static final String INDEX_NAME = "products";
+    private static final String PRIMARY_KEY = "id";
+    private static final DateTimeFormatter VERSION_FORMAT =
+            DateTimeFormatter.ofPattern("yyyyMMddHHmmssSSS").withZone(ZoneOffset.UTC);
+
+    private static final String[] SEARCHABLE_ATTRIBUTES = {"name", "brand", "categoryNames", "description"};
+    private static final String[] FILTERABLE_ATTRIBUTES = {
+            "storeId", "brand", "categoryNames", "price", "currency", "isAvailable", "averageRating"};
+    private static final String[] SORTABLE_ATTRIBUTES = {"price", "averageRating", "salesCount"};
 
     private final Client meilisearchClient;
+    private final WebClient documentsClient;
+    private final MeilisearchDocumentSerializer documentSerializer;
+    private final String liveIndex;
+    private final int taskTimeoutMs;
+    private final int taskPollIntervalMs;
+    private final Duration uploadTimeout;
+    private final MeilisearchStagingRegistry stagingRegistry;
+    private final Duration stagingMaxAge;
+    private final int replayBatchSize;
+    private final int replayMaxPasses;
+
+    /**
+     * Réplica en el índice versionado de cada tarea enviada al vivo, por ID
+     * de la tarea viva; {@link #awaitTask(long)} espera las dos.
+     */
+    private final Map<Long, MirrorTask> pendingMirrors = new ConcurrentHashMap<>();
 
-    public MeilisearchAdapter(Client meilisearchClient) {
+    public MeilisearchAdapter(
+            Client meilisearchClient,
+            @Qualifier("meilisearchWebClient") WebClient documentsClient,
+            MeilisearchDocumentSerializer documentSerializer,
+            @Value("${meilisearch.index:products}") String liveIndex,
+            @Value("${meilisearch.task-timeout-ms:300000}") int taskTimeoutMs,
+            @Value("${meilisearch.task-poll-interval-ms:100}") int taskPollIntervalMs,
+            @Value("${meilisearch.upload.timeout:60s}") Duration uploadTimeout,
+            MeilisearchStagingRegistry stagingRegistry,
+            @Value("${meilisearch.staging.max-age:6h}") Duration stagingMaxAge,
+            @Value("${meilisearch.staging.replay-batch-size:500}") int replayBatchSize,
+            @Value("${meilisearch.staging.replay-max-passes:3}") int replayMaxPasses) {
         this.meilisearchClient = meilisearchClient;
+        this.documentsClient = documentsClient;
+        this.documentSerializer = documentSerializer;
+        this.liveIndex = liveIndex;
+        this.taskTimeoutMs = taskTimeoutMs;
+        this.taskPollIntervalMs = taskPollIntervalMs;
+        this.uploadTimeout = uploadTimeout;
+        this.stagingRegistry = stagingRegistry;
+        this.stagingMaxAge = stagingMaxAge;
+        this.replayBatchSize = replayBatchSize;
+        this.replayMaxPasses = replayMaxPasses;
+    }
+
+    /**
+     * Aplica la configuración al índice vivo en cada arranque. Las settings
+     * de Meilisearch son idempotentes, así que un índice creado con una
+     * versión anterior recibe los atributos actuales sin reindexar a mano.
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void applyLiveIndexSettings() {
+        try {
+            if (!ensureLiveIndex()) {
+                applySettings(liveIndex);
+            }
+            log.info("Settings applied to live index {}", liveIndex);
+        } catch (Exception e) {
+            log.warn("Could not apply settings to live index {}: {}", liveIndex, e.getMessage());
+        }
     }
 
     @Override
     public SearchResult search(SearchQuery query) {
         try {
-            Index index = meilisearchClient.index(INDEX_NAME);
+            Index index = meilisearchClient.index(liveIndex);
 
+            // page/hitsPerPage hace que Meilisearch devuelva totalHits exacto
             SearchRequest request = new SearchRequest(query.term())
-                    .setLimit(query.size())
-                    .setOffset(query.offset());
+                    .setPage(query.page() + 1)
+                    .setHitsPerPage(query.size());
 
-            if (query.category() != null && !query.category().isBlank()) {
-                request.setFilter(new String[]{"category = \"" + query.category() + "\""});
+            MeilisearchFilterBuilder filter = toFilter(query);
+            if (!filter.isEmpty()) {
+                request.setFilter(new String[]{filter.build()});
+            }
+            if (query.sort().field() != SearchSort.Field.RELEVANCE) {
+                request.setSort(new String[]{toSortExpression(query.sort())});
+            }
+            if (!query.facets().isEmpty()) {
+                request.setFacets(query.facets().stream()
+                        .map(MeilisearchAdapter::facetAttribute)
+                        .toArray(String[]::new));
             }
 
             long startTime = System.currentTimeMillis();
@@ -57,7 +158,8 @@ public class MeilisearchAdapter implements SearchEnginePort {
                     result.getTotalHits(),
                     query.page(),
                     query.size(),
-                    processingTime);
+                    processingTime,
+                    mapFacets(query.facets(), result.getFacetDistribution()));
 
         } catch (Exception e) {
             log.error("Error searching in Meilisearch: {}", e.getMessage(), e);
@@ -67,52 +169,163 @@ public class MeilisearchAdapter implements SearchEnginePort {
 
     @Override
     public void index(SearchableProduct product) {
+        awaitTask(submitBatch(List.of(product)));
+        log.debug("Product indexed: {}", product.id());
+    }
+
+    @Override
+    public void indexBatch(List<SearchableProduct> products) {
+        long taskId = submitBatch(products);
+        awaitTask(taskId);
+        log.info("Batch indexed {} products (task {})", products.size(), taskId);
+    }
+
+    @Override
+    public long submitBatch(List<SearchableProduct> products) {
+        long taskId = addDocuments(liveIndex, products);
+        // Se consulta después de escribir en el vivo: un índice registrado
+        // más tarde se llena desde un catálogo que ya incluye este cambio
+        Optional<MeilisearchStagingRegistry.StagingIndex> staging = stagingRegistry.find(liveIndex);
+        if (staging.isPresent()) {
+            String stagingName = staging.get().name();
+            stagingRegistry.recordChanges(products.stream().map(product -> product.id().value()).toList());
+            pendingMirrors.put(taskId, new MirrorTask(stagingName, addDocuments(stagingName, products)));
+        }
+        return taskId;
+    }
+
+    @Override
+    public long submitBatch(String indexName, List<SearchableProduct> products) {
+        return addDocuments(indexName, products);
+    }
+
+    @Override
+    public void awaitTask(long taskId) {
+        MirrorTask mirror = pendingMirrors.remove(taskId);
+        Task task;
         try {
-            Index index = meilisearchClient.index(INDEX_NAME);
-            Map<String, Object> document = mapToDocument(product);
-            String json = toJson(document);
-            index.addDocuments("[" + json + "]");
-            log.debug("Product indexed: {}", product.id());
+            meilisearchClient.index(liveIndex).waitForTask((int) taskId, taskTimeoutMs, taskPollIntervalMs);
+            task = meilisearchClient.getTask((int) taskId);
         } catch (Exception e) {
-            log.error("Error indexing product: {}", e.getMessage(), e);
-            throw new SearchEngineException("Index operation failed", e);
+            log.error("Error waiting for task {}: {}", taskId, e.getMessage(), e);
+            throw new SearchEngineException("Wait for task " + taskId + " failed", e);
+        }
+        if (task.getStatus() != TaskStatus.SUCCEEDED) {
+            throw new SearchEngineException("Task " + taskId + " finished with status " + task.getStatus());
+        }
+        if (mirror != null) {
+            checkMirror(mirror);
         }
     }
 
+    /**
+     * Registra el índice versionado en PostgreSQL. Si otra instancia ya tiene
+     * uno registrado se rechaza la reindexación, salvo que el registro sea más
+     * antiguo que {@code meilisearch.staging.max-age}: entonces se da por
+     * abandonado (la instancia cayó a mitad) y se sustituye.
+     */
     @Override
-    public void indexBatch(List<SearchableProduct> products) {
+    public String createStagingIndex() {
+        ensureLiveIndex();
+
+        String indexName = liveIndex + "_" + VERSION_FORMAT.format(Instant.now());
         try {
-            Index index = meilisearchClient.index(INDEX_NAME);
-            StringBuilder json = new StringBuilder("[");
-            for (int i = 0; i < products.size(); i++) {
-                if (i > 0) json.append(",");
-                json.append(toJson(mapToDocument(products.get(i))));
-            }
-            json.append("]");
-            index.addDocuments(json.toString());
-            log.info("Batch indexed {} products", products.size());
+            awaitTask(meilisearchClient.createIndex(indexName, PRIMARY_KEY).getTaskUid());
+            applySettings(indexName);
         } catch (Exception e) {
-            log.error("Error batch indexing: {}", e.getMessage(), e);
-            throw new SearchEngineException("Batch index operation failed", e);
+            log.error("Error creating staging index {}: {}", indexName, e.getMessage(), e);
+            deleteIndex(indexName);
+            throw new SearchEngineException("Staging index creation failed", e);
         }
+
+        if (!stagingRegistry.register(liveIndex, indexName)) {
+            Optional<MeilisearchStagingRegistry.StagingIndex> running = stagingRegistry.find(liveIndex);
+            if (running.isPresent() && running.get().startedAt().plus(stagingMaxAge).isAfter(Instant.now())) {
+                deleteIndex(indexName);
+                throw new SearchEngineException("A full reindex is already running into " + running.get().name());
+            }
+            running.ifPresent(abandoned -> {
+                log.warn("Discarding abandoned staging index {} started at {}",
+                        abandoned.name(), abandoned.startedAt());
+                stagingRegistry.release(liveIndex, abandoned.name());
+            });
+            if (!stagingRegistry.register(liveIndex, indexName)) {
+                deleteIndex(indexName);
+                throw new SearchEngineException("A full reindex is already running for " + liveIndex);
+            }
+        }
+        deleteStrayStagingIndexes(indexName);
+        log.info("Staging index {} created", indexName);
+        return indexName;
+    }
+
+    /**
+     * Antes del swap copia del vivo al versionado los productos escritos
+     * durante la reindexación, porque el batch de la reindexación pudo llegar
+     * después que la réplica de una escritura más reciente. Se repite con los
+     * cambios que llegan durante la copia hasta que una pasada no encuentra
+     * ninguno o se agotan {@code meilisearch.staging.replay-max-passes}.
+     */
+    @Override
+    public void promoteStagingIndex(String indexName) {
+        try {
+            Instant since = Instant.EPOCH;
+            for (int pass = 1; pass <= replayMaxPasses; pass++) {
+                Instant passStart = stagingRegistry.now();
+                long replayed = replayChanges(indexName, since);
+                log.info("Replayed {} changed products into {} (pass {})", replayed, indexName, pass);
+                if (replayed == 0) {
+                    break;
+                }
+                since = passStart;
+            }
+
+            SwapIndexesParams params = new SwapIndexesParams();
+            params.setIndexes(new String[]{liveIndex, indexName});
+            awaitTask(meilisearchClient.swapIndexes(new SwapIndexesParams[]{params}).getTaskUid());
+            log.info("Index {} swapped into {}", indexName, liveIndex);
+        } catch (Exception e) {
+            log.error("Error swapping index {} into {}: {}", indexName, liveIndex, e.getMessage(), e);
+            throw new SearchEngineException("Index swap failed", e);
+        } finally {
+            stagingRegistry.release(liveIndex, indexName);
+        }
+        // Tras el swap el índice versionado contiene los documentos anteriores
+        deleteIndex(indexName);
+    }
+
+    @Override
+    public void dropStagingIndex(String indexName) {
+        stagingRegistry.release(liveIndex, indexName);
+        deleteIndex(indexName);
     }
 
     @Override
     public void delete(ProductId productId) {
+        String documentId = productId.value().toString();
+        Optional<MeilisearchStagingRegistry.StagingIndex> staging;
+        long mirrorTaskId;
         try {
-            Index index = meilisearchClient.index(INDEX_NAME);
-            index.deleteDocument(productId.value().toString());
-            log.debug("Product deleted from index: {}", productId);
+            meilisearchClient.index(liveIndex).deleteDocument(documentId);
+            staging = stagingRegistry.find(liveIndex);
+            if (staging.isEmpty()) {
+                log.debug("Product deleted from index: {}", productId);
+                return;
+            }
+            stagingRegistry.recordChanges(List.of(productId.value()));
+            mirrorTaskId = meilisearchClient.index(staging.get().name()).deleteDocument(documentId).getTaskUid();
         } catch (Exception e) {
             log.error("Error deleting product: {}", e.getMessage(), e);
             throw new SearchEngineException("Delete operation failed", e);
         }
+        checkMirror(new MirrorTask(staging.get().name(), mirrorTaskId));
+        log.debug("Product deleted from index: {}", productId);
     }
 
     @Override
     public Optional<SearchableProduct> findById(ProductId productId) {
         try {
-            Index index = meilisearchClient.index(INDEX_NAME);
+            Index index = meilisearchClient.index(liveIndex);
             @SuppressWarnings("unchecked")
             Map<String, Object> document = index.getDocument(productId.value().toString(), Map.class);
             if (document == null) {
@@ -130,23 +343,233 @@ public class MeilisearchAdapter implements SearchEnginePort {
         return findById(productId).isPresent();
     }
 
-    private Map<String, Object> mapToDocument(SearchableProduct product) {
-        Map<String, Object> doc = new LinkedHashMap<>();
-        doc.put("id", product.id().value().toString());
-        doc.put("storeId", product.storeId() != null ? product.storeId().toString() : null);
-        doc.put("name", product.name());
-        doc.put("description", product.description());
-        doc.put("brand", product.brand());
-        doc.put("categoryNames", product.categoryNames());
-        doc.put("price", product.price());
-        doc.put("currency", product.currency());
-        doc.put("averageRating", product.averageRating());
-        doc.put("reviewCount", product.reviewCount());
-        doc.put("salesCount", product.salesCount());
-        doc.put("isAvailable", product.isAvailable());
-        doc.put("primaryImageUrl", product.primaryImageUrl());
-        doc.put("indexedAt", product.indexedAt().toEpochMilli());
-        return doc;
+    private static MeilisearchFilterBuilder toFilter(SearchQuery query) {
+        SearchFilters filters = query.filters();
+        return new MeilisearchFilterBuilder()
+                .eq("categoryNames", query.category())
+                .eq("brand", filters.brand())
+                .eq("storeId", filters.storeId() != null ? filters.storeId().toString() : null)
+                .gte("price", filters.minPrice())
+                .lte("price", filters.maxPrice())
+                .eq("isAvailable", filters.available())
+                .gte("averageRating", filters.minRating());
+    }
+
+    private static String toSortExpression(SearchSort sort) {
+        String attribute = switch (sort.field()) {
+            case PRICE -> "price";
+            case RATING -> "averageRating";
+            case SALES -> "salesCount";
+            case RELEVANCE -> throw new IllegalArgumentException("Relevance is not a sortable attribute");
+        };
+        return attribute + (sort.descending() ? ":desc" : ":asc");
+    }
+
+    private static String facetAttribute(SearchFacet facet) {
+        return switch (facet) {
+            case BRAND -> "brand";
+            case CATEGORY -> "categoryNames";
+            case STORE -> "storeId";
+            case AVAILABILITY -> "isAvailable";
+        };
+    }
+
+    /**
+     * Convierte facetDistribution ({atributo: {valor: conteo}}) al modelo de dominio.
+     */
+    private static Map<SearchFacet, Map<String, Long>> mapFacets(Set<SearchFacet> requested, Object distribution) {
+        if (requested.isEmpty() || !(distribution instanceof Map<?, ?> byAttribute)) {
+            return Map.of();
+        }
+        Map<SearchFacet, Map<String, Long>> facets = new EnumMap<>(SearchFacet.class);
+        for (SearchFacet facet : requested) {
+            if (byAttribute.get(facetAttribute(facet)) instanceof Map<?, ?> values) {
+                Map<String, Long> counts = new LinkedHashMap<>();
+                values.forEach((value, count) -> {
+                    if (count instanceof Number number) {
+                        counts.put(String.valueOf(value), number.longValue());
+                    }
+                });
+                facets.put(facet, Collections.unmodifiableMap(counts));
+            }
+        }
+        return facets;
+    }
+
+    /**
+     * Sube los documentos con el cuerpo generado en streaming y devuelve el
+     * ID de la tarea que encola Meilisearch.
+     */
+    private long addDocuments(String indexName, List<SearchableProduct> products) {
+        try {
+            JsonNode task = documentsClient.post()
+                    .uri("/indexes/{index}/documents?primaryKey={primaryKey}", indexName, PRIMARY_KEY)
+                    .contentType(MediaType.APPLICATION_JSON)
+                    .body(BodyInserters.fromDataBuffers(documentSerializer.serialize(products)))
+                    .retrieve()
+                    .bodyToMono(JsonNode.class)
+                    .block(uploadTimeout);
+            if (task == null || !task.hasNonNull("taskUid")) {
+                throw new SearchEngineException("Meilisearch returned no task for " + indexName);
+            }
+            long taskId = task.get("taskUid").asLong();
+            log.debug("Batch of {} products enqueued in {} as task {}", products.size(), indexName, taskId);
+            return taskId;
+        } catch (WebClientResponseException e) {
+            log.error("Error batch indexing into {}: {} {}", indexName, e.getStatusCode(), e.getResponseBodyAsString());
+            throw new SearchEngineException("Batch index operation failed", e);
+        } catch (SearchEngineException e) {
+            throw e;
+        } catch (Exception e) {
+            log.error("Error batch indexing into {}: {}", indexName, e.getMessage(), e);
+            throw new SearchEngineException("Batch index operation failed", e);
+        }
+    }
+
+    /**
+     * Una réplica fallida solo es un error si su índice sigue registrado; si
+     * ya se promovió o descartó, el cambio está en el vivo y basta.
+     */
+    private void checkMirror(MirrorTask mirror) {
+        Task task;
+        try {
+            meilisearchClient.index(mirror.index()).waitForTask((int) mirror.taskId(), taskTimeoutMs, taskPollIntervalMs);
+            task = meilisearchClient.getTask((int) mirror.taskId());
+        } catch (Exception e) {
+            task = null;
+            if (isStillStaging(mirror.index())) {
+                log.error("Error waiting for mirror task {}: {}", mirror.taskId(), e.getMessage(), e);
+                throw new SearchEngineException("Wait for mirror task " + mirror.taskId() + " failed", e);
+            }
+        }
+        if (task != null && task.getStatus() != TaskStatus.SUCCEEDED && isStillStaging(mirror.index())) {
+            throw new SearchEngineException("Mirror task " + mirror.taskId() + " into " + mirror.index()
+                    + " finished with status " + task.getStatus());
+        }
+    }
+
+    private boolean isStillStaging(String indexName) {
+        return stagingRegistry.find(liveIndex)
+                .map(staging -> staging.name().equals(indexName))
+                .orElse(false);
+    }
+
+    /**
+     * Copia del índice vivo al versionado los productos cambiados desde
+     * {@code since}; los que ya no están en el vivo se borran del versionado.
+     *
+     * @return número de productos copiados o borrados
+     */
+    private long replayChanges(String indexName, Instant since) throws Exception {
+        long replayed = 0;
+        UUID after = null;
+        List<UUID> page;
+        do {
+            page = stagingRegistry.changesSince(since, after, replayBatchSize);
+            if (page.isEmpty()) {
+                break;
+            }
+            ArrayNode present = JsonNodeFactory.instance.arrayNode();
+            List<String> missing = new ArrayList<>();
+            for (UUID productId : page) {
+                JsonNode document = fetchLiveDocument(productId);
+                if (document != null) {
+                    present.add(document);
+                } else {
+                    missing.add(productId.toString());
+                }
+            }
+            if (!present.isEmpty()) {
+                awaitTask(addRawDocuments(indexName, present));
+            }
+            if (!missing.isEmpty()) {
+                awaitTask(meilisearchClient.index(indexName).deleteDocuments(missing).getTaskUid());
+            }
+            replayed += page.size();
+            after = page.get(page.size() - 1);
+        } while (page.size() == replayBatchSize);
+        return replayed;
+    }
+
+    private JsonNode fetchLiveDocument(UUID productId) {
+        try {
+            return documentsClient.get()
+                    .uri("/indexes/{index}/documents/{id}", liveIndex, productId)
+                    .retrieve()
+                    .bodyToMono(JsonNode.class)
+                    .block(uploadTimeout);
+        } catch (WebClientResponseException.NotFound e) {
+            return null;
+        }
+    }
+
+    private long addRawDocuments(String indexName, ArrayNode documents) {
+        JsonNode task = documentsClient.post()
+                .uri("/indexes/{index}/documents?primaryKey={primaryKey}", indexName, PRIMARY_KEY)
+                .contentType(MediaType.APPLICATION_JSON)
+                .bodyValue(documents)
+                .retrieve()
+                .bodyToMono(JsonNode.class)
+                .block(uploadTimeout);
+        if (task == null || !task.hasNonNull("taskUid")) {
+            throw new SearchEngineException("Meilisearch returned no task for " + indexName);
+        }
+        return task.get("taskUid").asLong();
+    }
+
+    /**
+     * Borra índices versionados que quedaron de reindexaciones abandonadas.
+     */
+    private void deleteStrayStagingIndexes(String current) {
+        Pattern versioned = Pattern.compile(Pattern.quote(liveIndex) + "_\\d{17}");
+        try {
+            for (Index index : meilisearchClient.getIndexes().getResults()) {
+                String uid = index.getUid();
+                if (versioned.matcher(uid).matches() && !uid.equals(current)) {
+                    deleteIndex(uid);
+                }
+            }
+        } catch (Exception e) {
+            log.warn("Could not list stray staging indexes of {}: {}", liveIndex, e.getMessage());
+        }
+    }
+
+    /**
+     * Crea y configura el índice vivo si todavía no existe, ya que el swap
+     * necesita que ambos índices existan.
+     *
+     * @return true si el índice se ha creado ahora
+     */
+    private boolean ensureLiveIndex() {
+        try {
+            meilisearchClient.getIndex(liveIndex);
+            return false;
+        } catch (Exception notFound) {
+            try {
+                awaitTask(meilisearchClient.createIndex(liveIndex, PRIMARY_KEY).getTaskUid());
+                applySettings(liveIndex);
+                log.info("Live index {} created", liveIndex);
+                return true;
+            } catch (Exception e) {
+                throw new SearchEngineException("Live index creation failed", e);
+            }
+        }
+    }
+
+    private void applySettings(String indexName) throws Exception {
+        Index index = meilisearchClient.index(indexName);
+        awaitTask(index.updateSearchableAttributesSettings(SEARCHABLE_ATTRIBUTES).getTaskUid());
+        awaitTask(index.updateFilterableAttributesSettings(FILTERABLE_ATTRIBUTES).getTaskUid());
+        awaitTask(index.updateSortableAttributesSettings(SORTABLE_ATTRIBUTES).getTaskUid());
+    }
+
+    private void deleteIndex(String indexName) {
+        try {
+            awaitTask(meilisearchClient.deleteIndex(indexName).getTaskUid());
+            log.info("Index {} deleted", indexName);
+        } catch (Exception e) {
+            log.warn("Could not delete index {}: {}", indexName, e.getMessage());
+        }
     }
 
     private List<SearchableProduct> mapToProducts(ArrayList<HashMap<String, Object>> hits) {
@@ -184,27 +607,6 @@ public class MeilisearchAdapter implements SearchEnginePort {
                 false);
     }
 
-    private String toJson(Map<String, Object> map) {
-        StringBuilder sb = new StringBuilder("{");
-        boolean first = true;
-        for (Map.Entry<String, Object> entry : map.entrySet()) {
-            if (!first) sb.append(",");
-            first = false;
-            sb.append("\"").append(entry.getKey()).append("\":");
-            Object v = entry.getValue();
-            if (v == null) sb.append("null");
-            else if (v instanceof String) sb.append("\"").append(v).append("\"");
-            else if (v instanceof Number || v instanceof Boolean) sb.append(v);
-            else if (v instanceof List<?> list) {
-                sb.append("[");
-                for (int i = 0; i < list.size(); i++) {
-                    if (i > 0) sb.append(",");
-                    sb.append("\"").append(list.get(i)).append("\"");
-                }
-                sb.append("]");
-            } else sb.append("\"").append(v).append("\"");
-        }
-        sb.append("}");
-        return sb.toString();
+    private record MirrorTask(String index, long taskId) {
     }
 }
@@ -0,0 +1,188 @@
+package com.microservice.search.infrastructure.adapters;
+
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.microservice.search.domain.exceptions.SearchEngineException;
+import com.microservice.search.domain.models.SearchableProduct;
+import io.netty.buffer.PooledByteBufAllocator;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.io.buffer.DataBuffer;
+import org.springframework.core.io.buffer.DataBufferFactory;
+import org.springframework.core.io.buffer.DataBufferUtils;
+import org.springframework.core.io.buffer.NettyDataBufferFactory;
+import org.springframework.stereotype.Component;
+import reactor.core.publisher.Flux;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.math.BigDecimal;
+import java.util.Iterator;
+import java.util.List;
+
+/**
+ * Serializa batches de productos como el array JSON que espera Meilisearch,
+ * en trozos de tamaño fijo sobre buffers del pool de Netty.
+ * Los trozos se generan bajo demanda del cliente HTTP, de modo que la memoria
+ * por batch depende del tamaño de trozo y no del número de documentos.
+ */
+@Component
+public class MeilisearchDocumentSerializer {
+
+    private final JsonFactory jsonFactory;
+    private final DataBufferFactory bufferFactory;
+    private final int chunkBytes;
+
+    public MeilisearchDocumentSerializer(
+            ObjectMapper objectMapper,
+            @Value("${meilisearch.upload.chunk-bytes:65536}") int chunkBytes) {
+        this.jsonFactory = objectMapper.getFactory();
+        this.bufferFactory = new NettyDataBufferFactory(PooledByteBufAllocator.DEFAULT);
+        this.chunkBytes = chunkBytes;
+    }
+
+    /**
+     * Cuerpo de la petición de alta de documentos. Quien consuma el flujo es
+     * responsable de liberar cada buffer.
+     */
+    public Flux<DataBuffer> serialize(List<SearchableProduct> products) {
+        return Flux.generate(
+                () -> new Cursor(products.iterator()),
+                (cursor, sink) -> {
+                    DataBuffer buffer = bufferFactory.allocateBuffer(chunkBytes);
+                    boolean emitted = false;
+                    try {
+                        if (cursor.writeChunk(buffer)) {
+                            sink.next(buffer);
+                            sink.complete();
+                        } else {
+                            sink.next(buffer);
+                        }
+                        emitted = true;
+                    } catch (IOException e) {
+                        sink.error(new SearchEngineException("Document serialization failed", e));
+                    } finally {
+                        if (!emitted) {
+                            DataBufferUtils.release(buffer);
+                        }
+                    }
+                    return cursor;
+                },
+                Cursor::close);
+    }
+
+    /**
+     * Escribe un producto con los mismos atributos que el índice espera.
+     */
+    static void writeDocument(JsonGenerator generator, SearchableProduct product) throws IOException {
+        generator.writeStartObject();
+        generator.writeStringField("id", product.id().value().toString());
+        generator.writeStringField("storeId", product.storeId() != null ? product.storeId().toString() : null);
+        generator.writeStringField("name", product.name());
+        generator.writeStringField("description", product.description());
+        generator.writeStringField("brand", product.brand());
+        generator.writeArrayFieldStart("categoryNames");
+        for (String category : product.categoryNames()) {
+            generator.writeString(category);
+        }
+        generator.writeEndArray();
+        writeDecimal(generator, "price", product.price());
+        generator.writeStringField("currency", product.currency());
+        writeDecimal(generator, "averageRating", product.averageRating());
+        writeInteger(generator, "reviewCount", product.reviewCount());
+        writeInteger(generator, "salesCount", product.salesCount());
+        generator.writeBooleanField("isAvailable", product.isAvailable());
+        generator.writeStringField("primaryImageUrl", product.primaryImageUrl());
+        generator.writeNumberField("indexedAt", product.indexedAt().toEpochMilli());
+        generator.writeEndObject();
+    }
+
+    private static void writeDecimal(JsonGenerator generator, String field, BigDecimal value) throws IOException {
+        generator.writeFieldName(field);
+        if (value != null) {
+            generator.writeNumber(value.toPlainString());
+        } else {
+            generator.writeNull();
+        }
+    }
+
+    private static void writeInteger(JsonGenerator generator, String field, Integer value) throws IOException {
+        generator.writeFieldName(field);
+        if (value != null) {
+            generator.writeNumber(value);
+        } else {
+            generator.writeNull();
+        }
+    }
+
+    /**
+     * Estado de la serialización: un único generador escribe todo el array y
+     * su salida se redirige al buffer del trozo actual.
+     */
+    private final class Cursor {
+
+        private final Iterator<SearchableProduct> products;
+        private final ChunkOutputStream out = new ChunkOutputStream();
+        private JsonGenerator generator;
+
+        private Cursor(Iterator<SearchableProduct> products) {
+            this.products = products;
+        }
+
+        /**
+         * Llena el buffer hasta el tamaño de trozo.
+         *
+         * @return true si era el último trozo
+         */
+        private boolean writeChunk(DataBuffer buffer) throws IOException {
+            out.target = buffer.asOutputStream();
+            if (generator == null) {
+                generator = jsonFactory.createGenerator(out);
+                generator.disable(JsonGenerator.Feature.AUTO_CLOSE_TARGET);
+                generator.writeStartArray();
+            }
+            while (products.hasNext()
+                    && buffer.readableByteCount() + Math.max(generator.getOutputBuffered(), 0) < chunkBytes) {
+                writeDocument(generator, products.next());
+            }
+            boolean last = !products.hasNext();
+            if (last) {
+                generator.writeEndArray();
+                generator.close();
+            } else {
+                generator.flush();
+            }
+            return last;
+        }
+
+        /**
+         * Devuelve los buffers internos de Jackson a su pool aunque el envío se
+         * cancele a mitad.
+         */
+        private void close() {
+            if (generator != null && !generator.isClosed()) {
+                out.target = OutputStream.nullOutputStream();
+                try {
+                    generator.close();
+                } catch (IOException ignored) {
+                    // la salida se descarta
+                }
+            }
+        }
+    }
+
+    private static final class ChunkOutputStream extends OutputStream {
+
+        private OutputStream target;
+
+        @Override
+        public void write(int b) throws IOException {
+            target.write(b);
+        }
+
+        @Override
+        public void write(byte[] bytes, int offset, int length) throws IOException {
+            target.write(bytes, offset, length);
+        }
+    }
+}
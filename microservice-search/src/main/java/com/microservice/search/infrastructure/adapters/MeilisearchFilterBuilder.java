@@ -0,0 +1,55 @@
+package com.microservice.search.infrastructure.adapters;
+
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Construye expresiones de filtro de Meilisearch a partir de valores tipados.
+ * Los valores nulos se ignoran y las cadenas se escapan, de modo que la
+ * entrada del usuario nunca altera la expresión.
+ */
+final class MeilisearchFilterBuilder {
+
+    private final List<String> conditions = new ArrayList<>();
+
+    MeilisearchFilterBuilder eq(String attribute, String value) {
+        if (value != null && !value.isBlank()) {
+            conditions.add(attribute + " = " + quote(value));
+        }
+        return this;
+    }
+
+    MeilisearchFilterBuilder eq(String attribute, Boolean value) {
+        if (value != null) {
+            conditions.add(attribute + " = " + value);
+        }
+        return this;
+    }
+
+    MeilisearchFilterBuilder gte(String attribute, BigDecimal value) {
+        if (value != null) {
+            conditions.add(attribute + " >= " + value.toPlainString());
+        }
+        return this;
+    }
+
+    MeilisearchFilterBuilder lte(String attribute, BigDecimal value) {
+        if (value != null) {
+            conditions.add(attribute + " <= " + value.toPlainString());
+        }
+        return this;
+    }
+
+    boolean isEmpty() {
+        return conditions.isEmpty();
+    }
+
+    String build() {
+        return String.join(" AND ", conditions);
+    }
+
+    private static String quote(String value) {
+        return "\"" + value.replace("\\", "\\\\").replace("\"", "\\\"") + "\"";
+    }
+}
@@ -0,0 +1,130 @@
+package com.microservice.search.infrastructure.adapters;
+
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.dao.DuplicateKeyException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+import java.sql.Timestamp;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+
+/**
+ * Estado compartido de la reindexación blue/green de Meilisearch.
+ * La tabla {@code search_staging_index} dice a todas las instancias qué
+ * índice versionado se está construyendo, para que todas repliquen en él sus
+ * escrituras incrementales. {@code search_staging_changes} guarda los
+ * productos escritos mientras tanto; antes del swap se copian del índice
+ * vivo para que una versión antigua del catálogo no pise una más reciente.
+ */
+@Component
+@ConditionalOnProperty(name = "search.engine", havingValue = "meilisearch", matchIfMissing = true)
+public class MeilisearchStagingRegistry {
+
+    private static final String REGISTER_SQL =
+            "INSERT INTO search_staging_index (live_index, staging_index, started_at) VALUES (?, ?, ?)";
+
+    private static final String FIND_SQL =
+            "SELECT staging_index, started_at FROM search_staging_index WHERE live_index = ?";
+
+    private static final String RELEASE_SQL =
+            "DELETE FROM search_staging_index WHERE live_index = ? AND staging_index = ?";
+
+    private static final String TOUCH_SQL =
+            "UPDATE search_staging_changes SET changed_at = CURRENT_TIMESTAMP WHERE product_id = ?";
+
+    private static final String RECORD_SQL =
+            "INSERT INTO search_staging_changes (product_id, changed_at) VALUES (?, CURRENT_TIMESTAMP)";
+
+    private static final String CHANGES_SQL = """
+            SELECT product_id FROM search_staging_changes
+            WHERE changed_at >= ? AND product_id > ?
+            ORDER BY product_id
+            LIMIT ?
+            """;
+
+    private static final String CLEAR_SQL = "DELETE FROM search_staging_changes";
+
+    private static final String NOW_SQL = "SELECT CURRENT_TIMESTAMP";
+
+    private static final UUID FIRST_ID = new UUID(0L, 0L);
+
+    private final JdbcTemplate jdbcTemplate;
+
+    public MeilisearchStagingRegistry(JdbcTemplate jdbcTemplate) {
+        this.jdbcTemplate = jdbcTemplate;
+    }
+
+    /**
+     * @return {@code false} si ya hay un índice versionado para el índice vivo
+     */
+    public boolean register(String liveIndex, String stagingIndex) {
+        try {
+            jdbcTemplate.update(REGISTER_SQL, liveIndex, stagingIndex, Timestamp.from(Instant.now()));
+            return true;
+        } catch (DuplicateKeyException e) {
+            return false;
+        }
+    }
+
+    public Optional<StagingIndex> find(String liveIndex) {
+        return jdbcTemplate.query(FIND_SQL,
+                (rs, rowNum) -> new StagingIndex(rs.getString("staging_index"),
+                        rs.getTimestamp("started_at").toInstant()),
+                liveIndex).stream().findFirst();
+    }
+
+    /**
+     * Quita el registro del índice versionado y los cambios anotados para él.
+     */
+    public void release(String liveIndex, String stagingIndex) {
+        jdbcTemplate.update(RELEASE_SQL, liveIndex, stagingIndex);
+        jdbcTemplate.update(CLEAR_SQL);
+    }
+
+    /**
+     * Anota los productos como cambiados ahora. Actualiza primero e inserta
+     * solo los que no tenían fila; si otra instancia los inserta a la vez,
+     * basta con su fila.
+     */
+    public void recordChanges(Collection<UUID> productIds) {
+        List<UUID> ids = List.copyOf(productIds);
+        List<Object[]> args = new ArrayList<>(ids.size());
+        ids.forEach(id -> args.add(new Object[]{id}));
+        int[] touched = jdbcTemplate.batchUpdate(TOUCH_SQL, args);
+        for (int i = 0; i < ids.size(); i++) {
+            if (touched[i] == 0) {
+                try {
+                    jdbcTemplate.update(RECORD_SQL, ids.get(i));
+                } catch (DuplicateKeyException e) {
+                    jdbcTemplate.update(TOUCH_SQL, ids.get(i));
+                }
+            }
+        }
+    }
+
+    /**
+     * Página de productos cambiados desde {@code since}, ordenados por ID.
+     *
+     * @param after último ID de la página anterior, o null para la primera
+     */
+    public List<UUID> changesSince(Instant since, UUID after, int limit) {
+        return jdbcTemplate.queryForList(CHANGES_SQL, UUID.class,
+                Timestamp.from(since), after != null ? after : FIRST_ID, limit);
+    }
+
+    /**
+     * Hora de la base de datos, para comparar con {@code changed_at} sin
+     * depender del reloj de cada instancia.
+     */
+    public Instant now() {
+        return jdbcTemplate.queryForObject(NOW_SQL, Timestamp.class).toInstant();
+    }
+
+    public record StagingIndex(String name, Instant startedAt) {
+    }
+}
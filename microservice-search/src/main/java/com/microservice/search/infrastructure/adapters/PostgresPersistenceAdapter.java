@@ -1,12 +1,15 @@
 package com.microservice.search.infrastructure.adapters;
 
+import com.microservice.search.domain.exceptions.DomainException;
 import com.microservice.search.domain.models.ProductId;
 import com.microservice.search.domain.models.SearchableProduct;
 import com.microservice.search.domain.port.out.ProductPersistencePort;
 import com.microservice.search.infrastructure.entities.ProductIndexEntity;
 import com.microservice.search.infrastructure.repositories.ProductIndexRepository;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Component;
 
+import java.time.Duration;
 import java.time.Instant;
 import java.util.List;
 import java.util.Optional;
@@ -14,14 +17,29 @@ import java.util.UUID;
 
 /**
  * Adaptador de PostgreSQL para persistencia de productos.
+ * Las escrituras en lote van por upserts JDBC; las diferidas pasan por el
+ * write-behind salvo que esté deshabilitado.
  */
 @Component
 public class PostgresPersistenceAdapter implements ProductPersistencePort {
 
     private final ProductIndexRepository repository;
+    private final ProductIndexJdbcWriter jdbcWriter;
+    private final ProductIndexWriteBehind writeBehind;
+    private final boolean writeBehindEnabled;
+    private final Duration drainTimeout;
 
-    public PostgresPersistenceAdapter(ProductIndexRepository repository) {
+    public PostgresPersistenceAdapter(
+            ProductIndexRepository repository,
+            ProductIndexJdbcWriter jdbcWriter,
+            ProductIndexWriteBehind writeBehind,
+            @Value("${search.persistence.write-behind.enabled:true}") boolean writeBehindEnabled,
+            @Value("${search.persistence.write-behind.drain-timeout:30s}") Duration drainTimeout) {
         this.repository = repository;
+        this.jdbcWriter = jdbcWriter;
+        this.writeBehind = writeBehind;
+        this.writeBehindEnabled = writeBehindEnabled;
+        this.drainTimeout = drainTimeout;
     }
 
     @Override
@@ -36,9 +54,17 @@ public class PostgresPersistenceAdapter implements ProductPersistencePort {
 
     @Override
     public List<SearchableProduct> saveAll(List<SearchableProduct> products) {
-        return products.stream()
-                .map(this::save)
-                .toList();
+        jdbcWriter.upsertAll(products);
+        return products;
+    }
+
+    @Override
+    public void saveAllDeferred(List<SearchableProduct> products) {
+        if (writeBehindEnabled) {
+            writeBehind.enqueueAll(products);
+        } else {
+            jdbcWriter.upsertAll(products);
+        }
     }
 
     @Override
@@ -58,6 +84,8 @@ public class PostgresPersistenceAdapter implements ProductPersistencePort {
 
     @Override
     public void delete(ProductId productId) {
+        // Un upsert pendiente del mismo producto volvería a activarlo
+        awaitWriteBehind();
         repository.findByExternalProductId(productId.value())
                 .ifPresent(entity -> {
                     entity.setIsDeleted(true);
@@ -67,6 +95,20 @@ public class PostgresPersistenceAdapter implements ProductPersistencePort {
                 });
     }
 
+    @Override
+    public int deleteNotUpdatedSince(Instant since) {
+        if (!awaitWriteBehind()) {
+            throw new DomainException("PERSISTENCE_BACKPRESSURE",
+                    "Product index write-behind not drained after " + drainTimeout);
+        }
+        // Una fila descartada parecería un producto que ya no está en el catálogo
+        if (writeBehind.droppedSince(since)) {
+            throw new DomainException("PERSISTENCE_INCOMPLETE",
+                    "Product index writes were dropped since " + since);
+        }
+        return jdbcWriter.softDeleteNotUpdatedSince(since);
+    }
+
     @Override
     public List<SearchableProduct> findAllActive() {
         return repository.findAllActive()
@@ -80,6 +122,18 @@ public class PostgresPersistenceAdapter implements ProductPersistencePort {
         return repository.existsByExternalProductId(productId);
     }
 
+    private boolean awaitWriteBehind() {
+        if (!writeBehindEnabled) {
+            return true;
+        }
+        try {
+            return writeBehind.awaitDrained(drainTimeout);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new DomainException("Interrupted while waiting for the write-behind queue", e);
+        }
+    }
+
     private void mapToEntity(SearchableProduct p, ProductIndexEntity e) {
         e.setExternalProductId(p.id().value());
         e.setExternalStoreId(p.storeId());
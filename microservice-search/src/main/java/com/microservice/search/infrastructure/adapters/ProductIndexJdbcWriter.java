@@ -0,0 +1,154 @@
+package com.microservice.search.infrastructure.adapters;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.microservice.search.domain.models.SearchableProduct;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.sql.Timestamp;
+import java.sql.Types;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * Escribe la tabla {@code product_index} con upserts JDBC en batch.
+ * Una sentencia {@code INSERT ... ON CONFLICT} por producto, enviadas en
+ * batches de {@code batchSize}, sustituye al find + save de JPA por fila.
+ * {@code indexed_at} y {@code deleted_at} solo se escriben al insertar.
+ */
+@Component
+public class ProductIndexJdbcWriter {
+
+    private static final String UPSERT_SQL = """
+            INSERT INTO product_index (
+                id_index, external_product_id, external_store_id, name, description, brand,
+                category_names, external_category_ids, price, compare_at_price, currency,
+                colors, sizes, average_rating, review_count, sales_count, view_count,
+                is_available, stock_quantity, primary_image_url, image_urls,
+                is_active, is_deleted, indexed_at, updated_at)
+            VALUES (?, ?, ?, ?, ?, ?,
+                    CAST(? AS jsonb), CAST(? AS jsonb), ?, ?, ?,
+                    CAST(? AS jsonb), CAST(? AS jsonb), ?, ?, ?, ?,
+                    ?, ?, ?, CAST(? AS jsonb),
+                    ?, ?, ?, ?)
+            ON CONFLICT (external_product_id) DO UPDATE SET
+                external_store_id = EXCLUDED.external_store_id,
+                name = EXCLUDED.name,
+                description = EXCLUDED.description,
+                brand = EXCLUDED.brand,
+                category_names = EXCLUDED.category_names,
+                external_category_ids = EXCLUDED.external_category_ids,
+                price = EXCLUDED.price,
+                compare_at_price = EXCLUDED.compare_at_price,
+                currency = EXCLUDED.currency,
+                colors = EXCLUDED.colors,
+                sizes = EXCLUDED.sizes,
+                average_rating = EXCLUDED.average_rating,
+                review_count = EXCLUDED.review_count,
+                sales_count = EXCLUDED.sales_count,
+                view_count = EXCLUDED.view_count,
+                is_available = EXCLUDED.is_available,
+                stock_quantity = EXCLUDED.stock_quantity,
+                primary_image_url = EXCLUDED.primary_image_url,
+                image_urls = EXCLUDED.image_urls,
+                is_active = EXCLUDED.is_active,
+                is_deleted = EXCLUDED.is_deleted,
+                updated_at = EXCLUDED.updated_at
+            """;
+
+    private static final String SOFT_DELETE_STALE_SQL = """
+            UPDATE product_index
+            SET is_deleted = true, is_active = false, deleted_at = ?, updated_at = ?
+            WHERE updated_at < ? AND is_deleted = false
+            """;
+
+    private final JdbcTemplate jdbcTemplate;
+    private final ObjectMapper objectMapper;
+    private final int batchSize;
+
+    public ProductIndexJdbcWriter(
+            JdbcTemplate jdbcTemplate,
+            ObjectMapper objectMapper,
+            @Value("${search.persistence.batch-size:500}") int batchSize) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.objectMapper = objectMapper;
+        this.batchSize = batchSize;
+    }
+
+    /**
+     * Inserta o actualiza los productos por {@code external_product_id}.
+     *
+     * @param products productos a guardar
+     */
+    public void upsertAll(Collection<SearchableProduct> products) {
+        if (products.isEmpty()) {
+            return;
+        }
+        Timestamp now = Timestamp.from(Instant.now());
+        List<SearchableProduct> rows = new ArrayList<>(products);
+        jdbcTemplate.batchUpdate(UPSERT_SQL, rows, batchSize, (ps, product) -> bind(ps, product, now));
+    }
+
+    /**
+     * Marca como eliminadas las filas no escritas desde {@code since}.
+     *
+     * @param since instante a partir del cual una fila se considera vigente
+     * @return número de filas marcadas
+     */
+    public int softDeleteNotUpdatedSince(Instant since) {
+        Timestamp now = Timestamp.from(Instant.now());
+        return jdbcTemplate.update(SOFT_DELETE_STALE_SQL, now, now, Timestamp.from(since));
+    }
+
+    private void bind(PreparedStatement ps, SearchableProduct p, Timestamp now) throws SQLException {
+        int i = 1;
+        ps.setObject(i++, UUID.randomUUID());
+        ps.setObject(i++, p.id().value());
+        ps.setObject(i++, p.storeId());
+        ps.setString(i++, p.name());
+        ps.setString(i++, p.description());
+        ps.setString(i++, p.brand());
+        ps.setString(i++, json(p.categoryNames()));
+        ps.setString(i++, json(p.categoryIds()));
+        ps.setBigDecimal(i++, p.price());
+        ps.setBigDecimal(i++, p.compareAtPrice());
+        ps.setString(i++, p.currency());
+        ps.setString(i++, json(p.colors()));
+        ps.setString(i++, json(p.sizes()));
+        ps.setBigDecimal(i++, p.averageRating());
+        setInteger(ps, i++, p.reviewCount());
+        setInteger(ps, i++, p.salesCount());
+        setInteger(ps, i++, p.viewCount());
+        ps.setBoolean(i++, p.isAvailable());
+        setInteger(ps, i++, p.stockQuantity());
+        ps.setString(i++, p.primaryImageUrl());
+        ps.setString(i++, json(p.imageUrls()));
+        ps.setBoolean(i++, p.isActive());
+        ps.setBoolean(i++, p.isDeleted());
+        ps.setTimestamp(i++, p.indexedAt() != null ? Timestamp.from(p.indexedAt()) : now);
+        ps.setTimestamp(i, now);
+    }
+
+    private static void setInteger(PreparedStatement ps, int index, Integer value) throws SQLException {
+        if (value != null) {
+            ps.setInt(index, value);
+        } else {
+            ps.setNull(index, Types.INTEGER);
+        }
+    }
+
+    private String json(List<?> values) throws SQLException {
+        try {
+            return objectMapper.writeValueAsString(values);
+        } catch (JsonProcessingException e) {
+            throw new SQLException("Could not serialize product_index json column", e);
+        }
+    }
+}
@@ -0,0 +1,254 @@
+package com.microservice.search.infrastructure.adapters;
+
+import com.microservice.search.domain.exceptions.DomainException;
+import com.microservice.search.domain.models.SearchableProduct;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Write-behind de la tabla {@code product_index}.
+ * Los productos se encolan en una cola acotada y un único hilo los agrupa en
+ * chunks de hasta {@code chunkSize} (esperando como mucho {@code maxWaitMs} a
+ * completarlo), se queda con la última versión de cada producto y los guarda
+ * con {@link ProductIndexJdbcWriter}. Con la cola llena quien encola espera
+ * hasta {@code offerTimeout}, así la indexación nunca va más rápida que
+ * PostgreSQL. Al parar el servicio se vacía la cola antes de cerrar.
+ * Los chunks descartados tras agotar los reintentos cuentan como terminados
+ * para {@link #awaitDrained}, pero quedan registrados en {@link #droppedSince}.
+ */
+@Component
+public class ProductIndexWriteBehind implements DisposableBean {
+
+    private static final Logger log = LoggerFactory.getLogger(ProductIndexWriteBehind.class);
+    private static final long IDLE_POLL_MS = 1000;
+
+    private final ProductIndexJdbcWriter writer;
+    private final BlockingQueue<SearchableProduct> queue;
+    private final int chunkSize;
+    private final long maxWaitMs;
+    private final Duration offerTimeout;
+    private final int maxAttempts;
+    private final long retryBackoffMs;
+    private final Thread flusher;
+    private final Object drainMonitor = new Object();
+
+    private final Timer flushTimer;
+    private final Counter writtenCounter;
+    private final Counter droppedCounter;
+
+    private volatile boolean running = true;
+    private volatile Instant lastDroppedAt;
+    private long enqueued;
+    private long completed;
+
+    public ProductIndexWriteBehind(
+            ProductIndexJdbcWriter writer,
+            MeterRegistry meterRegistry,
+            @Value("${search.persistence.write-behind.queue-capacity:10000}") int queueCapacity,
+            @Value("${search.persistence.write-behind.chunk-size:500}") int chunkSize,
+            @Value("${search.persistence.write-behind.max-wait-ms:200}") long maxWaitMs,
+            @Value("${search.persistence.write-behind.offer-timeout:30s}") Duration offerTimeout,
+            @Value("${search.persistence.write-behind.max-attempts:3}") int maxAttempts,
+            @Value("${search.persistence.write-behind.retry-backoff-ms:500}") long retryBackoffMs) {
+        this.writer = writer;
+        this.queue = new ArrayBlockingQueue<>(queueCapacity);
+        this.chunkSize = chunkSize;
+        this.maxWaitMs = maxWaitMs;
+        this.offerTimeout = offerTimeout;
+        this.maxAttempts = maxAttempts;
+        this.retryBackoffMs = retryBackoffMs;
+        this.flushTimer = Timer.builder("search.persistence.write-behind.flush")
+                .description("Time to upsert one write-behind chunk into product_index")
+                .register(meterRegistry);
+        this.writtenCounter = Counter.builder("search.persistence.write-behind.written")
+                .description("Products upserted into product_index by the write-behind")
+                .register(meterRegistry);
+        this.droppedCounter = Counter.builder("search.persistence.write-behind.dropped")
+                .description("Products the write-behind gave up on after retries")
+                .register(meterRegistry);
+        meterRegistry.gauge("search.persistence.write-behind.queue", queue, BlockingQueue::size);
+
+        this.flusher = new Thread(this::run, "product-index-write-behind");
+        this.flusher.setDaemon(true);
+        this.flusher.start();
+    }
+
+    /**
+     * Encola los productos; bloquea mientras la cola está llena.
+     *
+     * @param products productos a guardar
+     * @throws DomainException si la cola sigue llena tras {@code offerTimeout}
+     */
+    public void enqueueAll(Collection<SearchableProduct> products) {
+        if (!running) {
+            throw new DomainException("PERSISTENCE_UNAVAILABLE", "Product index write-behind is stopped");
+        }
+        for (SearchableProduct product : products) {
+            try {
+                if (!queue.offer(product, offerTimeout.toMillis(), TimeUnit.MILLISECONDS)) {
+                    throw new DomainException("PERSISTENCE_BACKPRESSURE",
+                            "Product index write-behind queue still full after " + offerTimeout);
+                }
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                throw new DomainException("Interrupted while waiting for the write-behind queue", e);
+            }
+            synchronized (drainMonitor) {
+                enqueued++;
+            }
+        }
+    }
+
+    /**
+     * Espera a que se haya escrito todo lo encolado hasta ahora.
+     *
+     * @param timeout tiempo máximo de espera
+     * @return {@code true} si la cola se vació a tiempo
+     */
+    public boolean awaitDrained(Duration timeout) throws InterruptedException {
+        long deadline = System.nanoTime() + timeout.toNanos();
+        synchronized (drainMonitor) {
+            long target = enqueued;
+            while (completed < target) {
+                long remainingMs = TimeUnit.NANOSECONDS.toMillis(deadline - System.nanoTime());
+                if (remainingMs <= 0) {
+                    return false;
+                }
+                drainMonitor.wait(remainingMs);
+            }
+            return true;
+        }
+    }
+
+    /**
+     * Indica si se ha descartado algún chunk desde el instante dado; en ese
+     * caso a {@code product_index} le faltan escrituras de ese periodo.
+     */
+    public boolean droppedSince(Instant since) {
+        Instant dropped = lastDroppedAt;
+        return dropped != null && !dropped.isBefore(since);
+    }
+
+    @Override
+    public void destroy() throws InterruptedException {
+        running = false;
+        flusher.interrupt();
+        flusher.join();
+        List<SearchableProduct> remaining = new ArrayList<>();
+        queue.drainTo(remaining);
+        if (!remaining.isEmpty()) {
+            log.info("Flushing {} pending product_index writes before shutdown", remaining.size());
+            write(remaining);
+        }
+    }
+
+    private void run() {
+        List<SearchableProduct> chunk = new ArrayList<>(chunkSize);
+        while (running) {
+            try {
+                SearchableProduct first = queue.poll(IDLE_POLL_MS, TimeUnit.MILLISECONDS);
+                if (first == null) {
+                    continue;
+                }
+                chunk.add(first);
+                fill(chunk);
+            } catch (InterruptedException e) {
+                if (running) {
+                    continue;
+                }
+            }
+            if (!chunk.isEmpty()) {
+                write(chunk);
+                chunk.clear();
+            }
+        }
+    }
+
+    /**
+     * Completa el chunk con lo que ya hay en la cola y, si no llega al tamaño,
+     * espera como mucho {@code maxWaitMs} a que lleguen más productos.
+     */
+    private void fill(List<SearchableProduct> chunk) throws InterruptedException {
+        long deadline = System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(maxWaitMs);
+        while (chunk.size() < chunkSize) {
+            if (queue.drainTo(chunk, chunkSize - chunk.size()) > 0) {
+                continue;
+            }
+            long remaining = deadline - System.nanoTime();
+            if (remaining <= 0) {
+                return;
+            }
+            SearchableProduct next = queue.poll(remaining, TimeUnit.NANOSECONDS);
+            if (next == null) {
+                return;
+            }
+            chunk.add(next);
+        }
+    }
+
+    private void write(List<SearchableProduct> chunk) {
+        Map<UUID, SearchableProduct> latest = new LinkedHashMap<>();
+        chunk.forEach(product -> latest.put(product.id().value(), product));
+
+        long start = System.nanoTime();
+        try {
+            for (int attempt = 1; ; attempt++) {
+                try {
+                    writer.upsertAll(latest.values());
+                    writtenCounter.increment(latest.size());
+                    return;
+                } catch (RuntimeException e) {
+                    if (attempt >= maxAttempts) {
+                        log.error("Dropping {} product_index writes after {} attempts: {}",
+                                latest.size(), attempt, e.getMessage());
+                        droppedCounter.increment(latest.size());
+                        lastDroppedAt = Instant.now();
+                        return;
+                    }
+                    log.warn("product_index write of {} products failed (attempt {}), retrying: {}",
+                            latest.size(), attempt, e.getMessage());
+                    if (!sleep(retryBackoffMs * attempt)) {
+                        attempt = maxAttempts - 1;
+                    }
+                }
+            }
+        } finally {
+            flushTimer.record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+            synchronized (drainMonitor) {
+                completed += chunk.size();
+                drainMonitor.notifyAll();
+            }
+        }
+    }
+
+    /**
+     * Espera entre reintentos; al parar el servicio se salta la espera y se
+     * hace un último intento.
+     */
+    private boolean sleep(long millis) {
+        try {
+            Thread.sleep(millis);
+            return true;
+        } catch (InterruptedException e) {
+            return false;
+        }
+    }
+}
@@ -0,0 +1,123 @@
+package com.microservice.search.infrastructure.adapters.lucene;
+
+import org.apache.lucene.index.DocValues;
+import org.apache.lucene.index.LeafReaderContext;
+import org.apache.lucene.index.SortedSetDocValues;
+import org.apache.lucene.search.Collector;
+import org.apache.lucene.search.CollectorManager;
+import org.apache.lucene.search.LeafCollector;
+import org.apache.lucene.search.Scorable;
+import org.apache.lucene.search.ScoreMode;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Cuenta, para cada campo de faceta, cuántos documentos coinciden con cada
+ * valor. Cuenta por ordinal de doc values en cada segmento y solo resuelve
+ * los ordinales a texto al final. Como Meilisearch, devuelve como mucho
+ * {@value #MAX_VALUES_PER_FACET} valores por faceta, los más frecuentes.
+ */
+final class FacetCountingCollectorManager
+        implements CollectorManager<FacetCountingCollectorManager.FacetCollector, Map<String, Map<String, Long>>> {
+
+    static final int MAX_VALUES_PER_FACET = 100;
+
+    private final List<String> fields;
+
+    FacetCountingCollectorManager(List<String> fields) {
+        this.fields = List.copyOf(fields);
+    }
+
+    @Override
+    public FacetCollector newCollector() {
+        return new FacetCollector();
+    }
+
+    @Override
+    public Map<String, Map<String, Long>> reduce(Collection<FacetCollector> collectors) throws IOException {
+        List<Map<String, Long>> totals = new ArrayList<>();
+        for (int i = 0; i < fields.size(); i++) {
+            totals.add(new HashMap<>());
+        }
+        for (FacetCollector collector : collectors) {
+            for (LeafCounts leaf : collector.leaves) {
+                for (int f = 0; f < fields.size(); f++) {
+                    long[] counts = leaf.counts[f];
+                    SortedSetDocValues values = leaf.values[f];
+                    for (int ord = 0; ord < counts.length; ord++) {
+                        if (counts[ord] > 0) {
+                            totals.get(f).merge(values.lookupOrd(ord).utf8ToString(), counts[ord], Long::sum);
+                        }
+                    }
+                }
+            }
+        }
+
+        Map<String, Map<String, Long>> result = new LinkedHashMap<>();
+        for (int f = 0; f < fields.size(); f++) {
+            Map<String, Long> top = new LinkedHashMap<>();
+            totals.get(f).entrySet().stream()
+                    .sorted(Map.Entry.<String, Long>comparingByValue().reversed()
+                            .thenComparing(Map.Entry.comparingByKey()))
+                    .limit(MAX_VALUES_PER_FACET)
+                    .forEach(entry -> top.put(entry.getKey(), entry.getValue()));
+            result.put(fields.get(f), top);
+        }
+        return result;
+    }
+
+    final class FacetCollector implements Collector {
+
+        private final List<LeafCounts> leaves = new ArrayList<>();
+
+        @Override
+        public LeafCollector getLeafCollector(LeafReaderContext context) throws IOException {
+            SortedSetDocValues[] values = new SortedSetDocValues[fields.size()];
+            long[][] counts = new long[fields.size()][];
+            for (int f = 0; f < fields.size(); f++) {
+                values[f] = DocValues.getSortedSet(context.reader(), fields.get(f));
+                counts[f] = new long[Math.toIntExact(values[f].getValueCount())];
+            }
+            leaves.add(new LeafCounts(values, counts));
+
+            // lookupOrd necesita su propia instancia, la de conteo avanza por documento
+            SortedSetDocValues[] iterators = new SortedSetDocValues[fields.size()];
+            for (int f = 0; f < fields.size(); f++) {
+                iterators[f] = DocValues.getSortedSet(context.reader(), fields.get(f));
+            }
+
+            return new LeafCollector() {
+                @Override
+                public void setScorer(Scorable scorer) {
+                    // no se usa la puntuación
+                }
+
+                @Override
+                public void collect(int doc) throws IOException {
+                    for (int f = 0; f < iterators.length; f++) {
+                        SortedSetDocValues docValues = iterators[f];
+                        if (docValues.advanceExact(doc)) {
+                            for (int i = 0; i < docValues.docValueCount(); i++) {
+                                counts[f][(int) docValues.nextOrd()]++;
+                            }
+                        }
+                    }
+                }
+            };
+        }
+
+        @Override
+        public ScoreMode scoreMode() {
+            return ScoreMode.COMPLETE_NO_SCORES;
+        }
+    }
+
+    private record LeafCounts(SortedSetDocValues[] values, long[][] counts) {
+    }
+}
@@ -0,0 +1,222 @@
+package com.microservice.search.infrastructure.adapters.lucene;
+
+import com.microservice.search.domain.models.ProductId;
+import com.microservice.search.domain.models.SearchFacet;
+import com.microservice.search.domain.models.SearchableProduct;
+import org.apache.lucene.document.BinaryDocValuesField;
+import org.apache.lucene.document.Document;
+import org.apache.lucene.document.DoubleDocValuesField;
+import org.apache.lucene.document.DoublePoint;
+import org.apache.lucene.document.Field;
+import org.apache.lucene.document.NumericDocValuesField;
+import org.apache.lucene.document.SortedSetDocValuesField;
+import org.apache.lucene.document.StringField;
+import org.apache.lucene.document.TextField;
+import org.apache.lucene.store.ByteArrayDataInput;
+import org.apache.lucene.store.ByteBuffersDataOutput;
+import org.apache.lucene.util.BytesRef;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.math.BigDecimal;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * Esquema de los documentos Lucene de productos y conversión desde y hacia
+ * el modelo de dominio. Sigue los mismos atributos que el índice de
+ * Meilisearch: texto analizado para buscar y campos exactos, puntos y doc
+ * values para filtrar, ordenar y facetar.
+ */
+final class LuceneDocuments {
+
+    static final String ID = "id";
+    static final String STORE_ID = "storeId";
+    static final String NAME = "name";
+    static final String DESCRIPTION = "description";
+    static final String BRAND = "brand";
+    static final String BRAND_EXACT = "brand_exact";
+    static final String CATEGORY = "categoryNames";
+    static final String CATEGORY_EXACT = "category_exact";
+    static final String PRICE = "price";
+    static final String AVERAGE_RATING = "averageRating";
+    static final String SALES_COUNT = "salesCount";
+    static final String AVAILABLE = "isAvailable";
+    static final String SOURCE = "_source";
+    /** Todos los campos de texto juntos, para prefijos y erratas. */
+    static final String ALL_TEXT = "_text";
+
+    private static final byte SOURCE_VERSION = 1;
+
+    private LuceneDocuments() {
+    }
+
+    static String facetField(SearchFacet facet) {
+        return switch (facet) {
+            case BRAND -> BRAND_EXACT;
+            case CATEGORY -> CATEGORY_EXACT;
+            case STORE -> STORE_ID;
+            case AVAILABILITY -> AVAILABLE;
+        };
+    }
+
+    static Document toDocument(SearchableProduct product) {
+        Document doc = new Document();
+        doc.add(new StringField(ID, product.id().value().toString(), Field.Store.NO));
+
+        if (product.storeId() != null) {
+            String storeId = product.storeId().toString();
+            doc.add(new StringField(STORE_ID, storeId, Field.Store.NO));
+            doc.add(new SortedSetDocValuesField(STORE_ID, new BytesRef(storeId)));
+        }
+
+        doc.add(new TextField(NAME, product.name(), Field.Store.NO));
+        if (product.description() != null) {
+            doc.add(new TextField(DESCRIPTION, product.description(), Field.Store.NO));
+        }
+        if (product.brand() != null) {
+            doc.add(new TextField(BRAND, product.brand(), Field.Store.NO));
+            doc.add(new StringField(BRAND_EXACT, product.brand(), Field.Store.NO));
+            doc.add(new SortedSetDocValuesField(BRAND_EXACT, new BytesRef(product.brand())));
+        }
+        for (String category : product.categoryNames()) {
+            doc.add(new TextField(CATEGORY, category, Field.Store.NO));
+            doc.add(new StringField(CATEGORY_EXACT, category, Field.Store.NO));
+            doc.add(new SortedSetDocValuesField(CATEGORY_EXACT, new BytesRef(category)));
+        }
+
+        doc.add(new TextField(ALL_TEXT, String.join(" ", allText(product)), Field.Store.NO));
+
+        addDecimal(doc, PRICE, product.price());
+        addDecimal(doc, AVERAGE_RATING, product.averageRating());
+        doc.add(new NumericDocValuesField(SALES_COUNT, product.salesCount() != null ? product.salesCount() : 0));
+
+        String available = Boolean.toString(product.isAvailable());
+        doc.add(new StringField(AVAILABLE, available, Field.Store.NO));
+        doc.add(new SortedSetDocValuesField(AVAILABLE, new BytesRef(available)));
+
+        doc.add(new BinaryDocValuesField(SOURCE, encode(product)));
+        return doc;
+    }
+
+    /**
+     * Reconstruye el producto desde {@link #SOURCE} con los mismos campos que
+     * devuelve Meilisearch.
+     */
+    static SearchableProduct toProduct(BytesRef source) throws IOException {
+        ByteArrayDataInput in = new ByteArrayDataInput(source.bytes, source.offset, source.length);
+        if (in.readByte() != SOURCE_VERSION) {
+            throw new IllegalStateException("Unsupported document source version");
+        }
+        ProductId id = new ProductId(UUID.fromString(in.readString()));
+        String storeId = readNullable(in);
+        String name = in.readString();
+        String description = readNullable(in);
+        String brand = readNullable(in);
+        List<String> categoryNames = new ArrayList<>();
+        for (int i = in.readVInt(); i > 0; i--) {
+            categoryNames.add(in.readString());
+        }
+        String price = readNullable(in);
+        String currency = readNullable(in);
+        String rating = readNullable(in);
+        int reviewCount = in.readZInt();
+        int salesCount = in.readZInt();
+        boolean available = in.readByte() == 1;
+        String primaryImageUrl = readNullable(in);
+        long indexedAt = in.readLong();
+
+        return new SearchableProduct(
+                id,
+                storeId != null ? UUID.fromString(storeId) : null,
+                name,
+                description,
+                brand,
+                categoryNames,
+                List.of(),
+                price != null ? new BigDecimal(price) : null,
+                null,
+                currency,
+                List.of(),
+                List.of(),
+                rating != null ? new BigDecimal(rating) : null,
+                reviewCount,
+                salesCount,
+                0,
+                available,
+                0,
+                primaryImageUrl,
+                List.of(),
+                true,
+                Instant.ofEpochMilli(indexedAt),
+                null,
+                false);
+    }
+
+    /**
+     * Codifica los campos que devuelve una búsqueda. Se guardan como doc
+     * values binarios porque leerlos no requiere descomprimir bloques, a
+     * diferencia de los stored fields.
+     */
+    private static BytesRef encode(SearchableProduct product) {
+        try {
+            ByteBuffersDataOutput out = new ByteBuffersDataOutput();
+            out.writeByte(SOURCE_VERSION);
+            out.writeString(product.id().value().toString());
+            writeNullable(out, product.storeId() != null ? product.storeId().toString() : null);
+            out.writeString(product.name());
+            writeNullable(out, product.description());
+            writeNullable(out, product.brand());
+            out.writeVInt(product.categoryNames().size());
+            for (String category : product.categoryNames()) {
+                out.writeString(category);
+            }
+            writeNullable(out, product.price() != null ? product.price().toPlainString() : null);
+            writeNullable(out, product.currency());
+            writeNullable(out, product.averageRating() != null ? product.averageRating().toPlainString() : null);
+            out.writeZInt(product.reviewCount() != null ? product.reviewCount() : 0);
+            out.writeZInt(product.salesCount() != null ? product.salesCount() : 0);
+            out.writeByte((byte) (product.isAvailable() ? 1 : 0));
+            writeNullable(out, product.primaryImageUrl());
+            out.writeLong(product.indexedAt().toEpochMilli());
+            return new BytesRef(out.toArrayCopy());
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    private static void writeNullable(ByteBuffersDataOutput out, String value) throws IOException {
+        out.writeByte((byte) (value != null ? 1 : 0));
+        if (value != null) {
+            out.writeString(value);
+        }
+    }
+
+    private static String readNullable(ByteArrayDataInput in) throws IOException {
+        return in.readByte() == 1 ? in.readString() : null;
+    }
+
+    private static List<String> allText(SearchableProduct product) {
+        List<String> text = new ArrayList<>();
+        text.add(product.name());
+        if (product.brand() != null) {
+            text.add(product.brand());
+        }
+        text.addAll(product.categoryNames());
+        if (product.description() != null) {
+            text.add(product.description());
+        }
+        return text;
+    }
+
+    private static void addDecimal(Document doc, String field, BigDecimal value) {
+        if (value == null) {
+            return;
+        }
+        double number = value.doubleValue();
+        doc.add(new DoublePoint(field, number));
+        doc.add(new DoubleDocValuesField(field, number));
+    }
+}
@@ -0,0 +1,144 @@
+package com.microservice.search.infrastructure.adapters.lucene;
+
+import org.apache.lucene.analysis.Analyzer;
+import org.apache.lucene.document.Document;
+import org.apache.lucene.index.IndexWriter;
+import org.apache.lucene.index.IndexWriterConfig;
+import org.apache.lucene.index.Term;
+import org.apache.lucene.search.ControlledRealTimeReopenThread;
+import org.apache.lucene.search.IndexSearcher;
+import org.apache.lucene.search.SearcherManager;
+import org.apache.lucene.store.Directory;
+import org.apache.lucene.store.MMapDirectory;
+import org.apache.lucene.util.IOUtils;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+
+/**
+ * Índice Lucene sobre un directorio mapeado en memoria, con su writer y un
+ * hilo que reabre el searcher en tiempo casi real (NRT).
+ * Los IDs de tarea combinan el slot del índice con el número de secuencia del
+ * writer, así {@code awaitTask} sabe sobre qué índice esperar.
+ */
+final class LuceneIndex implements Closeable {
+
+    private static final int SEQUENCE_BITS = 48;
+    private static final long SEQUENCE_MASK = (1L << SEQUENCE_BITS) - 1;
+    private static final int SLOT_MASK = 0x7FFF;
+
+    private final int slot;
+    private final String name;
+    private final Path path;
+    private final Directory directory;
+    private final IndexWriter writer;
+    private final SearcherManager searcherManager;
+    private final ControlledRealTimeReopenThread<IndexSearcher> reopenThread;
+
+    private LuceneIndex(int slot, String name, Path path, Directory directory, IndexWriter writer,
+                        SearcherManager searcherManager, ControlledRealTimeReopenThread<IndexSearcher> reopenThread) {
+        this.slot = slot;
+        this.name = name;
+        this.path = path;
+        this.directory = directory;
+        this.writer = writer;
+        this.searcherManager = searcherManager;
+        this.reopenThread = reopenThread;
+    }
+
+    static LuceneIndex open(int slot, String name, Path path, Analyzer analyzer, double ramBufferMb,
+                            double maxStaleSec, double minStaleSec) throws IOException {
+        Files.createDirectories(path);
+        Directory directory = new MMapDirectory(path);
+        IndexWriter writer = null;
+        try {
+            IndexWriterConfig config = new IndexWriterConfig(analyzer)
+                    .setOpenMode(IndexWriterConfig.OpenMode.CREATE_OR_APPEND)
+                    .setRAMBufferSizeMB(ramBufferMb);
+            writer = new IndexWriter(directory, config);
+            SearcherManager searcherManager = new SearcherManager(writer, null);
+            ControlledRealTimeReopenThread<IndexSearcher> reopenThread =
+                    new ControlledRealTimeReopenThread<>(writer, searcherManager, maxStaleSec, minStaleSec);
+            reopenThread.setName("lucene-nrt-" + name);
+            reopenThread.setDaemon(true);
+            reopenThread.start();
+            return new LuceneIndex(slot & SLOT_MASK, name, path, directory, writer, searcherManager, reopenThread);
+        } catch (IOException | RuntimeException e) {
+            IOUtils.closeWhileHandlingException(writer, directory);
+            throw e;
+        }
+    }
+
+    static int slotOf(long taskId) {
+        return (int) (taskId >>> SEQUENCE_BITS);
+    }
+
+    static long sequenceOf(long taskId) {
+        return taskId & SEQUENCE_MASK;
+    }
+
+    long taskId(long sequence) {
+        return ((long) slot << SEQUENCE_BITS) | (sequence & SEQUENCE_MASK);
+    }
+
+    int slot() {
+        return slot;
+    }
+
+    String name() {
+        return name;
+    }
+
+    /**
+     * Inserta o reemplaza los documentos por su ID.
+     *
+     * @return número de secuencia de la última operación
+     */
+    long upsert(List<Document> documents) throws IOException {
+        long sequence = writer.getMaxCompletedSequenceNumber();
+        for (Document document : documents) {
+            sequence = writer.updateDocument(new Term(LuceneDocuments.ID, document.get(LuceneDocuments.ID)), document);
+        }
+        return sequence;
+    }
+
+    long delete(String id) throws IOException {
+        return writer.deleteDocuments(new Term(LuceneDocuments.ID, id));
+    }
+
+    /**
+     * Espera a que un searcher que ve la operación indicada esté disponible.
+     */
+    boolean awaitSequence(long sequence, int timeoutMs) throws InterruptedException {
+        return reopenThread.waitForGeneration(sequence, timeoutMs);
+    }
+
+    IndexSearcher acquire() throws IOException {
+        return searcherManager.acquire();
+    }
+
+    void release(IndexSearcher searcher) throws IOException {
+        searcherManager.release(searcher);
+    }
+
+    void commit() throws IOException {
+        if (writer.hasUncommittedChanges()) {
+            writer.commit();
+        }
+    }
+
+    @Override
+    public void close() throws IOException {
+        IOUtils.close(reopenThread, searcherManager, writer, directory);
+    }
+
+    /**
+     * Borra los ficheros del índice; debe estar cerrado.
+     */
+    void deleteFiles() throws IOException {
+        IOUtils.rm(path);
+    }
+}
@@ -0,0 +1,157 @@
+package com.microservice.search.infrastructure.adapters.lucene;
+
+import com.microservice.search.domain.exceptions.SearchEngineException;
+import com.microservice.search.domain.models.SearchFilters;
+import com.microservice.search.domain.models.SearchQuery;
+import com.microservice.search.domain.models.SearchSort;
+import org.apache.lucene.analysis.Analyzer;
+import org.apache.lucene.analysis.TokenStream;
+import org.apache.lucene.analysis.tokenattributes.CharTermAttribute;
+import org.apache.lucene.document.DoublePoint;
+import org.apache.lucene.index.Term;
+import org.apache.lucene.search.BooleanClause;
+import org.apache.lucene.search.BooleanQuery;
+import org.apache.lucene.search.BoostQuery;
+import org.apache.lucene.search.FuzzyQuery;
+import org.apache.lucene.search.MatchAllDocsQuery;
+import org.apache.lucene.search.PrefixQuery;
+import org.apache.lucene.search.Query;
+import org.apache.lucene.search.Sort;
+import org.apache.lucene.search.SortField;
+import org.apache.lucene.search.TermQuery;
+
+import java.io.IOException;
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Traduce una {@link SearchQuery} a consulta y orden de Lucene con la misma
+ * semántica que la ruta de Meilisearch: todos los términos deben aparecer en
+ * algún campo, el último se trata como prefijo y las palabras largas toleran
+ * una errata.
+ */
+final class LuceneQueries {
+
+    /** Campos de texto en orden de prioridad, como searchableAttributes. */
+    private static final Map<String, Float> TEXT_FIELDS = new LinkedHashMap<>();
+
+    static {
+        TEXT_FIELDS.put(LuceneDocuments.NAME, 4f);
+        TEXT_FIELDS.put(LuceneDocuments.BRAND, 3f);
+        TEXT_FIELDS.put(LuceneDocuments.CATEGORY, 2f);
+        TEXT_FIELDS.put(LuceneDocuments.DESCRIPTION, 1f);
+    }
+
+    private static final int PREFIX_MIN_LENGTH = 2;
+    private static final int FUZZY_MIN_LENGTH = 5;
+    private static final float PREFIX_BOOST = 1f;
+    private static final float FUZZY_BOOST = 0.5f;
+
+    private LuceneQueries() {
+    }
+
+    static Query toQuery(SearchQuery query, Analyzer analyzer) {
+        BooleanQuery.Builder builder = new BooleanQuery.Builder();
+        List<String> tokens = analyze(analyzer, query.term());
+        if (tokens.isEmpty()) {
+            builder.add(new MatchAllDocsQuery(), BooleanClause.Occur.MUST);
+        }
+        for (int i = 0; i < tokens.size(); i++) {
+            builder.add(tokenQuery(tokens.get(i), i == tokens.size() - 1), BooleanClause.Occur.MUST);
+        }
+
+        SearchFilters filters = query.filters();
+        filterTerm(builder, LuceneDocuments.CATEGORY_EXACT,
+                query.category() != null && !query.category().isBlank() ? query.category() : null);
+        filterTerm(builder, LuceneDocuments.BRAND_EXACT, filters.brand());
+        filterTerm(builder, LuceneDocuments.STORE_ID, filters.storeId() != null ? filters.storeId().toString() : null);
+        filterTerm(builder, LuceneDocuments.AVAILABLE, filters.available() != null ? filters.available().toString() : null);
+        filterRange(builder, LuceneDocuments.PRICE, filters.minPrice(), filters.maxPrice());
+        filterRange(builder, LuceneDocuments.AVERAGE_RATING, filters.minRating(), null);
+        return builder.build();
+    }
+
+    /**
+     * Orden de Lucene o {@code null} para ordenar por relevancia.
+     * Los documentos sin valor quedan al final en ambos sentidos.
+     */
+    static Sort toSort(SearchSort sort) {
+        SortField field = switch (sort.field()) {
+            case RELEVANCE -> null;
+            case PRICE -> doubleField(LuceneDocuments.PRICE, sort.descending());
+            case RATING -> doubleField(LuceneDocuments.AVERAGE_RATING, sort.descending());
+            case SALES -> longField(LuceneDocuments.SALES_COUNT, sort.descending());
+        };
+        return field != null ? new Sort(field, SortField.FIELD_SCORE) : null;
+    }
+
+    /**
+     * Coincidencia exacta en cada campo con su peso, más prefijo y errata
+     * sobre el campo combinado: así cada autómata se construye una sola vez
+     * por término en lugar de una vez por campo.
+     */
+    private static Query tokenQuery(String token, boolean last) {
+        BooleanQuery.Builder anyField = new BooleanQuery.Builder();
+        for (Map.Entry<String, Float> field : TEXT_FIELDS.entrySet()) {
+            anyField.add(new BoostQuery(new TermQuery(new Term(field.getKey(), token)), field.getValue()),
+                    BooleanClause.Occur.SHOULD);
+        }
+        Term combined = new Term(LuceneDocuments.ALL_TEXT, token);
+        if (last && token.length() >= PREFIX_MIN_LENGTH) {
+            anyField.add(new BoostQuery(new PrefixQuery(combined), PREFIX_BOOST), BooleanClause.Occur.SHOULD);
+        }
+        if (token.length() >= FUZZY_MIN_LENGTH) {
+            anyField.add(new BoostQuery(new FuzzyQuery(combined, 1), FUZZY_BOOST), BooleanClause.Occur.SHOULD);
+        }
+        return anyField.build();
+    }
+
+    private static List<String> analyze(Analyzer analyzer, String text) {
+        List<String> tokens = new ArrayList<>();
+        if (text == null || text.isBlank()) {
+            return tokens;
+        }
+        try (TokenStream stream = analyzer.tokenStream(LuceneDocuments.NAME, text)) {
+            CharTermAttribute term = stream.addAttribute(CharTermAttribute.class);
+            stream.reset();
+            while (stream.incrementToken()) {
+                tokens.add(term.toString());
+            }
+            stream.end();
+        } catch (IOException e) {
+            throw new SearchEngineException("Query analysis failed", e);
+        }
+        return tokens;
+    }
+
+    private static void filterTerm(BooleanQuery.Builder builder, String field, String value) {
+        if (value != null) {
+            builder.add(new TermQuery(new Term(field, value)), BooleanClause.Occur.FILTER);
+        }
+    }
+
+    private static void filterRange(BooleanQuery.Builder builder, String field, BigDecimal min, BigDecimal max) {
+        if (min == null && max == null) {
+            return;
+        }
+        builder.add(DoublePoint.newRangeQuery(field,
+                        min != null ? min.doubleValue() : Double.NEGATIVE_INFINITY,
+                        max != null ? max.doubleValue() : Double.POSITIVE_INFINITY),
+                BooleanClause.Occur.FILTER);
+    }
+
+    private static SortField doubleField(String field, boolean descending) {
+        SortField sortField = new SortField(field, SortField.Type.DOUBLE, descending);
+        sortField.setMissingValue(descending ? Double.NEGATIVE_INFINITY : Double.POSITIVE_INFINITY);
+        return sortField;
+    }
+
+    private static SortField longField(String field, boolean descending) {
+        SortField sortField = new SortField(field, SortField.Type.LONG, descending);
+        sortField.setMissingValue(descending ? Long.MIN_VALUE : Long.MAX_VALUE);
+        return sortField;
+    }
+}
@@ -0,0 +1,438 @@
+package com.microservice.search.infrastructure.adapters.lucene;
+
+import com.microservice.search.domain.exceptions.SearchEngineException;
+import com.microservice.search.domain.models.ProductId;
+import com.microservice.search.domain.models.SearchFacet;
+import com.microservice.search.domain.models.SearchQuery;
+import com.microservice.search.domain.models.SearchResult;
+import com.microservice.search.domain.models.SearchableProduct;
+import com.microservice.search.domain.port.out.SearchEnginePort;
+import org.apache.lucene.analysis.Analyzer;
+import org.apache.lucene.document.Document;
+import org.apache.lucene.index.BinaryDocValues;
+import org.apache.lucene.index.DocValues;
+import org.apache.lucene.index.LeafReaderContext;
+import org.apache.lucene.index.ReaderUtil;
+import org.apache.lucene.index.Term;
+import org.apache.lucene.search.IndexSearcher;
+import org.apache.lucene.search.Query;
+import org.apache.lucene.search.ScoreDoc;
+import org.apache.lucene.search.Sort;
+import org.apache.lucene.search.TermQuery;
+import org.apache.lucene.search.TopDocs;
+import org.apache.lucene.search.TotalHits;
+import org.apache.lucene.store.AlreadyClosedException;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.time.Instant;
+import java.time.ZoneOffset;
+import java.time.format.DateTimeFormatter;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+/**
+ * Motor de búsqueda embebido sobre Lucene, alternativa a Meilisearch para
+ * despliegues pequeños ({@code search.engine=lucene}).
+ * El índice vive en un MMapDirectory y las búsquedas ven los cambios en
+ * tiempo casi real. Las reindexaciones completas se construyen en un
+ * directorio versionado que pasa a ser el vivo al promoverlo; el fichero
+ * CURRENT apunta al directorio vivo para que sobreviva a reinicios.
+ */
+@Component
+@ConditionalOnProperty(name = "search.engine", havingValue = "lucene")
+public class LuceneSearchAdapter implements SearchEnginePort, DisposableBean {
+
+    private static final Logger log = LoggerFactory.getLogger(LuceneSearchAdapter.class);
+    private static final String CURRENT_FILE = "CURRENT";
+    private static final DateTimeFormatter VERSION_FORMAT =
+            DateTimeFormatter.ofPattern("yyyyMMddHHmmssSSS").withZone(ZoneOffset.UTC);
+
+    private final Path basePath;
+    private final String indexPrefix;
+    private final Analyzer analyzer = new ProductAnalyzer();
+    private final double ramBufferMb;
+    private final double maxStaleSec;
+    private final double minStaleSec;
+    private final int taskTimeoutMs;
+    private final AtomicInteger slots = new AtomicInteger();
+
+    /**
+     * Las escrituras toman el lock compartido y la promoción el exclusivo,
+     * así ninguna escritura se reparte entre el índice saliente y el nuevo.
+     */
+    private final ReentrantReadWriteLock swapLock = new ReentrantReadWriteLock();
+
+    private volatile LuceneIndex live;
+    private volatile LuceneIndex staging;
+
+    public LuceneSearchAdapter(
+            @Value("${search.lucene.path:${java.io.tmpdir}/karibea-search}") String path,
+            @Value("${search.lucene.index:products}") String indexPrefix,
+            @Value("${search.lucene.ram-buffer-mb:64}") double ramBufferMb,
+            @Value("${search.lucene.refresh.max-stale-ms:1000}") long maxStaleMs,
+            @Value("${search.lucene.refresh.min-stale-ms:25}") long minStaleMs,
+            @Value("${search.lucene.task-timeout-ms:60000}") int taskTimeoutMs) {
+        this.basePath = Path.of(path);
+        this.indexPrefix = indexPrefix;
+        this.ramBufferMb = ramBufferMb;
+        this.maxStaleSec = maxStaleMs / 1000.0;
+        this.minStaleSec = minStaleMs / 1000.0;
+        this.taskTimeoutMs = taskTimeoutMs;
+        try {
+            this.live = openIndex(readCurrent());
+        } catch (IOException e) {
+            throw new SearchEngineException("Could not open Lucene index at " + basePath, e);
+        }
+        log.info("Lucene index {} opened at {}", live.name(), basePath);
+    }
+
+    @Override
+    public SearchResult search(SearchQuery query) {
+        long startTime = System.currentTimeMillis();
+        Query luceneQuery = LuceneQueries.toQuery(query, analyzer);
+        Sort sort = LuceneQueries.toSort(query.sort());
+        List<String> facetFields = query.facets().stream().map(LuceneDocuments::facetField).toList();
+
+        return withSearcher(searcher -> {
+            int window = query.offset() + query.size();
+            TopDocs top = sort != null
+                    ? searcher.search(luceneQuery, window, sort, false)
+                    : searcher.search(luceneQuery, window);
+            long totalHits = top.totalHits.relation == TotalHits.Relation.EQUAL_TO
+                    ? top.totalHits.value
+                    : searcher.count(luceneQuery);
+
+            ScoreDoc[] hits = Arrays.copyOfRange(top.scoreDocs,
+                    Math.min(query.offset(), top.scoreDocs.length), top.scoreDocs.length);
+            List<SearchableProduct> products = load(searcher, hits);
+
+            Map<SearchFacet, Map<String, Long>> facets = new EnumMap<>(SearchFacet.class);
+            if (!facetFields.isEmpty()) {
+                Map<String, Map<String, Long>> counts =
+                        searcher.search(luceneQuery, new FacetCountingCollectorManager(facetFields));
+                for (SearchFacet facet : query.facets()) {
+                    facets.put(facet, counts.getOrDefault(LuceneDocuments.facetField(facet), Map.of()));
+                }
+            }
+
+            return new SearchResult(products, totalHits, query.page(), query.size(),
+                    System.currentTimeMillis() - startTime, facets);
+        }, "Search operation failed");
+    }
+
+    @Override
+    public void index(SearchableProduct product) {
+        write(index -> index.upsert(List.of(LuceneDocuments.toDocument(product))), "Index operation failed");
+        log.debug("Product indexed: {}", product.id());
+    }
+
+    @Override
+    public void indexBatch(List<SearchableProduct> products) {
+        long taskId = submitBatch(products);
+        log.info("Batch indexed {} products (task {})", products.size(), taskId);
+    }
+
+    @Override
+    public long submitBatch(List<SearchableProduct> products) {
+        List<Document> documents = products.stream().map(LuceneDocuments::toDocument).toList();
+        return write(index -> index.upsert(documents), "Batch index operation failed");
+    }
+
+    @Override
+    public long submitBatch(String indexName, List<SearchableProduct> products) {
+        List<Document> documents = products.stream().map(LuceneDocuments::toDocument).toList();
+        swapLock.readLock().lock();
+        try {
+            LuceneIndex target = byName(indexName);
+            return target.taskId(target.upsert(documents));
+        } catch (IOException | AlreadyClosedException e) {
+            log.error("Error batch indexing into {}: {}", indexName, e.getMessage(), e);
+            throw new SearchEngineException("Batch index operation failed", e);
+        } finally {
+            swapLock.readLock().unlock();
+        }
+    }
+
+    /**
+     * Espera a que las búsquedas vean la operación. Si el índice de la tarea
+     * ya se descartó no hay nada que esperar.
+     */
+    @Override
+    public void awaitTask(long taskId) {
+        int slot = LuceneIndex.slotOf(taskId);
+        LuceneIndex index = live.slot() == slot ? live
+                : staging != null && staging.slot() == slot ? staging : null;
+        if (index == null) {
+            return;
+        }
+        try {
+            if (!index.awaitSequence(LuceneIndex.sequenceOf(taskId), taskTimeoutMs)) {
+                throw new SearchEngineException("Task " + taskId + " was not visible after " + taskTimeoutMs + " ms");
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new SearchEngineException("Wait for task " + taskId + " interrupted", e);
+        } catch (AlreadyClosedException e) {
+            // el índice se ha promovido o descartado mientras esperábamos
+        }
+    }
+
+    @Override
+    public synchronized String createStagingIndex() {
+        if (staging != null) {
+            throw new SearchEngineException("A full reindex is already running into " + staging.name());
+        }
+        String indexName = indexPrefix + "_" + VERSION_FORMAT.format(Instant.now());
+        try {
+            staging = openIndex(indexName);
+        } catch (IOException e) {
+            log.error("Error creating staging index {}: {}", indexName, e.getMessage(), e);
+            throw new SearchEngineException("Staging index creation failed", e);
+        }
+        log.info("Staging index {} created", indexName);
+        return indexName;
+    }
+
+    @Override
+    public synchronized void promoteStagingIndex(String indexName) {
+        LuceneIndex promoted = byName(indexName);
+        if (promoted != staging) {
+            throw new SearchEngineException("Index " + indexName + " is not the staging index");
+        }
+        LuceneIndex previous;
+        swapLock.writeLock().lock();
+        try {
+            promoted.commit();
+            writeCurrent(indexName);
+            previous = live;
+            live = promoted;
+        } catch (IOException e) {
+            log.error("Error promoting index {}: {}", indexName, e.getMessage(), e);
+            throw new SearchEngineException("Index swap failed", e);
+        } finally {
+            staging = null;
+            swapLock.writeLock().unlock();
+        }
+        log.info("Index {} is now live", indexName);
+        discard(previous);
+    }
+
+    @Override
+    public synchronized void dropStagingIndex(String indexName) {
+        LuceneIndex dropped = staging;
+        if (dropped == null || !dropped.name().equals(indexName)) {
+            return;
+        }
+        swapLock.writeLock().lock();
+        try {
+            staging = null;
+        } finally {
+            swapLock.writeLock().unlock();
+        }
+        discard(dropped);
+    }
+
+    @Override
+    public void delete(ProductId productId) {
+        write(index -> index.delete(productId.value().toString()), "Delete operation failed");
+        log.debug("Product deleted from index: {}", productId);
+    }
+
+    @Override
+    public Optional<SearchableProduct> findById(ProductId productId) {
+        TermQuery query = new TermQuery(new Term(LuceneDocuments.ID, productId.value().toString()));
+        return withSearcher(searcher -> {
+            TopDocs top = searcher.search(query, 1);
+            if (top.scoreDocs.length == 0) {
+                return Optional.<SearchableProduct>empty();
+            }
+            return Optional.of(load(searcher, top.scoreDocs).get(0));
+        }, "Find operation failed");
+    }
+
+    @Override
+    public boolean exists(ProductId productId) {
+        TermQuery query = new TermQuery(new Term(LuceneDocuments.ID, productId.value().toString()));
+        return withSearcher(searcher -> searcher.count(query) > 0, "Find operation failed");
+    }
+
+    /**
+     * Confirma periódicamente los cambios a disco; entre commits son visibles
+     * para las búsquedas pero un reinicio los perdería.
+     */
+    @Scheduled(fixedDelayString = "${search.lucene.commit-interval-ms:30000}")
+    public void commit() {
+        try {
+            live.commit();
+        } catch (IOException | AlreadyClosedException e) {
+            log.warn("Could not commit Lucene index {}: {}", live.name(), e.getMessage());
+        }
+    }
+
+    @Override
+    public synchronized void destroy() throws IOException {
+        if (staging != null) {
+            discard(staging);
+            staging = null;
+        }
+        live.close();
+        log.info("Lucene index {} closed", live.name());
+    }
+
+    /**
+     * Aplica una escritura al índice vivo y la replica en el de staging.
+     *
+     * @return ID de tarea sobre el índice vivo
+     */
+    private long write(IndexOperation operation, String errorMessage) {
+        swapLock.readLock().lock();
+        try {
+            long taskId = live.taskId(operation.apply(live));
+            LuceneIndex target = staging;
+            if (target != null) {
+                operation.apply(target);
+            }
+            return taskId;
+        } catch (IOException | AlreadyClosedException e) {
+            log.error("{}: {}", errorMessage, e.getMessage(), e);
+            throw new SearchEngineException(errorMessage, e);
+        } finally {
+            swapLock.readLock().unlock();
+        }
+    }
+
+    /**
+     * Ejecuta una lectura sobre el searcher vivo. Si el índice se cierra por
+     * una promoción concurrente se reintenta una vez sobre el nuevo.
+     */
+    private <T> T withSearcher(SearcherCallback<T> callback, String errorMessage) {
+        for (int attempt = 0; ; attempt++) {
+            LuceneIndex index = live;
+            IndexSearcher searcher;
+            try {
+                searcher = index.acquire();
+            } catch (AlreadyClosedException e) {
+                if (attempt == 0) {
+                    continue;
+                }
+                throw new SearchEngineException(errorMessage, e);
+            } catch (IOException e) {
+                throw new SearchEngineException(errorMessage, e);
+            }
+            try {
+                return callback.apply(searcher);
+            } catch (IOException e) {
+                log.error("{}: {}", errorMessage, e.getMessage(), e);
+                throw new SearchEngineException(errorMessage, e);
+            } finally {
+                try {
+                    index.release(searcher);
+                } catch (IOException e) {
+                    log.warn("Could not release searcher of {}: {}", index.name(), e.getMessage());
+                }
+            }
+        }
+    }
+
+    /**
+     * Lee el origen de los documentos recorriendo cada segmento en orden de
+     * docId, como exigen los doc values, y devuelve los productos en el orden
+     * de los hits.
+     */
+    private static List<SearchableProduct> load(IndexSearcher searcher, ScoreDoc[] hits) throws IOException {
+        Integer[] byDoc = new Integer[hits.length];
+        for (int i = 0; i < hits.length; i++) {
+            byDoc[i] = i;
+        }
+        Arrays.sort(byDoc, Comparator.comparingInt(i -> hits[i].doc));
+
+        List<LeafReaderContext> leaves = searcher.getIndexReader().leaves();
+        SearchableProduct[] products = new SearchableProduct[hits.length];
+        LeafReaderContext leaf = null;
+        BinaryDocValues sources = null;
+        for (int i : byDoc) {
+            int doc = hits[i].doc;
+            if (leaf == null || doc >= leaf.docBase + leaf.reader().maxDoc()) {
+                leaf = leaves.get(ReaderUtil.subIndex(doc, leaves));
+                sources = DocValues.getBinary(leaf.reader(), LuceneDocuments.SOURCE);
+            }
+            if (!sources.advanceExact(doc - leaf.docBase)) {
+                throw new IOException("Document " + doc + " has no source");
+            }
+            products[i] = LuceneDocuments.toProduct(sources.binaryValue());
+        }
+        return Arrays.asList(products);
+    }
+
+    private LuceneIndex byName(String indexName) {
+        LuceneIndex current = live;
+        if (current.name().equals(indexName)) {
+            return current;
+        }
+        LuceneIndex target = staging;
+        if (target != null && target.name().equals(indexName)) {
+            return target;
+        }
+        throw new SearchEngineException("Unknown index " + indexName);
+    }
+
+    private LuceneIndex openIndex(String indexName) throws IOException {
+        return LuceneIndex.open(slots.incrementAndGet(), indexName, basePath.resolve(indexName),
+                analyzer, ramBufferMb, maxStaleSec, minStaleSec);
+    }
+
+    private void discard(LuceneIndex index) {
+        try {
+            index.close();
+            index.deleteFiles();
+            log.info("Index {} deleted", index.name());
+        } catch (IOException e) {
+            log.warn("Could not delete index {}: {}", index.name(), e.getMessage());
+        }
+    }
+
+    private String readCurrent() throws IOException {
+        Path current = basePath.resolve(CURRENT_FILE);
+        if (Files.exists(current)) {
+            String name = Files.readString(current, StandardCharsets.UTF_8).trim();
+            if (!name.isEmpty()) {
+                return name;
+            }
+        }
+        return indexPrefix;
+    }
+
+    private void writeCurrent(String indexName) throws IOException {
+        Path tmp = basePath.resolve(CURRENT_FILE + ".tmp");
+        Files.writeString(tmp, indexName, StandardCharsets.UTF_8);
+        Files.move(tmp, basePath.resolve(CURRENT_FILE),
+                StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+    }
+
+    @FunctionalInterface
+    private interface IndexOperation {
+        long apply(LuceneIndex index) throws IOException;
+    }
+
+    @FunctionalInterface
+    private interface SearcherCallback<T> {
+        T apply(IndexSearcher searcher) throws IOException;
+    }
+}
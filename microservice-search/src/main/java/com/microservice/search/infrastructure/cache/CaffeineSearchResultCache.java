@@ -0,0 +1,94 @@
+package com.microservice.search.infrastructure.cache;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.microservice.search.domain.models.SearchQuery;
+import com.microservice.search.domain.models.SearchResult;
+import com.microservice.search.domain.port.out.SearchResultCachePort;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Supplier;
+
+/**
+ * Caché en memoria de resultados de búsqueda, acotada por tamaño y TTL.
+ * La clave es la consulta normalizada. Cada indexación aplicada por el motor
+ * vacía la caché de todas las instancias; si una invalidación no llega, el
+ * TTL acota el tiempo que un resultado puede quedar desfasado.
+ * Cada resultado guarda la generación de la caché en la que empezó su
+ * búsqueda: una búsqueda en curso durante una invalidación no la vacía, así
+ * que su resultado se descarta al leerlo en lugar de servirse como vigente.
+ * Expone en actuator las métricas {@code cache.*} con el tag
+ * {@code cache=search.query.cache} (gets hit/miss, evictions, size) y la
+ * latencia {@code search.query.latency} por resultado de caché.
+ */
+@Component
+public class CaffeineSearchResultCache implements SearchResultCachePort {
+
+    private final Cache<SearchQuery, Entry> cache;
+    private final AtomicLong generation = new AtomicLong();
+    private final Timer hitTimer;
+    private final Timer missTimer;
+
+    public CaffeineSearchResultCache(
+            MeterRegistry meterRegistry,
+            @Value("${search.query-cache.max-size:10000}") long maxSize,
+            @Value("${search.query-cache.ttl:60s}") Duration ttl) {
+        this.cache = Caffeine.newBuilder()
+                .maximumSize(maxSize)
+                .expireAfterWrite(ttl)
+                .recordStats()
+                .build();
+        CaffeineCacheMetrics.monitor(meterRegistry, cache, "search.query.cache");
+        this.hitTimer = Timer.builder("search.query.latency")
+                .description("Search latency by cache outcome")
+                .tag("cache", "hit")
+                .register(meterRegistry);
+        this.missTimer = Timer.builder("search.query.latency")
+                .description("Search latency by cache outcome")
+                .tag("cache", "miss")
+                .register(meterRegistry);
+    }
+
+    @Override
+    public SearchResult get(SearchQuery query, Supplier<SearchResult> loader) {
+        long start = System.nanoTime();
+        boolean[] loaded = new boolean[1];
+
+        // Caffeine bloquea a los demás llamantes de la misma clave mientras se
+        // calcula, así que una ráfaga de misses idénticos hace una sola búsqueda.
+        SearchQuery key = query.normalized();
+        Entry entry = load(key, loader, loaded);
+        if (entry.generation() != generation.get()) {
+            // Cargado antes de una invalidación: se quita y se busca de nuevo
+            cache.asMap().remove(key, entry);
+            entry = load(key, loader, loaded);
+        }
+
+        (loaded[0] ? missTimer : hitTimer).record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+        return entry.result();
+    }
+
+    @Override
+    public void evictAll() {
+        generation.incrementAndGet();
+        cache.invalidateAll();
+    }
+
+    private Entry load(SearchQuery key, Supplier<SearchResult> loader, boolean[] loaded) {
+        return cache.get(key, k -> {
+            loaded[0] = true;
+            long loadGeneration = generation.get();
+            return new Entry(loadGeneration, loader.get());
+        });
+    }
+
+    private record Entry(long generation, SearchResult result) {
+    }
+}
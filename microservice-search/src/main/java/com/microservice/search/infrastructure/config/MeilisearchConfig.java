@@ -3,13 +3,17 @@ package com.microservice.search.infrastructure.config;
 import com.meilisearch.sdk.Client;
 import com.meilisearch.sdk.Config;
 import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.http.HttpHeaders;
+import org.springframework.web.reactive.function.client.WebClient;
 
 /**
  * Configuración de Meilisearch.
  */
 @Configuration
+@ConditionalOnProperty(name = "search.engine", havingValue = "meilisearch", matchIfMissing = true)
 public class MeilisearchConfig {
 
     @Value("${meilisearch.host:http://localhost:7700}")
@@ -23,4 +27,16 @@ public class MeilisearchConfig {
         Config config = new Config(host, apiKey);
         return new Client(config);
     }
+
+    /**
+     * Cliente HTTP para subir documentos en streaming.
+     */
+    @Bean
+    public WebClient meilisearchWebClient(WebClient.Builder webClientBuilder) {
+        WebClient.Builder builder = webClientBuilder.clone().baseUrl(host);
+        if (!apiKey.isBlank()) {
+            builder.defaultHeader(HttpHeaders.AUTHORIZATION, "Bearer " + apiKey);
+        }
+        return builder.build();
+    }
 }
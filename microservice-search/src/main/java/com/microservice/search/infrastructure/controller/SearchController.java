@@ -2,10 +2,13 @@ package com.microservice.search.infrastructure.controller;
 
 import com.microservice.search.application.dto.SearchRequestDTO;
 import com.microservice.search.application.dto.SearchResponseDTO;
+import com.microservice.search.application.dto.SuggestResponseDTO;
 import com.microservice.search.application.mapper.ProductMapper;
 import com.microservice.search.domain.models.SearchQuery;
 import com.microservice.search.domain.models.SearchResult;
+import com.microservice.search.domain.models.Suggestion;
 import com.microservice.search.domain.port.in.SearchProductsUseCase;
+import com.microservice.search.domain.port.in.SuggestProductsUseCase;
 import com.microservice.search.domain.port.in.SyncProductsUseCase;
 import jakarta.validation.Valid;
 import org.slf4j.Logger;
@@ -14,6 +17,8 @@ import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
 import reactor.core.publisher.Mono;
 
+import java.math.BigDecimal;
+import java.util.List;
 import java.util.UUID;
 
 /**
@@ -27,14 +32,17 @@ public class SearchController {
 
     private final SearchProductsUseCase searchProductsUseCase;
     private final SyncProductsUseCase syncProductsUseCase;
+    private final SuggestProductsUseCase suggestProductsUseCase;
     private final ProductMapper productMapper;
 
     public SearchController(
             SearchProductsUseCase searchProductsUseCase,
             SyncProductsUseCase syncProductsUseCase,
+            SuggestProductsUseCase suggestProductsUseCase,
             ProductMapper productMapper) {
         this.searchProductsUseCase = searchProductsUseCase;
         this.syncProductsUseCase = syncProductsUseCase;
+        this.suggestProductsUseCase = suggestProductsUseCase;
         this.productMapper = productMapper;
     }
 
@@ -47,12 +55,21 @@ public class SearchController {
             @RequestParam(defaultValue = "0") int page,
             @RequestParam(defaultValue = "20") int size,
             @RequestParam(required = false) String category,
-            @RequestParam(required = false) String brand) {
-
-        log.info("Search request: query='{}', page={}, size={}", query, page, size);
+            @RequestParam(required = false) String brand,
+            @RequestParam(required = false) String storeId,
+            @RequestParam(required = false) BigDecimal minPrice,
+            @RequestParam(required = false) BigDecimal maxPrice,
+            @RequestParam(required = false) Boolean available,
+            @RequestParam(required = false) BigDecimal minRating,
+            @RequestParam(required = false) String sortBy,
+            @RequestParam(required = false) String sortOrder,
+            @RequestParam(required = false) List<String> facets) {
+
+        log.info("Search request: query='{}', page={}, size={}, sortBy={}", query, page, size, sortBy);
 
         SearchRequestDTO request = new SearchRequestDTO(
-                query, page, size, category, brand, null, null, null, null);
+                query, page, size, category, brand, storeId, minPrice, maxPrice, available, minRating,
+                sortBy, sortOrder, facets);
 
         SearchQuery searchQuery = productMapper.toDomain(request);
         SearchResult result = searchProductsUseCase.execute(searchQuery);
@@ -75,6 +92,18 @@ public class SearchController {
         return ResponseEntity.ok(response);
     }
 
+    /**
+     * Autocompletado por prefijo de nombres, marcas y categorías.
+     */
+    @GetMapping("/suggest")
+    public ResponseEntity<SuggestResponseDTO> suggest(
+            @RequestParam(name = "q", defaultValue = "") String query,
+            @RequestParam(defaultValue = "10") int limit) {
+
+        List<Suggestion> suggestions = suggestProductsUseCase.execute(query, limit);
+        return ResponseEntity.ok(productMapper.toSuggestDto(query, suggestions));
+    }
+
     /**
      * Sincroniza todos los productos desde el catálogo.
      */
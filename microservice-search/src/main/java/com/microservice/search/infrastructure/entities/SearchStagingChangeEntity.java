@@ -0,0 +1,37 @@
+package com.microservice.search.infrastructure.entities;
+
+import jakarta.persistence.*;
+
+import java.time.Instant;
+import java.util.UUID;
+
+/**
+ * Entidad JPA de un producto escrito en el índice vivo mientras se construye
+ * un índice versionado. Antes del swap esos productos se copian del índice
+ * vivo al versionado. Se lee y escribe con JDBC (ver
+ * MeilisearchStagingRegistry); la entidad define la tabla.
+ */
+@Entity
+@Table(name = "search_staging_changes", indexes = {
+        @Index(name = "idx_staging_changes_changed_at", columnList = "changed_at")
+})
+public class SearchStagingChangeEntity {
+
+    @Id
+    @Column(name = "product_id", nullable = false)
+    private UUID productId;
+
+    @Column(name = "changed_at", nullable = false)
+    private Instant changedAt;
+
+    protected SearchStagingChangeEntity() {
+    }
+
+    public UUID getProductId() {
+        return productId;
+    }
+
+    public Instant getChangedAt() {
+        return changedAt;
+    }
+}
@@ -0,0 +1,41 @@
+package com.microservice.search.infrastructure.entities;
+
+import jakarta.persistence.*;
+
+import java.time.Instant;
+
+/**
+ * Entidad JPA del índice versionado en construcción.
+ * Hay como mucho una fila por índice vivo, compartida por todas las
+ * instancias. Se lee y escribe con JDBC (ver MeilisearchStagingRegistry);
+ * la entidad define la tabla.
+ */
+@Entity
+@Table(name = "search_staging_index")
+public class SearchStagingIndexEntity {
+
+    @Id
+    @Column(name = "live_index", length = 255)
+    private String liveIndex;
+
+    @Column(name = "staging_index", nullable = false, length = 255)
+    private String stagingIndex;
+
+    @Column(name = "started_at", nullable = false)
+    private Instant startedAt;
+
+    protected SearchStagingIndexEntity() {
+    }
+
+    public String getLiveIndex() {
+        return liveIndex;
+    }
+
+    public String getStagingIndex() {
+        return stagingIndex;
+    }
+
+    public Instant getStartedAt() {
+        return startedAt;
+    }
+}
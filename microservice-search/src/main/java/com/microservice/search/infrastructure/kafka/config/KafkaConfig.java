@@ -1,14 +1,21 @@
 package com.microservice.search.infrastructure.kafka.config;
 
+import org.apache.kafka.clients.admin.NewTopic;
 import org.apache.kafka.clients.consumer.ConsumerConfig;
 import org.apache.kafka.clients.producer.ProducerConfig;
+import org.apache.kafka.common.TopicPartition;
 import org.apache.kafka.common.serialization.StringDeserializer;
 import org.apache.kafka.common.serialization.StringSerializer;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.kafka.config.ConcurrentKafkaListenerContainerFactory;
+import org.springframework.kafka.config.TopicBuilder;
 import org.springframework.kafka.core.*;
+import org.springframework.kafka.listener.ContainerProperties;
+import org.springframework.kafka.listener.DeadLetterPublishingRecoverer;
+import org.springframework.kafka.listener.DefaultErrorHandler;
+import org.springframework.util.backoff.ExponentialBackOff;
 
 import java.util.HashMap;
 import java.util.Map;
@@ -25,6 +32,27 @@ public class KafkaConfig {
     @Value("${spring.kafka.consumer.group-id:search-service}")
     private String groupId;
 
+    @Value("${search.indexing.batch.max-records:500}")
+    private int batchMaxRecords;
+
+    @Value("${search.indexing.batch.max-wait-ms:500}")
+    private int batchMaxWaitMs;
+
+    @Value("${search.indexing.batch.min-bytes:65536}")
+    private int batchMinBytes;
+
+    @Value("${search.indexing.batch.retry-max-elapsed-ms:300000}")
+    private long batchRetryMaxElapsedMs;
+
+    @Value("${kafka.topics.product-created:product-created}")
+    private String productCreatedTopic;
+
+    @Value("${kafka.topics.product-updated:product-updated}")
+    private String productUpdatedTopic;
+
+    @Value("${search.query-cache.invalidation-topic:search-cache-invalidations}")
+    private String cacheInvalidationTopic;
+
     @Bean
     public ProducerFactory<String, String> producerFactory() {
         Map<String, Object> config = new HashMap<>();
@@ -53,6 +81,68 @@ public class KafkaConfig {
         return new DefaultKafkaConsumerFactory<>(config);
     }
 
+    /**
+     * Consumidor para listeners en batch: cada poll espera hasta reunir
+     * {@code min-bytes} o hasta {@code max-wait-ms}, y entrega como mucho
+     * {@code max-records} registros.
+     */
+    @Bean
+    public ConsumerFactory<String, String> batchConsumerFactory() {
+        Map<String, Object> config = new HashMap<>(consumerFactory().getConfigurationProperties());
+        config.put(ConsumerConfig.MAX_POLL_RECORDS_CONFIG, batchMaxRecords);
+        config.put(ConsumerConfig.FETCH_MAX_WAIT_MS_CONFIG, batchMaxWaitMs);
+        config.put(ConsumerConfig.FETCH_MIN_BYTES_CONFIG, batchMinBytes);
+        return new DefaultKafkaConsumerFactory<>(config);
+    }
+
+    /**
+     * Factory para listeners en batch. Los offsets se confirman cuando el
+     * listener termina sin error; si falla, el batch completo se reintenta
+     * con backoff exponencial durante {@code retry-max-elapsed-ms} (cubre
+     * caídas de Meilisearch o de la base de datos) y después cada registro
+     * se publica en {@code <topic>.DLT} para no perder eventos.
+     */
+    @Bean
+    public ConcurrentKafkaListenerContainerFactory<String, String> batchKafkaListenerContainerFactory() {
+        ConcurrentKafkaListenerContainerFactory<String, String> factory = new ConcurrentKafkaListenerContainerFactory<>();
+        factory.setConsumerFactory(batchConsumerFactory());
+        factory.setConcurrency(3);
+        factory.setBatchListener(true);
+        factory.getContainerProperties().setAckMode(ContainerProperties.AckMode.BATCH);
+
+        ExponentialBackOff backOff = new ExponentialBackOff(1000L, 2.0);
+        backOff.setMaxInterval(30_000L);
+        backOff.setMaxElapsedTime(batchRetryMaxElapsedMs);
+        DeadLetterPublishingRecoverer recoverer = new DeadLetterPublishingRecoverer(kafkaTemplate(),
+                (record, ex) -> new TopicPartition(record.topic() + ".DLT", -1));
+        factory.setCommonErrorHandler(new DefaultErrorHandler(recoverer, backOff));
+        return factory;
+    }
+
+    @Bean
+    public NewTopic productCreatedDeadLetterTopic() {
+        return TopicBuilder.name(productCreatedTopic + ".DLT")
+                .partitions(1)
+                .replicas(1)
+                .build();
+    }
+
+    @Bean
+    public NewTopic productUpdatedDeadLetterTopic() {
+        return TopicBuilder.name(productUpdatedTopic + ".DLT")
+                .partitions(1)
+                .replicas(1)
+                .build();
+    }
+
+    @Bean
+    public NewTopic cacheInvalidationTopic() {
+        return TopicBuilder.name(cacheInvalidationTopic)
+                .partitions(1)
+                .replicas(1)
+                .build();
+    }
+
     @Bean
     public ConcurrentKafkaListenerContainerFactory<String, String> kafkaListenerContainerFactory() {
         ConcurrentKafkaListenerContainerFactory<String, String> factory = new ConcurrentKafkaListenerContainerFactory<>();
@@ -0,0 +1,80 @@
+package com.microservice.search.infrastructure.kafka.consumer;
+
+import com.microservice.search.application.dto.CatalogProductDTO;
+import com.microservice.search.application.mapper.ProductMapper;
+import com.microservice.search.domain.models.ProductId;
+import com.microservice.search.domain.port.out.SearchEnginePort;
+import com.microservice.search.domain.port.out.SearchResultCachePort;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.kafka.annotation.KafkaListener;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * Mantiene al día el índice Lucene embebido de esta instancia.
+ * Con Lucene cada instancia tiene su propio índice, pero los consumers de
+ * indexación comparten consumer group y cada evento llega a una sola; este
+ * consumer usa un group por instancia para que todas apliquen todos los
+ * cambios. Tras aplicarlo vacía la caché local de resultados, porque la
+ * invalidación difundida puede llegar antes de que este índice tenga el
+ * cambio. Las escrituras son idempotentes, así que la instancia que indexa
+ * el producto puede aplicarlo dos veces.
+ */
+@Component
+@ConditionalOnProperty(name = "search.engine", havingValue = "lucene")
+public class LuceneIndexConsumer {
+
+    private static final Logger log = LoggerFactory.getLogger(LuceneIndexConsumer.class);
+
+    private final SearchEnginePort searchEnginePort;
+    private final SearchResultCachePort searchResultCachePort;
+    private final ProductMapper productMapper;
+    private final ObjectMapper objectMapper;
+
+    public LuceneIndexConsumer(
+            SearchEnginePort searchEnginePort,
+            SearchResultCachePort searchResultCachePort,
+            ProductMapper productMapper,
+            ObjectMapper objectMapper) {
+        this.searchEnginePort = searchEnginePort;
+        this.searchResultCachePort = searchResultCachePort;
+        this.productMapper = productMapper;
+        this.objectMapper = objectMapper;
+    }
+
+    @KafkaListener(
+            topics = {"${kafka.topics.product-created:product-created}", "${kafka.topics.product-updated:product-updated}"},
+            groupId = "${search.lucene.consumer-group:search-lucene-${HOSTNAME:localhost}}",
+            properties = "auto.offset.reset=latest")
+    public void handleProductChanged(String message) {
+        try {
+            CatalogProductDTO dto = objectMapper.readValue(message, CatalogProductDTO.class);
+            searchEnginePort.awaitTask(searchEnginePort.submitBatch(List.of(productMapper.toDomain(dto))));
+            searchResultCachePort.evictAll();
+        } catch (Exception e) {
+            log.error("Error applying product event to Lucene index: {}", e.getMessage(), e);
+        }
+    }
+
+    @KafkaListener(
+            topics = "${kafka.topics.product-deleted:product-deleted}",
+            groupId = "${search.lucene.consumer-group:search-lucene-${HOSTNAME:localhost}}",
+            properties = "auto.offset.reset=latest")
+    public void handleProductDeleted(String message) {
+        try {
+            ProductDeletedPayload payload = objectMapper.readValue(message, ProductDeletedPayload.class);
+            searchEnginePort.delete(new ProductId(payload.productId()));
+            searchResultCachePort.evictAll();
+        } catch (Exception e) {
+            log.error("Error applying product-deleted event to Lucene index: {}", e.getMessage(), e);
+        }
+    }
+
+    private record ProductDeletedPayload(UUID productId) {
+    }
+}
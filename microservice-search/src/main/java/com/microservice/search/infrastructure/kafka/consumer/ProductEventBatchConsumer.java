@@ -0,0 +1,87 @@
+package com.microservice.search.infrastructure.kafka.consumer;
+
+import com.microservice.search.application.dto.CatalogProductDTO;
+import com.microservice.search.application.mapper.ProductMapper;
+import com.microservice.search.domain.models.SearchableProduct;
+import com.microservice.search.domain.port.in.IndexProductUseCase;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.apache.kafka.clients.consumer.ConsumerRecord;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.kafka.annotation.KafkaListener;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+/**
+ * Consumer en batch de eventos de productos creados y actualizados.
+ * Agrupa los registros de cada poll por ID de producto (gana la última
+ * escritura) y los indexa con una sola tarea de Meilisearch. Los offsets se
+ * confirman solo cuando la tarea ha sido aceptada; si falla, el batch se
+ * reintenta completo.
+ */
+@Component
+public class ProductEventBatchConsumer {
+
+    private static final Logger log = LoggerFactory.getLogger(ProductEventBatchConsumer.class);
+
+    private final IndexProductUseCase indexProductUseCase;
+    private final ProductMapper productMapper;
+    private final ObjectMapper objectMapper;
+    private final String productUpdatedTopic;
+
+    public ProductEventBatchConsumer(
+            IndexProductUseCase indexProductUseCase,
+            ProductMapper productMapper,
+            ObjectMapper objectMapper,
+            @Value("${kafka.topics.product-updated:product-updated}") String productUpdatedTopic) {
+        this.indexProductUseCase = indexProductUseCase;
+        this.productMapper = productMapper;
+        this.objectMapper = objectMapper;
+        this.productUpdatedTopic = productUpdatedTopic;
+    }
+
+    @KafkaListener(
+            topics = {"${kafka.topics.product-created:product-created}", "${kafka.topics.product-updated:product-updated}"},
+            groupId = "${spring.kafka.consumer.group-id}",
+            containerFactory = "batchKafkaListenerContainerFactory",
+            autoStartup = "${search.indexing.batch.enabled:false}")
+    public void handleProductEvents(List<ConsumerRecord<String, String>> records) {
+        Map<UUID, ConsumerRecord<String, String>> latest = new LinkedHashMap<>();
+        Map<UUID, CatalogProductDTO> products = new LinkedHashMap<>();
+
+        for (ConsumerRecord<String, String> record : records) {
+            try {
+                CatalogProductDTO dto = objectMapper.readValue(record.value(), CatalogProductDTO.class);
+                ConsumerRecord<String, String> previous = latest.get(dto.id());
+                if (previous == null || record.timestamp() >= previous.timestamp()) {
+                    latest.put(dto.id(), record);
+                    products.put(dto.id(), dto);
+                }
+            } catch (Exception e) {
+                log.error("Error parsing product event at {}-{}@{}: {}",
+                        record.topic(), record.partition(), record.offset(), e.getMessage());
+            }
+        }
+
+        List<SearchableProduct> batch = new ArrayList<>(products.size());
+        products.forEach((id, dto) -> {
+            try {
+                SearchableProduct product = productMapper.toDomain(dto);
+                batch.add(productUpdatedTopic.equals(latest.get(id).topic())
+                        ? product.withUpdatedTimestamp()
+                        : product);
+            } catch (Exception e) {
+                log.error("Error mapping product event {}: {}", id, e.getMessage());
+            }
+        });
+
+        indexProductUseCase.indexBatch(batch);
+        log.info("Indexed {} products from {} product events", batch.size(), records.size());
+    }
+}
@@ -2,6 +2,7 @@ package com.microservice.search.infrastructure.kafka.consumer;
 
 import com.microservice.search.application.dto.CatalogProductDTO;
 import com.microservice.search.application.mapper.ProductMapper;
+import com.microservice.search.domain.models.ProductId;
 import com.microservice.search.domain.models.SearchableProduct;
 import com.microservice.search.domain.port.in.IndexProductUseCase;
 import com.fasterxml.jackson.databind.ObjectMapper;
@@ -35,8 +36,10 @@ public class ProductEventConsumer {
 
     /**
      * Consume eventos de productos creados desde el catálogo.
+     * Inactivo cuando {@link ProductEventBatchConsumer} está habilitado.
      */
-    @KafkaListener(topics = "${kafka.topics.product-created:product-created}", groupId = "${spring.kafka.consumer.group-id}")
+    @KafkaListener(topics = "${kafka.topics.product-created:product-created}", groupId = "${spring.kafka.consumer.group-id}",
+            autoStartup = "#{!${search.indexing.batch.enabled:false}}")
     public void handleProductCreated(String message) {
         log.info("Received product-created event");
         try {
@@ -51,8 +54,10 @@ public class ProductEventConsumer {
 
     /**
      * Consume eventos de productos actualizados desde el catálogo.
+     * Inactivo cuando {@link ProductEventBatchConsumer} está habilitado.
      */
-    @KafkaListener(topics = "${kafka.topics.product-updated:product-updated}", groupId = "${spring.kafka.consumer.group-id}")
+    @KafkaListener(topics = "${kafka.topics.product-updated:product-updated}", groupId = "${spring.kafka.consumer.group-id}",
+            autoStartup = "#{!${search.indexing.batch.enabled:false}}")
     public void handleProductUpdated(String message) {
         log.info("Received product-updated event");
         try {
@@ -73,8 +78,9 @@ public class ProductEventConsumer {
         log.info("Received product-deleted event");
         try {
             ProductDeletedPayload payload = objectMapper.readValue(message, ProductDeletedPayload.class);
-            // Solo marcamos como eliminado, no eliminamos físicamente
-            log.info("Product marked for deletion: {}", payload.productId());
+            // En PostgreSQL solo se marca como eliminado, no se borra físicamente
+            indexProductUseCase.remove(new ProductId(payload.productId()));
+            log.info("Product removed from deleted event: {}", payload.productId());
         } catch (Exception e) {
             log.error("Error processing product-deleted event: {}", e.getMessage(), e);
         }
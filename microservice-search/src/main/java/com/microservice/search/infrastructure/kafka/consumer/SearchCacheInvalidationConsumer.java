@@ -0,0 +1,37 @@
+package com.microservice.search.infrastructure.kafka.consumer;
+
+import com.microservice.search.domain.port.out.SearchResultCachePort;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.kafka.annotation.KafkaListener;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+
+/**
+ * Vacía la caché local de resultados al recibir invalidaciones. Usa un
+ * consumer group por instancia para que todas reciban cada mensaje, y un
+ * listener en batch para que las invalidaciones que llegan juntas (una por
+ * micro-batch de indexación) cuesten un único vaciado.
+ */
+@Component
+public class SearchCacheInvalidationConsumer {
+
+    private static final Logger log = LoggerFactory.getLogger(SearchCacheInvalidationConsumer.class);
+
+    private final SearchResultCachePort searchResultCachePort;
+
+    public SearchCacheInvalidationConsumer(SearchResultCachePort searchResultCachePort) {
+        this.searchResultCachePort = searchResultCachePort;
+    }
+
+    @KafkaListener(
+            topics = "${search.query-cache.invalidation-topic:search-cache-invalidations}",
+            groupId = "${search.query-cache.invalidation-group:search-query-cache-${HOSTNAME:localhost}}",
+            containerFactory = "batchKafkaListenerContainerFactory",
+            properties = "auto.offset.reset=latest")
+    public void handleInvalidations(List<String> messages) {
+        searchResultCachePort.evictAll();
+        log.debug("Search result cache evicted after {} invalidations", messages.size());
+    }
+}
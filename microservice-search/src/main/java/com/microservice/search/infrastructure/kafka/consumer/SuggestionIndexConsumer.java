@@ -0,0 +1,69 @@
+package com.microservice.search.infrastructure.kafka.consumer;
+
+import com.microservice.search.application.dto.CatalogProductDTO;
+import com.microservice.search.application.mapper.ProductMapper;
+import com.microservice.search.domain.models.ProductId;
+import com.microservice.search.domain.port.out.SuggestionIndexPort;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.kafka.annotation.KafkaListener;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * Mantiene el índice de autocompletado en memoria de esta instancia.
+ * Los consumers de indexación comparten consumer group, así que cada evento
+ * llega a una sola instancia; este consumer usa un group por instancia para
+ * que todas apliquen todos los cambios. Las operaciones son idempotentes, así
+ * que la instancia que indexa el producto puede aplicarlo dos veces.
+ */
+@Component
+public class SuggestionIndexConsumer {
+
+    private static final Logger log = LoggerFactory.getLogger(SuggestionIndexConsumer.class);
+
+    private final SuggestionIndexPort suggestionIndexPort;
+    private final ProductMapper productMapper;
+    private final ObjectMapper objectMapper;
+
+    public SuggestionIndexConsumer(
+            SuggestionIndexPort suggestionIndexPort,
+            ProductMapper productMapper,
+            ObjectMapper objectMapper) {
+        this.suggestionIndexPort = suggestionIndexPort;
+        this.productMapper = productMapper;
+        this.objectMapper = objectMapper;
+    }
+
+    @KafkaListener(
+            topics = {"${kafka.topics.product-created:product-created}", "${kafka.topics.product-updated:product-updated}"},
+            groupId = "${search.suggest.consumer-group:search-suggestions-${HOSTNAME:localhost}}",
+            properties = "auto.offset.reset=latest")
+    public void handleProductChanged(String message) {
+        try {
+            CatalogProductDTO dto = objectMapper.readValue(message, CatalogProductDTO.class);
+            suggestionIndexPort.upsertAll(List.of(productMapper.toDomain(dto)));
+        } catch (Exception e) {
+            log.error("Error applying product event to suggestion index: {}", e.getMessage(), e);
+        }
+    }
+
+    @KafkaListener(
+            topics = "${kafka.topics.product-deleted:product-deleted}",
+            groupId = "${search.suggest.consumer-group:search-suggestions-${HOSTNAME:localhost}}",
+            properties = "auto.offset.reset=latest")
+    public void handleProductDeleted(String message) {
+        try {
+            ProductDeletedPayload payload = objectMapper.readValue(message, ProductDeletedPayload.class);
+            suggestionIndexPort.remove(new ProductId(payload.productId()));
+        } catch (Exception e) {
+            log.error("Error applying product-deleted event to suggestion index: {}", e.getMessage(), e);
+        }
+    }
+
+    private record ProductDeletedPayload(UUID productId) {
+    }
+}
@@ -0,0 +1,50 @@
+package com.microservice.search.infrastructure.kafka.producer;
+
+import com.microservice.search.domain.port.out.SearchCacheInvalidationPort;
+import com.microservice.search.domain.port.out.SearchResultCachePort;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.kafka.core.KafkaTemplate;
+import org.springframework.stereotype.Component;
+
+/**
+ * Difunde las invalidaciones de caché por Kafka. Cada instancia las consume
+ * con su propio consumer group ({@code SearchCacheInvalidationConsumer}), así
+ * que todas vacían su caché, incluida la que publica. Si el envío falla se
+ * invalida al menos la caché local y el TTL acota el desfase del resto.
+ */
+@Component
+public class KafkaSearchCacheInvalidationPublisher implements SearchCacheInvalidationPort {
+
+    private static final Logger log = LoggerFactory.getLogger(KafkaSearchCacheInvalidationPublisher.class);
+
+    private final KafkaTemplate<String, String> kafkaTemplate;
+    private final SearchResultCachePort searchResultCachePort;
+    private final String topic;
+
+    public KafkaSearchCacheInvalidationPublisher(
+            KafkaTemplate<String, String> kafkaTemplate,
+            SearchResultCachePort searchResultCachePort,
+            @Value("${search.query-cache.invalidation-topic:search-cache-invalidations}") String topic) {
+        this.kafkaTemplate = kafkaTemplate;
+        this.searchResultCachePort = searchResultCachePort;
+        this.topic = topic;
+    }
+
+    @Override
+    public void invalidateAll() {
+        try {
+            kafkaTemplate.send(topic, "all")
+                    .whenComplete((result, ex) -> {
+                        if (ex != null) {
+                            log.warn("Failed to broadcast cache invalidation, evicting locally: {}", ex.getMessage());
+                            searchResultCachePort.evictAll();
+                        }
+                    });
+        } catch (Exception e) {
+            log.warn("Failed to broadcast cache invalidation, evicting locally: {}", e.getMessage());
+            searchResultCachePort.evictAll();
+        }
+    }
+}
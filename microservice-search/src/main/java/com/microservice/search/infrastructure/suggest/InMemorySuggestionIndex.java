@@ -0,0 +1,294 @@
+package com.microservice.search.infrastructure.suggest;
+
+import com.microservice.search.domain.models.ProductId;
+import com.microservice.search.domain.models.SearchableProduct;
+import com.microservice.search.domain.models.Suggestion;
+import com.microservice.search.domain.port.out.SuggestionIndexPort;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.text.Normalizer;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.function.Consumer;
+import java.util.function.Supplier;
+import java.util.regex.Pattern;
+
+/**
+ * Índice de autocompletado en memoria sobre nombres de producto, marcas y
+ * categorías, ordenado por ventas. Los productos se indexan desde el inicio de
+ * cada palabra del nombre, de modo que "gal" encuentra "Samsung Galaxy".
+ * Marcas y categorías suman las ventas de sus productos activos.
+ * Una reconstrucción se prepara fuera del lock y reaplica los cambios que
+ * llegaron mientras tanto antes de sustituir al índice vivo.
+ */
+@Component
+public class InMemorySuggestionIndex implements SuggestionIndexPort {
+
+    private static final Pattern MARKS = Pattern.compile("\\p{M}+");
+    private static final Pattern SEPARATORS = Pattern.compile("[^\\p{Alnum}]+");
+
+    private final int maxResults;
+    private final int cacheDepth;
+    private final int maxKeyLength;
+    private final int maxNameTokens;
+
+    private final ReadWriteLock lock = new ReentrantReadWriteLock();
+    private final Object rebuildLock = new Object();
+    private State state;
+    private List<Consumer<State>> pending;
+
+    public InMemorySuggestionIndex(
+            @Value("${search.suggest.max-results:10}") int maxResults,
+            @Value("${search.suggest.cache-depth:4}") int cacheDepth,
+            @Value("${search.suggest.max-key-length:20}") int maxKeyLength,
+            @Value("${search.suggest.max-name-tokens:4}") int maxNameTokens) {
+        this.maxResults = maxResults;
+        this.cacheDepth = cacheDepth;
+        this.maxKeyLength = maxKeyLength;
+        this.maxNameTokens = maxNameTokens;
+        this.state = new State();
+    }
+
+    @Override
+    public List<Suggestion> suggest(String prefix, int limit) {
+        String key = normalize(prefix);
+        int effectiveLimit = Math.min(limit, maxResults);
+        if (key.isEmpty() || effectiveLimit <= 0) {
+            return List.of();
+        }
+        lock.readLock().lock();
+        try {
+            return state.trie.find(key, effectiveLimit);
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    @Override
+    public void upsertAll(Collection<SearchableProduct> products) {
+        if (!products.isEmpty()) {
+            apply(current -> products.forEach(current::upsert));
+        }
+    }
+
+    @Override
+    public void remove(ProductId productId) {
+        apply(current -> current.remove(productId.value()));
+    }
+
+    @Override
+    public void rebuild(Supplier<? extends Collection<SearchableProduct>> loader) {
+        synchronized (rebuildLock) {
+            lock.writeLock().lock();
+            try {
+                pending = new ArrayList<>();
+            } finally {
+                lock.writeLock().unlock();
+            }
+
+            State rebuilt = new State();
+            try {
+                rebuilt.trie.beginBulkLoad();
+                loader.get().forEach(rebuilt::upsert);
+                rebuilt.trie.endBulkLoad();
+            } catch (RuntimeException e) {
+                lock.writeLock().lock();
+                try {
+                    pending = null;
+                } finally {
+                    lock.writeLock().unlock();
+                }
+                throw e;
+            }
+
+            lock.writeLock().lock();
+            try {
+                pending.forEach(change -> change.accept(rebuilt));
+                pending = null;
+                state = rebuilt;
+            } finally {
+                lock.writeLock().unlock();
+            }
+        }
+    }
+
+    /**
+     * Número de productos indexados.
+     */
+    public int size() {
+        lock.readLock().lock();
+        try {
+            return state.products.size();
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    private void apply(Consumer<State> change) {
+        lock.writeLock().lock();
+        try {
+            change.accept(state);
+            if (pending != null) {
+                pending.add(change);
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * Minúsculas sin acentos y con los separadores reducidos a un espacio.
+     */
+    static String normalize(String text) {
+        if (text == null) {
+            return "";
+        }
+        String stripped = MARKS.matcher(Normalizer.normalize(text, Normalizer.Form.NFD)).replaceAll("");
+        return SEPARATORS.matcher(stripped.toLowerCase(Locale.ROOT)).replaceAll(" ").trim();
+    }
+
+    /**
+     * Claves que empiezan en cada una de las primeras {@code maxTokens} palabras.
+     */
+    static List<String> wordStarts(String normalized, int maxTokens) {
+        if (normalized.isEmpty()) {
+            return List.of();
+        }
+        Set<String> keys = new LinkedHashSet<>();
+        keys.add(normalized);
+        int tokens = 1;
+        for (int i = normalized.indexOf(' '); i >= 0 && tokens < maxTokens; i = normalized.indexOf(' ', i + 1)) {
+            keys.add(normalized.substring(i + 1));
+            tokens++;
+        }
+        return List.copyOf(keys);
+    }
+
+    private record IndexedProduct(Suggestion suggestion, List<String> keys, String brandKey,
+                                  List<String> categoryKeys) {
+    }
+
+    /**
+     * Marca o categoría con las ventas acumuladas de sus productos.
+     */
+    private static final class Group {
+
+        private final String text;
+        private final List<String> keys;
+        private long score;
+        private int products;
+        private Suggestion suggestion;
+
+        Group(String text, List<String> keys) {
+            this.text = text;
+            this.keys = keys;
+        }
+    }
+
+    /**
+     * Contenido del índice; solo se modifica bajo el lock de escritura o antes
+     * de publicarse.
+     */
+    private final class State {
+
+        private final SuggestionTrie trie = new SuggestionTrie(maxResults, cacheDepth, maxKeyLength);
+        private final Map<UUID, IndexedProduct> products = new HashMap<>();
+        private final Map<String, Group> brands = new HashMap<>();
+        private final Map<String, Group> categories = new HashMap<>();
+
+        void upsert(SearchableProduct product) {
+            UUID id = product.id().value();
+            remove(id);
+            if (!product.isActive() || product.isDeleted()) {
+                return;
+            }
+
+            long score = product.salesCount() != null ? product.salesCount() : 0L;
+            String name = product.name().trim();
+            Suggestion suggestion = new Suggestion(name, Suggestion.Type.PRODUCT, id, score);
+            List<String> keys = wordStarts(normalize(name), maxNameTokens);
+            keys.forEach(key -> trie.add(key, suggestion));
+
+            String brandKey = join(brands, Suggestion.Type.BRAND, product.brand(), score);
+            Set<String> categoryKeys = new LinkedHashSet<>();
+            for (String category : product.categoryNames()) {
+                String categoryKey = normalize(category);
+                if (!categoryKeys.contains(categoryKey)) {
+                    String joined = join(categories, Suggestion.Type.CATEGORY, category, score);
+                    if (joined != null) {
+                        categoryKeys.add(joined);
+                    }
+                }
+            }
+
+            products.put(id, new IndexedProduct(suggestion, keys, brandKey, List.copyOf(categoryKeys)));
+        }
+
+        void remove(UUID id) {
+            IndexedProduct indexed = products.remove(id);
+            if (indexed == null) {
+                return;
+            }
+            indexed.keys().forEach(key -> trie.remove(key, indexed.suggestion()));
+            long score = indexed.suggestion().score();
+            if (indexed.brandKey() != null) {
+                leave(brands, Suggestion.Type.BRAND, indexed.brandKey(), score);
+            }
+            indexed.categoryKeys().forEach(key -> leave(categories, Suggestion.Type.CATEGORY, key, score));
+        }
+
+        private String join(Map<String, Group> groups, Suggestion.Type type, String text, long score) {
+            String key = normalize(text);
+            if (key.isEmpty()) {
+                return null;
+            }
+            Group group = groups.get(key);
+            if (group == null) {
+                group = new Group(text.trim(), wordStarts(key, maxNameTokens));
+                groups.put(key, group);
+            } else {
+                unlink(group);
+            }
+            group.products++;
+            group.score += score;
+            link(group, type);
+            return key;
+        }
+
+        private void leave(Map<String, Group> groups, Suggestion.Type type, String key, long score) {
+            Group group = groups.get(key);
+            if (group == null) {
+                return;
+            }
+            unlink(group);
+            group.products--;
+            group.score -= score;
+            if (group.products == 0) {
+                groups.remove(key);
+            } else {
+                link(group, type);
+            }
+        }
+
+        private void link(Group group, Suggestion.Type type) {
+            Suggestion suggestion = new Suggestion(group.text, type, null, group.score);
+            group.keys.forEach(key -> trie.add(key, suggestion));
+            group.suggestion = suggestion;
+        }
+
+        private void unlink(Group group) {
+            Suggestion suggestion = group.suggestion;
+            group.keys.forEach(key -> trie.remove(key, suggestion));
+        }
+    }
+}
@@ -0,0 +1,329 @@
+package com.microservice.search.infrastructure.suggest;
+
+import com.microservice.search.domain.models.Suggestion;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.PriorityQueue;
+import java.util.Set;
+import java.util.TreeSet;
+import java.util.function.Consumer;
+
+/**
+ * Trie de prefijos ordenado por ventas.
+ * Cada nodo conoce la mejor sugerencia de su subárbol, lo que permite sacar el
+ * top-K con una búsqueda best-first sin recorrer el subárbol entero, y los
+ * niveles poco profundos guardan además el top-K ya calculado.
+ * Las claves se truncan a {@code maxKeyLength} caracteres; cada posting guarda
+ * la clave completa para filtrar prefijos más largos que el truncado.
+ * No es thread-safe: {@link InMemorySuggestionIndex} serializa el acceso.
+ */
+class SuggestionTrie {
+
+    /**
+     * Orden total: más ventas primero y, a igualdad, el texto más corto.
+     */
+    static final Comparator<Suggestion> ORDER = Comparator
+            .comparingLong(Suggestion::score).reversed()
+            .thenComparingInt((Suggestion s) -> s.text().length())
+            .thenComparing(Suggestion::text)
+            .thenComparing(Suggestion::type)
+            .thenComparing(Suggestion::productId, Comparator.nullsFirst(Comparator.naturalOrder()));
+
+    private static final Comparator<Candidate> CANDIDATE_ORDER = Comparator.comparing(Candidate::suggestion, ORDER);
+
+    private static final char[] NO_LABELS = new char[0];
+    private static final Node[] NO_CHILDREN = new Node[0];
+
+    private final int capacity;
+    private final int cacheDepth;
+    private final int maxKeyLength;
+    private final Node root = new Node();
+    private boolean bulk;
+
+    SuggestionTrie(int capacity, int cacheDepth, int maxKeyLength) {
+        this.capacity = capacity;
+        this.cacheDepth = cacheDepth;
+        this.maxKeyLength = maxKeyLength;
+    }
+
+    /**
+     * Deja de mantener los top-K en cada cambio hasta {@link #endBulkLoad()}.
+     */
+    void beginBulkLoad() {
+        bulk = true;
+    }
+
+    /**
+     * Calcula de una vez todos los top-K tras una carga masiva.
+     */
+    void endBulkLoad() {
+        bulk = false;
+        buildTops(root, 0);
+    }
+
+    void add(String key, Suggestion suggestion) {
+        String path = truncate(key);
+        Node[] trail = new Node[path.length() + 1];
+        trail[0] = root;
+        for (int i = 0; i < path.length(); i++) {
+            trail[i + 1] = trail[i].childOrCreate(path.charAt(i));
+        }
+        trail[path.length()].addPosting(new Posting(key, suggestion));
+
+        for (int d = path.length(); d >= 0; d--) {
+            Node node = trail[d];
+            if (node.best == null || ORDER.compare(suggestion, node.best) < 0) {
+                node.best = suggestion;
+            }
+            if (!bulk && d <= cacheDepth) {
+                node.top = withCandidate(node.top, suggestion);
+            }
+        }
+    }
+
+    void remove(String key, Suggestion suggestion) {
+        String path = truncate(key);
+        Node[] trail = new Node[path.length() + 1];
+        trail[0] = root;
+        for (int i = 0; i < path.length(); i++) {
+            trail[i + 1] = trail[i].child(path.charAt(i));
+            if (trail[i + 1] == null) {
+                return;
+            }
+        }
+        if (!trail[path.length()].removePosting(key, suggestion)) {
+            return;
+        }
+
+        int depth = path.length();
+        while (depth > 0 && trail[depth].isEmpty()) {
+            trail[depth - 1].removeChild(path.charAt(depth - 1));
+            depth--;
+        }
+
+        for (int d = depth; d >= 0; d--) {
+            Node node = trail[d];
+            if (suggestion.equals(node.best)) {
+                node.best = node.computeBest();
+            }
+            if (!bulk && d <= cacheDepth && node.top != null && node.top.contains(suggestion)) {
+                node.top = computeTop(node, d);
+            }
+        }
+    }
+
+    List<Suggestion> find(String prefix, int limit) {
+        String path = truncate(prefix);
+        Node node = root;
+        for (int i = 0; i < path.length() && node != null; i++) {
+            node = node.child(path.charAt(i));
+        }
+        if (node == null) {
+            return List.of();
+        }
+
+        boolean truncated = prefix.length() > maxKeyLength;
+        if (node.top != null && !truncated) {
+            return node.top.subList(0, Math.min(limit, node.top.size()));
+        }
+        return bestFirst(node, truncated ? prefix : null, limit);
+    }
+
+    private void buildTops(Node node, int depth) {
+        if (depth > cacheDepth) {
+            return;
+        }
+        for (Node child : node.children) {
+            buildTops(child, depth + 1);
+        }
+        node.top = computeTop(node, depth);
+    }
+
+    /**
+     * Los nodos cacheados combinan el top-K de sus hijos, que basta para el
+     * top-K del padre aunque un producto aparezca bajo varios hijos. El último
+     * nivel cacheado lo calcula con la búsqueda best-first.
+     */
+    private List<Suggestion> computeTop(Node node, int depth) {
+        if (depth == cacheDepth) {
+            return bestFirst(node, null, capacity);
+        }
+        TreeSet<Suggestion> best = new TreeSet<>(ORDER);
+        node.forEachPosting(posting -> offer(best, posting.suggestion()));
+        for (Node child : node.children) {
+            child.top.forEach(suggestion -> offer(best, suggestion));
+        }
+        return List.copyOf(best);
+    }
+
+    private List<Suggestion> withCandidate(List<Suggestion> top, Suggestion suggestion) {
+        if (top == null) {
+            return List.of(suggestion);
+        }
+        if (top.size() >= capacity && ORDER.compare(suggestion, top.get(top.size() - 1)) >= 0) {
+            return top;
+        }
+        TreeSet<Suggestion> best = new TreeSet<>(ORDER);
+        best.addAll(top);
+        offer(best, suggestion);
+        return List.copyOf(best);
+    }
+
+    private void offer(TreeSet<Suggestion> best, Suggestion suggestion) {
+        if (best.size() < capacity) {
+            best.add(suggestion);
+        } else if (ORDER.compare(suggestion, best.last()) < 0 && best.add(suggestion)) {
+            best.pollLast();
+        }
+    }
+
+    /**
+     * Expande primero el nodo o posting con mejor cota; como la cota de un
+     * nodo es la mejor sugerencia de su subárbol, las sugerencias salen ya
+     * ordenadas y se para en cuanto hay {@code limit} distintas.
+     */
+    private static List<Suggestion> bestFirst(Node start, String fullPrefix, int limit) {
+        if (start.best == null) {
+            return List.of();
+        }
+        Set<Suggestion> results = new LinkedHashSet<>();
+        PriorityQueue<Candidate> queue = new PriorityQueue<>(CANDIDATE_ORDER);
+        queue.add(new Candidate(start.best, start));
+
+        while (!queue.isEmpty() && results.size() < limit) {
+            Candidate candidate = queue.poll();
+            Node node = candidate.node();
+            if (node == null) {
+                results.add(candidate.suggestion());
+                continue;
+            }
+            node.forEachPosting(posting -> {
+                if (fullPrefix == null || posting.key().startsWith(fullPrefix)) {
+                    queue.add(new Candidate(posting.suggestion(), null));
+                }
+            });
+            for (Node child : node.children) {
+                queue.add(new Candidate(child.best, child));
+            }
+        }
+        return List.copyOf(results);
+    }
+
+    private String truncate(String key) {
+        return key.length() > maxKeyLength ? key.substring(0, maxKeyLength) : key;
+    }
+
+    private record Posting(String key, Suggestion suggestion) {
+    }
+
+    /**
+     * Entrada de la búsqueda best-first: un nodo con su cota o una sugerencia.
+     */
+    private record Candidate(Suggestion suggestion, Node node) {
+    }
+
+    /**
+     * Nodo con los hijos en arrays ordenados por carácter.
+     */
+    private static final class Node {
+
+        private char[] labels = NO_LABELS;
+        private Node[] children = NO_CHILDREN;
+        private List<Posting> postings;
+        private Suggestion best;
+        private List<Suggestion> top;
+
+        Node child(char label) {
+            int i = Arrays.binarySearch(labels, label);
+            return i >= 0 ? children[i] : null;
+        }
+
+        Node childOrCreate(char label) {
+            int i = Arrays.binarySearch(labels, label);
+            if (i >= 0) {
+                return children[i];
+            }
+            int at = -i - 1;
+            Node created = new Node();
+            char[] newLabels = new char[labels.length + 1];
+            Node[] newChildren = new Node[children.length + 1];
+            System.arraycopy(labels, 0, newLabels, 0, at);
+            System.arraycopy(children, 0, newChildren, 0, at);
+            newLabels[at] = label;
+            newChildren[at] = created;
+            System.arraycopy(labels, at, newLabels, at + 1, labels.length - at);
+            System.arraycopy(children, at, newChildren, at + 1, children.length - at);
+            labels = newLabels;
+            children = newChildren;
+            return created;
+        }
+
+        void removeChild(char label) {
+            int at = Arrays.binarySearch(labels, label);
+            if (at < 0) {
+                return;
+            }
+            if (labels.length == 1) {
+                labels = NO_LABELS;
+                children = NO_CHILDREN;
+                return;
+            }
+            char[] newLabels = new char[labels.length - 1];
+            Node[] newChildren = new Node[children.length - 1];
+            System.arraycopy(labels, 0, newLabels, 0, at);
+            System.arraycopy(children, 0, newChildren, 0, at);
+            System.arraycopy(labels, at + 1, newLabels, at, labels.length - at - 1);
+            System.arraycopy(children, at + 1, newChildren, at, children.length - at - 1);
+            labels = newLabels;
+            children = newChildren;
+        }
+
+        void addPosting(Posting posting) {
+            if (postings == null) {
+                postings = new ArrayList<>(1);
+            }
+            postings.add(posting);
+        }
+
+        boolean removePosting(String key, Suggestion suggestion) {
+            if (postings == null || !postings.remove(new Posting(key, suggestion))) {
+                return false;
+            }
+            if (postings.isEmpty()) {
+                postings = null;
+            }
+            return true;
+        }
+
+        void forEachPosting(Consumer<Posting> action) {
+            if (postings != null) {
+                postings.forEach(action);
+            }
+        }
+
+        Suggestion computeBest() {
+            Suggestion result = null;
+            if (postings != null) {
+                for (Posting posting : postings) {
+                    result = better(result, posting.suggestion());
+                }
+            }
+            for (Node child : children) {
+                result = better(result, child.best);
+            }
+            return result;
+        }
+
+        boolean isEmpty() {
+            return postings == null && children.length == 0;
+        }
+
+        private static Suggestion better(Suggestion current, Suggestion candidate) {
+            return current == null || ORDER.compare(candidate, current) < 0 ? candidate : current;
+        }
+    }
+}
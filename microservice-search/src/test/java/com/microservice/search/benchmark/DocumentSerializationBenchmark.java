@@ -0,0 +1,136 @@
+package com.microservice.search.benchmark;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.microservice.search.domain.models.SearchableProduct;
+import com.microservice.search.infrastructure.adapters.MeilisearchDocumentSerializer;
+import org.openjdk.jmh.Main;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.core.io.buffer.DataBufferUtils;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Compara la serialización de batches para Meilisearch: la construcción
+ * anterior con StringBuilder, que materializaba el batch entero como String
+ * y luego como bytes, frente al serializador en streaming sobre buffers del
+ * pool. Con {@code -prof gc} la métrica {@code gc.alloc.rate.norm} muestra los
+ * bytes asignados por batch.
+ * <pre>
+ * java -cp ... com.microservice.search.benchmark.DocumentSerializationBenchmark -prof gc
+ * </pre>
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(value = 1, jvmArgsAppend = {"-Xmx512m"})
+public class DocumentSerializationBenchmark {
+
+    @Param({"1000", "10000"})
+    public int batchSize;
+
+    private List<SearchableProduct> batch;
+    private MeilisearchDocumentSerializer serializer;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        batch = SearchEngineBenchmark.catalog(batchSize);
+        serializer = new MeilisearchDocumentSerializer(new ObjectMapper(), 65536);
+    }
+
+    /**
+     * Consume el cuerpo como lo haría el cliente HTTP: trozo a trozo,
+     * liberando cada buffer tras escribirlo.
+     */
+    @Benchmark
+    public long streaming() {
+        return serializer.serialize(batch)
+                .reduce(0L, (bytes, buffer) -> {
+                    long total = bytes + buffer.readableByteCount();
+                    DataBufferUtils.release(buffer);
+                    return total;
+                })
+                .block();
+    }
+
+    @Benchmark
+    public long stringBuilder() {
+        return legacyJsonArray(batch).getBytes(StandardCharsets.UTF_8).length;
+    }
+
+    private static String legacyJsonArray(List<SearchableProduct> products) {
+        StringBuilder json = new StringBuilder("[");
+        for (int i = 0; i < products.size(); i++) {
+            if (i > 0) json.append(",");
+            json.append(legacyJson(legacyDocument(products.get(i))));
+        }
+        json.append("]");
+        return json.toString();
+    }
+
+    private static Map<String, Object> legacyDocument(SearchableProduct product) {
+        Map<String, Object> doc = new LinkedHashMap<>();
+        doc.put("id", product.id().value().toString());
+        doc.put("storeId", product.storeId() != null ? product.storeId().toString() : null);
+        doc.put("name", product.name());
+        doc.put("description", product.description());
+        doc.put("brand", product.brand());
+        doc.put("categoryNames", product.categoryNames());
+        doc.put("price", product.price());
+        doc.put("currency", product.currency());
+        doc.put("averageRating", product.averageRating());
+        doc.put("reviewCount", product.reviewCount());
+        doc.put("salesCount", product.salesCount());
+        doc.put("isAvailable", product.isAvailable());
+        doc.put("primaryImageUrl", product.primaryImageUrl());
+        doc.put("indexedAt", product.indexedAt().toEpochMilli());
+        return doc;
+    }
+
+    private static String legacyJson(Map<String, Object> map) {
+        StringBuilder sb = new StringBuilder("{");
+        boolean first = true;
+        for (Map.Entry<String, Object> entry : map.entrySet()) {
+            if (!first) sb.append(",");
+            first = false;
+            sb.append("\"").append(entry.getKey()).append("\":");
+            Object v = entry.getValue();
+            if (v == null) sb.append("null");
+            else if (v instanceof String) sb.append("\"").append(v).append("\"");
+            else if (v instanceof Number || v instanceof Boolean) sb.append(v);
+            else if (v instanceof List<?> list) {
+                sb.append("[");
+                for (int i = 0; i < list.size(); i++) {
+                    if (i > 0) sb.append(",");
+                    sb.append("\"").append(list.get(i)).append("\"");
+                }
+                sb.append("]");
+            } else sb.append("\"").append(v).append("\"");
+        }
+        sb.append("}");
+        return sb.toString();
+    }
+
+    public static void main(String[] args) throws Exception {
+        String[] options = Arrays.copyOf(args, args.length + 1);
+        options[args.length] = DocumentSerializationBenchmark.class.getSimpleName();
+        Main.main(options);
+    }
+}
@@ -0,0 +1,200 @@
+package com.microservice.search.benchmark;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.meilisearch.sdk.Client;
+import com.meilisearch.sdk.Config;
+import com.microservice.search.domain.models.ProductId;
+import com.microservice.search.domain.models.SearchFacet;
+import com.microservice.search.domain.models.SearchFilters;
+import com.microservice.search.domain.models.SearchQuery;
+import com.microservice.search.domain.models.SearchResult;
+import com.microservice.search.domain.models.SearchSort;
+import com.microservice.search.domain.models.SearchableProduct;
+import com.microservice.search.domain.port.out.SearchEnginePort;
+import com.microservice.search.infrastructure.adapters.MeilisearchAdapter;
+import com.microservice.search.infrastructure.adapters.MeilisearchDocumentSerializer;
+import com.microservice.search.infrastructure.adapters.MeilisearchStagingRegistry;
+import com.microservice.search.infrastructure.adapters.lucene.LuceneSearchAdapter;
+import org.apache.lucene.util.IOUtils;
+import org.openjdk.jmh.Main;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.http.HttpHeaders;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.embedded.EmbeddedDatabase;
+import org.springframework.jdbc.datasource.embedded.EmbeddedDatabaseBuilder;
+import org.springframework.jdbc.datasource.embedded.EmbeddedDatabaseType;
+import org.springframework.web.reactive.function.client.WebClient;
+
+import java.math.BigDecimal;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Random;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Compara la latencia de búsqueda de los dos adaptadores de {@link SearchEnginePort}
+ * sobre el mismo catálogo sintético, cargado por la ruta de reindexación completa.
+ * <p>
+ * Ejecución (la variante de Meilisearch necesita una instancia en
+ * {@code -Dmeilisearch.host}, por defecto http://localhost:7700):
+ * <pre>
+ * mvn -pl microservice-search test-compile dependency:build-classpath -Dmdep.outputFile=target/cp.txt
+ * java -cp microservice-search/target/test-classes:microservice-search/target/classes:$(cat microservice-search/target/cp.txt) \
+ *     com.microservice.search.benchmark.SearchEngineBenchmark -p engine=lucene,meilisearch
+ * </pre>
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class SearchEngineBenchmark {
+
+    private static final String[] BRANDS = {"Nike", "Adidas", "Puma", "Lego", "Samsung", "Sony", "Apple", "Xiaomi"};
+    private static final String[] CATEGORIES = {"Calzado", "Ropa", "Juguetes", "Electrónica", "Hogar", "Deporte"};
+    private static final String[] WORDS = {"zapatilla", "camiseta", "pantalón", "teléfono", "auriculares", "balón",
+            "mochila", "reloj", "lámpara", "cafetera", "bicicleta", "chaqueta", "gorra", "tablet", "altavoz"};
+    private static final String[] TERMS = {"zapatilla", "telefono", "auriculares inalambricos", "mochila", "bici"};
+
+    @Param({"lucene", "meilisearch"})
+    public String engine;
+
+    @Param({"5000"})
+    public int documents;
+
+    private SearchEnginePort searchEngine;
+    private Path luceneDir;
+    private EmbeddedDatabase stagingDatabase;
+    private int next;
+
+    @Setup(Level.Trial)
+    public void setUp() throws Exception {
+        if ("lucene".equals(engine)) {
+            luceneDir = Files.createTempDirectory("search-benchmark");
+            searchEngine = new LuceneSearchAdapter(luceneDir.toString(), "products", 64, 1000, 25, 60000);
+        } else {
+            String host = System.getProperty("meilisearch.host", "http://localhost:7700");
+            String apiKey = System.getProperty("meilisearch.api-key", "");
+            WebClient.Builder webClient = WebClient.builder().baseUrl(host);
+            if (!apiKey.isBlank()) {
+                webClient.defaultHeader(HttpHeaders.AUTHORIZATION, "Bearer " + apiKey);
+            }
+            stagingDatabase = new EmbeddedDatabaseBuilder()
+                    .setType(EmbeddedDatabaseType.H2)
+                    .generateUniqueName(true)
+                    .addScript("db/search-staging-schema.sql")
+                    .build();
+            searchEngine = new MeilisearchAdapter(new Client(new Config(host, apiKey)), webClient.build(),
+                    new MeilisearchDocumentSerializer(new ObjectMapper(), 65536),
+                    "products_benchmark", 300000, 50, Duration.ofSeconds(60),
+                    new MeilisearchStagingRegistry(new JdbcTemplate(stagingDatabase)), Duration.ofHours(6), 500, 3);
+        }
+
+        String staging = searchEngine.createStagingIndex();
+        List<SearchableProduct> catalog = catalog(documents);
+        for (int from = 0; from < catalog.size(); from += 1000) {
+            List<SearchableProduct> batch = catalog.subList(from, Math.min(from + 1000, catalog.size()));
+            searchEngine.awaitTask(searchEngine.submitBatch(staging, batch));
+        }
+        searchEngine.promoteStagingIndex(staging);
+        // Lucene hace visible el índice promovido al reabrir el searcher
+        Thread.sleep(1100);
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() throws Exception {
+        if (searchEngine instanceof LuceneSearchAdapter lucene) {
+            lucene.destroy();
+            IOUtils.rm(luceneDir);
+        }
+        if (stagingDatabase != null) {
+            stagingDatabase.shutdown();
+        }
+    }
+
+    @Benchmark
+    public SearchResult termSearch() {
+        return searchEngine.search(SearchQuery.simple(nextTerm()));
+    }
+
+    @Benchmark
+    public SearchResult filteredSortedSearch() {
+        return searchEngine.search(new SearchQuery(nextTerm(), 0, 20, null,
+                new SearchFilters(null, null, new BigDecimal("10"), new BigDecimal("300"), true, null),
+                new SearchSort(SearchSort.Field.PRICE, false), null));
+    }
+
+    @Benchmark
+    public SearchResult facetedSearch() {
+        return searchEngine.search(new SearchQuery(nextTerm(), 0, 20, null, null, null,
+                Set.of(SearchFacet.BRAND, SearchFacet.CATEGORY, SearchFacet.AVAILABILITY)));
+    }
+
+    private String nextTerm() {
+        next = (next + 1) % TERMS.length;
+        return TERMS[next];
+    }
+
+    static List<SearchableProduct> catalog(int size) {
+        Random random = new Random(42);
+        List<UUID> stores = List.of(UUID.randomUUID(), UUID.randomUUID(), UUID.randomUUID());
+        List<SearchableProduct> products = new ArrayList<>(size);
+        for (int i = 0; i < size; i++) {
+            String brand = BRANDS[random.nextInt(BRANDS.length)];
+            String word = WORDS[random.nextInt(WORDS.length)];
+            String name = word + " " + brand + " " + WORDS[random.nextInt(WORDS.length)] + " " + i;
+            products.add(new SearchableProduct(
+                    new ProductId(UUID.nameUUIDFromBytes(("benchmark-" + i).getBytes())),
+                    stores.get(random.nextInt(stores.size())),
+                    name,
+                    "Descripción de " + name + " con " + WORDS[random.nextInt(WORDS.length)],
+                    brand,
+                    List.of(CATEGORIES[random.nextInt(CATEGORIES.length)]),
+                    List.of(),
+                    BigDecimal.valueOf(random.nextInt(50000), 2),
+                    null,
+                    "USD",
+                    List.of(),
+                    List.of(),
+                    BigDecimal.valueOf(random.nextInt(50), 1),
+                    random.nextInt(500),
+                    random.nextInt(10000),
+                    0,
+                    random.nextInt(10) > 1,
+                    0,
+                    null,
+                    List.of(),
+                    true,
+                    Instant.now().minusSeconds(random.nextInt(1_000_000)),
+                    null,
+                    false));
+        }
+        return products;
+    }
+
+    public static void main(String[] args) throws Exception {
+        String[] options = Arrays.copyOf(args, args.length + 1);
+        options[args.length] = SearchEngineBenchmark.class.getSimpleName();
+        Main.main(options);
+    }
+}
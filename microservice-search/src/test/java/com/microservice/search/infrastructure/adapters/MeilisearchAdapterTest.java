@@ -0,0 +1,156 @@
+package com.microservice.search.infrastructure.adapters;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.meilisearch.sdk.Client;
+import com.meilisearch.sdk.Config;
+import com.meilisearch.sdk.Index;
+import com.microservice.search.domain.exceptions.SearchEngineException;
+import com.microservice.search.domain.models.ProductId;
+import com.microservice.search.domain.models.SearchableProduct;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpHeaders;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.embedded.EmbeddedDatabase;
+import org.springframework.jdbc.datasource.embedded.EmbeddedDatabaseBuilder;
+import org.springframework.jdbc.datasource.embedded.EmbeddedDatabaseType;
+import org.springframework.web.reactive.function.client.WebClient;
+import org.testcontainers.containers.GenericContainer;
+import org.testcontainers.containers.wait.strategy.Wait;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+
+import java.math.BigDecimal;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Arrays;
+import java.util.List;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Recorre la reindexación blue/green contra un Meilisearch real: índice
+ * versionado, swap con el vivo y borrado del índice anterior. El registro
+ * compartido del índice versionado usa H2.
+ * Necesita Docker; sin él los tests se omiten.
+ */
+@Testcontainers(disabledWithoutDocker = true)
+class MeilisearchAdapterTest {
+
+    private static final String MASTER_KEY = "test-master-key";
+
+    @Container
+    private static final GenericContainer<?> MEILISEARCH = new GenericContainer<>("getmeili/meilisearch:v1.10")
+            .withEnv("MEILI_MASTER_KEY", MASTER_KEY)
+            .withEnv("MEILI_NO_ANALYTICS", "true")
+            .withExposedPorts(7700)
+            .waitingFor(Wait.forHttp("/health").forStatusCode(200));
+
+    private Client client;
+    private EmbeddedDatabase database;
+    private MeilisearchAdapter adapter;
+    private String liveIndex;
+
+    @BeforeEach
+    void setUp() {
+        String host = "http://" + MEILISEARCH.getHost() + ":" + MEILISEARCH.getMappedPort(7700);
+        client = new Client(new Config(host, MASTER_KEY));
+        WebClient documentsClient = WebClient.builder()
+                .baseUrl(host)
+                .defaultHeader(HttpHeaders.AUTHORIZATION, "Bearer " + MASTER_KEY)
+                .build();
+        liveIndex = "products_" + UUID.randomUUID().toString().replace("-", "");
+        database = new EmbeddedDatabaseBuilder()
+                .setType(EmbeddedDatabaseType.H2)
+                .generateUniqueName(true)
+                .addScript("db/search-staging-schema.sql")
+                .build();
+        adapter = new MeilisearchAdapter(client, documentsClient,
+                new MeilisearchDocumentSerializer(new ObjectMapper(), 65536),
+                liveIndex, 60000, 50, Duration.ofSeconds(30),
+                new MeilisearchStagingRegistry(new JdbcTemplate(database)), Duration.ofHours(6), 500, 3);
+    }
+
+    @AfterEach
+    void tearDown() {
+        database.shutdown();
+    }
+
+    @Test
+    void promoteSwapsStagingIntoLiveAndDropsThePreviousIndex() throws Exception {
+        SearchableProduct discontinued = product("Zapatilla retirada");
+        SearchableProduct current = product("Zapatilla actual");
+        adapter.applyLiveIndexSettings();
+        adapter.awaitTask(adapter.submitBatch(List.of(discontinued)));
+
+        String staging = adapter.createStagingIndex();
+        adapter.awaitTask(adapter.submitBatch(staging, List.of(current)));
+        adapter.promoteStagingIndex(staging);
+
+        assertTrue(adapter.findById(current.id()).isPresent());
+        assertFalse(adapter.findById(discontinued.id()).isPresent());
+        assertFalse(indexNames().contains(staging));
+        assertEquals(List.of("averageRating", "price", "salesCount"),
+                Arrays.stream(client.index(liveIndex).getSortableAttributesSettings()).sorted().toList());
+    }
+
+    @Test
+    void incrementalWritesDuringReindexSurvivePromote() throws Exception {
+        SearchableProduct renamed = product("Chaqueta");
+        SearchableProduct removed = product("Gorra");
+        adapter.applyLiveIndexSettings();
+        adapter.awaitTask(adapter.submitBatch(List.of(renamed, removed)));
+
+        String staging = adapter.createStagingIndex();
+        adapter.awaitTask(adapter.submitBatch(List.of(product(renamed.id(), "Chaqueta impermeable"))));
+        adapter.delete(removed.id());
+        // El batch de la reindexación llega después con el catálogo anterior
+        adapter.awaitTask(adapter.submitBatch(staging, List.of(renamed, removed)));
+        adapter.promoteStagingIndex(staging);
+
+        assertEquals("Chaqueta impermeable", adapter.findById(renamed.id()).orElseThrow().name());
+        assertFalse(adapter.findById(removed.id()).isPresent());
+    }
+
+    @Test
+    void secondReindexIsRejectedWhileOneIsRunning() {
+        adapter.applyLiveIndexSettings();
+        String staging = adapter.createStagingIndex();
+
+        assertThrows(SearchEngineException.class, adapter::createStagingIndex);
+        adapter.dropStagingIndex(staging);
+    }
+
+    @Test
+    void dropLeavesTheLiveIndexUntouched() throws Exception {
+        SearchableProduct live = product("Camiseta");
+        adapter.applyLiveIndexSettings();
+        adapter.awaitTask(adapter.submitBatch(List.of(live)));
+
+        String staging = adapter.createStagingIndex();
+        adapter.dropStagingIndex(staging);
+
+        assertTrue(adapter.findById(live.id()).isPresent());
+        assertFalse(indexNames().contains(staging));
+    }
+
+    private List<String> indexNames() throws Exception {
+        return Arrays.stream(client.getIndexes().getResults()).map(Index::getUid).toList();
+    }
+
+    private static SearchableProduct product(String name) {
+        return product(new ProductId(UUID.randomUUID()), name);
+    }
+
+    private static SearchableProduct product(ProductId id, String name) {
+        return new SearchableProduct(
+                id, UUID.randomUUID(), name, "Descripción de " + name, "Karibea",
+                List.of("Calzado"), List.of(), new BigDecimal("59.90"), null, "USD", List.of(), List.of(),
+                new BigDecimal("4.5"), 10, 100, 0, true, 5, null, List.of(), true, Instant.now(), null, false);
+    }
+}
@@ -0,0 +1,72 @@
+package com.microservice.search.infrastructure.adapters;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.embedded.EmbeddedDatabase;
+import org.springframework.jdbc.datasource.embedded.EmbeddedDatabaseBuilder;
+import org.springframework.jdbc.datasource.embedded.EmbeddedDatabaseType;
+
+import java.time.Instant;
+import java.util.List;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Registro compartido del índice versionado sobre H2: una sola reindexación
+ * por índice vivo y paginación de los productos cambiados.
+ */
+class MeilisearchStagingRegistryTest {
+
+    private EmbeddedDatabase database;
+    private MeilisearchStagingRegistry registry;
+
+    @BeforeEach
+    void setUp() {
+        database = new EmbeddedDatabaseBuilder()
+                .setType(EmbeddedDatabaseType.H2)
+                .generateUniqueName(true)
+                .addScript("db/search-staging-schema.sql")
+                .build();
+        registry = new MeilisearchStagingRegistry(new JdbcTemplate(database));
+    }
+
+    @AfterEach
+    void tearDown() {
+        database.shutdown();
+    }
+
+    @Test
+    void onlyOneStagingIndexPerLiveIndex() {
+        assertTrue(registry.register("products", "products_1"));
+        assertFalse(registry.register("products", "products_2"));
+        assertEquals("products_1", registry.find("products").orElseThrow().name());
+
+        registry.release("products", "products_2");
+        assertTrue(registry.find("products").isPresent());
+
+        registry.release("products", "products_1");
+        assertTrue(registry.find("products").isEmpty());
+        assertTrue(registry.register("products", "products_2"));
+    }
+
+    @Test
+    void changesArePagedByIdAndFilteredByTime() {
+        UUID first = new UUID(0L, 1L);
+        UUID second = new UUID(0L, 2L);
+        UUID third = new UUID(0L, 3L);
+        registry.recordChanges(List.of(third, first, second));
+        registry.recordChanges(List.of(second));
+
+        assertEquals(List.of(first, second), registry.changesSince(Instant.EPOCH, null, 2));
+        assertEquals(List.of(third), registry.changesSince(Instant.EPOCH, second, 2));
+        assertTrue(registry.changesSince(registry.now().plusSeconds(60), null, 10).isEmpty());
+
+        registry.release("products", "products_1");
+        assertTrue(registry.changesSince(Instant.EPOCH, null, 10).isEmpty());
+    }
+}
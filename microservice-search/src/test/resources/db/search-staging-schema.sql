@@ -0,0 +1,14 @@
+-- Tablas de SearchStagingIndexEntity y SearchStagingChangeEntity para los
+-- tests que usan MeilisearchStagingRegistry sin contexto de Spring
+CREATE TABLE search_staging_index (
+    live_index    VARCHAR(255) PRIMARY KEY,
+    staging_index VARCHAR(255) NOT NULL,
+    started_at    TIMESTAMP(6) WITH TIME ZONE NOT NULL
+);
+
+CREATE TABLE search_staging_changes (
+    product_id UUID PRIMARY KEY,
+    changed_at TIMESTAMP(6) WITH TIME ZONE NOT NULL
+);
+
+CREATE INDEX idx_staging_changes_changed_at ON search_staging_changes (changed_at);
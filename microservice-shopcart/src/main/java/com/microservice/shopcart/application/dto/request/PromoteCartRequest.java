@@ -0,0 +1,36 @@
+package com.microservice.shopcart.application.dto.request;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import jakarta.validation.constraints.NotNull;
+
+import java.util.UUID;
+
+/**
+ * Request DTO for handing a guest cart over to a signed-in user.
+ */
+@Schema(description = "Request to promote a guest cart to a user cart")
+public class PromoteCartRequest {
+
+    @Schema(description = "External user profile ID (UUID) of the user who signed in", 
+            example = "550e8400-e29b-41d4-a716-446655440000",
+            requiredMode = Schema.RequiredMode.REQUIRED)
+    @NotNull(message = "User profile ID is required")
+    private UUID userProfileId;
+
+    // Constructors
+    public PromoteCartRequest() {
+    }
+
+    public PromoteCartRequest(UUID userProfileId) {
+        this.userProfileId = userProfileId;
+    }
+
+    // Getters and Setters
+    public UUID getUserProfileId() {
+        return userProfileId;
+    }
+
+    public void setUserProfileId(UUID userProfileId) {
+        this.userProfileId = userProfileId;
+    }
+}
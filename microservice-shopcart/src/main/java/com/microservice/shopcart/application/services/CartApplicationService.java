@@ -26,6 +26,7 @@ public class CartApplicationService {
     private final RemoveCouponPort removeCouponPort;
     private final ClearCartPort clearCartPort;
     private final DeleteCartPort deleteCartPort;
+    private final PromoteGuestCartPort promoteGuestCartPort;
     private final CartMapper cartMapper;
 
     public CartApplicationService(
@@ -38,6 +39,7 @@ public class CartApplicationService {
             RemoveCouponPort removeCouponPort,
             ClearCartPort clearCartPort,
             DeleteCartPort deleteCartPort,
+            PromoteGuestCartPort promoteGuestCartPort,
             CartMapper cartMapper) {
         this.createCartPort = createCartPort;
         this.getCartPort = getCartPort;
@@ -48,6 +50,7 @@ public class CartApplicationService {
         this.removeCouponPort = removeCouponPort;
         this.clearCartPort = clearCartPort;
         this.deleteCartPort = deleteCartPort;
+        this.promoteGuestCartPort = promoteGuestCartPort;
         this.cartMapper = cartMapper;
     }
 
@@ -90,6 +93,14 @@ public class CartApplicationService {
         return cartMapper.toResponse(cart);
     }
 
+    /**
+     * Hands a guest cart over to the user who just signed in.
+     */
+    public CartResponse promoteCart(UUID cartId, PromoteCartRequest request) {
+        ShoppingCart cart = promoteGuestCartPort.execute(cartId, request.getUserProfileId());
+        return getCart(cart.getId());
+    }
+
     /**
      * Adds an item to the cart.
      */
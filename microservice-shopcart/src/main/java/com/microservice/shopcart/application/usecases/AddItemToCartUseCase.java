@@ -11,12 +11,15 @@ import com.microservice.shopcart.domain.port.out.CartRepositoryPort;
 import com.microservice.shopcart.domain.port.out.EventPublisherPort;
 import com.microservice.shopcart.domain.port.out.ProductServicePort;
 import org.springframework.stereotype.Service;
-import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
 
 import java.util.UUID;
 
 /**
  * Use case implementation for adding an item to a shopping cart.
+ * Product information is resolved before the transaction starts, so a slow
+ * Catalog call never holds a database connection.
  */
 @Service
 public class AddItemToCartUseCase implements AddItemPort {
@@ -24,23 +27,21 @@ public class AddItemToCartUseCase implements AddItemPort {
     private final CartRepositoryPort cartRepository;
     private final ProductServicePort productService;
     private final EventPublisherPort eventPublisher;
+    private final TransactionTemplate transactionTemplate;
 
     public AddItemToCartUseCase(CartRepositoryPort cartRepository,
                                ProductServicePort productService,
-                               EventPublisherPort eventPublisher) {
+                               EventPublisherPort eventPublisher,
+                               PlatformTransactionManager transactionManager) {
         this.cartRepository = cartRepository;
         this.productService = productService;
         this.eventPublisher = eventPublisher;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
     }
 
     @Override
-    @Transactional
     public void execute(UUID cartId, UUID productId, UUID variantId, UUID storeId, int quantity) {
-        // Find cart
-        ShoppingCart cart = cartRepository.findById(cartId)
-            .orElseThrow(() -> new CartNotFoundException(cartId));
-
-        // Fetch product info from Catalog service
+        // Fetch product info from Catalog service (cached, outside the transaction)
         ProductServicePort.ProductInfo productInfo;
         try {
             productInfo = productService.getProduct(productId, variantId);
@@ -52,6 +53,14 @@ public class AddItemToCartUseCase implements AddItemPort {
             throw new ExternalServiceException("Catalog", "Product is not available");
         }
 
+        transactionTemplate.executeWithoutResult(status -> addItem(cartId, storeId, quantity, productInfo));
+    }
+
+    private void addItem(UUID cartId, UUID storeId, int quantity, ProductServicePort.ProductInfo productInfo) {
+        // Find cart
+        ShoppingCart cart = cartRepository.findById(cartId)
+            .orElseThrow(() -> new CartNotFoundException(cartId));
+
         // Create item
         Item item = Item.builder()
             .externalProductId(productInfo.productId())
@@ -1,20 +1,28 @@
 package com.microservice.shopcart.application.usecases;
 
+import com.microservice.shopcart.domain.events.CartExpiredEvent;
 import com.microservice.shopcart.domain.exceptions.CartNotFoundException;
 import com.microservice.shopcart.domain.models.ShoppingCart;
 import com.microservice.shopcart.domain.port.in.ExpireCartPort;
+import com.microservice.shopcart.domain.port.out.CartExpirationPort;
 import com.microservice.shopcart.domain.port.out.CartRepositoryPort;
 import com.microservice.shopcart.domain.port.out.EventPublisherPort;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
 
+import java.time.Instant;
 import java.util.List;
 import java.util.UUID;
 
 /**
  * Use case implementation for expiring inactive shopping carts.
+ * Bulk expiration works on bounded chunks of cart ids and never loads the
+ * cart aggregates.
  */
 @Service
 public class ExpireCartUseCase implements ExpireCartPort {
@@ -22,12 +30,24 @@ public class ExpireCartUseCase implements ExpireCartPort {
     private static final Logger log = LoggerFactory.getLogger(ExpireCartUseCase.class);
 
     private final CartRepositoryPort cartRepository;
+    private final CartExpirationPort cartExpiration;
     private final EventPublisherPort eventPublisher;
+    private final TransactionTemplate transactionTemplate;
+    private final int chunkSize;
+    private final int maxChunksPerRun;
 
     public ExpireCartUseCase(CartRepositoryPort cartRepository,
-                             EventPublisherPort eventPublisher) {
+                             CartExpirationPort cartExpiration,
+                             EventPublisherPort eventPublisher,
+                             PlatformTransactionManager transactionManager,
+                             @Value("${cart.expiration.chunk-size:500}") int chunkSize,
+                             @Value("${cart.expiration.max-chunks-per-run:20}") int maxChunksPerRun) {
         this.cartRepository = cartRepository;
+        this.cartExpiration = cartExpiration;
         this.eventPublisher = eventPublisher;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.chunkSize = chunkSize;
+        this.maxChunksPerRun = maxChunksPerRun;
     }
 
     @Override
@@ -45,25 +65,47 @@ public class ExpireCartUseCase implements ExpireCartPort {
         log.info("Cart {} has been expired", cartId);
     }
 
+    /**
+     * Expires carts chunk by chunk, each chunk in its own short transaction.
+     * A chunk's events are published before its transaction commits, so a
+     * publishing failure rolls the chunk back and the next run retries it.
+     * At most {@code maxChunksPerRun} chunks are processed per call.
+     */
     @Override
-    @Transactional
     public int expireInactiveCarts() {
-        List<ShoppingCart> expiredCarts = cartRepository.findExpiredCarts();
-        
+        Instant now = Instant.now();
+        CartExpirationPort.Cursor cursor = null;
         int count = 0;
-        for (ShoppingCart cart : expiredCarts) {
+
+        for (int chunks = 0; chunks < maxChunksPerRun; chunks++) {
+            CartExpirationPort.Cursor after = cursor;
+            List<CartExpirationPort.ExpiredCart> expired;
             try {
-                cart.expire();
-                cartRepository.save(cart);
-                cart.getDomainEvents().forEach(eventPublisher::publish);
-                cart.clearDomainEvents();
-                count++;
+                expired = transactionTemplate.execute(status -> expireChunk(now, after));
             } catch (Exception e) {
-                log.error("Failed to expire cart {}: {}", cart.getId(), e.getMessage());
+                log.error("Failed to expire cart chunk after {}: {}", after, e.getMessage());
+                break;
+            }
+            if (expired == null || expired.isEmpty()) {
+                break;
+            }
+            count += expired.size();
+            cursor = expired.get(expired.size() - 1).cursor();
+            if (expired.size() < chunkSize) {
+                break;
             }
         }
 
         log.info("Expired {} inactive carts", count);
         return count;
     }
+
+    private List<CartExpirationPort.ExpiredCart> expireChunk(Instant now, CartExpirationPort.Cursor after) {
+        List<CartExpirationPort.ExpiredCart> expired = cartExpiration.expireChunk(now, after, chunkSize);
+        Instant occurredAt = Instant.now();
+        eventPublisher.publishAll(expired.stream()
+            .map(cart -> new CartExpiredEvent(cart.cartId(), cart.userId(), cart.productIds(), occurredAt))
+            .toList());
+        return expired;
+    }
 }
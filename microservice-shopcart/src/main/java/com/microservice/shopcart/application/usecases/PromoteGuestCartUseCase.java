@@ -0,0 +1,62 @@
+package com.microservice.shopcart.application.usecases;
+
+import com.microservice.shopcart.domain.exceptions.CartNotFoundException;
+import com.microservice.shopcart.domain.models.ShoppingCart;
+import com.microservice.shopcart.domain.port.in.PromoteGuestCartPort;
+import com.microservice.shopcart.domain.port.out.CartRepositoryPort;
+import com.microservice.shopcart.domain.port.out.EventPublisherPort;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.Optional;
+import java.util.UUID;
+
+/**
+ * Use case implementation for promoting a guest cart on sign in.
+ * Once the cart belongs to a user the repository persists it in Postgres and
+ * drops it from the guest cart store.
+ */
+@Service
+public class PromoteGuestCartUseCase implements PromoteGuestCartPort {
+
+    private static final Logger log = LoggerFactory.getLogger(PromoteGuestCartUseCase.class);
+
+    private final CartRepositoryPort cartRepository;
+    private final EventPublisherPort eventPublisher;
+
+    public PromoteGuestCartUseCase(CartRepositoryPort cartRepository,
+                                   EventPublisherPort eventPublisher) {
+        this.cartRepository = cartRepository;
+        this.eventPublisher = eventPublisher;
+    }
+
+    @Override
+    @Transactional
+    public ShoppingCart execute(UUID cartId, UUID userProfileId) {
+        ShoppingCart guestCart = cartRepository.findById(cartId)
+            .orElseThrow(() -> new CartNotFoundException(cartId));
+
+        Optional<ShoppingCart> userCart = cartRepository.findActiveByUserProfileId(userProfileId)
+            .filter(cart -> !cart.getId().equals(cartId));
+
+        if (userCart.isEmpty()) {
+            guestCart.assignToUser(userProfileId);
+            ShoppingCart saved = cartRepository.save(guestCart);
+            log.info("Guest cart {} assigned to user {}", cartId, userProfileId);
+            return saved;
+        }
+
+        ShoppingCart target = userCart.get();
+        target.mergeFrom(guestCart);
+        ShoppingCart saved = cartRepository.save(target);
+        cartRepository.save(guestCart);
+
+        target.getDomainEvents().forEach(eventPublisher::publish);
+        target.clearDomainEvents();
+
+        log.info("Guest cart {} merged into cart {} of user {}", cartId, target.getId(), userProfileId);
+        return saved;
+    }
+}
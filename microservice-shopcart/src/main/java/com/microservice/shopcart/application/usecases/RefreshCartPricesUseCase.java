@@ -0,0 +1,60 @@
+package com.microservice.shopcart.application.usecases;
+
+import com.microservice.shopcart.domain.port.in.RefreshCartPricesPort;
+import com.microservice.shopcart.domain.port.out.CartRepricingPort;
+import com.microservice.shopcart.domain.port.out.ProductServicePort;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.stereotype.Service;
+
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+/**
+ * Use case implementation for repricing active carts on a Catalog price change.
+ * Only the variants of the product that are actually in active carts are looked
+ * up, in one batch and outside any transaction; the repricing itself touches
+ * just the affected item rows and cart totals.
+ */
+@Service
+public class RefreshCartPricesUseCase implements RefreshCartPricesPort {
+
+    private static final Logger log = LoggerFactory.getLogger(RefreshCartPricesUseCase.class);
+
+    private final CartRepricingPort cartRepricing;
+    private final ProductServicePort productService;
+
+    public RefreshCartPricesUseCase(CartRepricingPort cartRepricing,
+                                    ProductServicePort productService) {
+        this.cartRepricing = cartRepricing;
+        this.productService = productService;
+    }
+
+    @Override
+    public int execute(UUID productId) {
+        List<ProductServicePort.ProductKey> keys = cartRepricing.findProductKeysInActiveCarts(productId);
+        if (keys.isEmpty()) {
+            return 0;
+        }
+
+        Map<ProductServicePort.ProductKey, ProductServicePort.ProductInfo> products = productService.getProducts(keys);
+        List<CartRepricingPort.PriceChange> changes = keys.stream()
+            .filter(key -> products.containsKey(key) && products.get(key).price() != null)
+            .map(key -> new CartRepricingPort.PriceChange(
+                key.productId(), key.variantId(), products.get(key).price(), products.get(key).currency()))
+            .toList();
+
+        if (changes.size() < keys.size()) {
+            log.warn("Could not resolve the price of {} of {} variants of product {}",
+                keys.size() - changes.size(), keys.size(), productId);
+        }
+        if (changes.isEmpty()) {
+            return 0;
+        }
+
+        int repriced = cartRepricing.reprice(changes);
+        log.info("Repriced {} active carts for product {}", repriced, productId);
+        return repriced;
+    }
+}
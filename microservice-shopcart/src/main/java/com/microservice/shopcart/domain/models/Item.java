@@ -43,6 +43,24 @@ public class Item {
         this.lineTotal = this.unitPrice.multiply(this.quantity.getValue());
     }
     
+    /**
+     * Copy of this item with a new id, used to move it into another cart.
+     */
+    Item copy() {
+        return Item.builder()
+            .externalProductId(externalProductId)
+            .externalVariantId(externalVariantId)
+            .externalStoreId(externalStoreId)
+            .productName(productName)
+            .variantName(variantName)
+            .sku(sku)
+            .imageUrl(imageUrl)
+            .unitPrice(unitPrice)
+            .quantity(quantity)
+            .externalInventoryReservationId(externalInventoryReservationId)
+            .build();
+    }
+    
     // Getters
     public UUID getId() {
         return id;
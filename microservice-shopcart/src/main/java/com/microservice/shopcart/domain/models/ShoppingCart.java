@@ -222,7 +222,40 @@ public class ShoppingCart {
         this.statusId = 4L; // CONVERTED
         this.updatedAt = Instant.now();
     }
-    
+
+    /**
+     * Assigns a guest cart to the user who just signed in.
+     */
+    public void assignToUser(UUID userProfileId) {
+        validateCartIsActive();
+
+        if (this.externalUserProfileId != null && !this.externalUserProfileId.equals(userProfileId)) {
+            throw new InvalidCartOperationException("Cart already belongs to another user");
+        }
+
+        this.externalUserProfileId = userProfileId;
+        this.updatedAt = Instant.now();
+    }
+
+    /**
+     * Moves the items of a guest cart into this cart and marks the guest cart
+     * as merged. Items are copied with new ids, or added to the matching line,
+     * and the guest cart is left empty. Coupons of the guest cart are not
+     * carried over.
+     */
+    public void mergeFrom(ShoppingCart guestCart) {
+        validateCartIsActive();
+        guestCart.validateCartIsActive();
+
+        guestCart.items.forEach(item -> addItem(item.copy()));
+        guestCart.items.clear();
+        guestCart.recalculateTotals();
+
+        guestCart.status = CartStatus.MERGED;
+        guestCart.statusId = 5L; // MERGED
+        guestCart.updatedAt = Instant.now();
+    }
+
     /**
      * Soft deletes the cart.
      */
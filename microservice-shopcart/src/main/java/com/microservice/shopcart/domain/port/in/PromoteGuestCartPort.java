@@ -0,0 +1,21 @@
+package com.microservice.shopcart.domain.port.in;
+
+import com.microservice.shopcart.domain.models.ShoppingCart;
+
+import java.util.UUID;
+
+/**
+ * Input port for handing a guest cart over to a user who just signed in.
+ */
+public interface PromoteGuestCartPort {
+    
+    /**
+     * Assigns the guest cart to the user, or merges its items into the
+     * user's active cart if there already is one.
+     *
+     * @param cartId        The guest cart ID
+     * @param userProfileId The external user profile ID
+     * @return The user's active cart
+     */
+    ShoppingCart execute(UUID cartId, UUID userProfileId);
+}
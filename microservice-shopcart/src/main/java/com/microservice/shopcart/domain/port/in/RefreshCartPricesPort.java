@@ -0,0 +1,18 @@
+package com.microservice.shopcart.domain.port.in;
+
+import java.util.UUID;
+
+/**
+ * Input port for repricing active carts after a Catalog price change.
+ */
+public interface RefreshCartPricesPort {
+
+    /**
+     * Reprices the items of a product in every active cart and recalculates
+     * the totals of the carts that changed.
+     *
+     * @param productId The product whose price changed
+     * @return Number of carts repriced
+     */
+    int execute(UUID productId);
+}
@@ -0,0 +1,39 @@
+package com.microservice.shopcart.domain.port.out;
+
+import java.time.Instant;
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * Output port for set-based expiration of inactive carts.
+ * Carts are claimed and expired in chunks without loading the aggregates;
+ * rows another instance is already expiring are skipped.
+ */
+public interface CartExpirationPort {
+
+    /**
+     * Expires the next chunk of active carts whose expiration time is before
+     * {@code now}, in (expiredAt, cartId) order after the given cursor.
+     *
+     * @param now   The reference time
+     * @param after Keyset cursor of the previous chunk, or null to start from the oldest cart
+     * @param limit Maximum number of carts to expire
+     * @return The expired carts, in keyset order
+     */
+    List<ExpiredCart> expireChunk(Instant now, Cursor after, int limit);
+
+    /**
+     * A cart that has just been expired.
+     */
+    record ExpiredCart(UUID cartId, UUID userId, Instant expiredAt, List<UUID> productIds) {
+
+        public Cursor cursor() {
+            return new Cursor(expiredAt, cartId);
+        }
+    }
+
+    /**
+     * Position in the (expiredAt, cartId) order of the expiration index.
+     */
+    record Cursor(Instant expiredAt, UUID cartId) {}
+}
@@ -1,7 +1,6 @@
 package com.microservice.shopcart.domain.port.out;
 
 import com.microservice.shopcart.domain.models.ShoppingCart;
-import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
 
@@ -42,13 +41,6 @@ public interface CartRepositoryPort {
      */
     Optional<ShoppingCart> findActiveBySessionId(String sessionId);
     
-    /**
-     * Finds all expired carts that need to be processed.
-     *
-     * @return List of expired shopping carts
-     */
-    List<ShoppingCart> findExpiredCarts();
-    
     /**
      * Soft deletes a shopping cart.
      *
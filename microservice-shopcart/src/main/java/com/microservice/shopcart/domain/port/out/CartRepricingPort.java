@@ -0,0 +1,35 @@
+package com.microservice.shopcart.domain.port.out;
+
+import java.math.BigDecimal;
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * Output port for set-based repricing of cart items.
+ * Works directly on the affected rows instead of loading whole carts.
+ */
+public interface CartRepricingPort {
+
+    /**
+     * Finds the product/variant pairs of a product present in active carts.
+     *
+     * @param productId The product ID
+     * @return Distinct pairs; variantId is null for items without variant
+     */
+    List<ProductServicePort.ProductKey> findProductKeysInActiveCarts(UUID productId);
+
+    /**
+     * Applies new unit prices to matching items of active carts and
+     * recalculates subtotal, total and item count of the carts that changed.
+     *
+     * @param changes The new prices
+     * @return Number of carts repriced
+     */
+    int reprice(List<PriceChange> changes);
+
+    /**
+     * New unit price for a product/variant pair. Only carts in the given
+     * currency are repriced; a null currency matches any cart.
+     */
+    record PriceChange(UUID productId, UUID variantId, BigDecimal unitPrice, String currency) {}
+}
@@ -2,6 +2,8 @@ package com.microservice.shopcart.domain.port.out;
 
 import com.microservice.shopcart.domain.events.DomainEvent;
 
+import java.util.List;
+
 /**
  * Output port for publishing domain events.
  */
@@ -13,4 +15,13 @@ public interface EventPublisherPort {
      * @param event The domain event to publish
      */
     void publish(DomainEvent event);
+    
+    /**
+     * Publishes a batch of domain events and waits until all of them have
+     * been acknowledged.
+     *
+     * @param events The domain events to publish
+     * @throws RuntimeException if any event could not be published
+     */
+    void publishAll(List<? extends DomainEvent> events);
 }
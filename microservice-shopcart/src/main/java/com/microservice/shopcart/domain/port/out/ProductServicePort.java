@@ -1,6 +1,8 @@
 package com.microservice.shopcart.domain.port.out;
 
 import java.math.BigDecimal;
+import java.util.Collection;
+import java.util.Map;
 import java.util.UUID;
 
 /**
@@ -16,6 +18,20 @@ public interface ProductServicePort {
      * @return Product information
      */
     ProductInfo getProduct(UUID productId, UUID variantId);
+
+    /**
+     * Gets product information for many product/variant pairs at once.
+     * Pairs that cannot be resolved are left out of the result.
+     *
+     * @param keys The product/variant pairs to look up
+     * @return Product information by pair
+     */
+    Map<ProductKey, ProductInfo> getProducts(Collection<ProductKey> keys);
+
+    /**
+     * Identifies a product, or one of its variants when variantId is set.
+     */
+    record ProductKey(UUID productId, UUID variantId) {}
     
     /**
      * Product information DTO from external service.
@@ -0,0 +1,144 @@
+package com.microservice.shopcart.infrastructure.adapters;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.microservice.shopcart.domain.port.out.ProductServicePort;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Primary;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+/**
+ * Caches Catalog product information in front of {@link ProductServiceAdapter}.
+ * Entries are grouped by product so a catalog event evicts every variant of
+ * the product at once; the TTL bounds staleness if an event is missed.
+ * A fetch that started before an eviction of the same product is returned to
+ * its caller but not cached, so an in-flight response cannot bring back data
+ * the event just invalidated.
+ */
+@Primary
+@Component
+public class CachedProductServiceAdapter implements ProductServicePort {
+
+    /**
+     * Stands in for a null variant id inside a product's entry.
+     */
+    private static final UUID NO_VARIANT = new UUID(0L, 0L);
+
+    private final ProductServiceAdapter delegate;
+    private final Cache<UUID, ConcurrentMap<UUID, ProductInfo>> cache;
+    private final Cache<UUID, Long> evictions;
+
+    public CachedProductServiceAdapter(
+            ProductServiceAdapter delegate,
+            MeterRegistry meterRegistry,
+            @Value("${services.catalog.cache.max-products:20000}") long maxProducts,
+            @Value("${services.catalog.cache.ttl:10m}") Duration ttl) {
+        this.delegate = delegate;
+        this.cache = Caffeine.newBuilder()
+            .maximumSize(maxProducts)
+            .expireAfterWrite(ttl)
+            .recordStats()
+            .build();
+        this.evictions = Caffeine.newBuilder()
+            .expireAfterWrite(Duration.ofMinutes(1))
+            .build();
+        CaffeineCacheMetrics.monitor(meterRegistry, cache, "shopcart.product.cache");
+    }
+
+    @Override
+    public ProductInfo getProduct(UUID productId, UUID variantId) {
+        ProductInfo cached = lookup(productId, variantId);
+        if (cached != null) {
+            return cached;
+        }
+
+        long startedAt = System.nanoTime();
+        ProductInfo info = delegate.getProduct(productId, variantId);
+        store(new ProductKey(productId, variantId), info, startedAt);
+        return info;
+    }
+
+    @Override
+    public Map<ProductKey, ProductInfo> getProducts(Collection<ProductKey> keys) {
+        Map<ProductKey, ProductInfo> result = new HashMap<>();
+        Set<ProductKey> misses = new LinkedHashSet<>();
+        for (ProductKey key : keys) {
+            ProductInfo cached = lookup(key.productId(), key.variantId());
+            if (cached != null) {
+                result.put(key, cached);
+            } else {
+                misses.add(key);
+            }
+        }
+        if (misses.isEmpty()) {
+            return result;
+        }
+
+        long startedAt = System.nanoTime();
+        Map<ProductKey, ProductInfo> fetched = delegate.getProducts(List.copyOf(misses));
+        fetched.forEach((key, info) -> store(key, info, startedAt));
+        result.putAll(fetched);
+        return result;
+    }
+
+    /**
+     * Drops every cached variant of the product.
+     *
+     * @param productId The product whose information changed
+     */
+    public void evict(UUID productId) {
+        evictions.put(productId, System.nanoTime());
+        cache.invalidate(productId);
+    }
+
+    /**
+     * Drops the cached variants of all the given products.
+     *
+     * @param productIds The products whose information changed
+     */
+    public void evictAll(Collection<UUID> productIds) {
+        List<UUID> ids = new ArrayList<>(productIds);
+        long now = System.nanoTime();
+        ids.forEach(id -> evictions.put(id, now));
+        cache.invalidateAll(ids);
+    }
+
+    private ProductInfo lookup(UUID productId, UUID variantId) {
+        ConcurrentMap<UUID, ProductInfo> variants = cache.getIfPresent(productId);
+        return variants != null ? variants.get(variantKey(variantId)) : null;
+    }
+
+    /**
+     * The eviction check runs inside the per-product compute so it cannot
+     * interleave with the invalidation of the same product.
+     */
+    private void store(ProductKey key, ProductInfo info, long startedAt) {
+        cache.asMap().compute(key.productId(), (productId, variants) -> {
+            Long evictedAt = evictions.getIfPresent(productId);
+            if (evictedAt != null && evictedAt - startedAt >= 0) {
+                return variants;
+            }
+            ConcurrentMap<UUID, ProductInfo> updated = variants != null ? variants : new ConcurrentHashMap<>();
+            updated.put(variantKey(key.variantId()), info);
+            return updated;
+        });
+    }
+
+    private static UUID variantKey(UUID variantId) {
+        return variantId != null ? variantId : NO_VARIANT;
+    }
+}
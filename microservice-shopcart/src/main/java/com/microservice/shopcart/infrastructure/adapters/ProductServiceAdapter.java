@@ -2,50 +2,93 @@ package com.microservice.shopcart.infrastructure.adapters;
 
 import com.microservice.shopcart.application.exception.ExternalServiceException;
 import com.microservice.shopcart.domain.port.out.ProductServicePort;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Component;
 import org.springframework.web.reactive.function.client.WebClient;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
 
 import java.math.BigDecimal;
 import java.time.Duration;
+import java.util.Collection;
+import java.util.Map;
 import java.util.UUID;
 
 /**
  * Adapter for communicating with Catalog microservice via WebClient.
+ * Batch lookups fan out with bounded concurrency and wait once for all of them.
  */
 @Component
 public class ProductServiceAdapter implements ProductServicePort {
 
+    private static final Logger log = LoggerFactory.getLogger(ProductServiceAdapter.class);
+
     private final WebClient webClient;
     private static final Duration TIMEOUT = Duration.ofSeconds(5);
+    private final int batchConcurrency;
 
     public ProductServiceAdapter(WebClient.Builder webClientBuilder,
-                                  @Value("${services.catalog.url:http://localhost:8081}") String catalogUrl) {
+                                  @Value("${services.catalog.url:http://localhost:8081}") String catalogUrl,
+                                  @Value("${services.catalog.batch-concurrency:8}") int batchConcurrency) {
         this.webClient = webClientBuilder
             .baseUrl(catalogUrl)
             .build();
+        this.batchConcurrency = batchConcurrency;
     }
 
     @Override
     public ProductInfo getProduct(UUID productId, UUID variantId) {
         try {
-            // Build the URI based on whether variant is provided
-            String uri = variantId != null 
-                ? String.format("/api/v1/products/%s/variants/%s", productId, variantId)
-                : String.format("/api/v1/products/%s", productId);
-
-            CatalogProductResponse response = webClient.get()
-                .uri(uri)
-                .retrieve()
-                .bodyToMono(CatalogProductResponse.class)
-                .timeout(TIMEOUT)
-                .block();
+            ProductInfo info = fetch(new ProductKey(productId, variantId)).block();
 
-            if (response == null) {
+            if (info == null) {
                 throw new ExternalServiceException("Catalog", "Product not found");
             }
+            return info;
+        } catch (ExternalServiceException e) {
+            throw e;
+        } catch (Exception e) {
+            throw new ExternalServiceException("Catalog", "Failed to fetch product: " + e.getMessage(), e);
+        }
+    }
 
-            return new ProductInfo(
+    @Override
+    public Map<ProductKey, ProductInfo> getProducts(Collection<ProductKey> keys) {
+        if (keys.isEmpty()) {
+            return Map.of();
+        }
+        try {
+            Map<ProductKey, ProductInfo> found = Flux.fromIterable(keys)
+                .distinct()
+                .flatMap(key -> fetch(key)
+                    .map(info -> Map.entry(key, info))
+                    .onErrorResume(e -> {
+                        log.warn("Could not fetch product {} variant {}: {}",
+                            key.productId(), key.variantId(), e.getMessage());
+                        return Mono.empty();
+                    }), batchConcurrency)
+                .collectMap(Map.Entry::getKey, Map.Entry::getValue)
+                .block();
+            return found != null ? found : Map.of();
+        } catch (Exception e) {
+            throw new ExternalServiceException("Catalog", "Failed to fetch products: " + e.getMessage(), e);
+        }
+    }
+
+    private Mono<ProductInfo> fetch(ProductKey key) {
+        // Build the URI based on whether variant is provided
+        String uri = key.variantId() != null
+            ? String.format("/api/v1/products/%s/variants/%s", key.productId(), key.variantId())
+            : String.format("/api/v1/products/%s", key.productId());
+
+        return webClient.get()
+            .uri(uri)
+            .retrieve()
+            .bodyToMono(CatalogProductResponse.class)
+            .timeout(TIMEOUT)
+            .map(response -> new ProductInfo(
                 response.productId(),
                 response.variantId(),
                 response.storeId(),
@@ -56,12 +99,7 @@ public class ProductServiceAdapter implements ProductServicePort {
                 response.price(),
                 response.currency(),
                 response.isAvailable()
-            );
-        } catch (ExternalServiceException e) {
-            throw e;
-        } catch (Exception e) {
-            throw new ExternalServiceException("Catalog", "Failed to fetch product: " + e.getMessage(), e);
-        }
+            ));
     }
 
     /**
@@ -103,6 +103,27 @@ public class CartController {
         return ResponseEntity.ok(cartService.getCartBySession(sessionId));
     }
 
+    @Operation(
+        summary = "Promote a guest cart on sign in",
+        description = "Assigns a guest cart to the user who just signed in, or merges its items " +
+                      "into the user's active cart if there already is one."
+    )
+    @ApiResponses(value = {
+        @ApiResponse(responseCode = "200", description = "Cart promoted successfully",
+                     content = @Content(schema = @Schema(implementation = CartResponse.class))),
+        @ApiResponse(responseCode = "400", description = "Cart is not active or belongs to another user",
+                     content = @Content(schema = @Schema(implementation = ErrorResponse.class))),
+        @ApiResponse(responseCode = "404", description = "Cart not found",
+                     content = @Content(schema = @Schema(implementation = ErrorResponse.class)))
+    })
+    @PostMapping("/{cartId}/promote")
+    public ResponseEntity<CartResponse> promoteCart(
+            @Parameter(description = "Guest cart UUID", required = true)
+            @PathVariable UUID cartId,
+            @Valid @RequestBody PromoteCartRequest request) {
+        return ResponseEntity.ok(cartService.promoteCart(cartId, request));
+    }
+
     @Operation(
         summary = "Clear all items from cart",
         description = "Removes all items from the shopping cart while keeping the cart active."
@@ -7,9 +7,14 @@ import java.util.UUID;
 
 /**
  * JPA Entity for items table.
+ * The product/variant index lets price changes find the affected items
+ * without scanning carts.
  */
 @Entity
-@Table(name = "items")
+@Table(name = "items", indexes = {
+    @Index(name = "idx_items_product_variant", columnList = "external_product_id, external_variant_id"),
+    @Index(name = "idx_items_cart", columnList = "id_shopping_cart")
+})
 public class ItemEntity {
 
     @Id
@@ -11,7 +11,9 @@ import java.util.UUID;
  * JPA Entity for shopping_carts table.
  */
 @Entity
-@Table(name = "shopping_carts")
+@Table(name = "shopping_carts", indexes = {
+    @Index(name = "idx_shopping_carts_status_expired", columnList = "status_id, expired_at, id")
+})
 public class ShoppingCartEntity {
 
     @Id
@@ -0,0 +1,126 @@
+package com.microservice.shopcart.infrastructure.guest;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.microservice.shopcart.domain.models.ShoppingCart;
+import com.microservice.shopcart.domain.models.enums.CartStatus;
+import com.microservice.shopcart.domain.port.out.CartRepositoryPort;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Optional;
+import java.util.UUID;
+
+/**
+ * Adapter implementing CartRepositoryPort for anonymous carts on a
+ * GuestCartStore. A cart is one JSON value, plus a session key pointing to it;
+ * both live for {@code ttl} after the last write, capped at the cart's own
+ * expiration. Only active carts without a user are stored here.
+ */
+@Component
+public class GuestCartRepositoryAdapter implements CartRepositoryPort {
+
+    private static final String CART_KEY = "shopcart:guest:cart:";
+    private static final String SESSION_KEY = "shopcart:guest:session:";
+
+    private final GuestCartStore store;
+    private final ObjectMapper objectMapper;
+    private final Duration ttl;
+
+    public GuestCartRepositoryAdapter(GuestCartStore store,
+                                      ObjectMapper objectMapper,
+                                      @Value("${shopcart.guest-carts.ttl:7d}") Duration ttl) {
+        this.store = store;
+        this.objectMapper = objectMapper;
+        this.ttl = ttl;
+    }
+
+    @Override
+    public ShoppingCart save(ShoppingCart cart) {
+        if (cart.getExternalUserProfileId() != null || cart.getStatus() != CartStatus.ACTIVE || cart.isDeleted()) {
+            throw new IllegalArgumentException("Only active guest carts can be stored as guest carts");
+        }
+
+        Duration cartTtl = ttl;
+        if (cart.getExpiresAt() != null) {
+            Duration untilExpiration = Duration.between(Instant.now(), cart.getExpiresAt());
+            if (untilExpiration.compareTo(cartTtl) < 0) {
+                cartTtl = untilExpiration;
+            }
+        }
+        if (cartTtl.isNegative() || cartTtl.isZero()) {
+            remove(cart.getId());
+            return cart;
+        }
+
+        GuestCartSnapshot snapshot = GuestCartSnapshot.from(cart);
+        store.put(CART_KEY + cart.getId(), write(snapshot), cartTtl);
+        if (cart.getSessionId() != null) {
+            store.put(SESSION_KEY + cart.getSessionId(), cart.getId().toString(), cartTtl);
+        }
+        return snapshot.toDomain();
+    }
+
+    @Override
+    public Optional<ShoppingCart> findById(UUID id) {
+        return store.get(CART_KEY + id).map(this::read);
+    }
+
+    @Override
+    public Optional<ShoppingCart> findActiveByUserProfileId(UUID userProfileId) {
+        return Optional.empty();
+    }
+
+    @Override
+    public Optional<ShoppingCart> findActiveBySessionId(String sessionId) {
+        return store.get(SESSION_KEY + sessionId)
+            .flatMap(id -> findById(UUID.fromString(id)));
+    }
+
+    @Override
+    public void softDelete(UUID id) {
+        remove(id);
+    }
+
+    @Override
+    public boolean existsById(UUID id) {
+        return store.get(CART_KEY + id).isPresent();
+    }
+
+    /**
+     * Drops a guest cart and its session key.
+     *
+     * @param id The cart ID
+     * @return true if the cart was stored here
+     */
+    public boolean remove(UUID id) {
+        Optional<ShoppingCart> cart = findById(id);
+        if (cart.isEmpty()) {
+            return false;
+        }
+        String sessionId = cart.get().getSessionId();
+        if (sessionId != null && store.get(SESSION_KEY + sessionId).filter(id.toString()::equals).isPresent()) {
+            store.delete(SESSION_KEY + sessionId);
+        }
+        store.delete(CART_KEY + id);
+        return true;
+    }
+
+    private String write(GuestCartSnapshot snapshot) {
+        try {
+            return objectMapper.writeValueAsString(snapshot);
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("Could not serialize guest cart " + snapshot.id(), e);
+        }
+    }
+
+    private ShoppingCart read(String json) {
+        try {
+            return objectMapper.readValue(json, GuestCartSnapshot.class).toDomain();
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("Could not deserialize guest cart", e);
+        }
+    }
+}
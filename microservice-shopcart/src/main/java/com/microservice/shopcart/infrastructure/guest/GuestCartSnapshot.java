@@ -0,0 +1,161 @@
+package com.microservice.shopcart.infrastructure.guest;
+
+import com.microservice.shopcart.domain.models.CouponApplied;
+import com.microservice.shopcart.domain.models.Item;
+import com.microservice.shopcart.domain.models.Money;
+import com.microservice.shopcart.domain.models.Quantity;
+import com.microservice.shopcart.domain.models.ShoppingCart;
+import com.microservice.shopcart.domain.models.enums.CartStatus;
+
+import java.math.BigDecimal;
+import java.time.Instant;
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * JSON form of a guest cart in the GuestCartStore.
+ */
+record GuestCartSnapshot(
+    UUID id,
+    String sessionId,
+    String status,
+    String currency,
+    BigDecimal subtotal,
+    BigDecimal total,
+    int itemCount,
+    String notes,
+    Instant createdAt,
+    Instant updatedAt,
+    Instant expiresAt,
+    List<ItemSnapshot> items,
+    List<CouponSnapshot> coupons
+) {
+
+    record ItemSnapshot(
+        UUID id,
+        UUID externalProductId,
+        UUID externalVariantId,
+        UUID externalStoreId,
+        String productName,
+        String variantName,
+        String sku,
+        String imageUrl,
+        BigDecimal unitPrice,
+        int quantity,
+        BigDecimal lineTotal,
+        UUID externalInventoryReservationId,
+        Instant createdAt,
+        Instant updatedAt
+    ) {}
+
+    record CouponSnapshot(
+        UUID id,
+        String code,
+        BigDecimal discountAmount,
+        String discountType,
+        Instant createdAt,
+        Instant updatedAt,
+        Instant appliedAt
+    ) {}
+
+    static GuestCartSnapshot from(ShoppingCart cart) {
+        return new GuestCartSnapshot(
+            cart.getId(),
+            cart.getSessionId(),
+            cart.getStatus().getName(),
+            cart.getCurrency(),
+            cart.getSubtotal().getAmount(),
+            cart.getTotal().getAmount(),
+            cart.getItemCount(),
+            cart.getNotes(),
+            cart.getCreatedAt(),
+            cart.getUpdatedAt(),
+            cart.getExpiresAt(),
+            cart.getItems().stream().map(GuestCartSnapshot::fromItem).toList(),
+            cart.getCoupons().stream().map(GuestCartSnapshot::fromCoupon).toList()
+        );
+    }
+
+    ShoppingCart toDomain() {
+        CartStatus cartStatus = CartStatus.fromName(status);
+        return ShoppingCart.builder()
+            .id(id)
+            .sessionId(sessionId)
+            .statusId((long) cartStatus.ordinal() + 1)
+            .status(cartStatus)
+            .currency(currency)
+            .subtotal(Money.of(subtotal, currency))
+            .total(Money.of(total, currency))
+            .itemCount(itemCount)
+            .notes(notes)
+            .createdAt(createdAt)
+            .updatedAt(updatedAt)
+            .expiresAt(expiresAt)
+            .isDeleted(false)
+            .items(items.stream().map(this::toItem).toList())
+            .coupons(coupons.stream().map(this::toCoupon).toList())
+            .build();
+    }
+
+    private static ItemSnapshot fromItem(Item item) {
+        return new ItemSnapshot(
+            item.getId(),
+            item.getExternalProductId(),
+            item.getExternalVariantId(),
+            item.getExternalStoreId(),
+            item.getProductName(),
+            item.getVariantName(),
+            item.getSku(),
+            item.getImageUrl(),
+            item.getUnitPrice().getAmount(),
+            item.getQuantity().getValue(),
+            item.getLineTotal().getAmount(),
+            item.getExternalInventoryReservationId(),
+            item.getCreatedAt(),
+            item.getUpdatedAt()
+        );
+    }
+
+    private static CouponSnapshot fromCoupon(CouponApplied coupon) {
+        return new CouponSnapshot(
+            coupon.getId(),
+            coupon.getCode(),
+            coupon.getDiscountAmount().getAmount(),
+            coupon.getDiscountType(),
+            coupon.getCreatedAt(),
+            coupon.getUpdatedAt(),
+            coupon.getAppliedAt()
+        );
+    }
+
+    private Item toItem(ItemSnapshot item) {
+        return Item.builder()
+            .id(item.id())
+            .externalProductId(item.externalProductId())
+            .externalVariantId(item.externalVariantId())
+            .externalStoreId(item.externalStoreId())
+            .productName(item.productName())
+            .variantName(item.variantName())
+            .sku(item.sku())
+            .imageUrl(item.imageUrl())
+            .unitPrice(Money.of(item.unitPrice(), currency))
+            .quantity(Quantity.of(item.quantity()))
+            .lineTotal(Money.of(item.lineTotal(), currency))
+            .externalInventoryReservationId(item.externalInventoryReservationId())
+            .createdAt(item.createdAt())
+            .updatedAt(item.updatedAt())
+            .build();
+    }
+
+    private CouponApplied toCoupon(CouponSnapshot coupon) {
+        return CouponApplied.builder()
+            .id(coupon.id())
+            .code(coupon.code())
+            .discountAmount(Money.of(coupon.discountAmount(), currency))
+            .discountType(coupon.discountType())
+            .createdAt(coupon.createdAt())
+            .updatedAt(coupon.updatedAt())
+            .appliedAt(coupon.appliedAt())
+            .build();
+    }
+}
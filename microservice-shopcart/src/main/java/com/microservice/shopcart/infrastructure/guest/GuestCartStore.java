@@ -0,0 +1,35 @@
+package com.microservice.shopcart.infrastructure.guest;
+
+import java.time.Duration;
+import java.util.Optional;
+
+/**
+ * Key-value store with per-key TTL holding guest carts.
+ * Implemented on Redis in production and in memory for local runs and tests.
+ */
+public interface GuestCartStore {
+
+    /**
+     * Reads a value.
+     *
+     * @param key The key
+     * @return The value if present and not expired
+     */
+    Optional<String> get(String key);
+
+    /**
+     * Writes a value, replacing any previous one and resetting its TTL.
+     *
+     * @param key   The key
+     * @param value The value
+     * @param ttl   Time to live
+     */
+    void put(String key, String value, Duration ttl);
+
+    /**
+     * Deletes a value.
+     *
+     * @param key The key
+     */
+    void delete(String key);
+}
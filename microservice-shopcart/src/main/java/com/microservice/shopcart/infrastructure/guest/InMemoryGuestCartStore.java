@@ -0,0 +1,71 @@
+package com.microservice.shopcart.infrastructure.guest;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Expiry;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.core.env.Environment;
+import org.springframework.core.env.Profiles;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.Optional;
+
+/**
+ * In-process GuestCartStore on Caffeine with a TTL per entry.
+ * Carts are lost on restart and are not shared between instances, so it is
+ * only allowed for local runs and tests: startup fails if guest carts are
+ * enabled on this store outside the local and test profiles.
+ */
+@Component
+@ConditionalOnProperty(name = "shopcart.guest-carts.store", havingValue = "memory")
+public class InMemoryGuestCartStore implements GuestCartStore {
+
+    private final Cache<String, Entry> cache;
+
+    public InMemoryGuestCartStore(Environment environment,
+                                  @Value("${shopcart.guest-carts.enabled:false}") boolean guestCartsEnabled,
+                                  @Value("${shopcart.guest-carts.memory.max-entries:100000}") long maxEntries) {
+        if (guestCartsEnabled && !environment.acceptsProfiles(Profiles.of("local", "test"))) {
+            throw new IllegalStateException("shopcart.guest-carts.store=memory is only supported in the local "
+                + "and test profiles; use store=redis or disable guest carts");
+        }
+        this.cache = Caffeine.newBuilder()
+            .maximumSize(maxEntries)
+            .expireAfter(new Expiry<String, Entry>() {
+                @Override
+                public long expireAfterCreate(String key, Entry entry, long currentTime) {
+                    return entry.ttlNanos();
+                }
+
+                @Override
+                public long expireAfterUpdate(String key, Entry entry, long currentTime, long currentDuration) {
+                    return entry.ttlNanos();
+                }
+
+                @Override
+                public long expireAfterRead(String key, Entry entry, long currentTime, long currentDuration) {
+                    return currentDuration;
+                }
+            })
+            .build();
+    }
+
+    @Override
+    public Optional<String> get(String key) {
+        return Optional.ofNullable(cache.getIfPresent(key)).map(Entry::value);
+    }
+
+    @Override
+    public void put(String key, String value, Duration ttl) {
+        cache.put(key, new Entry(value, ttl.toNanos()));
+    }
+
+    @Override
+    public void delete(String key) {
+        cache.invalidate(key);
+    }
+
+    private record Entry(String value, long ttlNanos) {}
+}
@@ -0,0 +1,38 @@
+package com.microservice.shopcart.infrastructure.guest;
+
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.Optional;
+
+/**
+ * GuestCartStore on Redis (or any server speaking its protocol), shared by
+ * all instances. Each write is a single SET with EX. This is the default store.
+ */
+@Component
+@ConditionalOnProperty(name = "shopcart.guest-carts.store", havingValue = "redis", matchIfMissing = true)
+public class RedisGuestCartStore implements GuestCartStore {
+
+    private final StringRedisTemplate redisTemplate;
+
+    public RedisGuestCartStore(StringRedisTemplate redisTemplate) {
+        this.redisTemplate = redisTemplate;
+    }
+
+    @Override
+    public Optional<String> get(String key) {
+        return Optional.ofNullable(redisTemplate.opsForValue().get(key));
+    }
+
+    @Override
+    public void put(String key, String value, Duration ttl) {
+        redisTemplate.opsForValue().set(key, value, ttl);
+    }
+
+    @Override
+    public void delete(String key) {
+        redisTemplate.delete(key);
+    }
+}
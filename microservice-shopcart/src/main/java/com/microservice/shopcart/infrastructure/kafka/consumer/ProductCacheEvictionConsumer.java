@@ -0,0 +1,54 @@
+package com.microservice.shopcart.infrastructure.kafka.consumer;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.microservice.shopcart.infrastructure.adapters.CachedProductServiceAdapter;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.kafka.annotation.KafkaListener;
+import org.springframework.stereotype.Component;
+
+import java.util.UUID;
+
+/**
+ * Evicts products from the local Catalog info cache when they change.
+ * Every instance uses its own consumer group so each local cache sees every
+ * event; the group is named after the host (pod or container name) so a
+ * restarted instance rejoins its group instead of leaving an orphan one
+ * behind. Cart repricing stays in {@link ProductEventConsumer}, which runs
+ * once per event in the shared service group.
+ */
+@Component
+public class ProductCacheEvictionConsumer {
+
+    private static final Logger log = LoggerFactory.getLogger(ProductCacheEvictionConsumer.class);
+
+    private final ObjectMapper objectMapper;
+    private final CachedProductServiceAdapter productCache;
+
+    public ProductCacheEvictionConsumer(ObjectMapper objectMapper,
+                                        CachedProductServiceAdapter productCache) {
+        this.objectMapper = objectMapper;
+        this.productCache = productCache;
+    }
+
+    @KafkaListener(
+        topics = {
+            "${kafka.topics.product-price-updated:catalog.product-price-updated}",
+            "${kafka.topics.product-deleted:catalog.product-deleted}",
+            "${kafka.topics.product-stock-updated:inventory.stock-updated}"
+        },
+        groupId = "${services.catalog.cache.consumer-group:shopcart-product-cache-${HOSTNAME:localhost}}",
+        containerFactory = "kafkaListenerContainerFactory",
+        properties = "auto.offset.reset=latest"
+    )
+    public void handleProductChanged(String message) {
+        try {
+            JsonNode eventData = objectMapper.readTree(message);
+            UUID productId = UUID.fromString(eventData.path("payload").path("productId").asText());
+            productCache.evict(productId);
+        } catch (Exception e) {
+            log.error("Error evicting product from cache: {}", e.getMessage(), e);
+        }
+    }
+}
@@ -2,6 +2,7 @@ package com.microservice.shopcart.infrastructure.kafka.consumer;
 
 import com.fasterxml.jackson.databind.JsonNode;
 import com.fasterxml.jackson.databind.ObjectMapper;
+import com.microservice.shopcart.domain.port.in.RefreshCartPricesPort;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.kafka.annotation.KafkaListener;
@@ -12,6 +13,7 @@ import java.util.UUID;
 /**
  * Kafka consumer for handling product-related events from the Catalog microservice.
  * Reacts to product updates, deletions, and price changes to keep cart data consistent.
+ * The Catalog info cache is evicted per instance by {@link ProductCacheEvictionConsumer}.
  */
 @Component
 public class ProductEventConsumer {
@@ -19,14 +21,18 @@ public class ProductEventConsumer {
     private static final Logger log = LoggerFactory.getLogger(ProductEventConsumer.class);
 
     private final ObjectMapper objectMapper;
+    private final RefreshCartPricesPort refreshCartPrices;
 
-    public ProductEventConsumer(ObjectMapper objectMapper) {
+    public ProductEventConsumer(ObjectMapper objectMapper,
+                                RefreshCartPricesPort refreshCartPrices) {
         this.objectMapper = objectMapper;
+        this.refreshCartPrices = refreshCartPrices;
     }
 
     /**
      * Handles product price updated events.
-     * When a product price changes, this can trigger cart recalculations or notifications.
+     * Reprices the product in every active cart so carts do not carry stale
+     * prices until checkout.
      */
     @KafkaListener(
         topics = "${kafka.topics.product-price-updated:catalog.product-price-updated}",
@@ -40,13 +46,8 @@ public class ProductEventConsumer {
             JsonNode eventData = objectMapper.readTree(message);
             UUID productId = UUID.fromString(eventData.path("payload").path("productId").asText());
             
-            // Log the event - actual implementation could update cart prices
-            log.info("Product {} price was updated. Carts with this product may need recalculation.", productId);
-            
-            // Note: In production, you might want to:
-            // 1. Find all carts containing this product
-            // 2. Update the stored price or mark items for refresh
-            // 3. Notify users about price changes
+            int repriced = refreshCartPrices.execute(productId);
+            log.info("Product {} price was updated. {} active carts repriced.", productId, repriced);
             
         } catch (Exception e) {
             log.error("Error processing product price updated event: {}", e.getMessage(), e);
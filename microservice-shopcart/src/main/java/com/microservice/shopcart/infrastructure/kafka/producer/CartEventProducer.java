@@ -11,7 +11,13 @@ import org.springframework.kafka.core.KafkaTemplate;
 import org.springframework.kafka.support.SendResult;
 import org.springframework.stereotype.Component;
 
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
 import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
 
 /**
  * Kafka producer for publishing shopping cart domain events.
@@ -25,14 +31,17 @@ public class CartEventProducer implements EventPublisherPort {
     private final KafkaTemplate<String, String> kafkaTemplate;
     private final ObjectMapper objectMapper;
     private final String topicPrefix;
+    private final Duration batchTimeout;
 
     public CartEventProducer(
             KafkaTemplate<String, String> kafkaTemplate,
             ObjectMapper objectMapper,
-            @Value("${kafka.topic.prefix:shopping-cart}") String topicPrefix) {
+            @Value("${kafka.topic.prefix:shopping-cart}") String topicPrefix,
+            @Value("${kafka.publish.batch-timeout:30s}") Duration batchTimeout) {
         this.kafkaTemplate = kafkaTemplate;
         this.objectMapper = objectMapper;
         this.topicPrefix = topicPrefix;
+        this.batchTimeout = batchTimeout;
     }
 
     @Override
@@ -85,6 +94,32 @@ public class CartEventProducer implements EventPublisherPort {
         }
     }
 
+    /**
+     * Sends all events without waiting in between, so the producer can group
+     * them into batches, then waits for every acknowledgment.
+     */
+    @Override
+    public void publishAll(List<? extends DomainEvent> events) {
+        if (events.isEmpty()) {
+            return;
+        }
+        List<CompletableFuture<SendResult<String, String>>> futures = new ArrayList<>(events.size());
+        try {
+            for (DomainEvent event : events) {
+                futures.add(kafkaTemplate.send(buildTopicName(event), event.getAggregateId(), serializeEvent(event)));
+            }
+            CompletableFuture.allOf(futures.toArray(CompletableFuture[]::new))
+                .get(batchTimeout.toMillis(), TimeUnit.MILLISECONDS);
+            log.info("Published batch of {} events", events.size());
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new RuntimeException("Interrupted while publishing events", e);
+        } catch (JsonProcessingException | ExecutionException | TimeoutException e) {
+            log.error("Failed to publish batch of {} events: {}", events.size(), e.getMessage(), e);
+            throw new RuntimeException("Failed to publish events", e);
+        }
+    }
+
     private String buildTopicName(DomainEvent event) {
         // Convert CamelCase to kebab-case: CartCreated -> cart-created
         String eventName = event.getEventType()
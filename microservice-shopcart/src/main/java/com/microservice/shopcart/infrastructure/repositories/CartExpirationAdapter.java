@@ -0,0 +1,107 @@
+package com.microservice.shopcart.infrastructure.repositories;
+
+import com.microservice.shopcart.domain.port.out.CartExpirationPort;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.sql.Timestamp;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+/**
+ * Adapter implementing CartExpirationPort with set-based SQL.
+ * Each chunk is claimed with FOR UPDATE SKIP LOCKED over the
+ * (status_id, expired_at, id) index and expired by the same statement, so
+ * several instances can run the job at once without blocking each other or
+ * expiring a cart twice. Product ids come from one query over the chunk.
+ */
+@Component
+public class CartExpirationAdapter implements CartExpirationPort {
+
+    private static final String EXPIRE_CHUNK_SQL = """
+        WITH claimed AS (
+            SELECT c.id
+            FROM shopping_carts c
+            WHERE c.status_id = (SELECT s.id FROM status s WHERE s.name = 'Active')
+              AND c.expired_at < ?
+              AND c.is_delete = false
+              %s
+            ORDER BY c.expired_at, c.id
+            LIMIT ?
+            FOR UPDATE SKIP LOCKED
+        ), expired AS (
+            UPDATE shopping_carts c
+            SET status_id = (SELECT s.id FROM status s WHERE s.name = 'Expired'),
+                update_at = ?
+            FROM claimed
+            WHERE c.id = claimed.id
+            RETURNING c.id, c.external_user_profiles_id, c.expired_at
+        )
+        SELECT id, external_user_profiles_id, expired_at
+        FROM expired
+        ORDER BY expired_at, id
+        """;
+
+    private static final String FIRST_CHUNK_SQL = EXPIRE_CHUNK_SQL.formatted("");
+
+    private static final String NEXT_CHUNK_SQL = EXPIRE_CHUNK_SQL.formatted("AND (c.expired_at, c.id) > (?, ?)");
+
+    private static final String FIND_PRODUCTS_SQL = """
+        SELECT i.id_shopping_cart, i.external_product_id
+        FROM items i
+        WHERE i.id_shopping_cart = ANY (?)
+        """;
+
+    private final JdbcTemplate jdbcTemplate;
+
+    public CartExpirationAdapter(JdbcTemplate jdbcTemplate) {
+        this.jdbcTemplate = jdbcTemplate;
+    }
+
+    @Override
+    @Transactional(propagation = Propagation.MANDATORY)
+    public List<ExpiredCart> expireChunk(Instant now, Cursor after, int limit) {
+        Timestamp reference = Timestamp.from(now);
+        Timestamp updatedAt = Timestamp.from(Instant.now());
+
+        List<Object> args = new ArrayList<>(5);
+        args.add(reference);
+        if (after != null) {
+            args.add(Timestamp.from(after.expiredAt()));
+            args.add(after.cartId());
+        }
+        args.add(limit);
+        args.add(updatedAt);
+
+        List<ExpiredCart> claimed = jdbcTemplate.query(after != null ? NEXT_CHUNK_SQL : FIRST_CHUNK_SQL,
+            (rs, rowNum) -> new ExpiredCart(
+                rs.getObject(1, UUID.class),
+                rs.getObject(2, UUID.class),
+                rs.getTimestamp(3).toInstant(),
+                List.of()),
+            args.toArray());
+        if (claimed.isEmpty()) {
+            return claimed;
+        }
+
+        UUID[] cartIds = claimed.stream().map(ExpiredCart::cartId).toArray(UUID[]::new);
+        Map<UUID, List<UUID>> productIds = new HashMap<>();
+        jdbcTemplate.query(FIND_PRODUCTS_SQL,
+            ps -> ps.setArray(1, ps.getConnection().createArrayOf("uuid", cartIds)),
+            rs -> {
+                productIds.computeIfAbsent(rs.getObject(1, UUID.class), id -> new ArrayList<>())
+                    .add(rs.getObject(2, UUID.class));
+            });
+
+        return claimed.stream()
+            .map(cart -> new ExpiredCart(cart.cartId(), cart.userId(), cart.expiredAt(),
+                List.copyOf(productIds.getOrDefault(cart.cartId(), List.of()))))
+            .toList();
+    }
+}
@@ -57,15 +57,6 @@ public class CartRepositoryAdapter implements CartRepositoryPort {
             .map(this::toDomain);
     }
 
-    @Override
-    @Transactional(readOnly = true)
-    public List<ShoppingCart> findExpiredCarts() {
-        return cartRepository.findExpiredCarts(Instant.now())
-            .stream()
-            .map(this::toDomain)
-            .collect(Collectors.toList());
-    }
-
     @Override
     @Transactional
     public void softDelete(UUID id) {
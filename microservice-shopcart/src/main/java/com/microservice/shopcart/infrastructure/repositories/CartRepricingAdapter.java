@@ -0,0 +1,130 @@
+package com.microservice.shopcart.infrastructure.repositories;
+
+import com.microservice.shopcart.domain.port.out.CartRepricingPort;
+import com.microservice.shopcart.domain.port.out.ProductServicePort;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.math.RoundingMode;
+import java.sql.Timestamp;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+
+/**
+ * Adapter implementing CartRepricingPort with set-based SQL.
+ * Item rows are repriced with one UPDATE ... FROM (VALUES ...) per chunk of
+ * price changes, and the totals of the carts it touched are recomputed with
+ * one aggregate UPDATE per chunk of cart ids. Rounding matches Money
+ * (two decimals, half up). Lookups go through the
+ * (external_product_id, external_variant_id) index on items.
+ */
+@Component
+public class CartRepricingAdapter implements CartRepricingPort {
+
+    private static final String ACTIVE_CART_FILTER = """
+        c.is_delete = false
+          AND c.status_id = (SELECT s.id FROM status s WHERE s.name = 'Active')
+        """;
+
+    private static final String FIND_KEYS_SQL = """
+        SELECT DISTINCT i.external_variant_id
+        FROM items i
+        JOIN shopping_carts c ON c.id = i.id_shopping_cart
+        WHERE i.external_product_id = ?
+          AND """ + ACTIVE_CART_FILTER;
+
+    private static final String REPRICE_ITEMS_SQL = """
+        UPDATE items i
+        SET unit_price = v.price,
+            line_total = ROUND(v.price * i.quantity, 2),
+            update_at = ?
+        FROM (VALUES %s) AS v(product_id, variant_id, price, currency),
+             shopping_carts c
+        WHERE c.id = i.id_shopping_cart
+          AND i.external_product_id = v.product_id
+          AND i.external_variant_id IS NOT DISTINCT FROM v.variant_id
+          AND i.unit_price IS DISTINCT FROM v.price
+          AND (v.currency IS NULL OR UPPER(c.currency) = UPPER(v.currency))
+          AND """ + ACTIVE_CART_FILTER + """
+        RETURNING i.id_shopping_cart
+        """;
+
+    private static final String VALUES_ROW = "(CAST(? AS uuid), CAST(? AS uuid), CAST(? AS numeric), CAST(? AS varchar))";
+
+    private static final String RECALCULATE_CARTS_SQL = """
+        UPDATE shopping_carts c
+        SET subtotal = t.subtotal,
+            total = GREATEST(t.subtotal - COALESCE(d.discount, 0), 0),
+            item_count = t.item_count,
+            update_at = ?
+        FROM (SELECT i.id_shopping_cart AS cart_id,
+                     SUM(i.line_total) AS subtotal,
+                     SUM(i.quantity) AS item_count
+              FROM items i
+              WHERE i.id_shopping_cart = ANY (?)
+              GROUP BY i.id_shopping_cart) t
+        LEFT JOIN (SELECT ca.id_shopping_cart AS cart_id,
+                          SUM(ca.discount_amount) AS discount
+                   FROM coupons_appliend ca
+                   WHERE ca.id_shopping_cart = ANY (?)
+                   GROUP BY ca.id_shopping_cart) d ON d.cart_id = t.cart_id
+        WHERE c.id = t.cart_id
+        """;
+
+    private final JdbcTemplate jdbcTemplate;
+    private final int chunkSize;
+
+    public CartRepricingAdapter(JdbcTemplate jdbcTemplate,
+                                @Value("${shopcart.repricing.chunk-size:500}") int chunkSize) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.chunkSize = chunkSize;
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public List<ProductServicePort.ProductKey> findProductKeysInActiveCarts(UUID productId) {
+        return jdbcTemplate.query(FIND_KEYS_SQL,
+                (rs, rowNum) -> new ProductServicePort.ProductKey(productId, rs.getObject(1, UUID.class)),
+                productId);
+    }
+
+    @Override
+    @Transactional
+    public int reprice(List<PriceChange> changes) {
+        Timestamp now = Timestamp.from(Instant.now());
+        Set<UUID> cartIds = new LinkedHashSet<>();
+
+        for (int from = 0; from < changes.size(); from += chunkSize) {
+            List<PriceChange> chunk = changes.subList(from, Math.min(from + chunkSize, changes.size()));
+            String sql = REPRICE_ITEMS_SQL.formatted(String.join(", ", Collections.nCopies(chunk.size(), VALUES_ROW)));
+
+            List<Object> args = new ArrayList<>(1 + chunk.size() * 4);
+            args.add(now);
+            for (PriceChange change : chunk) {
+                args.add(change.productId());
+                args.add(change.variantId());
+                args.add(change.unitPrice().setScale(2, RoundingMode.HALF_UP));
+                args.add(change.currency());
+            }
+            cartIds.addAll(jdbcTemplate.queryForList(sql, UUID.class, args.toArray()));
+        }
+
+        List<UUID> ids = new ArrayList<>(cartIds);
+        for (int from = 0; from < ids.size(); from += chunkSize) {
+            UUID[] chunk = ids.subList(from, Math.min(from + chunkSize, ids.size())).toArray(UUID[]::new);
+            jdbcTemplate.update(RECALCULATE_CARTS_SQL, ps -> {
+                ps.setTimestamp(1, now);
+                ps.setArray(2, ps.getConnection().createArrayOf("uuid", chunk));
+                ps.setArray(3, ps.getConnection().createArrayOf("uuid", chunk));
+            });
+        }
+        return ids.size();
+    }
+}
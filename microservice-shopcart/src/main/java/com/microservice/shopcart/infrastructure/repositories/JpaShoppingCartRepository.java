@@ -6,8 +6,6 @@ import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
-import java.time.Instant;
-import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
 
@@ -36,12 +34,6 @@ public interface JpaShoppingCartRepository extends JpaRepository<ShoppingCartEnt
            "AND c.status.name = 'Active'")
     Optional<ShoppingCartEntity> findActiveBySessionId(@Param("sessionId") String sessionId);
 
-    @Query("SELECT c FROM ShoppingCartEntity c " +
-           "WHERE c.isDeleted = false " +
-           "AND c.status.name = 'Active' " +
-           "AND c.expiredAt < :now")
-    List<ShoppingCartEntity> findExpiredCarts(@Param("now") Instant now);
-
     @Query("SELECT CASE WHEN COUNT(c) > 0 THEN true ELSE false END " +
            "FROM ShoppingCartEntity c WHERE c.id = :id AND c.isDeleted = false")
     boolean existsByIdAndNotDeleted(@Param("id") UUID id);
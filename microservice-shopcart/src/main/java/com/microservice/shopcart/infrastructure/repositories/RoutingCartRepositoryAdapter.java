@@ -0,0 +1,118 @@
+package com.microservice.shopcart.infrastructure.repositories;
+
+import com.microservice.shopcart.domain.models.ShoppingCart;
+import com.microservice.shopcart.domain.models.enums.CartStatus;
+import com.microservice.shopcart.domain.port.out.CartRepositoryPort;
+import com.microservice.shopcart.infrastructure.guest.GuestCartRepositoryAdapter;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Primary;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.Optional;
+import java.util.UUID;
+
+/**
+ * CartRepositoryPort that keeps active anonymous carts in the guest cart
+ * store and everything else in Postgres.
+ * A guest cart reaches Postgres when it gets a user (sign in) or is
+ * converted (checkout), and leaves the guest store once that write commits.
+ * Guest carts that expire, are merged or deleted are simply dropped from the
+ * guest store once the transaction commits.
+ */
+@Primary
+@Component
+public class RoutingCartRepositoryAdapter implements CartRepositoryPort {
+
+    private final CartRepositoryAdapter persistentCarts;
+    private final GuestCartRepositoryAdapter guestCarts;
+    private final boolean guestCartsEnabled;
+
+    public RoutingCartRepositoryAdapter(CartRepositoryAdapter persistentCarts,
+                                        GuestCartRepositoryAdapter guestCarts,
+                                        @Value("${shopcart.guest-carts.enabled:false}") boolean guestCartsEnabled) {
+        this.persistentCarts = persistentCarts;
+        this.guestCarts = guestCarts;
+        this.guestCartsEnabled = guestCartsEnabled;
+    }
+
+    @Override
+    public ShoppingCart save(ShoppingCart cart) {
+        if (!guestCartsEnabled) {
+            return persistentCarts.save(cart);
+        }
+        if (isGuestCart(cart)) {
+            return guestCarts.save(cart);
+        }
+        boolean anonymous = cart.getExternalUserProfileId() == null;
+        if (anonymous && cart.getStatus() != CartStatus.CONVERTED && guestCarts.existsById(cart.getId())) {
+            afterCommit(() -> guestCarts.remove(cart.getId()));
+            return cart;
+        }
+
+        ShoppingCart saved = persistentCarts.save(cart);
+        afterCommit(() -> guestCarts.remove(cart.getId()));
+        return saved;
+    }
+
+    @Override
+    public Optional<ShoppingCart> findById(UUID id) {
+        if (guestCartsEnabled) {
+            Optional<ShoppingCart> guestCart = guestCarts.findById(id);
+            if (guestCart.isPresent()) {
+                return guestCart;
+            }
+        }
+        return persistentCarts.findById(id);
+    }
+
+    @Override
+    public Optional<ShoppingCart> findActiveByUserProfileId(UUID userProfileId) {
+        return persistentCarts.findActiveByUserProfileId(userProfileId);
+    }
+
+    @Override
+    public Optional<ShoppingCart> findActiveBySessionId(String sessionId) {
+        if (guestCartsEnabled) {
+            Optional<ShoppingCart> guestCart = guestCarts.findActiveBySessionId(sessionId);
+            if (guestCart.isPresent()) {
+                return guestCart;
+            }
+        }
+        return persistentCarts.findActiveBySessionId(sessionId);
+    }
+
+    @Override
+    public void softDelete(UUID id) {
+        if (guestCartsEnabled && guestCarts.existsById(id)) {
+            afterCommit(() -> guestCarts.remove(id));
+        } else {
+            persistentCarts.softDelete(id);
+        }
+    }
+
+    @Override
+    public boolean existsById(UUID id) {
+        return (guestCartsEnabled && guestCarts.existsById(id)) || persistentCarts.existsById(id);
+    }
+
+    private static boolean isGuestCart(ShoppingCart cart) {
+        return cart.getExternalUserProfileId() == null
+            && cart.getStatus() == CartStatus.ACTIVE
+            && !cart.isDeleted();
+    }
+
+    private static void afterCommit(Runnable action) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            action.run();
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                action.run();
+            }
+        });
+    }
+}
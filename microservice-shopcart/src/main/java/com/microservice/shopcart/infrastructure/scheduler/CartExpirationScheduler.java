@@ -24,10 +24,11 @@ public class CartExpirationScheduler {
     }
 
     /**
-     * Runs every hour to expire inactive carts.
-     * Cron: 0 0 * * * * (every hour at minute 0)
+     * Runs every minute to expire inactive carts; each run does a bounded
+     * amount of work and can overlap with runs on other instances.
+     * Cron: 0 * * * * * (every minute at second 0)
      */
-    @Scheduled(cron = "${cart.expiration.cron:0 0 * * * *}")
+    @Scheduled(cron = "${cart.expiration.cron:0 * * * * *}")
     public void expireInactiveCarts() {
         log.info("Starting scheduled cart expiration job");
         